@@ -0,0 +1,32 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.request.EntityProjection;
+
+import io.reactivex.Observable;
+
+/**
+ * Formatter which formats all records of an export together into binary chunks rather than one text line per
+ * record.  The results are stored with ResultStorageEngine.storeResultChunks.
+ * <p>
+ * Unlike {@link TableExportFormatter} the records are not formatted individually, so binary exports are not
+ * partitioned.
+ */
+public interface BinaryTableExportFormatter {
+
+    /**
+     * Format the records of an export.
+     * @param projection Entity projection.
+     * @param query TableExport type object.
+     * @param resources PersistentResources to format.
+     * @return the formatted chunks in the order they are stored.
+     */
+    public Observable<byte[]> format(EntityProjection projection, TableExport query,
+            Observable<PersistentResource> resources);
+}
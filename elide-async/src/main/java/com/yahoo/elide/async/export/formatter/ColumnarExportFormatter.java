@@ -0,0 +1,207 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.request.EntityProjection;
+
+import io.reactivex.Observable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Columnar binary output format implementation.
+ * <p>
+ * Records are grouped into batches and each batch is stored column by column with a typed encoding, so that
+ * consumers can read single columns without parsing text.  All numbers are big endian.
+ * <pre>
+ * stream   := "ELIDECOL" version:int32 schema batch* end:int32(0)
+ * schema   := columnCount:int32 (name:modified-utf8 type:int8)*
+ * batch    := rowCount:int32 column*
+ * column   := validity:bits values
+ * values   := BOOLEAN: bits
+ *           | INT64, TIMESTAMP: int64[rowCount]
+ *           | FLOAT64: float64[rowCount]
+ *           | UTF8: offsets:int32[rowCount + 1] data:byte[offsets[rowCount]]
+ * bits     := byte[(rowCount + 7) / 8], the bit of row i is (1 &lt;&lt; (i % 8)) of byte i / 8
+ * </pre>
+ * A validity bit is set when the row has a value.  Null rows still take their fixed width slot.  Timestamps are
+ * milliseconds since the epoch.  Columns of other types are rendered as text by {@link ValueRenderer}.
+ * {@link ColumnarExportReader} reads the format.
+ */
+public class ColumnarExportFormatter implements BinaryTableExportFormatter {
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+    static final byte[] MAGIC = "ELIDECOL".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+
+    /**
+     * Encoding of a column.
+     */
+    public enum ColumnType {
+        BOOLEAN,
+        INT64,
+        FLOAT64,
+        TIMESTAMP,
+        UTF8;
+
+        private static final Map<Class<?>, ColumnType> CLASS_TYPES = Map.ofEntries(
+                Map.entry(boolean.class, BOOLEAN),
+                Map.entry(Boolean.class, BOOLEAN),
+                Map.entry(byte.class, INT64),
+                Map.entry(Byte.class, INT64),
+                Map.entry(short.class, INT64),
+                Map.entry(Short.class, INT64),
+                Map.entry(int.class, INT64),
+                Map.entry(Integer.class, INT64),
+                Map.entry(long.class, INT64),
+                Map.entry(Long.class, INT64),
+                Map.entry(float.class, FLOAT64),
+                Map.entry(Float.class, FLOAT64),
+                Map.entry(double.class, FLOAT64),
+                Map.entry(Double.class, FLOAT64));
+
+        static ColumnType of(Attribute attribute) {
+            Class<?> cls = attribute.getType() == null
+                    ? null
+                    : attribute.getType().getUnderlyingClass().orElse(null);
+            if (cls == null) {
+                return UTF8;
+            }
+            if (Date.class.isAssignableFrom(cls)) {
+                return TIMESTAMP;
+            }
+            return CLASS_TYPES.getOrDefault(cls, UTF8);
+        }
+    }
+
+    private final ValueRenderer renderer;
+    private final int batchSize;
+
+    public ColumnarExportFormatter(Elide elide) {
+        this(elide, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor.
+     * @param elide Elide instance.
+     * @param batchSize The maximum number of records per batch.
+     */
+    public ColumnarExportFormatter(Elide elide, int batchSize) {
+        this.renderer = new ValueRenderer(elide);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Observable<byte[]> format(EntityProjection projection, TableExport query,
+            Observable<PersistentResource> resources) {
+        List<Attribute> columns = projection == null || projection.getAttributes() == null
+                ? Collections.emptyList()
+                : new ArrayList<>(projection.getAttributes());
+        List<ColumnType> types = columns.stream().map(ColumnType::of).collect(Collectors.toList());
+
+        return Observable.fromCallable(() -> schema(columns, types))
+                .concatWith(resources
+                        .filter(resource -> resource.getObject() != null)
+                        .buffer(batchSize)
+                        .map(batch -> batch(columns, types, batch)))
+                .concatWith(Observable.fromCallable(() -> new byte[4]));
+    }
+
+    private static byte[] schema(List<Attribute> columns, List<ColumnType> types) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(columns.size());
+        for (int column = 0; column < columns.size(); column++) {
+            out.writeUTF(columns.get(column).getName());
+            out.writeByte(types.get(column).ordinal());
+        }
+        return bytes.toByteArray();
+    }
+
+    private byte[] batch(List<Attribute> columns, List<ColumnType> types, List<PersistentResource> batch)
+            throws IOException {
+        int rows = batch.size();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(rows);
+
+        Object[] values = new Object[rows];
+        for (int column = 0; column < columns.size(); column++) {
+            Attribute attribute = columns.get(column);
+            byte[] validity = new byte[(rows + 7) / 8];
+            for (int row = 0; row < rows; row++) {
+                values[row] = batch.get(row).getAttribute(attribute);
+                if (values[row] != null) {
+                    setBit(validity, row);
+                }
+            }
+            out.write(validity);
+            writeValues(out, types.get(column), values);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void writeValues(DataOutputStream out, ColumnType type, Object[] values) throws IOException {
+        switch (type) {
+            case BOOLEAN:
+                byte[] bits = new byte[(values.length + 7) / 8];
+                for (int row = 0; row < values.length; row++) {
+                    if (Boolean.TRUE.equals(values[row])) {
+                        setBit(bits, row);
+                    }
+                }
+                out.write(bits);
+                break;
+            case INT64:
+                for (Object value : values) {
+                    out.writeLong(value == null ? 0 : ((Number) value).longValue());
+                }
+                break;
+            case FLOAT64:
+                for (Object value : values) {
+                    out.writeDouble(value == null ? 0 : ((Number) value).doubleValue());
+                }
+                break;
+            case TIMESTAMP:
+                for (Object value : values) {
+                    out.writeLong(value == null ? 0 : ((Date) value).getTime());
+                }
+                break;
+            default:
+                writeStrings(out, values);
+        }
+    }
+
+    private void writeStrings(DataOutputStream out, Object[] values) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        out.writeInt(0);
+        for (Object value : values) {
+            if (value != null) {
+                data.write(renderer.render(value).getBytes(StandardCharsets.UTF_8));
+            }
+            out.writeInt(data.size());
+        }
+        data.writeTo(out);
+    }
+
+    private static void setBit(byte[] bits, int index) {
+        bits[index / 8] |= (byte) (1 << (index % 8));
+    }
+}
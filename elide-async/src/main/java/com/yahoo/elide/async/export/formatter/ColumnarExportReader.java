@@ -0,0 +1,184 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import com.yahoo.elide.async.export.formatter.ColumnarExportFormatter.ColumnType;
+
+import lombok.Value;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads exports written by {@link ColumnarExportFormatter} one batch at a time.
+ */
+public class ColumnarExportReader implements Closeable {
+    private final DataInputStream in;
+    private final List<Column> columns;
+    private boolean ended = false;
+
+    /**
+     * A column of the export.
+     */
+    @Value
+    public static class Column {
+        String name;
+        ColumnType type;
+    }
+
+    /**
+     * A batch of rows.
+     * <p>
+     * The values of BOOLEAN columns are boolean[], of INT64 and TIMESTAMP columns long[], of FLOAT64 columns
+     * double[] and of UTF8 columns String[].
+     */
+    public static class Batch {
+        private final int rowCount;
+        private final byte[][] validity;
+        private final Object[] values;
+
+        Batch(int rowCount, byte[][] validity, Object[] values) {
+            this.rowCount = rowCount;
+            this.validity = validity;
+            this.values = values;
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Whether a row has no value in a column.
+         * @param column the column index
+         * @param row the row index
+         * @return true if the value is null
+         */
+        public boolean isNull(int column, int row) {
+            return !isSet(validity[column], row);
+        }
+
+        /**
+         * Returns the values of a column.
+         * @param column the column index
+         * @return the array of values.  Null rows hold the default value of the array type.
+         */
+        public Object getValues(int column) {
+            return values[column];
+        }
+    }
+
+    /**
+     * Constructor.  Reads the schema of the export.
+     * @param inputStream The export to read.
+     * @throws IOException if the export cannot be read or is not a columnar export.
+     */
+    public ColumnarExportReader(InputStream inputStream) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(inputStream));
+
+        byte[] magic = new byte[ColumnarExportFormatter.MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, ColumnarExportFormatter.MAGIC)) {
+            throw new IOException("Not a columnar export.");
+        }
+        int version = in.readInt();
+        if (version != ColumnarExportFormatter.VERSION) {
+            throw new IOException("Unsupported columnar export version " + version);
+        }
+
+        int columnCount = in.readInt();
+        List<Column> schema = new ArrayList<>(columnCount);
+        for (int column = 0; column < columnCount; column++) {
+            schema.add(new Column(in.readUTF(), ColumnType.values()[in.readByte()]));
+        }
+        this.columns = Collections.unmodifiableList(schema);
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Reads the next batch.
+     * @return the batch or null once every batch has been read.
+     * @throws IOException if the export cannot be read.
+     */
+    public Batch nextBatch() throws IOException {
+        if (ended) {
+            return null;
+        }
+
+        int rows = in.readInt();
+        if (rows == 0) {
+            ended = true;
+            return null;
+        }
+
+        byte[][] validity = new byte[columns.size()][];
+        Object[] values = new Object[columns.size()];
+        for (int column = 0; column < columns.size(); column++) {
+            validity[column] = new byte[(rows + 7) / 8];
+            in.readFully(validity[column]);
+            values[column] = readValues(columns.get(column).getType(), rows);
+        }
+        return new Batch(rows, validity, values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private Object readValues(ColumnType type, int rows) throws IOException {
+        switch (type) {
+            case BOOLEAN:
+                byte[] bits = new byte[(rows + 7) / 8];
+                in.readFully(bits);
+                boolean[] booleans = new boolean[rows];
+                for (int row = 0; row < rows; row++) {
+                    booleans[row] = isSet(bits, row);
+                }
+                return booleans;
+            case INT64:
+            case TIMESTAMP:
+                long[] longs = new long[rows];
+                for (int row = 0; row < rows; row++) {
+                    longs[row] = in.readLong();
+                }
+                return longs;
+            case FLOAT64:
+                double[] doubles = new double[rows];
+                for (int row = 0; row < rows; row++) {
+                    doubles[row] = in.readDouble();
+                }
+                return doubles;
+            default:
+                int[] offsets = new int[rows + 1];
+                for (int row = 0; row <= rows; row++) {
+                    offsets[row] = in.readInt();
+                }
+                byte[] data = new byte[offsets[rows]];
+                in.readFully(data);
+                String[] strings = new String[rows];
+                for (int row = 0; row < rows; row++) {
+                    strings[row] = new String(data, offsets[row], offsets[row + 1] - offsets[row],
+                            StandardCharsets.UTF_8);
+                }
+                return strings;
+        }
+    }
+
+    private static boolean isSet(byte[] bits, int index) {
+        return (bits[index / 8] & (1 << (index % 8))) != 0;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.request.EntityProjection;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * CSV output format implementation which writes the projected attributes of each record directly.
+ * <p>
+ * Columns follow the order of the projection's attributes.  Fields are quoted as described by RFC 4180: only
+ * fields which contain a comma, a double quote or a line break are quoted, and double quotes are escaped by
+ * doubling them.  Null values are written as empty fields.  Values are rendered by {@link ValueRenderer}.
+ */
+public class StreamingCsvExportFormatter implements TableExportFormatter {
+    private static final char COMMA = ',';
+    private static final char DOUBLE_QUOTE = '"';
+
+    private final boolean writeHeader;
+    private final ValueRenderer renderer;
+
+    public StreamingCsvExportFormatter(Elide elide, boolean writeHeader) {
+        this.writeHeader = writeHeader;
+        this.renderer = new ValueRenderer(elide);
+    }
+
+    @Override
+    public String format(PersistentResource resource, Integer recordNumber) {
+        if (resource == null || resource.getObject() == null) {
+            return null;
+        }
+
+        StringBuilder record = new StringBuilder();
+        try {
+            format(resource, record);
+        } catch (IOException e) {
+            // StringBuilder does not throw.
+            throw new UncheckedIOException(e);
+        }
+        return record.toString();
+    }
+
+    @Override
+    public void format(PersistentResource resource, Integer recordNumber, Writer writer) throws IOException {
+        if (resource == null || resource.getObject() == null) {
+            return;
+        }
+        format(resource, writer);
+    }
+
+    private void format(PersistentResource resource, Appendable out) throws IOException {
+        Collection<Attribute> columns = resource.getRequestScope().getEntityProjection().getAttributes();
+
+        boolean first = true;
+        for (Attribute column : columns) {
+            if (!first) {
+                out.append(COMMA);
+            }
+            first = false;
+
+            Object value = resource.getAttribute(column);
+            if (value != null) {
+                appendField(out, renderer.render(value));
+            }
+        }
+    }
+
+    @Override
+    public String preFormat(EntityProjection projection, TableExport query) {
+        if (projection == null || !writeHeader) {
+            return null;
+        }
+
+        if (projection.getAttributes() == null) {
+            return "";
+        }
+
+        StringBuilder header = new StringBuilder();
+        try {
+            boolean first = true;
+            for (Attribute attribute : projection.getAttributes()) {
+                if (!first) {
+                    header.append(COMMA);
+                }
+                first = false;
+                appendField(header, toHeader(attribute));
+            }
+        } catch (IOException e) {
+            // StringBuilder does not throw.
+            throw new UncheckedIOException(e);
+        }
+        return header.toString();
+    }
+
+    @Override
+    public String postFormat(EntityProjection projection, TableExport query) {
+        return null;
+    }
+
+    private static String toHeader(Attribute attribute) {
+        if (attribute.getArguments() == null || attribute.getArguments().isEmpty()) {
+            return attribute.getName();
+        }
+
+        return attribute.getName() + attribute.getArguments().stream()
+                .map(arg -> arg.getName() + "=" + arg.getValue())
+                .collect(Collectors.joining(" ", "(", ")"));
+    }
+
+    /**
+     * Appends a field, quoting it only when required.
+     * @param out Destination of the field
+     * @param field Unquoted field value
+     * @throws IOException if the field cannot be written
+     */
+    private static void appendField(Appendable out, String field) throws IOException {
+        if (!needsQuotes(field)) {
+            out.append(field);
+            return;
+        }
+
+        out.append(DOUBLE_QUOTE);
+        int start = 0;
+        for (int index = 0; index < field.length(); index++) {
+            if (field.charAt(index) == DOUBLE_QUOTE) {
+                out.append(field, start, index + 1).append(DOUBLE_QUOTE);
+                start = index + 1;
+            }
+        }
+        out.append(field, start, field.length()).append(DOUBLE_QUOTE);
+    }
+
+    private static boolean needsQuotes(String field) {
+        for (int index = 0; index < field.length(); index++) {
+            char character = field.charAt(index);
+            if (character == COMMA || character == DOUBLE_QUOTE || character == '\n' || character == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
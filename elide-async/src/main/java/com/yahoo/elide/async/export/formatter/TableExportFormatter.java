@@ -9,6 +9,9 @@ import com.yahoo.elide.async.models.TableExport;
 import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.request.EntityProjection;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * Interface which is used to format PersistentResource to output format.
  */
@@ -22,6 +25,20 @@ public interface TableExportFormatter {
      */
     public String format(PersistentResource resource, Integer recordNumber);
 
+    /**
+     * Format PersistentResource directly into the stored results.
+     * @param resource PersistentResource to format
+     * @param recordNumber Record Number being processed.
+     * @param writer Writer of the stored results. The line separator is written by the caller.
+     * @throws IOException if the record cannot be written
+     */
+    public default void format(PersistentResource resource, Integer recordNumber, Writer writer) throws IOException {
+        String record = format(resource, recordNumber);
+        if (record != null) {
+            writer.write(record);
+        }
+    }
+
     /**
      * Pre Format Action.
      * Example: Generate Header, Metadata etc.
@@ -39,4 +56,12 @@ public interface TableExportFormatter {
      * @return output string
      */
     public String postFormat(EntityProjection projection, TableExport query);
+
+    /**
+     * Releases the state kept for an export on the calling thread.  Called by every thread which formatted records
+     * once the export ends, whether or not it succeeded.
+     */
+    public default void release() {
+        //NOOP
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.core.utils.coerce.converters.Serde;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Renders attribute values as text.
+ * <p>
+ * The renderer of a value type is resolved once: types with a registered Serde are serialized with it, enums by
+ * name and complex values (collections, maps and embedded objects) as JSON.
+ */
+class ValueRenderer {
+    private final ObjectMapper mapper;
+    private final Map<Class, Serde> serdes;
+    private final Map<Class<?>, Function<Object, String>> renderers = new ConcurrentHashMap<>();
+
+    ValueRenderer(Elide elide) {
+        this.mapper = elide.getMapper().getObjectMapper();
+        this.serdes = elide.getElideSettings().getSerdes();
+    }
+
+    /**
+     * Renders a value.
+     * @param value non null value
+     * @return the text of the value
+     */
+    String render(Object value) {
+        return renderers.computeIfAbsent(value.getClass(), this::renderer).apply(value);
+    }
+
+    private Function<Object, String> renderer(Class<?> valueClass) {
+        if (valueClass == String.class) {
+            return String.class::cast;
+        }
+        if (Number.class.isAssignableFrom(valueClass) || valueClass == Boolean.class
+                || valueClass == Character.class) {
+            return Object::toString;
+        }
+
+        for (Class<?> cls = valueClass; cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            Serde serde = serdes.get(cls);
+            if (serde != null) {
+                return value -> String.valueOf(serde.serialize(value));
+            }
+        }
+
+        if (valueClass.isEnum() || (valueClass.getSuperclass() != null && valueClass.getSuperclass().isEnum())) {
+            return value -> ((Enum<?>) value).name();
+        }
+
+        return this::toJson;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
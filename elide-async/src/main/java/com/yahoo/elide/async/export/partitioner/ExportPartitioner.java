@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.partitioner;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.request.EntityProjection;
+
+import java.util.List;
+
+/**
+ * Utility interface used to split a table export into partitions which are exported concurrently.
+ * <p>
+ * Each partition is read in its own transaction, so a partitioned export is not a consistent snapshot of the
+ * exported records.
+ */
+public interface ExportPartitioner {
+
+    /**
+     * Splits the records of the projection into disjoint partitions.  Every record must match exactly one
+     * partition.  The export contains the partitions in the returned order, so a partitioner must not partition
+     * a sorted projection unless the order of its partitions matches the sorting.
+     * @param projection EntityProjection to export.
+     * @param dictionary EntityDictionary.
+     * @return the filter of each partition.  The export is not partitioned when fewer than two are returned.
+     */
+    public List<FilterExpression> partition(EntityProjection projection, EntityDictionary dictionary);
+
+    /**
+     * The maximum number of partitions exported concurrently.
+     * @return the parallelism.
+     */
+    public int getParallelism();
+}
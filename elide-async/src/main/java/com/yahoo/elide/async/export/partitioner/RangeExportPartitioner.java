@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.partitioner;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.predicates.GEPredicate;
+import com.yahoo.elide.core.filter.predicates.IsNullPredicate;
+import com.yahoo.elide.core.filter.predicates.LTPredicate;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Partitions an export into ranges of an attribute.
+ * <p>
+ * Boundaries b1 &lt; b2 &lt; ... &lt; bn produce the partitions attribute &lt; b1, b1 &lt;= attribute &lt; b2, ...,
+ * attribute &gt;= bn and attribute is null, in that order.  Boundaries are coerced to the type of the attribute.
+ * <p>
+ * Sorted exports are only partitioned when they are first sorted ascending on the attribute, as the partitions
+ * would otherwise not be in the requested order.
+ */
+public class RangeExportPartitioner implements ExportPartitioner {
+    private final String attribute;
+    private final List<String> boundaries;
+    @Getter private final int parallelism;
+
+    /**
+     * Constructor.
+     * @param attribute The attribute (or dot separated path) to partition on.
+     * @param boundaries The ascending boundaries between the partitions.
+     * @param parallelism The maximum number of partitions exported concurrently.
+     */
+    public RangeExportPartitioner(String attribute, List<String> boundaries, int parallelism) {
+        this.attribute = attribute;
+        this.boundaries = boundaries;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public List<FilterExpression> partition(EntityProjection projection, EntityDictionary dictionary) {
+        List<FilterExpression> partitions = new ArrayList<>();
+        if (boundaries == null || boundaries.isEmpty()) {
+            return partitions;
+        }
+
+        Path path = new Path(projection.getType(), dictionary, attribute);
+        if (!isSortedByPartitions(projection.getSorting(), path)) {
+            return partitions;
+        }
+
+        Type<?> fieldType = path.lastElement().map(Path.PathElement::getFieldType).orElse(null);
+
+        Object lower = null;
+        for (String boundary : boundaries) {
+            Object upper = fieldType == null ? boundary : CoerceUtil.coerce(boundary, fieldType);
+            partitions.add(lower == null
+                    ? new LTPredicate(path, upper)
+                    : new AndFilterExpression(new GEPredicate(path, lower), new LTPredicate(path, upper)));
+            lower = upper;
+        }
+        partitions.add(new GEPredicate(path, lower));
+        partitions.add(new IsNullPredicate(path));
+        return partitions;
+    }
+
+    private static boolean isSortedByPartitions(Sorting sorting, Path path) {
+        if (sorting == null || sorting.isDefaultInstance()) {
+            return true;
+        }
+        Map<Path, Sorting.SortOrder> sortingPaths = sorting.getSortingPaths();
+        return sortingPaths.entrySet().stream()
+                .findFirst()
+                .map(rule -> rule.getKey().getFieldPath().equals(path.getFieldPath())
+                        && rule.getValue() == Sorting.SortOrder.asc)
+                .orElse(true);
+    }
+}
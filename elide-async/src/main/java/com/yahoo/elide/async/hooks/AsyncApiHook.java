@@ -64,7 +64,7 @@ public abstract class AsyncApiHook<T extends AsyncApi> implements LifeCycleHook<
         if (operation.equals(CREATE)) {
             if (phase.equals(PREFLUSH)) {
                 validateOptions(query, requestScope);
-                executeAsync(query, queryWorker);
+                executeAsync(query, requestScope, queryWorker);
                 return;
             }
             if (phase.equals(POSTCOMMIT)) {
@@ -95,8 +95,23 @@ public abstract class AsyncApiHook<T extends AsyncApi> implements LifeCycleHook<
      * @param callable CallableThread instance.
      */
     protected void executeAsync(AsyncApi query, Callable<AsyncApiResult> callable) {
+        executeAsync(query, null, callable);
+    }
+
+    /**
+     * Call the executeQuery process on AsyncExecutorService.
+     * @param query AsyncApi object to complete.
+     * @param requestScope RequestScope object or null to skip deduplication.
+     * @param callable CallableThread instance.
+     */
+    protected void executeAsync(AsyncApi query, RequestScope requestScope, Callable<AsyncApiResult> callable) {
         if (query.getStatus() == QueryStatus.QUEUED && query.getResult() == null) {
-            asyncExecutorService.executeQuery(query, callable);
+            if (requestScope == null) {
+                asyncExecutorService.executeQuery(query, callable);
+            } else {
+                asyncExecutorService.executeQuery(query, callable, requestScope.getUser(),
+                        requestScope.getApiVersion());
+            }
         }
     }
 
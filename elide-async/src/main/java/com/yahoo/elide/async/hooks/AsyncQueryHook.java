@@ -14,6 +14,7 @@ import com.yahoo.elide.async.models.QueryType;
 import com.yahoo.elide.async.operation.GraphQLAsyncQueryOperation;
 import com.yahoo.elide.async.operation.JsonApiAsyncQueryOperation;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.exceptions.InvalidOperationException;
 import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.RequestScope;
@@ -27,9 +28,27 @@ import java.util.concurrent.Callable;
  * LifeCycle Hook for execution of AsyncQuery.
  */
 public class AsyncQueryHook extends AsyncApiHook<AsyncQuery> {
+    private final ResultStorageEngine engine;
+    private final int maxInlineResponseBodyLength;
 
     public AsyncQueryHook (AsyncExecutorService asyncExecutorService, Duration maxAsyncAfter) {
+        this(asyncExecutorService, maxAsyncAfter, null, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param asyncExecutorService AsyncExecutorService.
+     * @param maxAsyncAfter Maximum time to wait for a query before returning it asynchronously.
+     * @param engine ResultStorageEngine storing response bodies longer than maxInlineResponseBodyLength or null
+     * to store every response body inline.  Stored response bodies are downloaded from the export API, which does
+     * not check the owner of the query.
+     * @param maxInlineResponseBodyLength Maximum number of characters of a response body stored inline.
+     */
+    public AsyncQueryHook (AsyncExecutorService asyncExecutorService, Duration maxAsyncAfter,
+            ResultStorageEngine engine, int maxInlineResponseBodyLength) {
         super(asyncExecutorService, maxAsyncAfter);
+        this.engine = engine;
+        this.maxInlineResponseBodyLength = maxInlineResponseBodyLength;
     }
 
     @Override
@@ -56,10 +75,10 @@ public class AsyncQueryHook extends AsyncApiHook<AsyncQuery> {
         Callable<AsyncApiResult> operation = null;
         if (query.getQueryType().equals(QueryType.JSONAPI_V1_0)) {
             operation = new JsonApiAsyncQueryOperation(getAsyncExecutorService(), query,
-                    (com.yahoo.elide.core.RequestScope) requestScope);
+                    (com.yahoo.elide.core.RequestScope) requestScope, engine, maxInlineResponseBodyLength);
         } else {
             operation = new GraphQLAsyncQueryOperation(getAsyncExecutorService(), query,
-                    (com.yahoo.elide.core.RequestScope) requestScope);
+                    (com.yahoo.elide.core.RequestScope) requestScope, engine, maxInlineResponseBodyLength);
         }
         return operation;
     }
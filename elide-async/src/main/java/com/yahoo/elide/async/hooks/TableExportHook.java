@@ -7,7 +7,9 @@ package com.yahoo.elide.async.hooks;
 
 import com.yahoo.elide.annotation.LifeCycleHookBinding.Operation;
 import com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase;
+import com.yahoo.elide.async.export.formatter.BinaryTableExportFormatter;
 import com.yahoo.elide.async.export.formatter.TableExportFormatter;
+import com.yahoo.elide.async.export.partitioner.ExportPartitioner;
 import com.yahoo.elide.async.models.AsyncApi;
 import com.yahoo.elide.async.models.AsyncApiResult;
 import com.yahoo.elide.async.models.QueryType;
@@ -24,6 +26,7 @@ import com.yahoo.elide.core.security.RequestScope;
 import lombok.EqualsAndHashCode;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
@@ -34,13 +37,39 @@ import java.util.concurrent.Callable;
 @EqualsAndHashCode(callSuper = true)
 public class TableExportHook extends AsyncApiHook<TableExport> {
     private final Map<ResultType, TableExportFormatter> supportedFormatters;
+    private final Map<ResultType, BinaryTableExportFormatter> binaryFormatters;
     private final ResultStorageEngine engine;
+    private final Map<String, ExportPartitioner> partitioners;
 
     public TableExportHook (AsyncExecutorService asyncExecutorService, Duration maxAsyncAfter,
             Map<ResultType, TableExportFormatter> supportedFormatters, ResultStorageEngine engine) {
+        this(asyncExecutorService, maxAsyncAfter, supportedFormatters, engine, Collections.emptyMap());
+    }
+
+    public TableExportHook (AsyncExecutorService asyncExecutorService, Duration maxAsyncAfter,
+            Map<ResultType, TableExportFormatter> supportedFormatters, ResultStorageEngine engine,
+            Map<String, ExportPartitioner> partitioners) {
+        this(asyncExecutorService, maxAsyncAfter, supportedFormatters, Collections.emptyMap(), engine, partitioners);
+    }
+
+    /**
+     * Constructor.
+     * @param asyncExecutorService The async executor service.
+     * @param maxAsyncAfter The maximum duration a TableExport may run synchronously.
+     * @param supportedFormatters The text formatters keyed by result type.
+     * @param binaryFormatters The binary formatters keyed by result type.
+     * @param engine The storage engine of the results.
+     * @param partitioners Partitioners of concurrently exported models keyed by model name.
+     */
+    public TableExportHook (AsyncExecutorService asyncExecutorService, Duration maxAsyncAfter,
+            Map<ResultType, TableExportFormatter> supportedFormatters,
+            Map<ResultType, BinaryTableExportFormatter> binaryFormatters, ResultStorageEngine engine,
+            Map<String, ExportPartitioner> partitioners) {
         super(asyncExecutorService, maxAsyncAfter);
         this.supportedFormatters = supportedFormatters;
+        this.binaryFormatters = binaryFormatters;
         this.engine = engine;
+        this.partitioners = partitioners;
     }
 
     @Override
@@ -64,15 +93,24 @@ public class TableExportHook extends AsyncApiHook<TableExport> {
         com.yahoo.elide.core.RequestScope scope = (com.yahoo.elide.core.RequestScope) requestScope;
 
         TableExportFormatter formatter = supportedFormatters.get(resultType);
+        BinaryTableExportFormatter binaryFormatter = binaryFormatters.get(resultType);
 
-        if (formatter == null) {
+        if (formatter == null && binaryFormatter == null) {
             throw new InvalidOperationException("Formatter unavailable for " + resultType);
         }
 
         if (queryType.equals(QueryType.GRAPHQL_V1_0)) {
-            operation = new GraphQLTableExportOperation(formatter, getAsyncExecutorService(), export, scope, engine);
+            operation = formatter != null
+                    ? new GraphQLTableExportOperation(formatter, getAsyncExecutorService(), export, scope, engine,
+                            partitioners)
+                    : new GraphQLTableExportOperation(binaryFormatter, getAsyncExecutorService(), export, scope,
+                            engine);
         } else if (queryType.equals(QueryType.JSONAPI_V1_0)) {
-            operation = new JsonApiTableExportOperation(formatter, getAsyncExecutorService(), export, scope, engine);
+            operation = formatter != null
+                    ? new JsonApiTableExportOperation(formatter, getAsyncExecutorService(), export, scope, engine,
+                            partitioners)
+                    : new JsonApiTableExportOperation(binaryFormatter, getAsyncExecutorService(), export, scope,
+                            engine);
         } else {
             throw new InvalidOperationException(queryType + "is not supported");
         }
@@ -10,6 +10,8 @@ import jakarta.persistence.Lob;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+import java.net.URL;
+
 /**
  * Model for Async Query Result.
  */
@@ -21,4 +23,9 @@ public class AsyncQueryResult extends AsyncApiResult {
 
     @Lob
     private String responseBody;  //URL or Response body
+
+    /**
+     * URL to download the response body from when it was too large to store inline.
+     */
+    private URL responseBodyUrl;
 }
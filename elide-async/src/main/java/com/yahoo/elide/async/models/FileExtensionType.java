@@ -12,6 +12,7 @@ package com.yahoo.elide.async.models;
 public enum FileExtensionType {
     JSON(".json"),
     CSV(".csv"),
+    COLUMNAR(".columnar"),
     NONE("");
 
     private final String extension;
@@ -10,7 +10,8 @@ package com.yahoo.elide.async.models;
  */
 public enum ResultType {
     JSON(FileExtensionType.JSON),
-    CSV(FileExtensionType.CSV);
+    CSV(FileExtensionType.CSV),
+    COLUMNAR(FileExtensionType.COLUMNAR);
 
     private final FileExtensionType fileExtensionType;
 
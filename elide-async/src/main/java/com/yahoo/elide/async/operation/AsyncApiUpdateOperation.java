@@ -9,6 +9,7 @@ import com.yahoo.elide.Elide;
 import com.yahoo.elide.async.models.AsyncApi;
 import com.yahoo.elide.async.models.AsyncApiResult;
 import com.yahoo.elide.async.models.QueryStatus;
+import com.yahoo.elide.async.service.AsyncApiCompletionNotifier;
 import com.yahoo.elide.async.service.dao.AsyncApiDao;
 
 import lombok.AllArgsConstructor;
@@ -29,16 +30,25 @@ public class AsyncApiUpdateOperation implements Runnable {
     private Future<AsyncApiResult> task;
     private AsyncApi queryObj;
     private AsyncApiDao asyncApiDao;
+    private AsyncApiCompletionNotifier completionNotifier;
+
+    public AsyncApiUpdateOperation(Elide elide, Future<AsyncApiResult> task, AsyncApi queryObj,
+            AsyncApiDao asyncApiDao) {
+        this(elide, task, queryObj, asyncApiDao, null);
+    }
 
     /**
      * This is the main method which updates the Async API request.
      */
     @Override
     public void run() {
+        QueryStatus status = QueryStatus.FAILURE;
         try {
             AsyncApiResult queryResultObj = task.get();
             // add queryResult object to query object
-            asyncApiDao.updateAsyncApiResult(queryResultObj, queryObj.getId(), queryObj.getClass());
+            AsyncApi updated = asyncApiDao.updateAsyncApiResult(queryResultObj, queryObj.getId(),
+                    queryObj.getClass());
+            status = updated == null ? QueryStatus.COMPLETE : updated.getStatus();
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -47,6 +57,10 @@ public class AsyncApiUpdateOperation implements Runnable {
         } catch (Exception e) {
             log.error("Exception: {}", e.toString());
             asyncApiDao.updateStatus(queryObj.getId(), QueryStatus.FAILURE, queryObj.getClass());
+        } finally {
+            if (completionNotifier != null) {
+                completionNotifier.completed(queryObj.getId(), status);
+            }
         }
     }
 }
@@ -11,13 +11,16 @@ import com.yahoo.elide.async.models.AsyncApiResult;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.AsyncQueryResult;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
 import com.jayway.jsonpath.JsonPath;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.net.MalformedURLException;
 import java.net.URISyntaxException;
+import java.net.URL;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -30,11 +33,29 @@ public abstract class AsyncQueryOperation implements Callable<AsyncApiResult> {
     @Getter private AsyncExecutorService service;
     private AsyncQuery queryObj;
     private RequestScope scope;
+    private ResultStorageEngine engine;
+    private int maxInlineResponseBodyLength;
 
     public AsyncQueryOperation(AsyncExecutorService service, AsyncApi queryObj, RequestScope scope) {
+        this(service, queryObj, scope, null, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param service AsyncExecutorService.
+     * @param queryObj AsyncQuery to execute.
+     * @param scope RequestScope.
+     * @param engine ResultStorageEngine storing response bodies longer than maxInlineResponseBodyLength or null
+     * to store every response body inline.
+     * @param maxInlineResponseBodyLength Maximum number of characters of a response body stored inline.
+     */
+    public AsyncQueryOperation(AsyncExecutorService service, AsyncApi queryObj, RequestScope scope,
+            ResultStorageEngine engine, int maxInlineResponseBodyLength) {
         this.service = service;
         this.queryObj = (AsyncQuery) queryObj;
         this.scope = scope;
+        this.engine = engine;
+        this.maxInlineResponseBodyLength = maxInlineResponseBodyLength;
     }
 
     @Override
@@ -47,8 +68,18 @@ public abstract class AsyncQueryOperation implements Callable<AsyncApiResult> {
         AsyncQueryResult queryResult = new AsyncQueryResult();
         queryResult.setHttpStatus(response.getResponseCode());
         queryResult.setCompletedOn(new Date());
-        queryResult.setResponseBody(response.getBody());
         queryResult.setContentLength(response.getBody().length());
+        if (engine != null && response.getBody().length() > maxInlineResponseBodyLength
+                && engine.storeResponseBody(queryObj.getId(), response.getBody())) {
+            // Large bodies are downloaded on demand so that polling the status does not load them.
+            try {
+                queryResult.setResponseBodyUrl(new URL(generateResponseBodyURL(queryObj, scope)));
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        } else {
+            queryResult.setResponseBody(response.getBody());
+        }
         if (response.getResponseCode() == 200) {
             queryResult.setRecordCount(calculateRecordCount(queryObj, response));
         }
@@ -63,6 +94,18 @@ public abstract class AsyncQueryOperation implements Callable<AsyncApiResult> {
      */
     public abstract Integer calculateRecordCount(AsyncQuery queryObj, ElideResponse response);
 
+    /**
+     * Generate the URL to download a stored response body from.
+     * @param queryObj AsyncQuery type object.
+     * @param scope RequestScope.
+     * @return URL generated.
+     */
+    public String generateResponseBodyURL(AsyncQuery queryObj, RequestScope scope) {
+        String downloadPath = scope.getElideSettings().getExportApiPath();
+        String baseURL = scope.getBaseUrlEndPoint();
+        return baseURL + downloadPath + "/" + queryObj.getId();
+    }
+
     /**
      * Check if Elide Response is NULL.
      * @param response ElideResponse object.
@@ -9,6 +9,7 @@ import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.async.models.AsyncApi;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.InvalidOperationException;
 import com.yahoo.elide.core.security.User;
@@ -29,6 +30,11 @@ public class GraphQLAsyncQueryOperation extends AsyncQueryOperation {
         super(service, queryObj, scope);
     }
 
+    public GraphQLAsyncQueryOperation(AsyncExecutorService service, AsyncApi queryObj, RequestScope scope,
+            ResultStorageEngine engine, int maxInlineResponseBodyLength) {
+        super(service, queryObj, scope, engine, maxInlineResponseBodyLength);
+    }
+
     @Override
     public ElideResponse execute(AsyncApi queryObj, RequestScope scope) throws URISyntaxException {
         User user = scope.getUser();
@@ -6,7 +6,9 @@
 package com.yahoo.elide.async.operation;
 
 import com.yahoo.elide.Elide;
+import com.yahoo.elide.async.export.formatter.BinaryTableExportFormatter;
 import com.yahoo.elide.async.export.formatter.TableExportFormatter;
+import com.yahoo.elide.async.export.partitioner.ExportPartitioner;
 import com.yahoo.elide.async.export.validator.NoRelationshipsProjectionValidator;
 import com.yahoo.elide.async.models.AsyncApi;
 import com.yahoo.elide.async.models.TableExport;
@@ -28,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -40,8 +43,19 @@ public class GraphQLTableExportOperation extends TableExportOperation {
 
     public GraphQLTableExportOperation(TableExportFormatter formatter, AsyncExecutorService service,
             AsyncApi export, RequestScope scope, ResultStorageEngine engine) {
+        this(formatter, service, export, scope, engine, Collections.emptyMap());
+    }
+
+    public GraphQLTableExportOperation(TableExportFormatter formatter, AsyncExecutorService service,
+            AsyncApi export, RequestScope scope, ResultStorageEngine engine,
+            Map<String, ExportPartitioner> partitioners) {
         super(formatter, service, export, scope, engine,
-                        Arrays.asList(new NoRelationshipsProjectionValidator()));
+                        Arrays.asList(new NoRelationshipsProjectionValidator()), partitioners);
+    }
+
+    public GraphQLTableExportOperation(BinaryTableExportFormatter formatter, AsyncExecutorService service,
+            AsyncApi export, RequestScope scope, ResultStorageEngine engine) {
+        super(formatter, service, export, scope, engine, Arrays.asList(new NoRelationshipsProjectionValidator()));
     }
 
     @Override
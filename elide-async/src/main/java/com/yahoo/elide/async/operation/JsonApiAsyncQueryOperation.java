@@ -10,6 +10,7 @@ import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.async.models.AsyncApi;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.security.User;
 import org.apache.http.NameValuePair;
@@ -32,6 +33,11 @@ public class JsonApiAsyncQueryOperation extends AsyncQueryOperation {
         super(service, queryObj, scope);
     }
 
+    public JsonApiAsyncQueryOperation(AsyncExecutorService service, AsyncApi queryObj, RequestScope scope,
+            ResultStorageEngine engine, int maxInlineResponseBodyLength) {
+        super(service, queryObj, scope, engine, maxInlineResponseBodyLength);
+    }
+
     @Override
     public ElideResponse execute(AsyncApi queryObj, RequestScope scope)
             throws URISyntaxException {
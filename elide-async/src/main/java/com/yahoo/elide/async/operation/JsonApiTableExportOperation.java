@@ -6,7 +6,9 @@
 package com.yahoo.elide.async.operation;
 
 import com.yahoo.elide.Elide;
+import com.yahoo.elide.async.export.formatter.BinaryTableExportFormatter;
 import com.yahoo.elide.async.export.formatter.TableExportFormatter;
+import com.yahoo.elide.async.export.partitioner.ExportPartitioner;
 import com.yahoo.elide.async.export.validator.NoRelationshipsProjectionValidator;
 import com.yahoo.elide.async.models.AsyncApi;
 import com.yahoo.elide.async.models.TableExport;
@@ -40,8 +42,19 @@ public class JsonApiTableExportOperation extends TableExportOperation {
 
     public JsonApiTableExportOperation(TableExportFormatter formatter, AsyncExecutorService service,
             AsyncApi export, RequestScope scope, ResultStorageEngine engine) {
+        this(formatter, service, export, scope, engine, Collections.emptyMap());
+    }
+
+    public JsonApiTableExportOperation(TableExportFormatter formatter, AsyncExecutorService service,
+            AsyncApi export, RequestScope scope, ResultStorageEngine engine,
+            Map<String, ExportPartitioner> partitioners) {
         super(formatter, service, export, scope, engine,
-                        Arrays.asList(new NoRelationshipsProjectionValidator()));
+                        Arrays.asList(new NoRelationshipsProjectionValidator()), partitioners);
+    }
+
+    public JsonApiTableExportOperation(BinaryTableExportFormatter formatter, AsyncExecutorService service,
+            AsyncApi export, RequestScope scope, ResultStorageEngine engine) {
+        super(formatter, service, export, scope, engine, Arrays.asList(new NoRelationshipsProjectionValidator()));
     }
 
     @Override
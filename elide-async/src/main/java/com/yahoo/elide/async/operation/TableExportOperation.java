@@ -6,7 +6,9 @@
 package com.yahoo.elide.async.operation;
 
 import com.yahoo.elide.Elide;
+import com.yahoo.elide.async.export.formatter.BinaryTableExportFormatter;
 import com.yahoo.elide.async.export.formatter.TableExportFormatter;
+import com.yahoo.elide.async.export.partitioner.ExportPartitioner;
 import com.yahoo.elide.async.export.validator.SingleRootProjectionValidator;
 import com.yahoo.elide.async.export.validator.Validator;
 import com.yahoo.elide.async.models.AsyncApi;
@@ -20,15 +22,27 @@ import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.exceptions.BadRequestException;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.request.EntityProjection;
 
 import io.reactivex.Observable;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -39,28 +53,76 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * TableExport Execute Operation Interface.
  */
 @Slf4j
 public abstract class TableExportOperation implements Callable<AsyncApiResult> {
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
     private TableExportFormatter formatter;
+    private BinaryTableExportFormatter binaryFormatter;
     @Getter private AsyncExecutorService service;
     private Integer recordNumber = 0;
     private TableExport exportObj;
     private RequestScope scope;
     private ResultStorageEngine engine;
     private List<Validator> validators = new ArrayList<>(Arrays.asList(new SingleRootProjectionValidator()));
+    private Map<String, ExportPartitioner> partitioners;
 
     public TableExportOperation(TableExportFormatter formatter, AsyncExecutorService service,
             AsyncApi exportObj, RequestScope scope, ResultStorageEngine engine, List<Validator> validators) {
+        this(formatter, service, exportObj, scope, engine, validators, Collections.emptyMap());
+    }
+
+    /**
+     * Constructor.
+     * @param formatter The formatter of the results.
+     * @param service The async executor service.
+     * @param exportObj The TableExport to run.
+     * @param scope The RequestScope of the submission.
+     * @param engine The storage engine of the results.
+     * @param validators Additional projection validators.
+     * @param partitioners Partitioners of concurrently exported models keyed by model name.
+     */
+    public TableExportOperation(TableExportFormatter formatter, AsyncExecutorService service,
+            AsyncApi exportObj, RequestScope scope, ResultStorageEngine engine, List<Validator> validators,
+            Map<String, ExportPartitioner> partitioners) {
+        this(formatter, null, service, exportObj, scope, engine, validators, partitioners);
+    }
+
+    /**
+     * Constructor of an export in a binary format.  Binary exports are not partitioned.
+     * @param binaryFormatter The formatter of the results.
+     * @param service The async executor service.
+     * @param exportObj The TableExport to run.
+     * @param scope The RequestScope of the submission.
+     * @param engine The storage engine of the results.
+     * @param validators Additional projection validators.
+     */
+    public TableExportOperation(BinaryTableExportFormatter binaryFormatter, AsyncExecutorService service,
+            AsyncApi exportObj, RequestScope scope, ResultStorageEngine engine, List<Validator> validators) {
+        this(null, binaryFormatter, service, exportObj, scope, engine, validators, Collections.emptyMap());
+    }
+
+    private TableExportOperation(TableExportFormatter formatter, BinaryTableExportFormatter binaryFormatter,
+            AsyncExecutorService service, AsyncApi exportObj, RequestScope scope, ResultStorageEngine engine,
+            List<Validator> validators, Map<String, ExportPartitioner> partitioners) {
         this.formatter = formatter;
+        this.binaryFormatter = binaryFormatter;
         this.service = service;
         this.exportObj = (TableExport) exportObj;
         this.scope = scope;
         this.engine = engine;
         this.validators.addAll(validators);
+        this.partitioners = partitioners;
     }
 
     @Override
@@ -69,12 +131,14 @@ public abstract class TableExportOperation implements Callable<AsyncApiResult> {
         Elide elide = service.getElide();
         TableExportResult exportResult = new TableExportResult();
         UUID requestId = UUID.fromString(exportObj.getRequestId());
-        try (DataStoreTransaction tx = elide.getDataStore().beginTransaction()) {
+        try (DataStoreTransaction tx = elide.getDataStore().beginReadTransaction()) {
             // Do Not Cache Export Results
             Map<String, List<String>> requestHeaders = new HashMap<String, List<String>>();
             requestHeaders.put("bypasscache", new ArrayList<String>(Arrays.asList("true")));
 
             RequestScope requestScope = getRequestScope(exportObj, scope, tx, requestHeaders);
+            // Stream Export Results Rather Than Holding Them In The Persistence Context
+            requestScope.setStreamResults(true);
             Collection<EntityProjection> projections = getProjections(exportObj, requestScope);
             validateProjections(projections);
             EntityProjection projection = projections.iterator().next();
@@ -89,22 +153,45 @@ public abstract class TableExportOperation implements Callable<AsyncApiResult> {
 
             if (projection != null) {
                 projection.setPagination(null);
+            }
+
+            TableExportResult result = null;
+            ExportPartitioner partitioner = getPartitioner(projection);
+            List<FilterExpression> partitions = partitioner == null
+                    ? Collections.emptyList()
+                    : partitioner.partition(projection, elide.getElideSettings().getDictionary());
+
+            // Partitions load their own records, so the full query only runs when the export is a single stream.
+            if (projection != null && partitions.size() <= 1) {
                 observableResults = PersistentResource.loadRecords(projection, Collections.emptyList(), requestScope);
             }
+            WritableByteChannel channel = partitions.size() > 1 ? null : engine.openResultChannel(exportObj);
+            if (partitions.size() > 1) {
+                result = exportPartitions(projection, partitions, partitioner.getParallelism(), requestHeaders);
+            } else if (channel != null) {
+                try (channel) {
+                    writeResults(channel, projection, observableResults);
+                }
+            } else if (binaryFormatter != null) {
+                Observable<byte[]> chunks = binaryFormatter.format(projection, exportObj,
+                        countRecords(observableResults));
 
-            Observable<String> results = Observable.empty();
-            String preResult = formatter.preFormat(projection, exportObj);
-            results = observableResults.map(resource -> {
-                this.recordNumber++;
-                return formatter.format(resource, recordNumber);
-            });
-            String postResult = formatter.postFormat(projection, exportObj);
+                result = storeResultChunks(exportObj, engine, chunks);
+            } else {
+                Observable<String> results = Observable.empty();
+                String preResult = formatter.preFormat(projection, exportObj);
+                results = observableResults.map(resource -> {
+                    this.recordNumber++;
+                    return formatter.format(resource, recordNumber);
+                });
+                String postResult = formatter.postFormat(projection, exportObj);
 
-            // Stitch together Pre-Formatted, Formatted, Post-Formatted results of Formatter in single observable.
-            Observable<String> interimResults = concatStringWithObservable(preResult, results, true);
-            Observable<String> finalResults = concatStringWithObservable(postResult, interimResults, false);
+                // Stitch together Pre-Formatted, Formatted, Post-Formatted results of Formatter in single observable.
+                Observable<String> interimResults = concatStringWithObservable(preResult, results, true);
+                Observable<String> finalResults = concatStringWithObservable(postResult, interimResults, false);
 
-            TableExportResult result = storeResults(exportObj, engine, finalResults);
+                result = storeResults(exportObj, engine, finalResults);
+            }
 
             if (result != null && result.getMessage() != null) {
                 throw new IllegalStateException(result.getMessage());
@@ -131,10 +218,248 @@ public abstract class TableExportOperation implements Callable<AsyncApiResult> {
             exportResult.setCompletedOn(new Date());
             elide.getTransactionRegistry().removeRunningTransaction(requestId);
             elide.getAuditLogger().clear();
+            if (formatter != null) {
+                formatter.release();
+            }
         }
         return exportResult;
     }
 
+    /**
+     * Writes the formatted results directly into the channel of the storage engine.
+     * @param channel The channel storing the results.
+     * @param projection The projection of the export.
+     * @param resources The records to export.
+     * @throws IOException if the results cannot be written.
+     */
+    private void writeResults(WritableByteChannel channel, EntityProjection projection,
+            Observable<PersistentResource> resources) throws IOException {
+        if (binaryFormatter != null) {
+            OutputStream outputStream = Channels.newOutputStream(channel);
+            binaryFormatter.format(projection, exportObj, countRecords(resources))
+                    .blockingForEach(outputStream::write);
+            return;
+        }
+
+        Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        writeLine(writer, formatter.preFormat(projection, exportObj));
+        resources.blockingForEach(resource -> {
+            this.recordNumber++;
+            formatter.format(resource, recordNumber, writer);
+            writer.write(System.lineSeparator());
+        });
+        writeLine(writer, formatter.postFormat(projection, exportObj));
+        writer.flush();
+    }
+
+    /**
+     * Counts the records handed to a binary formatter.  Records without an object are not exported.
+     * @param resources The records to export.
+     * @return the records with an object.
+     */
+    private Observable<PersistentResource> countRecords(Observable<PersistentResource> resources) {
+        return resources
+                .filter(resource -> resource.getObject() != null)
+                .doOnNext(resource -> this.recordNumber++);
+    }
+
+    private ExportPartitioner getPartitioner(EntityProjection projection) {
+        if (projection == null || partitioners.isEmpty() || binaryFormatter != null) {
+            // Binary formats can not be concatenated.
+            return null;
+        }
+        String modelName = service.getElide().getElideSettings().getDictionary().getJsonAliasFor(projection.getType());
+        return partitioners.get(modelName);
+    }
+
+    /**
+     * Exports the partitions concurrently, each on its own read transaction, and stores them in partition order.
+     * Each partition is spooled to a temporary file which is appended to the results once the previous partitions
+     * have been stored.
+     * <p>
+     * As every partition reads in its own transaction, the export is not a consistent snapshot.  Records changed
+     * while the export runs may be exported with the state of either side of the change, or appear in two
+     * partitions or none if the change moves them between partitions.
+     * @param projection The projection of the export.
+     * @param partitions The filters of the partitions.
+     * @param parallelism The maximum number of partitions exported concurrently.
+     * @param requestHeaders The request headers of the export.
+     * @return the result of the storage engine or null if the results were written into its channel.
+     * @throws IOException if the results cannot be written.
+     * @throws InterruptedException if the export is interrupted.
+     */
+    private TableExportResult exportPartitions(EntityProjection projection, List<FilterExpression> partitions,
+            int parallelism, Map<String, List<String>> requestHeaders) throws IOException, InterruptedException {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism,
+                partitions.size())), runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "elide-export-" + exportObj.getId() + "-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        List<Path> files = new ArrayList<>();
+        List<CompletableFuture<Boolean>> hasRecords = new ArrayList<>();
+        partitions.forEach(partition -> hasRecords.add(new CompletableFuture<>()));
+        try {
+            // Partitions start in order, so the earlier partitions a partition waits on are already running.
+            List<Future<ExportPartition>> futures = new ArrayList<>();
+            for (int index = 0; index < partitions.size(); index++) {
+                FilterExpression partition = partitions.get(index);
+                List<CompletableFuture<Boolean>> earlier = hasRecords.subList(0, index);
+                CompletableFuture<Boolean> own = hasRecords.get(index);
+                Path file = Files.createTempFile("elide-export-", ".part");
+                files.add(file);
+                futures.add(executor.submit(() -> exportPartition(partition, file, requestHeaders, earlier, own)));
+            }
+
+            WritableByteChannel channel = engine.openResultChannel(exportObj);
+            if (channel == null) {
+                Observable<String> records = Observable.fromIterable(futures).concatMap(future -> {
+                    ExportPartition partition = awaitPartition(future);
+                    Observable<String> partitionRecords = partition.records();
+                    recordNumber += partition.recordCount;
+                    return partitionRecords;
+                });
+                Observable<String> interimResults = concatStringWithObservable(
+                        formatter.preFormat(projection, exportObj), records, true);
+                return storeResults(exportObj, engine, concatStringWithObservable(
+                        formatter.postFormat(projection, exportObj), interimResults, false));
+            }
+
+            try (channel) {
+                Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8),
+                        WRITE_BUFFER_SIZE);
+                writeLine(writer, formatter.preFormat(projection, exportObj));
+                for (Future<ExportPartition> future : futures) {
+                    ExportPartition partition = awaitPartition(future);
+                    partition.writeTo(writer, channel);
+                    recordNumber += partition.recordCount;
+                }
+                writeLine(writer, formatter.postFormat(projection, exportObj));
+                writer.flush();
+            }
+            return null;
+        } finally {
+            executor.shutdownNow();
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static ExportPartition awaitPartition(Future<ExportPartition> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Exports one partition on its own read transaction into a temporary file.
+     * <p>
+     * Whether the first record of the partition is the first record of the export depends on the earlier
+     * partitions, so the partition waits until each earlier partition has either exported a record or finished
+     * before it formats its first record.
+     * @param partition The filter of the partition.
+     * @param file The temporary file of the partition.
+     * @param requestHeaders The request headers of the export.
+     * @param earlier Whether each earlier partition has records.
+     * @param hasRecords Completed with whether this partition has records.
+     * @return the spooled partition.
+     * @throws IOException if the partition cannot be spooled.
+     */
+    private ExportPartition exportPartition(FilterExpression partition, Path file,
+            Map<String, List<String>> requestHeaders, List<CompletableFuture<Boolean>> earlier,
+            CompletableFuture<Boolean> hasRecords) throws IOException {
+        Elide elide = service.getElide();
+        ExportPartition exportPartition = new ExportPartition(file);
+        try (DataStoreTransaction tx = elide.getDataStore().beginReadTransaction();
+                Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            RequestScope requestScope = getRequestScope(exportObj, scope, tx, requestHeaders);
+            requestScope.setStreamResults(true);
+            EntityProjection projection = getProjections(exportObj, requestScope).iterator().next();
+            EntityProjection partitionProjection = projection.copyOf()
+                    .filterExpression(AndFilterExpression.fromPair(projection.getFilterExpression(), partition))
+                    .pagination(null)
+                    .build();
+            requestScope.setEntityProjection(partitionProjection);
+
+            PersistentResource.loadRecords(partitionProjection, Collections.emptyList(), requestScope)
+                    .blockingForEach(resource -> {
+                        if (exportPartition.recordCount == 0) {
+                            hasRecords.complete(true);
+                            exportPartition.recordOffset = hasRecords(earlier) ? 1 : 0;
+                        }
+                        exportPartition.recordCount++;
+                        formatter.format(resource, exportPartition.recordOffset + exportPartition.recordCount,
+                                writer);
+                        writer.write(System.lineSeparator());
+                    });
+            tx.commit(requestScope);
+        } finally {
+            hasRecords.complete(false);
+            elide.getAuditLogger().clear();
+            formatter.release();
+        }
+        return exportPartition;
+    }
+
+    private static boolean hasRecords(List<CompletableFuture<Boolean>> partitions)
+            throws InterruptedException, ExecutionException {
+        for (CompletableFuture<Boolean> partition : partitions) {
+            if (partition.get()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The formatted records of a partition spooled to a file.
+     */
+    private static class ExportPartition {
+        private final Path file;
+        private int recordCount = 0;
+        // 1 when earlier partitions exported records, so the formatter does not treat the first one as the first.
+        private int recordOffset = 0;
+
+        ExportPartition(Path file) {
+            this.file = file;
+        }
+
+        private Observable<String> records() {
+            if (recordCount == 0) {
+                return Observable.empty();
+            }
+            return Observable.using(
+                    () -> Files.newBufferedReader(file, StandardCharsets.UTF_8),
+                    reader -> Observable.fromIterable(() -> reader.lines().iterator()),
+                    BufferedReader::close);
+        }
+
+        private void writeTo(Writer writer, WritableByteChannel channel) throws IOException {
+            if (recordCount == 0) {
+                return;
+            }
+            writer.flush();
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                inputStream.transferTo(Channels.newOutputStream(channel));
+            }
+        }
+    }
+
+    private static void writeLine(Writer writer, String line) throws IOException {
+        if (line != null) {
+            writer.write(line);
+            writer.write(System.lineSeparator());
+        }
+    }
+
     private Observable<String> concatStringWithObservable(String toConcat, Observable<String> observable,
             boolean stringFirst) {
         if (toConcat == null) {
@@ -183,6 +508,18 @@ public abstract class TableExportOperation implements Callable<AsyncApiResult> {
         return resultStorageEngine.storeResults(exportObj, result);
     }
 
+    /**
+     * Store binary Export Results using the ResultStorageEngine.
+     * @param exportObj TableExport type object.
+     * @param resultStorageEngine ResultStorageEngine instance.
+     * @param result Observable of binary chunks to store.
+     * @return TableExportResult object.
+     */
+    protected TableExportResult storeResultChunks(TableExport exportObj, ResultStorageEngine resultStorageEngine,
+            Observable<byte[]> result) {
+        return resultStorageEngine.storeResultChunks(exportObj, result);
+    }
+
     private void validateProjections(Collection<EntityProjection> projections) {
         validators.forEach(validator -> validator.validateProjection(projections));
     }
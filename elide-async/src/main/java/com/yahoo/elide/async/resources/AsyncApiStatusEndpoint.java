@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.resources;
+
+import com.yahoo.elide.async.models.AsyncApi;
+import com.yahoo.elide.async.service.AsyncApiCompletionNotifier;
+import com.yahoo.elide.async.service.AsyncExecutorService;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.Principal;
+import java.time.Duration;
+
+/**
+ * Endpoint for waiting on the completion of async queries and table exports.
+ * <p>
+ * A request waits until the query completes or the wait times out and then returns the status of the query.  Clients
+ * repeat the request while the returned status is still running and read the query once it completed.
+ */
+@Slf4j
+@Singleton
+@Path("/")
+public class AsyncApiStatusEndpoint {
+    protected final AsyncExecutorService asyncExecutorService;
+    protected final AsyncApiStatusProperties asyncApiStatusProperties;
+
+    @Data
+    @AllArgsConstructor
+    public static class AsyncApiStatusProperties {
+        private Duration maxWait;
+    }
+
+    @Inject
+    public AsyncApiStatusEndpoint(AsyncExecutorService asyncExecutorService,
+            @Named("asyncApiStatusProperties") AsyncApiStatusProperties asyncApiStatusProperties) {
+        this.asyncExecutorService = asyncExecutorService;
+        this.asyncApiStatusProperties = asyncApiStatusProperties;
+    }
+
+    /**
+     * Read handler.
+     *
+     * @param asyncApiType model name of the query, asyncQuery or tableExport
+     * @param asyncApiId id of the query
+     * @param wait seconds to wait for the query to complete, at most the maximum wait
+     * @param securityContext security context of the request
+     * @param asyncResponse AsyncResponse object
+     */
+    @GET
+    @Path("/{asyncApiType}/{asyncApiId}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public void get(@PathParam("asyncApiType") String asyncApiType,
+            @PathParam("asyncApiId") String asyncApiId,
+            @QueryParam("wait") Long wait,
+            @Context SecurityContext securityContext,
+            @Suspended final AsyncResponse asyncResponse) {
+        Class<? extends AsyncApi> type = AsyncApiCompletionNotifier.TYPES.get(asyncApiType);
+        if (type == null) {
+            asyncResponse.resume(notFound(asyncApiId));
+            return;
+        }
+
+        Duration maxWait = asyncApiStatusProperties.getMaxWait();
+        Duration timeout = wait == null || Duration.ofSeconds(wait).compareTo(maxWait) > 0
+                ? maxWait
+                : Duration.ofSeconds(Math.max(wait, 0L));
+        Principal principal = securityContext.getUserPrincipal();
+
+        asyncExecutorService.getCompletionNotifier()
+                .awaitCompletion(asyncApiId, type, principal == null ? null : principal.getName(), timeout)
+                .whenComplete((status, error) -> {
+                    if (error != null) {
+                        log.debug("Unable to wait for {}: {}", asyncApiId, error.toString());
+                        asyncResponse.resume(Response.status(Response.Status.INTERNAL_SERVER_ERROR).build());
+                    } else if (status == null) {
+                        asyncResponse.resume(notFound(asyncApiId));
+                    } else {
+                        asyncResponse.resume(Response.ok(AsyncApiCompletionNotifier.toJson(asyncApiId, status),
+                                MediaType.APPLICATION_JSON).build());
+                    }
+                });
+    }
+
+    private static Response notFound(String asyncApiId) {
+        return Response.status(Response.Status.NOT_FOUND).entity(asyncApiId + " Not Found").build();
+    }
+}
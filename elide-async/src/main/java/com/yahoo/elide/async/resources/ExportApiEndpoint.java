@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.async.resources;
 
+import com.yahoo.elide.async.service.storageengine.ResultFile;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.exceptions.HttpStatus;
 
@@ -14,11 +15,13 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
@@ -27,6 +30,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -58,13 +62,19 @@ public class ExportApiEndpoint {
 
     /**
      * Read handler.
+     * <p>
+     * Results stored as files are transferred as they are.  Compressed files are sent with their Content-Encoding
+     * to clients which accept it and are decompressed for other clients.
      *
      * @param asyncQueryId asyncQueryId to download results
+     * @param acceptEncoding Accept-Encoding header of the request
      * @param asyncResponse AsyncResponse object
      */
     @GET
     @Path("/{asyncQueryId}")
-    public void get(@PathParam("asyncQueryId") String asyncQueryId, @Context HttpServletResponse httpServletResponse,
+    public void get(@PathParam("asyncQueryId") String asyncQueryId,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+            @Context HttpServletResponse httpServletResponse,
             @Suspended final AsyncResponse asyncResponse) {
         asyncResponse.setTimeout(exportApiProperties.getMaxDownloadTime().toSeconds(), TimeUnit.SECONDS);
         asyncResponse.setTimeoutHandler(async -> {
@@ -73,12 +83,18 @@ public class ExportApiEndpoint {
         });
 
         exportApiProperties.getExecutor().submit(() -> {
-            Observable<String> observableResults = resultStorageEngine.getResultsByID(asyncQueryId);
+            ResultFile resultFile = resultStorageEngine.getResultFile(asyncQueryId);
+            if (resultFile != null) {
+                asyncResponse.resume(download(asyncQueryId, resultFile, acceptEncoding));
+                return;
+            }
+
+            Observable<byte[]> observableResults = resultStorageEngine.getResultChunksByID(asyncQueryId);
 
             StreamingOutput streamingOutput = outputStream ->
                 observableResults
                 .subscribe(
-                        resultString -> outputStream.write(resultString.concat(System.lineSeparator()).getBytes()),
+                        outputStream::write,
                         error -> {
                             String message = error.getMessage();
                             try {
@@ -115,4 +131,34 @@ public class ExportApiEndpoint {
                     .header("Content-Disposition", "attachment; filename=" + asyncQueryId).build());
         });
     }
+
+    private static Response download(String asyncQueryId, ResultFile resultFile, String acceptEncoding) {
+        boolean encoded = resultFile.isAcceptedBy(acceptEncoding);
+        StreamingOutput streamingOutput = outputStream -> {
+            if (encoded) {
+                resultFile.transferTo(outputStream);
+            } else {
+                resultFile.decodeTo(outputStream);
+            }
+            outputStream.flush();
+        };
+
+        ResponseBuilder response = Response.ok(streamingOutput, MediaType.APPLICATION_OCTET_STREAM)
+                .header("Content-Disposition", "attachment; filename=" + asyncQueryId);
+        if (resultFile.getContentEncoding() != null) {
+            response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (encoded) {
+            try {
+                response.header(HttpHeaders.CONTENT_LENGTH, resultFile.size());
+            } catch (IOException e) {
+                log.debug(e.getMessage());
+                return Response.status(Response.Status.NOT_FOUND).entity(asyncQueryId + " Not Found").build();
+            }
+            if (resultFile.getContentEncoding() != null) {
+                response.header(HttpHeaders.CONTENT_ENCODING, resultFile.getContentEncoding());
+            }
+        }
+        return response.build();
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service;
+
+import com.yahoo.elide.async.models.AsyncApi;
+import com.yahoo.elide.async.models.AsyncQuery;
+import com.yahoo.elide.async.models.QueryStatus;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.async.service.dao.AsyncApiDao;
+import com.yahoo.elide.core.Path.PathElement;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.predicates.InPredicate;
+import com.yahoo.elide.core.filter.predicates.IsNullPredicate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notifies clients waiting for async queries and table exports to complete so that they do not have to poll the
+ * status of the query.
+ * <p>
+ * Waiters are notified when the async executor of this host stores the result of a query.  The status is read once
+ * when a wait starts, to catch queries which already completed, and once when it times out, to catch queries which
+ * completed on another host.  Only the owner of a query can wait for it, as with reading the query.
+ */
+@Slf4j
+public class AsyncApiCompletionNotifier {
+    /**
+     * The types of queries by model name.
+     */
+    public static final Map<String, Class<? extends AsyncApi>> TYPES = Map.of(
+            "asyncQuery", AsyncQuery.class,
+            "tableExport", TableExport.class);
+
+    private static final Set<QueryStatus> RUNNING = EnumSet.of(QueryStatus.QUEUED, QueryStatus.PROCESSING,
+            QueryStatus.CANCELLED);
+
+    private final AsyncApiDao asyncApiDao;
+    private final Map<String, Set<CompletableFuture<QueryStatus>>> waiters = new ConcurrentHashMap<>();
+
+    public AsyncApiCompletionNotifier(AsyncApiDao asyncApiDao) {
+        this.asyncApiDao = asyncApiDao;
+    }
+
+    /**
+     * Waits for a query to complete.
+     * @param asyncApiId The ID of the AsyncQuery or TableExport.
+     * @param type The type of the query.
+     * @param principalName The name of the principal waiting or null for anonymous users.
+     * @param timeout The maximum time to wait.
+     * @return the status of the query when it completed or the wait timed out.  The status is null if the query does
+     * not exist or is owned by another principal.
+     */
+    public <T extends AsyncApi> CompletableFuture<QueryStatus> awaitCompletion(String asyncApiId, Class<T> type,
+            String principalName, Duration timeout) {
+        CompletableFuture<QueryStatus> waiter = new CompletableFuture<>();
+        waiters.computeIfAbsent(asyncApiId, key -> ConcurrentHashMap.newKeySet()).add(waiter);
+        waiter.whenComplete((status, error) -> remove(asyncApiId, waiter));
+
+        QueryStatus status = getStatus(asyncApiId, type, principalName);
+        if (!isRunning(status)) {
+            waiter.complete(status);
+            return waiter;
+        }
+
+        // The status is read again off the timer thread when the wait times out.
+        return waiter.completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApplyAsync(notified -> notified != null ? notified : getStatus(asyncApiId, type, principalName));
+    }
+
+    /**
+     * Notifies the waiters of a query that it completed.
+     * @param asyncApiId The ID of the AsyncQuery or TableExport.
+     * @param status The status of the completed query.
+     */
+    public void completed(String asyncApiId, QueryStatus status) {
+        Set<CompletableFuture<QueryStatus>> completed = waiters.remove(asyncApiId);
+        if (completed != null) {
+            log.debug("Notifying {} waiters of {}", completed.size(), asyncApiId);
+            completed.forEach(waiter -> waiter.complete(status));
+        }
+    }
+
+    /**
+     * The number of queries with waiters.
+     * @return the number of queries.
+     */
+    public int size() {
+        return waiters.size();
+    }
+
+    /**
+     * Whether a query with the status has not completed yet.
+     * @param status The status of the query.
+     * @return true if the query is queued, processing or being cancelled.
+     */
+    public static boolean isRunning(QueryStatus status) {
+        return status != null && RUNNING.contains(status);
+    }
+
+    /**
+     * Serializes the status of a query.  The id is the UUID of a stored query, so it does not need escaping.
+     * @param asyncApiId The ID of the AsyncQuery or TableExport.
+     * @param status The status of the query.
+     * @return the JSON document.
+     */
+    public static String toJson(String asyncApiId, QueryStatus status) {
+        return "{\"id\":\"" + asyncApiId + "\",\"status\":\"" + status.name() + "\"}";
+    }
+
+    private void remove(String asyncApiId, CompletableFuture<QueryStatus> waiter) {
+        waiters.computeIfPresent(asyncApiId, (key, remaining) -> {
+            remaining.remove(waiter);
+            return remaining.isEmpty() ? null : remaining;
+        });
+    }
+
+    private <T extends AsyncApi> QueryStatus getStatus(String asyncApiId, Class<T> type, String principalName) {
+        PathElement idPathElement = new PathElement(type, String.class, "id");
+        PathElement principalPathElement = new PathElement(type, String.class, "principalName");
+        FilterExpression filterExpression = new AndFilterExpression(new InPredicate(idPathElement, asyncApiId),
+                principalName == null
+                        ? new IsNullPredicate(principalPathElement)
+                        : new InPredicate(principalPathElement, principalName));
+        Iterator<T> queries = asyncApiDao.loadAsyncApiByFilter(filterExpression, type).iterator();
+        return queries.hasNext() ? queries.next().getStatus() : null;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service;
+
+import com.yahoo.elide.async.models.AsyncApi;
+import com.yahoo.elide.async.models.AsyncApiResult;
+import com.yahoo.elide.async.models.AsyncQueryResult;
+import com.yahoo.elide.async.models.QueryType;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.async.models.TableExportResult;
+import com.yahoo.elide.core.security.User;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Coalesces identical async queries and table exports into a single execution.
+ * <p>
+ * Queries are identical when they have the same type, API version, result type and normalized query text and
+ * their users have the same permission key.  A query identical to a running one attaches to its execution and
+ * receives its result, as does a query identical to one which completed successfully within the reuse window.
+ * Every query receives its own copy of the result.  The URL in the result of an attached table export is the
+ * download URL of the results stored by the export which ran, as no results are stored for the attached export.
+ * <p>
+ * Attached queries have no execution of their own.  Cancelling the query which started the execution cancels the
+ * transaction of the execution and so fails every query attached to it, while cancelling an attached query does
+ * not stop the execution.  Cancelling the future returned for a query only cancels that future.
+ * <p>
+ * The default permission key is the name of the user's principal, so results are only shared between the queries
+ * of the same user.  Deployments whose permissions only depend on, for example, the roles of a user can pass a
+ * coarser key.
+ */
+@Slf4j
+public class AsyncApiDeduplicator {
+    private final Duration reuseWindow;
+    private final Function<User, String> permissionKey;
+    private final Map<String, Execution> executions = new HashMap<>();
+
+    public AsyncApiDeduplicator(Duration reuseWindow) {
+        this(reuseWindow, AsyncApiDeduplicator::principalName);
+    }
+
+    /**
+     * Constructor.
+     * @param reuseWindow How long the result of a completed execution is shared.
+     * @param permissionKey Maps a user to a key which is equal for users with equal permissions.
+     */
+    public AsyncApiDeduplicator(Duration reuseWindow, Function<User, String> permissionKey) {
+        this.reuseWindow = reuseWindow;
+        this.permissionKey = permissionKey;
+    }
+
+    /**
+     * Submits a query unless an identical query is running or completed within the reuse window.
+     * @param query The AsyncQuery or TableExport.
+     * @param user The user submitting the query.
+     * @param apiVersion The API version of the query.
+     * @param callable The execution of the query.
+     * @param submitter Submits the execution of the query.
+     * @return the future of the result of the query, which may be computed by an identical query.
+     */
+    public Future<AsyncApiResult> submit(AsyncApi query, User user, String apiVersion,
+            Callable<AsyncApiResult> callable,
+            Function<Callable<AsyncApiResult>, Future<AsyncApiResult>> submitter) {
+        String fingerprint = fingerprint(query, user, apiVersion);
+        synchronized (this) {
+            evictExpired();
+
+            Execution execution = executions.get(fingerprint);
+            if (execution != null && execution.isReusable()) {
+                log.debug("Query {} attached to an identical execution", query.getId());
+                return new ResultCopy(execution.future);
+            }
+
+            Execution created = new Execution();
+            created.future = submitter.apply(() -> {
+                try {
+                    return callable.call();
+                } finally {
+                    created.completedAt = System.currentTimeMillis();
+                }
+            });
+            executions.put(fingerprint, created);
+            return new ResultCopy(created.future);
+        }
+    }
+
+    /**
+     * The number of executions which can currently be shared.
+     * @return the number of executions.
+     */
+    public synchronized int size() {
+        evictExpired();
+        return executions.size();
+    }
+
+    private void evictExpired() {
+        Iterator<Execution> iterator = executions.values().iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().isReusable()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private String fingerprint(AsyncApi query, User user, String apiVersion) {
+        StringBuilder fingerprint = new StringBuilder()
+                .append(query.getClass().getSimpleName()).append('\n')
+                .append(query.getQueryType()).append('\n')
+                .append(apiVersion).append('\n');
+        if (query instanceof TableExport export) {
+            fingerprint.append(export.getResultType()).append('\n');
+        }
+        return fingerprint.append(permissionKey.apply(user)).append('\n')
+                .append(normalize(query))
+                .toString();
+    }
+
+    /**
+     * Normalizes the query text.  The parameters of JSON-API queries are sorted since their order does not change
+     * the result.
+     * @param query The AsyncQuery or TableExport.
+     * @return the normalized query text.
+     */
+    static String normalize(AsyncApi query) {
+        String text = query.getQuery() == null ? "" : query.getQuery().trim();
+        int parametersStart = text.indexOf('?');
+        if (query.getQueryType() != QueryType.JSONAPI_V1_0 || parametersStart < 0) {
+            return text;
+        }
+
+        return text.substring(0, parametersStart + 1) + Arrays.stream(text.substring(parametersStart + 1).split("&"))
+                .filter(parameter -> !parameter.isEmpty())
+                .sorted()
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String principalName(User user) {
+        Principal principal = user == null ? null : user.getPrincipal();
+        return principal == null ? "" : principal.getName();
+    }
+
+    /**
+     * A running or completed execution.
+     */
+    private class Execution {
+        private Future<AsyncApiResult> future;
+        private volatile long completedAt = 0;
+
+        boolean isReusable() {
+            if (!future.isDone()) {
+                return true;
+            }
+            if (completedAt == 0 || System.currentTimeMillis() - completedAt >= reuseWindow.toMillis()) {
+                return false;
+            }
+            try {
+                return isSuccessful(future.get());
+            } catch (ExecutionException | InterruptedException | RuntimeException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * The future of one query of an execution, which receives its own copy of the shared result.  Cancelling it
+     * only cancels this query's wait for the result, not the shared execution.
+     */
+    private static class ResultCopy implements Future<AsyncApiResult> {
+        private final Future<AsyncApiResult> future;
+        private volatile boolean cancelled = false;
+
+        ResultCopy(Future<AsyncApiResult> future) {
+            this.future = future;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (cancelled || future.isDone()) {
+                return false;
+            }
+            cancelled = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled || future.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancelled || future.isDone();
+        }
+
+        @Override
+        public AsyncApiResult get() throws InterruptedException, ExecutionException {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            AsyncApiResult result = future.get();
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            return copy(result);
+        }
+
+        @Override
+        public AsyncApiResult get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            AsyncApiResult result = future.get(timeout, unit);
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            return copy(result);
+        }
+    }
+
+    static AsyncApiResult copy(AsyncApiResult result) {
+        AsyncApiResult copy;
+        if (result instanceof AsyncQueryResult queryResult) {
+            AsyncQueryResult queryCopy = new AsyncQueryResult();
+            queryCopy.setContentLength(queryResult.getContentLength());
+            queryCopy.setResponseBody(queryResult.getResponseBody());
+            queryCopy.setResponseBodyUrl(queryResult.getResponseBodyUrl());
+            copy = queryCopy;
+        } else if (result instanceof TableExportResult exportResult) {
+            TableExportResult exportCopy = new TableExportResult();
+            exportCopy.setUrl(exportResult.getUrl());
+            exportCopy.setMessage(exportResult.getMessage());
+            copy = exportCopy;
+        } else {
+            return result;
+        }
+        copy.setRecordCount(result.getRecordCount());
+        copy.setHttpStatus(result.getHttpStatus());
+        copy.setCompletedOn(result.getCompletedOn() == null ? null : new Date(result.getCompletedOn().getTime()));
+        return copy;
+    }
+
+    private static boolean isSuccessful(AsyncApiResult result) {
+        if (result == null) {
+            return false;
+        }
+        if (result instanceof TableExportResult exportResult && exportResult.getMessage() != null) {
+            return false;
+        }
+        return result.getHttpStatus() == null || result.getHttpStatus() < 400;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service;
+
+import com.yahoo.elide.async.models.AsyncApi;
+import com.yahoo.elide.async.models.AsyncApiResult;
+import com.yahoo.elide.async.models.TableExport;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Schedules async queries and table exports so that the jobs of one user can not starve the others.
+ * <p>
+ * Async queries and table exports run in separate lanes, each with its own maximum number of running jobs.  Within
+ * a lane the queued jobs of each principal are served by weighted fair queueing: every dispatch advances the
+ * virtual time of its principal by 1 / weight and the principal with the earliest virtual time runs next.  A
+ * principal may additionally be limited to a maximum number of running jobs across both lanes.
+ * <p>
+ * Jobs run on the workers executor, which only needs to provide a thread per dispatched job.  It is a cached thread
+ * pool by default; I/O bound deployments on a runtime with virtual threads can pass a virtual thread per task
+ * executor instead.
+ */
+@Slf4j
+public class AsyncApiScheduler {
+    public static final int UNLIMITED = 0;
+    private static final String ANONYMOUS = "";
+
+    /**
+     * Lanes of jobs which are scheduled independently.
+     */
+    public enum Lane {
+        QUERY,
+        EXPORT;
+
+        public static Lane of(AsyncApi asyncApi) {
+            return asyncApi instanceof TableExport ? EXPORT : QUERY;
+        }
+    }
+
+    private final Map<Lane, LaneQueue> lanes = new EnumMap<>(Lane.class);
+    private final Map<String, Integer> runningPerPrincipal = new HashMap<>();
+    private final Map<String, Integer> weights;
+    private final int maxConcurrentPerPrincipal;
+    private final ExecutorService workers;
+
+    public AsyncApiScheduler(int queryConcurrency, int exportConcurrency) {
+        this(queryConcurrency, exportConcurrency, UNLIMITED, Collections.emptyMap());
+    }
+
+    public AsyncApiScheduler(int queryConcurrency, int exportConcurrency, int maxConcurrentPerPrincipal,
+            Map<String, Integer> weights) {
+        this(queryConcurrency, exportConcurrency, maxConcurrentPerPrincipal, weights, Executors.newCachedThreadPool());
+    }
+
+    /**
+     * Constructor.
+     * @param queryConcurrency The maximum number of running async queries.
+     * @param exportConcurrency The maximum number of running table exports.
+     * @param maxConcurrentPerPrincipal The maximum number of running jobs of a principal or UNLIMITED.
+     * @param weights The weights of principals in the fair queueing.  Principals default to a weight of 1.
+     * @param workers The executor running the dispatched jobs.
+     */
+    public AsyncApiScheduler(int queryConcurrency, int exportConcurrency, int maxConcurrentPerPrincipal,
+            Map<String, Integer> weights, ExecutorService workers) {
+        this.lanes.put(Lane.QUERY, new LaneQueue(queryConcurrency));
+        this.lanes.put(Lane.EXPORT, new LaneQueue(exportConcurrency));
+        this.maxConcurrentPerPrincipal = maxConcurrentPerPrincipal;
+        this.weights = weights;
+        this.workers = workers;
+    }
+
+    /**
+     * Queues a job.
+     * @param asyncApi The AsyncQuery or TableExport of the job.
+     * @param callable The job.
+     * @return the future of the job.  Jobs cancelled while queued are skipped.
+     */
+    public synchronized Future<AsyncApiResult> submit(AsyncApi asyncApi, Callable<AsyncApiResult> callable) {
+        FutureTask<AsyncApiResult> task = new FutureTask<>(callable);
+        String principal = asyncApi.getPrincipalName() == null ? ANONYMOUS : asyncApi.getPrincipalName();
+        lanes.get(Lane.of(asyncApi)).enqueue(principal, weights.getOrDefault(principal, 1), task);
+        dispatch();
+        return task;
+    }
+
+    /**
+     * The number of queued jobs of a lane.
+     * @param lane The lane.
+     * @return the queue depth.
+     */
+    public synchronized int getQueueDepth(Lane lane) {
+        return lanes.get(lane).queued;
+    }
+
+    /**
+     * The number of running jobs of a lane.
+     * @param lane The lane.
+     * @return the running jobs.
+     */
+    public synchronized int getRunningCount(Lane lane) {
+        return lanes.get(lane).running;
+    }
+
+    /**
+     * Stops the workers.  Queued jobs are not run.
+     */
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * Whether the workers have been stopped.
+     * @return true after shutdown.
+     */
+    public boolean isShutdown() {
+        return workers.isShutdown();
+    }
+
+    private void dispatch() {
+        lanes.forEach((lane, queue) -> {
+            while (queue.running < queue.concurrency) {
+                Tenant tenant = queue.next();
+                if (tenant == null) {
+                    break;
+                }
+                FutureTask<AsyncApiResult> task = queue.poll(tenant);
+                if (task.isDone()) {
+                    // Cancelled while queued.
+                    continue;
+                }
+
+                queue.running++;
+                runningPerPrincipal.merge(tenant.principal, 1, Integer::sum);
+                try {
+                    workers.execute(() -> run(queue, tenant.principal, task));
+                } catch (RejectedExecutionException e) {
+                    log.error("Unable to run {} job of {}: {}", lane, tenant.principal, e.toString());
+                    task.cancel(false);
+                    finished(queue, tenant.principal);
+                }
+            }
+        });
+    }
+
+    private void run(LaneQueue queue, String principal, FutureTask<AsyncApiResult> task) {
+        try {
+            task.run();
+        } finally {
+            synchronized (this) {
+                finished(queue, principal);
+                dispatch();
+            }
+        }
+    }
+
+    private void finished(LaneQueue queue, String principal) {
+        queue.running--;
+        runningPerPrincipal.computeIfPresent(principal, (key, running) -> running > 1 ? running - 1 : null);
+    }
+
+    private boolean isBelowLimit(String principal) {
+        return maxConcurrentPerPrincipal == UNLIMITED
+                || runningPerPrincipal.getOrDefault(principal, 0) < maxConcurrentPerPrincipal;
+    }
+
+    /**
+     * The queued jobs of a principal in a lane.
+     */
+    private static class Tenant {
+        private final String principal;
+        private final int weight;
+        private final Deque<FutureTask<AsyncApiResult>> jobs = new ArrayDeque<>();
+        private double virtualTime;
+
+        Tenant(String principal, int weight, double virtualTime) {
+            this.principal = principal;
+            this.weight = Math.max(1, weight);
+            this.virtualTime = virtualTime;
+        }
+    }
+
+    /**
+     * The queued jobs of a lane.
+     */
+    private class LaneQueue {
+        private final int concurrency;
+        private final Map<String, Tenant> tenants = new LinkedHashMap<>();
+        private int running = 0;
+        private int queued = 0;
+        private double virtualTime = 0;
+
+        LaneQueue(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        void enqueue(String principal, int weight, FutureTask<AsyncApiResult> task) {
+            // Principals without queued jobs start at the current virtual time so that idle time is not credited.
+            tenants.computeIfAbsent(principal, key -> new Tenant(key, weight, virtualTime)).jobs.add(task);
+            queued++;
+        }
+
+        Tenant next() {
+            Tenant next = null;
+            for (Tenant tenant : tenants.values()) {
+                if ((next == null || tenant.virtualTime < next.virtualTime) && isBelowLimit(tenant.principal)) {
+                    next = tenant;
+                }
+            }
+            return next;
+        }
+
+        FutureTask<AsyncApiResult> poll(Tenant tenant) {
+            FutureTask<AsyncApiResult> task = tenant.jobs.poll();
+            queued--;
+            virtualTime = tenant.virtualTime;
+            tenant.virtualTime += 1.0 / tenant.weight;
+            if (tenant.jobs.isEmpty()) {
+                tenants.remove(tenant.principal);
+            }
+            return task;
+        }
+    }
+}
@@ -34,7 +34,8 @@ public class AsyncCleanerService {
 
     @Inject
     private AsyncCleanerService(Elide elide, Duration queryMaxRunTime, Duration queryRetentionDuration,
-            Duration queryCancellationCheckInterval, AsyncApiDao asyncQueryDao) {
+            Duration queryCancellationCheckInterval, AsyncApiDao asyncQueryDao, int cleanupBatchSize,
+            int maxCleanupPerRun) {
 
         //If query is still running for twice than maxRunTime, then interrupt did not work due to host/app crash.
         Duration queryRunTimeThreshold = Duration.ofSeconds(queryMaxRunTime.getSeconds() * 2 + 30L);
@@ -43,7 +44,7 @@ public class AsyncCleanerService {
         ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor();
         AsyncApiCleanerRunnable cleanUpTask = new AsyncApiCleanerRunnable(
                 queryRunTimeThreshold, elide, queryRetentionDuration, asyncQueryDao,
-                Clock.systemUTC());
+                Clock.systemUTC(), cleanupBatchSize, maxCleanupPerRun);
 
         // Since there will be multiple hosts running the elide service,
         // setting up random delays to avoid all of them trying to cleanup at the same time.
@@ -79,9 +80,27 @@ public class AsyncCleanerService {
      */
     public static void init(Elide elide, Duration queryMaxRunTime, Duration queryRetentionDuration,
             Duration queryCancellationCheckInterval, AsyncApiDao asyncQueryDao) {
+        init(elide, queryMaxRunTime, queryRetentionDuration, queryCancellationCheckInterval, asyncQueryDao,
+                AsyncApiCleanerRunnable.DEFAULT_BATCH_SIZE, AsyncApiCleanerRunnable.DEFAULT_MAX_PER_RUN);
+    }
+
+    /**
+     * Initialize the singleton AsyncCleanerService object.
+     * If already initialized earlier, no new object is created.
+     * @param elide Elide Instance
+     * @param queryMaxRunTime max run times in seconds
+     * @param queryRetentionDuration Async Query Clean up days
+     * @param queryCancellationCheckInterval Async Query Transaction cancel delay
+     * @param asyncQueryDao DAO Object
+     * @param cleanupBatchSize Number of queries deleted or timed out per transaction
+     * @param maxCleanupPerRun Maximum number of queries deleted or timed out per cleanup run
+     */
+    public static void init(Elide elide, Duration queryMaxRunTime, Duration queryRetentionDuration,
+            Duration queryCancellationCheckInterval, AsyncApiDao asyncQueryDao, int cleanupBatchSize,
+            int maxCleanupPerRun) {
         if (asyncCleanerService == null) {
             asyncCleanerService = new AsyncCleanerService(elide, queryMaxRunTime, queryRetentionDuration,
-                    queryCancellationCheckInterval, asyncQueryDao);
+                    queryCancellationCheckInterval, asyncQueryDao, cleanupBatchSize, maxCleanupPerRun);
         } else {
             log.debug("asyncCleanerService is already initialized.");
         }
@@ -47,8 +47,11 @@ public class AsyncExecutorService {
     private Elide elide;
     private Map<String, QueryRunner> runners;
     private ExecutorService executor;
+    private AsyncApiScheduler scheduler;
+    private AsyncApiDeduplicator deduplicator;
     private ExecutorService updater;
     private AsyncApiDao asyncApiDao;
+    private AsyncApiCompletionNotifier completionNotifier;
     private ThreadLocal<AsyncApiResultFuture> asyncResultFutureThreadLocal = new ThreadLocal<>();
 
     /**
@@ -63,6 +66,28 @@ public class AsyncExecutorService {
     @Inject
     public AsyncExecutorService(Elide elide, ExecutorService executor, ExecutorService updater, AsyncApiDao asyncApiDao,
             Optional<DataFetcherExceptionHandler> optionalDataFetcherExceptionHandler) {
+        this(elide, executor, null, updater, asyncApiDao, optionalDataFetcherExceptionHandler);
+    }
+
+    public AsyncExecutorService(Elide elide, ExecutorService executor, AsyncApiScheduler scheduler,
+            ExecutorService updater, AsyncApiDao asyncApiDao,
+            Optional<DataFetcherExceptionHandler> optionalDataFetcherExceptionHandler) {
+        this(elide, executor, scheduler, null, updater, asyncApiDao, optionalDataFetcherExceptionHandler);
+    }
+
+    /**
+     * Constructor.
+     * @param elide Elide instance.
+     * @param executor Executor of the queries when no scheduler is configured.
+     * @param scheduler Scheduler of the queries or null to submit them to the executor.
+     * @param deduplicator Coalesces identical queries or null to run every query.
+     * @param updater Executor updating the status of queries which did not complete synchronously.
+     * @param asyncApiDao AsyncApiDao instance.
+     * @param optionalDataFetcherExceptionHandler GraphQL DataFetcherExceptionHandler.
+     */
+    public AsyncExecutorService(Elide elide, ExecutorService executor, AsyncApiScheduler scheduler,
+            AsyncApiDeduplicator deduplicator, ExecutorService updater, AsyncApiDao asyncApiDao,
+            Optional<DataFetcherExceptionHandler> optionalDataFetcherExceptionHandler) {
         this.elide = elide;
         runners = new HashMap<>();
 
@@ -72,8 +97,11 @@ public class AsyncExecutorService {
         }
 
         this.executor = executor;
+        this.scheduler = scheduler;
+        this.deduplicator = deduplicator;
         this.updater = updater;
         this.asyncApiDao = asyncApiDao;
+        this.completionNotifier = new AsyncApiCompletionNotifier(asyncApiDao);
     }
 
     /**
@@ -82,9 +110,22 @@ public class AsyncExecutorService {
      * @param callable A Callabale implementation to execute in background.
      */
     public void executeQuery(AsyncApi queryObj, Callable<AsyncApiResult> callable) {
+        executeQuery(queryObj, callable, null, null);
+    }
+
+    /**
+     * Execute Query asynchronously.  Identical queries are coalesced if a deduplicator is configured.
+     * @param queryObj Query Object
+     * @param callable A Callabale implementation to execute in background.
+     * @param user User submitting the query or null to skip deduplication.
+     * @param apiVersion API Version
+     */
+    public void executeQuery(AsyncApi queryObj, Callable<AsyncApiResult> callable, User user, String apiVersion) {
         AsyncApiResultFuture resultFuture = new AsyncApiResultFuture();
         try {
-            Future<AsyncApiResult> asyncExecuteFuture = executor.submit(callable);
+            Future<AsyncApiResult> asyncExecuteFuture = deduplicator == null || user == null
+                    ? submit(queryObj, callable)
+                    : deduplicator.submit(queryObj, user, apiVersion, callable, task -> submit(queryObj, task));
             resultFuture.setAsyncFuture(asyncExecuteFuture);
             queryObj.setStatus(QueryStatus.PROCESSING);
             AsyncApiResult queryResultObj = asyncExecuteFuture.get(queryObj.getAsyncAfterSeconds(), TimeUnit.SECONDS);
@@ -109,6 +150,10 @@ public class AsyncExecutorService {
         }
 
     }
+    private Future<AsyncApiResult> submit(AsyncApi queryObj, Callable<AsyncApiResult> callable) {
+        return scheduler == null ? executor.submit(callable) : scheduler.submit(queryObj, callable);
+    }
+
     /**
      * Complete Query asynchronously.
      * @param query AsyncQuery
@@ -120,7 +165,7 @@ public class AsyncExecutorService {
         if (asyncApiResultFuture.isSynchronousTimeout()) {
             log.debug("Task has not completed");
             updater.execute(new AsyncApiUpdateOperation(elide, asyncApiResultFuture.getAsyncFuture(), query,
-                    asyncApiDao));
+                    asyncApiDao, completionNotifier));
             asyncResultFutureThreadLocal.remove();
         } else {
             log.debug("Task has completed");
@@ -9,6 +9,7 @@ import com.yahoo.elide.async.models.AsyncApi;
 import com.yahoo.elide.async.models.AsyncApiResult;
 import com.yahoo.elide.async.models.QueryStatus;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.google.common.collect.Iterables;
 
 /**
  * Utility interface which uses the elide datastore to modify and create AsyncApi and AsyncApiResult Objects.
@@ -54,6 +55,35 @@ public interface AsyncApiDao {
      */
     public <T extends AsyncApi> Iterable<T> updateStatusAsyncApiByFilter(FilterExpression filterExpression,
             QueryStatus status, Class<T> type);
+
+    /**
+     * This method updates the status of at most limit AsyncApi objects matching a filter expression without
+     * returning them.  Implementations update the objects in bulk where the datastore supports it.
+     * @param filterExpression filter expression to update AsyncApi Objects based on
+     * @param status status to be updated
+     * @param type AsyncApi Type Implementation.
+     * @param limit maximum number of objects to update
+     * @return number of objects updated
+     */
+    public default <T extends AsyncApi> long bulkUpdateStatusAsyncApiByFilter(FilterExpression filterExpression,
+            QueryStatus status, Class<T> type, int limit) {
+        return Iterables.size(updateStatusAsyncApiByFilter(filterExpression, status, type));
+    }
+
+    /**
+     * This method deletes at most limit AsyncApi objects matching a filter expression, and their associated
+     * AsyncApiResult objects, without returning them.  Implementations delete the objects in bulk where the
+     * datastore supports it.
+     * @param filterExpression filter expression to delete AsyncApi Objects based on
+     * @param type AsyncApi Type Implementation.
+     * @param limit maximum number of objects to delete
+     * @return number of objects deleted
+     */
+    public default <T extends AsyncApi> long bulkDeleteAsyncApiAndResultByFilter(FilterExpression filterExpression,
+            Class<T> type, int limit) {
+        return Iterables.size(deleteAsyncApiAndResultByFilter(filterExpression, type));
+    }
+
     /**
      * This method gets a Iterable of AsyncApi objects from database and
      * returns the objects.
@@ -15,7 +15,9 @@ import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStore;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 
 import jakarta.inject.Singleton;
@@ -26,8 +28,12 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -37,6 +43,8 @@ import java.util.UUID;
 @Slf4j
 @Getter
 public class DefaultAsyncApiDao implements AsyncApiDao {
+    private static final String STATUS = "status";
+    private static final String UPDATED_ON = "updatedOn";
 
     @Setter private ElideSettings elideSettings;
     @Setter private DataStore dataStore;
@@ -92,15 +100,14 @@ public class DefaultAsyncApiDao implements AsyncApiDao {
                     .filterExpression(filterExpression)
                     .build();
 
-            Iterable<Object> loaded = tx.loadObjects(asyncApiIterable, scope);
-            Iterator<Object> itr = loaded.iterator();
-
-            while (itr.hasNext()) {
-                T query = (T) itr.next();
+            List<T> updated = new ArrayList<>();
+            for (Object loaded : tx.loadObjects(asyncApiIterable, scope)) {
+                T query = (T) loaded;
                 updateFunction.update(query);
-                tx.save(query, scope);
+                updated.add(query);
             }
-            return loaded;
+            tx.saveAll(updated, scope);
+            return updated;
         });
         return asyncApiList;
     }
@@ -117,20 +124,77 @@ public class DefaultAsyncApiDao implements AsyncApiDao {
                     .filterExpression(filterExpression)
                     .build();
 
-            Iterable<Object> loaded = tx.loadObjects(asyncApiIterable, scope);
-            Iterator<Object> itr = loaded.iterator();
-
-            while (itr.hasNext()) {
-                T query = (T) itr.next();
-                if (query != null) {
-                    tx.delete(query, scope);
+            List<T> deleted = new ArrayList<>();
+            for (Object loaded : tx.loadObjects(asyncApiIterable, scope)) {
+                if (loaded != null) {
+                    deleted.add((T) loaded);
                 }
             }
-            return loaded;
+            tx.deleteAll(deleted, scope);
+            return deleted;
         });
         return asyncApiList;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends AsyncApi> long bulkUpdateStatusAsyncApiByFilter(FilterExpression filterExpression,
+            QueryStatus status, Class<T> type, int limit) {
+        log.debug("bulkUpdateStatusAsyncApiByFilter");
+        return (Long) executeInTransaction(dataStore, (tx, scope) -> {
+            EntityProjection asyncApiIterable = limitedProjection(filterExpression, type, limit);
+            // Statements skip the entity listeners, so the modification time is written explicitly.
+            Map<String, Object> attributes = new HashMap<>();
+            attributes.put(STATUS, status);
+            attributes.put(UPDATED_ON, new Date());
+            long updated = tx.bulkUpdate(asyncApiIterable, attributes, scope);
+            if (updated != DataStoreTransaction.BULK_UNSUPPORTED) {
+                return updated;
+            }
+
+            List<T> batch = new ArrayList<>();
+            for (Object loaded : tx.loadObjects(asyncApiIterable, scope)) {
+                T query = (T) loaded;
+                query.setStatus(status);
+                batch.add(query);
+            }
+            tx.saveAll(batch, scope);
+            return (long) batch.size();
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends AsyncApi> long bulkDeleteAsyncApiAndResultByFilter(FilterExpression filterExpression,
+            Class<T> type, int limit) {
+        log.debug("bulkDeleteAsyncApiAndResultByFilter");
+        return (Long) executeInTransaction(dataStore, (tx, scope) -> {
+            EntityProjection asyncApiIterable = limitedProjection(filterExpression, type, limit);
+            long deleted = tx.bulkDelete(asyncApiIterable, scope);
+            if (deleted != DataStoreTransaction.BULK_UNSUPPORTED) {
+                return deleted;
+            }
+
+            List<T> batch = new ArrayList<>();
+            for (Object loaded : tx.loadObjects(asyncApiIterable, scope)) {
+                if (loaded != null) {
+                    batch.add((T) loaded);
+                }
+            }
+            tx.deleteAll(batch, scope);
+            return (long) batch.size();
+        });
+    }
+
+    private static EntityProjection limitedProjection(FilterExpression filterExpression, Class<?> type,
+            int limit) {
+        return EntityProjection.builder()
+                .type(type)
+                .filterExpression(filterExpression)
+                .pagination(new PaginationImpl(ClassType.of(type), 0, limit, limit, limit, false, false))
+                .build();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends AsyncApi> T updateAsyncApiResult(AsyncApiResult asyncApiResult,
@@ -20,20 +20,40 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Iterator;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Default implementation of ResultStorageEngine that stores results on local filesystem.
  * It supports Async Module to store results with Table Export query.
+ * <p>
+ * When compression is enabled the results are stored gzip compressed with a .gz suffix.  Downloads can send the
+ * compressed file as is to clients which accept gzip.  Uncompressed files stored before compression was enabled
+ * can still be read.
  */
 @Singleton
 @Slf4j
 @Getter
 public class FileResultStorageEngine implements ResultStorageEngine {
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     @Setter private String basePath;
     @Setter private boolean enableExtension;
+    @Setter private boolean enableCompression;
 
     /**
      * Constructor.
@@ -41,8 +61,19 @@ public class FileResultStorageEngine implements ResultStorageEngine {
      * @param enableExtension Enable file extensions.
      */
     public FileResultStorageEngine(String basePath, boolean enableExtension) {
+        this(basePath, enableExtension, false);
+    }
+
+    /**
+     * Constructor.
+     * @param basePath basePath for storing the files. Can be absolute or relative.
+     * @param enableExtension Enable file extensions.
+     * @param enableCompression Store the files gzip compressed.
+     */
+    public FileResultStorageEngine(String basePath, boolean enableExtension, boolean enableCompression) {
         this.basePath = basePath;
         this.enableExtension = enableExtension;
+        this.enableCompression = enableCompression;
     }
 
     @Override
@@ -57,10 +88,7 @@ public class FileResultStorageEngine implements ResultStorageEngine {
             result
                 .map(record -> record.concat(System.lineSeparator()))
                 .subscribe(
-                        recordCharArray -> {
-                            writer.write(recordCharArray);
-                            writer.flush();
-                        },
+                        writer::write,
                         throwable -> {
                             StringBuilder message = new StringBuilder();
                             message.append(throwable.getClass().getCanonicalName()).append(" : ");
@@ -78,6 +106,52 @@ public class FileResultStorageEngine implements ResultStorageEngine {
         return exportResult;
     }
 
+    @Override
+    public WritableByteChannel openResultChannel(TableExport tableExport) throws IOException {
+        log.debug("open TableExportResults channel for Download");
+        String extension = this.isExtensionEnabled()
+                ? tableExport.getResultType().getFileExtensionType().getExtension()
+                : FileExtensionType.NONE.getExtension();
+
+        if (enableCompression) {
+            return Channels.newChannel(getOutputStream(tableExport.getId(), extension));
+        }
+        return FileChannel.open(getPath(tableExport.getId() + extension), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    @Override
+    public boolean storeResponseBody(String asyncQueryID, String responseBody) {
+        log.debug("store AsyncQuery response body for Download");
+        try (OutputStream outputStream = getOutputStream(asyncQueryID, FileExtensionType.NONE.getExtension())) {
+            outputStream.write(responseBody.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException(STORE_ERROR, e);
+        }
+        return true;
+    }
+
+    @Override
+    public Observable<byte[]> getResultChunksByID(String tableExportID) {
+        log.debug("getTableExportResultChunksByID");
+
+        return Observable.using(
+                () -> getInputStream(tableExportID),
+                inputStream -> Observable.<byte[]>generate(emitter -> {
+                    try {
+                        byte[] chunk = inputStream.readNBytes(BUFFER_SIZE);
+                        if (chunk.length == 0) {
+                            emitter.onComplete();
+                        } else {
+                            emitter.onNext(chunk);
+                        }
+                    } catch (IOException e) {
+                        emitter.onError(new IllegalStateException(RETRIEVE_ERROR, e));
+                    }
+                }),
+                InputStream::close);
+    }
+
     @Override
     public Observable<String> getResultsByID(String tableExportID) {
         log.debug("getTableExportResultsByID");
@@ -108,9 +182,28 @@ public class FileResultStorageEngine implements ResultStorageEngine {
                 BufferedReader::close);
     }
 
+    @Override
+    public ResultFile getResultFile(String tableExportID) {
+        Path compressed = getPath(tableExportID + GZIP_SUFFIX);
+        if (Files.isRegularFile(compressed)) {
+            return new ResultFile(compressed, ResultFile.GZIP);
+        }
+
+        Path path = getPath(tableExportID);
+        return Files.isRegularFile(path) ? new ResultFile(path, null) : null;
+    }
+
     private BufferedReader getReader(String tableExportID) {
+        return new BufferedReader(new InputStreamReader(getInputStream(tableExportID), StandardCharsets.UTF_8));
+    }
+
+    private InputStream getInputStream(String tableExportID) {
         try {
-            return Files.newBufferedReader(Paths.get(basePath + File.separator + tableExportID));
+            Path compressed = getPath(tableExportID + GZIP_SUFFIX);
+            if (Files.isRegularFile(compressed)) {
+                return new GZIPInputStream(Files.newInputStream(compressed), BUFFER_SIZE);
+            }
+            return Files.newInputStream(getPath(tableExportID));
         } catch (IOException e) {
             log.debug(e.getMessage());
             throw new IllegalStateException(RETRIEVE_ERROR, e);
@@ -118,14 +211,27 @@ public class FileResultStorageEngine implements ResultStorageEngine {
     }
 
     private BufferedWriter getWriter(String tableExportID, String extension) {
+        return new BufferedWriter(new OutputStreamWriter(getOutputStream(tableExportID, extension),
+                StandardCharsets.UTF_8));
+    }
+
+    private OutputStream getOutputStream(String tableExportID, String extension) {
         try {
-            return Files.newBufferedWriter(Paths.get(basePath + File.separator + tableExportID + extension));
+            if (enableCompression) {
+                return new GZIPOutputStream(Files.newOutputStream(getPath(tableExportID + extension + GZIP_SUFFIX)),
+                        BUFFER_SIZE);
+            }
+            return Files.newOutputStream(getPath(tableExportID + extension));
         } catch (IOException e) {
             log.debug(e.getMessage());
             throw new IllegalStateException(STORE_ERROR, e);
         }
     }
 
+    private Path getPath(String fileName) {
+        return Paths.get(basePath + File.separator + fileName);
+    }
+
     @Override
     public boolean isExtensionEnabled() {
         return this.enableExtension;
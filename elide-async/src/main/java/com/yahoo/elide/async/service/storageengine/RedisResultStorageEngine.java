@@ -17,20 +17,44 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import redis.clients.jedis.UnifiedJedis;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * Implementation of ResultStorageEngine that stores results on Redis Cluster.
  * It supports Async Module to store results with Table Export query.
+ * <p>
+ * Results written through a result channel are stored as a separate list of binary chunks so that they can hold
+ * any format.  Results stored as text records remain readable.
  */
 @Singleton
 @Slf4j
 @Getter
 public class RedisResultStorageEngine implements ResultStorageEngine {
+    public static final int DEFAULT_WRITE_BATCH_SIZE = 1000;
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    private static final String CHUNKS_SUFFIX = ":chunks";
+
     @Setter private UnifiedJedis jedis;
     @Setter private boolean enableExtension;
     @Setter private long expirationSeconds;
     @Setter private long batchSize;
+    @Setter private int writeBatchSize;
+    @Setter private int recordsPerElement;
+    @Setter private int chunkSize = DEFAULT_CHUNK_SIZE;
 
     /**
      * Constructor.
@@ -41,10 +65,26 @@ public class RedisResultStorageEngine implements ResultStorageEngine {
      */
     public RedisResultStorageEngine(UnifiedJedis jedis, boolean enableExtension, long expirationSeconds,
             long batchSize) {
+        this(jedis, enableExtension, expirationSeconds, batchSize, DEFAULT_WRITE_BATCH_SIZE, 1);
+    }
+
+    /**
+     * Constructor.
+     * @param jedis Jedis Connection Pool to Redis clusteer.
+     * @param enableExtension Enable file extensions.
+     * @param expirationSeconds Expiration Time for results on Redis.
+     * @param batchSize Batch Size for retrieving from Redis.
+     * @param writeBatchSize Number of list elements pushed to Redis per command.
+     * @param recordsPerElement Number of records combined into one list element.
+     */
+    public RedisResultStorageEngine(UnifiedJedis jedis, boolean enableExtension, long expirationSeconds,
+            long batchSize, int writeBatchSize, int recordsPerElement) {
         this.jedis = jedis;
         this.enableExtension = enableExtension;
         this.expirationSeconds = expirationSeconds;
         this.batchSize = batchSize;
+        this.writeBatchSize = writeBatchSize;
+        this.recordsPerElement = recordsPerElement;
     }
 
     @Override
@@ -57,11 +97,16 @@ public class RedisResultStorageEngine implements ResultStorageEngine {
         TableExportResult exportResult = new TableExportResult();
         String key = tableExport.getId() + extension;
 
+        int elementSize = Math.max(recordsPerElement, 1);
+
+        // Each push sends a whole batch of list elements in one round trip.
         result
-            .map(record -> record)
+            .buffer(elementSize)
+            .map(records -> String.join(System.lineSeparator(), records))
+            .buffer(Math.max(writeBatchSize, 1))
             .subscribe(
-                    recordCharArray -> {
-                        jedis.rpush(key, recordCharArray);
+                    elements -> {
+                        jedis.rpush(key, elements.toArray(new String[0]));
                     },
                     throwable -> {
                         StringBuilder message = new StringBuilder();
@@ -77,10 +122,56 @@ public class RedisResultStorageEngine implements ResultStorageEngine {
         return exportResult;
     }
 
+    @Override
+    public WritableByteChannel openResultChannel(TableExport tableExport) {
+        log.debug("open TableExportResults channel for Download");
+        String extension = this.isExtensionEnabled()
+                ? tableExport.getResultType().getFileExtensionType().getExtension()
+                : FileExtensionType.NONE.getExtension();
+
+        return new ResultChannel(chunksKey(tableExport.getId() + extension));
+    }
+
+    @Override
+    public boolean storeResponseBody(String asyncQueryID, String responseBody) {
+        log.debug("store AsyncQuery response body for Download");
+        try (WritableByteChannel channel = new ResultChannel(chunksKey(asyncQueryID))) {
+            channel.write(ByteBuffer.wrap(responseBody.getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new IllegalStateException(STORE_ERROR, e);
+        }
+        return true;
+    }
+
+    @Override
+    public Observable<byte[]> getResultChunksByID(String tableExportID) {
+        log.debug("getTableExportResultChunksByID");
+
+        byte[] key = chunksKey(tableExportID);
+        long chunkCount = jedis.llen(key);
+
+        if (chunkCount == 0) {
+            return ResultStorageEngine.super.getResultChunksByID(tableExportID);
+        }
+
+        long pageSize = Math.max(batchSize, 1);
+        return Observable.rangeLong(0, (chunkCount + pageSize - 1) / pageSize)
+                .concatMapIterable(page -> jedis.lrange(key, page * pageSize,
+                        Math.min((page + 1) * pageSize, chunkCount) - 1));
+    }
+
     @Override
     public Observable<String> getResultsByID(String tableExportID) {
         log.debug("getTableExportResultsByID");
 
+        if (jedis.llen(chunksKey(tableExportID)) > 0) {
+            return Observable.using(
+                    () -> new BufferedReader(new InputStreamReader(
+                            toInputStream(getResultChunksByID(tableExportID)), StandardCharsets.UTF_8)),
+                    reader -> Observable.fromIterable(() -> reader.lines().iterator()),
+                    BufferedReader::close);
+        }
+
         long recordCount = jedis.llen(tableExportID);
 
         if (recordCount == 0) {
@@ -105,7 +196,8 @@ public class RedisResultStorageEngine implements ResultStorageEngine {
 
                     Iterator<String> itr = jedis.lrange(tableExportID, recordRead[0], end).iterator();
 
-                    // Combine the list into a single string.
+                    // Combine the list into a single string.  Elements holding several records already
+                    // separate them by line.
                     while (itr.hasNext()) {
                         String str = itr.next();
                         record.append(str).append(System.lineSeparator());
@@ -123,4 +215,90 @@ public class RedisResultStorageEngine implements ResultStorageEngine {
     public boolean isExtensionEnabled() {
         return this.enableExtension;
     }
+
+    private static byte[] chunksKey(String key) {
+        return (key + CHUNKS_SUFFIX).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static InputStream toInputStream(Observable<byte[]> chunks) {
+        Iterator<byte[]> iterator = chunks.blockingIterable().iterator();
+        return new SequenceInputStream(new Enumeration<InputStream>() {
+            @Override
+            public boolean hasMoreElements() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                return new ByteArrayInputStream(iterator.next());
+            }
+        });
+    }
+
+    /**
+     * Collects written bytes into chunks of the chunk size and pushes them to Redis in batches.
+     */
+    private class ResultChannel implements WritableByteChannel {
+        private final byte[] key;
+        private final byte[] chunk = new byte[Math.max(chunkSize, 1)];
+        private final List<byte[]> pending = new ArrayList<>();
+        private int position = 0;
+        private boolean open = true;
+
+        ResultChannel(byte[] key) {
+            this.key = key;
+        }
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            if (!open) {
+                throw new ClosedChannelException();
+            }
+
+            int written = source.remaining();
+            while (source.hasRemaining()) {
+                int length = Math.min(source.remaining(), chunk.length - position);
+                source.get(chunk, position, length);
+                position += length;
+                if (position == chunk.length) {
+                    endChunk();
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            if (!open) {
+                return;
+            }
+            open = false;
+
+            if (position > 0) {
+                endChunk();
+            }
+            push();
+            jedis.expire(key, expirationSeconds);
+        }
+
+        private void endChunk() {
+            pending.add(Arrays.copyOf(chunk, position));
+            position = 0;
+            if (pending.size() >= Math.max(writeBatchSize, 1)) {
+                push();
+            }
+        }
+
+        private void push() {
+            if (!pending.isEmpty()) {
+                jedis.rpush(key, pending.toArray(new byte[0][]));
+                pending.clear();
+            }
+        }
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.async.service.storageengine;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Stored results which can be sent to clients as they are.
+ */
+@Value
+public class ResultFile {
+    public static final String GZIP = "gzip";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    Path path;
+
+    //The content coding of the file.  null means the file is not encoded.
+    String contentEncoding;
+
+    /**
+     * Whether the file can be sent without decoding to a client.
+     * @param acceptEncoding The Accept-Encoding header of the client request.
+     * @return true if the file is not encoded or the client accepts its encoding.
+     */
+    public boolean isAcceptedBy(String acceptEncoding) {
+        if (contentEncoding == null) {
+            return true;
+        }
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String accepted : acceptEncoding.split(",")) {
+            String[] parameters = accepted.split(";");
+            String coding = parameters[0].trim();
+            if (coding.equalsIgnoreCase(contentEncoding) || coding.equals("*")) {
+                return parameters.length < 2 || !parameters[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the size of the file.
+     * @return the number of stored bytes.
+     * @throws IOException if the file cannot be read.
+     */
+    public long size() throws IOException {
+        return Files.size(path);
+    }
+
+    /**
+     * Copies the stored bytes to a stream.  The file is transferred by its channel so the bytes are not decoded.
+     * @param outputStream The stream to write to.
+     * @throws IOException if the file cannot be read or the stream cannot be written.
+     */
+    public void transferTo(OutputStream outputStream) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    /**
+     * Copies the decoded file to a stream.
+     * @param outputStream The stream to write to.
+     * @throws IOException if the file cannot be read or the stream cannot be written.
+     */
+    public void decodeTo(OutputStream outputStream) throws IOException {
+        if (contentEncoding == null) {
+            transferTo(outputStream);
+            return;
+        }
+
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(path), BUFFER_SIZE)) {
+            inputStream.transferTo(outputStream);
+        }
+    }
+}
@@ -11,6 +11,11 @@ import com.yahoo.elide.async.models.TableExportResult;
 
 import io.reactivex.Observable;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Utility interface used for storing the results of AsyncQuery for downloads.
  */
@@ -26,6 +31,53 @@ public interface ResultStorageEngine {
      */
     public TableExportResult storeResults(TableExport tableExport, Observable<String> result);
 
+    /**
+     * Stores the binary result of the query.
+     * @param tableExport TableExport object
+     * @param result is the observable of chunks obtained by running the query
+     * @return TableExportResult.
+     */
+    public default TableExportResult storeResultChunks(TableExport tableExport, Observable<byte[]> result) {
+        try (WritableByteChannel channel = openResultChannel(tableExport)) {
+            if (channel == null) {
+                throw new UnsupportedOperationException(getClass().getSimpleName()
+                        + " does not store binary results.");
+            }
+            result.blockingForEach(chunk -> {
+                ByteBuffer buffer = ByteBuffer.wrap(chunk);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException(STORE_ERROR, e);
+        }
+        return new TableExportResult();
+    }
+
+    /**
+     * Opens a channel which stores the result of the query as it is written.  The result is complete once the
+     * channel is closed.
+     * @param tableExport TableExport object
+     * @return the channel or null if the results must be stored with storeResults.
+     * @throws IOException if the channel cannot be opened.
+     */
+    public default WritableByteChannel openResultChannel(TableExport tableExport) throws IOException {
+        return null;
+    }
+
+    /**
+     * Stores the response body of an async query which is too large to store with the query.  It is retrieved
+     * like the results of a table export, by the ID of the async query, and is removed like them: engines which
+     * expire table export results expire stored response bodies too.
+     * @param asyncQueryID is the ID of the AsyncQuery.
+     * @param responseBody is the response body.
+     * @return whether the response body was stored.  If not, it is stored with the query.
+     */
+    public default boolean storeResponseBody(String asyncQueryID, String responseBody) {
+        return false;
+    }
+
     /**
      * Searches for the async query results by ID and returns the record.
      * @param tableExportID is the ID of the TableExport. It may include extension too if enabled.
@@ -33,6 +85,27 @@ public interface ResultStorageEngine {
      */
     public Observable<String> getResultsByID(String tableExportID);
 
+    /**
+     * Searches for the async query results by ID and returns them as chunks of bytes.  Text results are returned
+     * as one line terminated chunk per record.
+     * @param tableExportID is the ID of the TableExport. It may include extension too if enabled.
+     * @return returns the result associated with the tableExportID
+     */
+    public default Observable<byte[]> getResultChunksByID(String tableExportID) {
+        return getResultsByID(tableExportID)
+                .map(record -> record.concat(System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Searches for the stored file of the async query results by ID.  Engines which store files can return them
+     * so that downloads transfer the stored bytes instead of reading the results record by record.
+     * @param tableExportID is the ID of the TableExport. It may include extension too if enabled.
+     * @return returns the file of the results or null if the results must be read with getResultChunksByID
+     */
+    public default ResultFile getResultFile(String tableExportID) {
+        return null;
+    }
+
     /**
      * Whether the result storage engine has enabled extensions for attachments.
      * @return returns whether the file extensions are enabled
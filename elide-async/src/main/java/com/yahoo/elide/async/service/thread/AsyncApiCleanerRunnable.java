@@ -25,6 +25,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.function.ToLongFunction;
 
 /**
  * Runnable for updating AsyncApiThread status.
@@ -35,6 +36,8 @@ import java.util.Date;
 @Data
 @AllArgsConstructor
 public class AsyncApiCleanerRunnable implements Runnable {
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final int DEFAULT_MAX_PER_RUN = 100000;
 
     private Duration queryMaxRunTime;
     private Elide elide;
@@ -42,6 +45,23 @@ public class AsyncApiCleanerRunnable implements Runnable {
     private AsyncApiDao asyncApiDao;
     private Clock clock;
 
+    /**
+     * Number of queries deleted or timed out per transaction.
+     */
+    private int batchSize;
+
+    /**
+     * Maximum number of queries deleted and maximum number of queries timed out by one run.  Queries beyond the
+     * cap are left for the next run.
+     */
+    private int maxPerRun;
+
+    public AsyncApiCleanerRunnable(Duration queryMaxRunTime, Elide elide, Duration queryRetentionDuration,
+            AsyncApiDao asyncApiDao, Clock clock) {
+        this(queryMaxRunTime, elide, queryRetentionDuration, asyncApiDao, clock, DEFAULT_BATCH_SIZE,
+                DEFAULT_MAX_PER_RUN);
+    }
+
     @Override
     public void run() {
         deleteAsyncApi(AsyncQuery.class);
@@ -58,7 +78,9 @@ public class AsyncApiCleanerRunnable implements Runnable {
             Date cleanupDate = Date.from(Instant.now(clock).plus(queryRetentionDuration));
             PathElement createdOnPathElement = new PathElement(type, Long.class, "createdOn");
             FilterExpression fltDeleteExp = new LEPredicate(createdOnPathElement, cleanupDate);
-            asyncApiDao.deleteAsyncApiAndResultByFilter(fltDeleteExp, type);
+            long deleted = inBatches(limit -> asyncApiDao.bulkDeleteAsyncApiAndResultByFilter(fltDeleteExp, type,
+                    limit));
+            log.debug("Deleted {} {}", deleted, type.getSimpleName());
         } catch (Exception e) {
             log.error("Exception in scheduled cleanup: {}", e.toString());
         }
@@ -79,9 +101,30 @@ public class AsyncApiCleanerRunnable implements Runnable {
                     QueryStatus.QUEUED);
             FilterPredicate lePredicate = new LEPredicate(createdOnPathElement, filterDate);
             AndFilterExpression fltTimeoutExp = new AndFilterExpression(inPredicate, lePredicate);
-            asyncApiDao.updateStatusAsyncApiByFilter(fltTimeoutExp, QueryStatus.TIMEDOUT, type);
+            long timedOut = inBatches(limit -> asyncApiDao.bulkUpdateStatusAsyncApiByFilter(fltTimeoutExp,
+                    QueryStatus.TIMEDOUT, type, limit));
+            log.debug("Timed out {} {}", timedOut, type.getSimpleName());
         } catch (Exception e) {
             log.error("Exception in scheduled cleanup: {}", e.toString());
         }
     }
+
+    /**
+     * Runs a bulk operation in batches until it runs out of matching queries or reaches maxPerRun.  The operation
+     * must change the queries so that they no longer match.
+     * @param batch Runs the operation on at most the given number of queries and returns how many it changed.
+     * @return the number of queries changed.
+     */
+    private long inBatches(ToLongFunction<Integer> batch) {
+        long total = 0;
+        while (total < maxPerRun) {
+            int limit = (int) Math.min(batchSize, maxPerRun - total);
+            long changed = batch.applyAsLong(limit);
+            total += changed;
+            if (changed < limit) {
+                break;
+            }
+        }
+        return total;
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.async.export.formatter.ColumnarExportFormatter.ColumnType;
+import com.yahoo.elide.async.models.QueryType;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.utils.DefaultClassScanner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.reactivex.Observable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+public class ColumnarExportFormatterTest {
+    private static final Attribute NAME = Attribute.builder().type(String.class).name("name").build();
+    private static final Attribute COUNT = Attribute.builder().type(long.class).name("count").build();
+    private static final Attribute PRICE = Attribute.builder().type(Double.class).name("price").build();
+    private static final Attribute ACTIVE = Attribute.builder().type(Boolean.class).name("active").build();
+    private static final Attribute CREATED = Attribute.builder().type(Date.class).name("created").build();
+    private static final Attribute TYPE = Attribute.builder().type(QueryType.class).name("type").build();
+
+    private Elide elide;
+    private EntityProjection projection;
+
+    @BeforeEach
+    public void setup() {
+        HashMapDataStore dataStore = new HashMapDataStore(new DefaultClassScanner(),
+                TableExport.class.getPackage());
+        elide = new Elide(
+                new ElideSettingsBuilder(dataStore)
+                        .withEntityDictionary(EntityDictionary.builder().build())
+                        .withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"))
+                        .build());
+        elide.doScans();
+
+        Set<Attribute> attributes = new LinkedHashSet<>(Arrays.asList(NAME, COUNT, PRICE, ACTIVE, CREATED, TYPE));
+        projection = EntityProjection.builder().type(TableExport.class).attributes(attributes).build();
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        ColumnarExportFormatter formatter = new ColumnarExportFormatter(elide, 2);
+
+        List<byte[]> chunks = formatter.format(projection, null, Observable.just(
+                resource("drum", 3L, 1.5, true, new Date(1000), QueryType.GRAPHQL_V1_0),
+                resource(null, null, null, null, null, null),
+                resource("gitarre", 7L, 2.25, false, new Date(2000), QueryType.JSONAPI_V1_0)))
+                .toList()
+                .blockingGet();
+
+        // Schema, two batches and the end of stream marker.
+        assertEquals(4, chunks.size());
+
+        try (ColumnarExportReader reader = new ColumnarExportReader(new ByteArrayInputStream(concat(chunks)))) {
+            assertEquals(Arrays.asList("name", "count", "price", "active", "created", "type"),
+                    reader.getColumns().stream().map(ColumnarExportReader.Column::getName)
+                            .collect(Collectors.toList()));
+            assertEquals(Arrays.asList(ColumnType.UTF8, ColumnType.INT64, ColumnType.FLOAT64, ColumnType.BOOLEAN,
+                    ColumnType.TIMESTAMP, ColumnType.UTF8),
+                    reader.getColumns().stream().map(ColumnarExportReader.Column::getType)
+                            .collect(Collectors.toList()));
+
+            ColumnarExportReader.Batch batch = reader.nextBatch();
+            assertEquals(2, batch.getRowCount());
+            assertArrayEquals(new String[] {"drum", ""}, (String[]) batch.getValues(0));
+            assertArrayEquals(new long[] {3, 0}, (long[]) batch.getValues(1));
+            assertArrayEquals(new double[] {1.5, 0}, (double[]) batch.getValues(2));
+            assertArrayEquals(new boolean[] {true, false}, (boolean[]) batch.getValues(3));
+            assertArrayEquals(new long[] {1000, 0}, (long[]) batch.getValues(4));
+            assertArrayEquals(new String[] {"GRAPHQL_V1_0", ""}, (String[]) batch.getValues(5));
+            for (int column = 0; column < 6; column++) {
+                assertFalse(batch.isNull(column, 0));
+                assertTrue(batch.isNull(column, 1));
+            }
+
+            batch = reader.nextBatch();
+            assertEquals(1, batch.getRowCount());
+            assertArrayEquals(new String[] {"gitarre"}, (String[]) batch.getValues(0));
+            assertArrayEquals(new long[] {7}, (long[]) batch.getValues(1));
+            assertArrayEquals(new double[] {2.25}, (double[]) batch.getValues(2));
+            assertArrayEquals(new boolean[] {false}, (boolean[]) batch.getValues(3));
+            assertArrayEquals(new long[] {2000}, (long[]) batch.getValues(4));
+            assertArrayEquals(new String[] {"JSONAPI_V1_0"}, (String[]) batch.getValues(5));
+            assertFalse(batch.isNull(3, 0));
+
+            assertNull(reader.nextBatch());
+            assertNull(reader.nextBatch());
+        }
+    }
+
+    @Test
+    public void testEmptyExport() throws IOException {
+        ColumnarExportFormatter formatter = new ColumnarExportFormatter(elide);
+
+        List<byte[]> chunks = formatter.format(projection, null, Observable.empty()).toList().blockingGet();
+
+        try (ColumnarExportReader reader = new ColumnarExportReader(new ByteArrayInputStream(concat(chunks)))) {
+            assertEquals(6, reader.getColumns().size());
+            assertNull(reader.nextBatch());
+        }
+    }
+
+    @Test
+    public void testNotColumnar() {
+        assertThrows(IOException.class, () -> new ColumnarExportReader(new ByteArrayInputStream(
+                "\"name\",\"count\"".getBytes())));
+    }
+
+    private PersistentResource resource(String name, Long count, Double price, Boolean active, Date created,
+            QueryType type) {
+        PersistentResource resource = mock(PersistentResource.class);
+        when(resource.getObject()).thenReturn(new TableExport());
+        when(resource.getAttribute(NAME)).thenReturn(name);
+        when(resource.getAttribute(COUNT)).thenReturn(count);
+        when(resource.getAttribute(PRICE)).thenReturn(price);
+        when(resource.getAttribute(ACTIVE)).thenReturn(active);
+        when(resource.getAttribute(CREATED)).thenReturn(created);
+        when(resource.getAttribute(TYPE)).thenReturn(type);
+        return resource;
+    }
+
+    private static byte[] concat(List<byte[]> chunks) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (byte[] chunk : chunks) {
+            bytes.write(chunk);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.async.models.QueryStatus;
+import com.yahoo.elide.async.models.QueryType;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.utils.DefaultClassScanner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * Formats a million records with each export formatter and reports their throughput and the memory they allocate.
+ * <p>
+ * Excluded from the default build.  Run it with {@code mvn test -Dtest=ExportFormatterLoadTest -DexcludeTags=}.
+ */
+@Tag("load")
+@Slf4j
+public class ExportFormatterLoadTest {
+    private static final int RECORDS = 1_000_000;
+    private static final int WARMUP_RECORDS = 100_000;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private Elide elide;
+    private EntityProjection projection;
+    private PersistentResource<TableExport> resource;
+
+    @BeforeEach
+    public void setup() {
+        HashMapDataStore dataStore = new HashMapDataStore(new DefaultClassScanner(),
+                TableExport.class.getPackage());
+        elide = new Elide(
+                new ElideSettingsBuilder(dataStore)
+                        .withEntityDictionary(EntityDictionary.builder().build())
+                        .withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"))
+                        .build());
+        elide.doScans();
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("query", "{ tableExport { edges { node { query } } } }");
+        values.put("queryType", QueryType.GRAPHQL_V1_0);
+        values.put("status", QueryStatus.COMPLETE);
+        values.put("createdOn", new Date(0));
+        values.put("principalName", null);
+        values.put("asyncAfterSeconds", 10);
+        resource = resource(values);
+    }
+
+    @Test
+    public void testJsonFormatters() throws Exception {
+        run(new JsonExportFormatter(elide), "json");
+        run(new StreamingJsonExportFormatter(elide), "streaming json");
+    }
+
+    @Test
+    public void testCsvFormatters() throws Exception {
+        run(new CsvExportFormatter(elide, true), "csv");
+        run(new StreamingCsvExportFormatter(elide, true), "streaming csv");
+    }
+
+    /**
+     * Formats the records into a discarding writer, the way exports write them into the result storage.
+     */
+    private void run(TableExportFormatter formatter, String name) throws Exception {
+        format(formatter, WARMUP_RECORDS);
+
+        System.gc();
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+
+        format(formatter, RECORDS);
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+
+        log.info("{}: {} records in {} ms ({} records/s), allocated {} MB ({} bytes per record)",
+                name, RECORDS, elapsed / 1_000_000, RECORDS * 1_000_000_000L / elapsed,
+                allocated / (1024 * 1024), allocated / RECORDS);
+    }
+
+    private void format(TableExportFormatter formatter, int records) throws Exception {
+        Writer writer = new BufferedWriter(Writer.nullWriter(), WRITE_BUFFER_SIZE);
+        try {
+            write(writer, formatter.preFormat(projection, null));
+            for (int recordNumber = 1; recordNumber <= records; recordNumber++) {
+                formatter.format(resource, recordNumber, writer);
+                writer.write(System.lineSeparator());
+            }
+            write(writer, formatter.postFormat(projection, null));
+            writer.flush();
+        } finally {
+            formatter.release();
+        }
+    }
+
+    private static void write(Writer writer, String str) throws IOException {
+        if (str != null) {
+            writer.write(str);
+        }
+    }
+
+    /**
+     * Builds a resource which reads its attributes from a map instead of checking permissions, so that the
+     * measurements are dominated by the formatters.
+     */
+    private PersistentResource<TableExport> resource(Map<String, Object> values) {
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        values.keySet().forEach(name -> attributes.add(Attribute.builder().type(Object.class).name(name).build()));
+        projection = EntityProjection.builder().type(TableExport.class).attributes(attributes).build();
+
+        // Stub only, a mock would record each of the millions of calls made to it.
+        RequestScope scope = mock(RequestScope.class, withSettings().stubOnly());
+        when(scope.getDictionary()).thenReturn(elide.getElideSettings().getDictionary());
+        when(scope.getElideSettings()).thenReturn(elide.getElideSettings());
+        when(scope.getEntityProjection()).thenReturn(projection);
+
+        TableExport export = new TableExport();
+        export.setId("edc4a871-dff2-4054-804e-d80075cf827d");
+        return new PersistentResource<>(export, export.getId(), scope) {
+            @Override
+            public Object getAttribute(Attribute attribute) {
+                return values.get(attribute.getName());
+            }
+        };
+    }
+}
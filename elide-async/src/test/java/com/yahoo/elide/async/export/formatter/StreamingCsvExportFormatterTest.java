@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.async.models.QueryType;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.Argument;
+import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.utils.DefaultClassScanner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+
+public class StreamingCsvExportFormatterTest {
+    private Elide elide;
+
+    @BeforeEach
+    public void setup() {
+        HashMapDataStore dataStore = new HashMapDataStore(new DefaultClassScanner(),
+                TableExport.class.getPackage());
+        elide = new Elide(
+                new ElideSettingsBuilder(dataStore)
+                        .withEntityDictionary(EntityDictionary.builder().build())
+                        .withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"))
+                        .build());
+        elide.doScans();
+    }
+
+    @Test
+    public void testFormat() throws Exception {
+        StreamingCsvExportFormatter formatter = new StreamingCsvExportFormatter(elide, true);
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("query", "{ tableExport { edges { node { query } } } }");
+        values.put("queryType", QueryType.GRAPHQL_V1_0);
+        values.put("createdOn", new Date(0));
+        values.put("recordCount", 42);
+        values.put("message", null);
+        values.put("tags", List.of("a", "b"));
+        PersistentResource resource = resource(values);
+
+        String expected = "{ tableExport { edges { node { query } } } },GRAPHQL_V1_0,1970-01-01T00:00Z,42,,"
+                + "\"[\"\"a\"\",\"\"b\"\"]\"";
+        assertEquals(expected, formatter.format(resource, 1));
+
+        StringWriter writer = new StringWriter();
+        formatter.format(resource, 1, writer);
+        assertEquals(expected, writer.toString());
+    }
+
+    @Test
+    public void testQuoting() {
+        StreamingCsvExportFormatter formatter = new StreamingCsvExportFormatter(elide, true);
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("plain", "no quotes needed");
+        values.put("comma", "a,b");
+        values.put("quote", "say \"hi\"");
+        values.put("newline", "line1\nline2");
+        values.put("carriageReturn", "line1\r\nline2");
+        values.put("empty", "");
+
+        assertEquals("no quotes needed,\"a,b\",\"say \"\"hi\"\"\",\"line1\nline2\",\"line1\r\nline2\",",
+                formatter.format(resource(values), 1));
+    }
+
+    @Test
+    public void testNullResource() {
+        StreamingCsvExportFormatter formatter = new StreamingCsvExportFormatter(elide, true);
+        assertNull(formatter.format(null, 1));
+    }
+
+    @Test
+    public void testHeader() {
+        StreamingCsvExportFormatter formatter = new StreamingCsvExportFormatter(elide, true);
+
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        attributes.add(Attribute.builder().type(String.class).name("query").alias("foo").build());
+        attributes.add(Attribute.builder().type(String.class).name("with,comma").build());
+        attributes.add(Attribute.builder()
+                .type(String.class)
+                .name("queryType")
+                .argument(Argument.builder().name("foo").value("bar").build())
+                .argument(Argument.builder().name("baz").value("boo").build())
+                .build());
+        EntityProjection projection = EntityProjection.builder().type(TableExport.class).attributes(attributes).build();
+
+        assertEquals("query,\"with,comma\",queryType(foo=bar baz=boo)", formatter.preFormat(projection, null));
+        assertEquals("", formatter.preFormat(EntityProjection.builder().type(TableExport.class).build(), null));
+        assertNull(formatter.preFormat(null, null));
+        assertNull(new StreamingCsvExportFormatter(elide, false).preFormat(projection, null));
+        assertNull(formatter.postFormat(projection, null));
+    }
+
+    private static PersistentResource resource(Map<String, Object> values) {
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        values.keySet().forEach(name -> attributes.add(Attribute.builder().type(Object.class).name(name).build()));
+        EntityProjection projection = EntityProjection.builder().type(TableExport.class).attributes(attributes).build();
+
+        RequestScope scope = mock(RequestScope.class);
+        when(scope.getEntityProjection()).thenReturn(projection);
+
+        PersistentResource resource = mock(PersistentResource.class);
+        when(resource.getObject()).thenReturn(new TableExport());
+        when(resource.getRequestScope()).thenReturn(scope);
+        attributes.forEach(attribute ->
+                when(resource.getAttribute(attribute)).thenReturn(values.get(attribute.getName())));
+        return resource;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.export.formatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.async.models.QueryType;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.utils.DefaultClassScanner;
+import com.yahoo.elide.jsonapi.models.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+
+public class StreamingJsonExportFormatterTest {
+    private Elide elide;
+
+    @BeforeEach
+    public void setup() {
+        HashMapDataStore dataStore = new HashMapDataStore(new DefaultClassScanner(),
+                TableExport.class.getPackage());
+        elide = new Elide(
+                new ElideSettingsBuilder(dataStore)
+                        .withEntityDictionary(EntityDictionary.builder().build())
+                        .withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"))
+                        .build());
+        elide.doScans();
+    }
+
+    @Test
+    public void testFormat() throws Exception {
+        StreamingJsonExportFormatter formatter = new StreamingJsonExportFormatter(elide);
+        JsonExportFormatter jsonFormatter = new JsonExportFormatter(elide);
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("query", "{ tableExport { edges { node { query } } } }");
+        values.put("queryType", QueryType.GRAPHQL_V1_0);
+        values.put("createdOn", new Date(0));
+        values.put("recordCount", 42);
+        values.put("message", null);
+        values.put("tags", List.of("a", "b\"c"));
+        PersistentResource resource = resource(values);
+
+        String expected = "{\"query\":\"{ tableExport { edges { node { query } } } }\",\"queryType\":\"GRAPHQL_V1_0\","
+                + "\"createdOn\":\"1970-01-01T00:00Z\",\"recordCount\":42,\"message\":null,\"tags\":[\"a\",\"b\\\"c\"]}";
+        assertEquals(expected, formatter.format(resource, 1));
+        assertEquals("," + expected, formatter.format(resource, 2));
+
+        // Matches the output of the JSON formatter.
+        assertEquals(jsonFormatter.format(resource, 1), formatter.format(resource, 1));
+        assertEquals(jsonFormatter.format(resource, 2), formatter.format(resource, 2));
+    }
+
+    @Test
+    public void testFormatToWriter() throws Exception {
+        StreamingJsonExportFormatter formatter = new StreamingJsonExportFormatter(elide);
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("query", "/tableExport");
+        values.put("recordCount", 1);
+        PersistentResource resource = resource(values);
+
+        StringWriter writer = new StringWriter();
+        writer.write(formatter.preFormat(null, null));
+        for (int recordNumber = 1; recordNumber <= 3; recordNumber++) {
+            formatter.format(resource, recordNumber, writer);
+            // Records are complete when the call returns, so the caller can write between them.
+            writer.write("\n");
+        }
+        writer.write(formatter.postFormat(null, null));
+        formatter.release();
+
+        String record = "{\"query\":\"/tableExport\",\"recordCount\":1}";
+        assertEquals("[" + record + "\n," + record + "\n," + record + "\n]", writer.toString());
+
+        // A new writer starts a new generator.
+        StringWriter other = new StringWriter();
+        formatter.format(resource, 1, other);
+        assertEquals(record, other.toString());
+    }
+
+    @Test
+    public void testAlias() {
+        StreamingJsonExportFormatter formatter = new StreamingJsonExportFormatter(elide);
+
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        attributes.add(Attribute.builder().type(String.class).name("query").alias("foo").build());
+        PersistentResource resource = resource(attributes, Map.of("query", "/tableExport"));
+
+        assertEquals("{\"foo\":\"/tableExport\"}", formatter.format(resource, 1));
+    }
+
+    @Test
+    public void testNullResource() throws Exception {
+        StreamingJsonExportFormatter formatter = new StreamingJsonExportFormatter(elide);
+        assertNull(formatter.format(null, 1));
+
+        StringWriter writer = new StringWriter();
+        formatter.format(null, 1, writer);
+        assertEquals("", writer.toString());
+    }
+
+    private static PersistentResource resource(Map<String, Object> values) {
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        values.keySet().forEach(name -> attributes.add(Attribute.builder().type(Object.class).name(name).build()));
+        return resource(attributes, values);
+    }
+
+    private static PersistentResource resource(Set<Attribute> attributes, Map<String, Object> values) {
+        EntityProjection projection = EntityProjection.builder().type(TableExport.class).attributes(attributes).build();
+
+        RequestScope scope = mock(RequestScope.class);
+        when(scope.getEntityProjection()).thenReturn(projection);
+
+        PersistentResource resource = mock(PersistentResource.class);
+        when(resource.getObject()).thenReturn(new TableExport());
+        when(resource.getRequestScope()).thenReturn(scope);
+        when(resource.toResource(any(), any())).thenAnswer(invocation ->
+                new Resource("tableExport", "0", null, invocation.getArgument(1), null, null, null));
+        attributes.forEach(attribute ->
+                when(resource.getAttribute(attribute)).thenReturn(values.get(attribute.getName())));
+        return resource;
+    }
+}
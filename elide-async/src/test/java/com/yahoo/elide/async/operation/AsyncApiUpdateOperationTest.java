@@ -6,6 +6,7 @@
 package com.yahoo.elide.async.operation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -14,10 +15,14 @@ import static org.mockito.Mockito.when;
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.async.models.AsyncApi;
 import com.yahoo.elide.async.models.AsyncApiResult;
+import com.yahoo.elide.async.models.AsyncQuery;
+import com.yahoo.elide.async.models.QueryStatus;
+import com.yahoo.elide.async.service.AsyncApiCompletionNotifier;
 import com.yahoo.elide.async.service.dao.AsyncApiDao;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
 public class AsyncApiUpdateOperationTest {
@@ -45,6 +50,26 @@ public class AsyncApiUpdateOperationTest {
         assertEquals(asyncApiDao, updateThread.getAsyncApiDao());
     }
 
+    @Test
+    public void testNotifiesCompletion() throws Exception {
+        String id = "edc4a871-dff2-4054-804e-d80075cf827d";
+        asyncApiDao = mock(AsyncApiDao.class);
+        task = mock(Future.class);
+        AsyncApiCompletionNotifier completionNotifier = mock(AsyncApiCompletionNotifier.class);
+        AsyncQuery completed = new AsyncQuery();
+        completed.setStatus(QueryStatus.CANCEL_COMPLETE);
+        when(queryObj.getId()).thenReturn(id);
+        when(task.get()).thenReturn(queryResultObj);
+        when(asyncApiDao.updateAsyncApiResult(any(), any(), any())).thenReturn(completed);
+
+        new AsyncApiUpdateOperation(elide, task, queryObj, asyncApiDao, completionNotifier).run();
+        verify(completionNotifier).completed(id, QueryStatus.CANCEL_COMPLETE);
+
+        when(task.get()).thenThrow(new ExecutionException(new IllegalStateException()));
+        new AsyncApiUpdateOperation(elide, task, queryObj, asyncApiDao, completionNotifier).run();
+        verify(completionNotifier).completed(id, QueryStatus.FAILURE);
+    }
+
     public void testUpdateQuery() {
         String id = "edc4a871-dff2-4054-804e-d80075cf827d";
         when(queryObj.getId()).thenReturn(id);
@@ -9,18 +9,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.AsyncQueryResult;
 import com.yahoo.elide.async.models.QueryType;
 import com.yahoo.elide.async.service.AsyncExecutorService;
+import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.security.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import java.net.URISyntaxException;
 
@@ -62,6 +67,63 @@ public class JsonApiAsyncQueryOperationTest {
         assertEquals(3, queryResultObj.getRecordCount());
     }
 
+    @Test
+    public void testProcessQueryStoresLargeResponseBody() throws URISyntaxException {
+        AsyncQuery queryObj = new AsyncQuery();
+        String responseBody = "{\"data\":"
+                + "[{\"type\":\"book\",\"id\":\"3\",\"attributes\":{\"title\":\"For Whom the Bell Tolls\"}}"
+                + ",{\"type\":\"book\",\"id\":\"2\",\"attributes\":{\"title\":\"Song of Ice and Fire\"}}]}";
+        ElideResponse response = new ElideResponse(200, responseBody);
+        String id = "edc4a871-dff2-4054-804e-d80075cf827d";
+        queryObj.setId(id);
+        queryObj.setQuery("/book");
+        queryObj.setQueryType(QueryType.JSONAPI_V1_0);
+        ResultStorageEngine engine = mock(ResultStorageEngine.class);
+        when(engine.storeResponseBody(any(), any())).thenReturn(true);
+        ElideSettings elideSettings = mock(ElideSettings.class);
+        when(elideSettings.getExportApiPath()).thenReturn("/export");
+        when(requestScope.getElideSettings()).thenReturn(elideSettings);
+        when(requestScope.getBaseUrlEndPoint()).thenReturn("http://localhost:8080");
+
+        when(elide.get(any(), any(), any(), any(), any(), any(), any())).thenReturn(response);
+        JsonApiAsyncQueryOperation jsonOperation = new JsonApiAsyncQueryOperation(asyncExecutorService, queryObj,
+                requestScope, engine, responseBody.length() - 1);
+        AsyncQueryResult queryResultObj = (AsyncQueryResult) jsonOperation.call();
+        verify(engine).storeResponseBody(id, responseBody);
+        assertNull(queryResultObj.getResponseBody());
+        assertEquals("http://localhost:8080/export/" + id, queryResultObj.getResponseBodyUrl().toString());
+        assertEquals(responseBody.length(), queryResultObj.getContentLength());
+        assertEquals(2, queryResultObj.getRecordCount());
+
+        // Response bodies up to the maximum length are stored inline.
+        jsonOperation = new JsonApiAsyncQueryOperation(asyncExecutorService, queryObj, requestScope, engine,
+                responseBody.length());
+        queryResultObj = (AsyncQueryResult) jsonOperation.call();
+        assertEquals(responseBody, queryResultObj.getResponseBody());
+        assertNull(queryResultObj.getResponseBodyUrl());
+        verifyNoMoreInteractions(engine);
+    }
+
+    @Test
+    public void testProcessQueryStoresResponseBodyInlineWithoutEngineSupport() throws URISyntaxException {
+        AsyncQuery queryObj = new AsyncQuery();
+        String responseBody = "{\"data\":[{\"type\":\"book\",\"id\":\"3\"}]}";
+        ElideResponse response = new ElideResponse(200, responseBody);
+        queryObj.setId("edc4a871-dff2-4054-804e-d80075cf827d");
+        queryObj.setQuery("/book");
+        queryObj.setQueryType(QueryType.JSONAPI_V1_0);
+
+        // Engines store no response bodies unless they implement storeResponseBody.
+        ResultStorageEngine engine = mock(ResultStorageEngine.class, Mockito.CALLS_REAL_METHODS);
+
+        when(elide.get(any(), any(), any(), any(), any(), any(), any())).thenReturn(response);
+        JsonApiAsyncQueryOperation jsonOperation = new JsonApiAsyncQueryOperation(asyncExecutorService, queryObj,
+                requestScope, engine, 1);
+        AsyncQueryResult queryResultObj = (AsyncQueryResult) jsonOperation.call();
+        assertEquals(responseBody, queryResultObj.getResponseBody());
+        assertNull(queryResultObj.getResponseBodyUrl());
+    }
+
     @Test
     public void testProcessQueryNonSuccessResponse() throws URISyntaxException {
         AsyncQuery queryObj = new AsyncQuery();
@@ -8,12 +8,16 @@ package com.yahoo.elide.async.operation;
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.async.export.formatter.ColumnarExportFormatter;
+import com.yahoo.elide.async.export.formatter.ColumnarExportReader;
 import com.yahoo.elide.async.export.formatter.JsonExportFormatter;
+import com.yahoo.elide.async.export.partitioner.RangeExportPartitioner;
 import com.yahoo.elide.async.models.ArtifactGroup;
 import com.yahoo.elide.async.models.QueryType;
 import com.yahoo.elide.async.models.ResultType;
@@ -36,12 +40,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.security.Principal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -107,6 +115,95 @@ public class JsonApiTableExportOperationTest {
         assertNull(queryResultObj.getMessage());
     }
 
+    @Test
+    public void testProcessColumnarQuery() throws IOException  {
+        dataPrep();
+        TableExport queryObj = new TableExport();
+        String query = "/tableExport?sort=principalName&fields[tableExport]=principalName,queryType";
+        String id = "edc4a871-dff2-4054-804e-d80075cf827d";
+        queryObj.setId(id);
+        queryObj.setQuery(query);
+        queryObj.setQueryType(QueryType.JSONAPI_V1_0);
+        queryObj.setResultType(ResultType.COLUMNAR);
+
+        JsonApiTableExportOperation jsonAPIOperation = new JsonApiTableExportOperation(
+                new ColumnarExportFormatter(elide), asyncExecutorService, queryObj, requestScope, engine);
+        TableExportResult queryResultObj = (TableExportResult) jsonAPIOperation.call();
+
+        assertEquals(200, queryResultObj.getHttpStatus());
+        assertEquals("https://elide.io/export/edc4a871-dff2-4054-804e-d80075cf827d.columnar",
+                queryResultObj.getUrl().toString());
+        assertEquals(1, queryResultObj.getRecordCount());
+        assertNull(queryResultObj.getMessage());
+
+        ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        engine.getResultChunksByID(id + ".columnar").blockingForEach(stored::write);
+        try (ColumnarExportReader reader = new ColumnarExportReader(
+                new ByteArrayInputStream(stored.toByteArray()))) {
+            assertEquals(2, reader.getColumns().size());
+            ColumnarExportReader.Batch batch = reader.nextBatch();
+            assertEquals(1, batch.getRowCount());
+            assertTrue(batch.isNull(0, 0));
+            assertNull(reader.nextBatch());
+        }
+    }
+
+    @Test
+    public void testProcessPartitionedQuery() throws IOException  {
+        dataPrep("zeta", "alpha", "mid", null);
+        Principal admin = mock(Principal.class);
+        when(user.getPrincipal()).thenReturn(admin);
+        when(user.isInRole("admin")).thenReturn(true);
+        TableExport queryObj = new TableExport();
+        String query = "/tableExport?fields[tableExport]=principalName";
+        String id = "edc4a871-dff2-4054-804e-d80075cf827d";
+        queryObj.setId(id);
+        queryObj.setQuery(query);
+        queryObj.setQueryType(QueryType.JSONAPI_V1_0);
+        queryObj.setResultType(ResultType.JSON);
+
+        // The first partition is empty, so the first record is exported by the second.
+        JsonApiTableExportOperation jsonAPIOperation = new JsonApiTableExportOperation(
+                new JsonExportFormatter(elide), asyncExecutorService, queryObj, requestScope, engine,
+                Map.of("tableExport", new RangeExportPartitioner("principalName", Arrays.asList("a", "n"), 2)));
+        TableExportResult queryResultObj = (TableExportResult) jsonAPIOperation.call();
+
+        assertNull(queryResultObj.getMessage());
+        assertEquals(4, queryResultObj.getRecordCount());
+
+        List<String> results = engine.getResultsByID(id + ".json").toList().blockingGet();
+        assertEquals(Arrays.asList("[", "{\"principalName\":\"alpha\"}", ",{\"principalName\":\"mid\"}",
+                ",{\"principalName\":\"zeta\"}", ",{\"principalName\":null}", "]"), results);
+    }
+
+    @Test
+    public void testProcessSortedPartitionedQuery() throws IOException  {
+        dataPrep("zeta", "alpha", "mid");
+        Principal admin = mock(Principal.class);
+        when(user.getPrincipal()).thenReturn(admin);
+        when(user.isInRole("admin")).thenReturn(true);
+        TableExport queryObj = new TableExport();
+        String query = "/tableExport?sort=-principalName&fields[tableExport]=principalName";
+        String id = "edc4a871-dff2-4054-804e-d80075cf827d";
+        queryObj.setId(id);
+        queryObj.setQuery(query);
+        queryObj.setQueryType(QueryType.JSONAPI_V1_0);
+        queryObj.setResultType(ResultType.JSON);
+
+        // Descending partitions would not be in the requested order, so the export is not partitioned.
+        JsonApiTableExportOperation jsonAPIOperation = new JsonApiTableExportOperation(
+                new JsonExportFormatter(elide), asyncExecutorService, queryObj, requestScope, engine,
+                Map.of("tableExport", new RangeExportPartitioner("principalName", Arrays.asList("a", "n"), 2)));
+        TableExportResult queryResultObj = (TableExportResult) jsonAPIOperation.call();
+
+        assertNull(queryResultObj.getMessage());
+        assertEquals(3, queryResultObj.getRecordCount());
+
+        List<String> results = engine.getResultsByID(id + ".json").toList().blockingGet();
+        assertEquals(Arrays.asList("[", "{\"principalName\":\"zeta\"}", ",{\"principalName\":\"mid\"}",
+                ",{\"principalName\":\"alpha\"}", "]"), results);
+    }
+
     @Test
     public void testProcessBadEntityQuery() throws IOException  {
         dataPrep();
@@ -172,11 +269,18 @@ public class JsonApiTableExportOperationTest {
      * @throws IOException  IOException
      */
     private void dataPrep() throws IOException {
-        TableExport temp = new TableExport();
+        dataPrep(new String[] {null});
+    }
+
+    private void dataPrep(String... principalNames) throws IOException {
         DataStoreTransaction tx = dataStore.beginTransaction();
         RequestScope scope = new RequestScope(null, null, NO_VERSION, null, tx, user, null, Collections.emptyMap(),
                 UUID.randomUUID(), elide.getElideSettings());
-        tx.save(temp, scope);
+        for (String principalName : principalNames) {
+            TableExport temp = new TableExport();
+            temp.setPrincipalName(principalName);
+            tx.save(temp, scope);
+        }
         tx.commit(scope);
         tx.close();
     }
@@ -6,24 +6,32 @@
 package com.yahoo.elide.async.resources;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.yahoo.elide.async.models.TableExport;
 import com.yahoo.elide.async.resources.ExportApiEndpoint.ExportApiProperties;
 import com.yahoo.elide.async.service.storageengine.FileResultStorageEngine;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 
 import io.reactivex.Observable;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -54,18 +62,47 @@ public class ExportApiEndpointTest {
         String queryId = "1";
         int maxDownloadTimeSeconds = 1;
         int maxDownloadTimeMilliSeconds = (int) TimeUnit.SECONDS.toMillis(maxDownloadTimeSeconds);
-        when(engine.getResultsByID(queryId)).thenReturn(Observable.just("result"));
+        when(engine.getResultChunksByID(queryId)).thenReturn(Observable.just("result".getBytes()));
 
         exportApiProperties = new ExportApiProperties(Executors.newFixedThreadPool(1), Duration.ofSeconds(maxDownloadTimeSeconds));
         endpoint = new ExportApiEndpoint(engine, exportApiProperties);
-        endpoint.get(queryId, response, asyncResponse);
+        endpoint.get(queryId, null, response, asyncResponse);
 
         // Timeout(int) succeeds as soon as the function to be verified is called.
         // It waits maximum upto value of "int" for function to be called.
-        verify(engine, timeout(maxDownloadTimeMilliSeconds)).getResultsByID(queryId);
+        verify(engine, timeout(maxDownloadTimeMilliSeconds)).getResultChunksByID(queryId);
         verify(asyncResponse, timeout(maxDownloadTimeMilliSeconds)).resume(responseCaptor.capture());
         final Response res = responseCaptor.getValue();
 
         assertEquals(res.getStatus(), 200);
     }
+
+    @Test
+    public void testGetCompressedFile(@TempDir Path tempDir) throws Exception {
+        FileResultStorageEngine fileEngine = new FileResultStorageEngine(tempDir.toString(), false, true);
+        TableExport tableExport = new TableExport();
+        tableExport.setId("2");
+        fileEngine.storeResults(tableExport, Observable.just("result"));
+
+        exportApiProperties = new ExportApiProperties(Executors.newFixedThreadPool(1), Duration.ofSeconds(1));
+        endpoint = new ExportApiEndpoint(fileEngine, exportApiProperties);
+
+        endpoint.get("2", "gzip, deflate", response, asyncResponse);
+        verify(asyncResponse, timeout(1000)).resume(responseCaptor.capture());
+        Response res = responseCaptor.getValue();
+        assertEquals(200, res.getStatus());
+        assertEquals("gzip", res.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(Long.toString(fileEngine.getResultFile("2").size()),
+                res.getHeaderString(HttpHeaders.CONTENT_LENGTH));
+
+        AsyncResponse identityResponse = mock(AsyncResponse.class);
+        endpoint.get("2", null, response, identityResponse);
+        verify(identityResponse, timeout(1000)).resume(responseCaptor.capture());
+        res = responseCaptor.getValue();
+        assertNull(res.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        ((StreamingOutput) res.getEntity()).write(body);
+        assertEquals("result" + System.lineSeparator(), body.toString(StandardCharsets.UTF_8));
+    }
 }
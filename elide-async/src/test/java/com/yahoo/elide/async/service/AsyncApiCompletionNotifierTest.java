@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.async.models.AsyncQuery;
+import com.yahoo.elide.async.models.QueryStatus;
+import com.yahoo.elide.async.service.dao.AsyncApiDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncApiCompletionNotifierTest {
+    private static final String ID = "edc4a871-dff2-4054-804e-d80075cf827d";
+
+    private AsyncApiDao asyncApiDao;
+    private AsyncApiCompletionNotifier notifier;
+
+    @BeforeEach
+    public void setup() {
+        asyncApiDao = mock(AsyncApiDao.class);
+        notifier = new AsyncApiCompletionNotifier(asyncApiDao);
+    }
+
+    @Test
+    public void testNotified() throws Exception {
+        storedStatus(QueryStatus.PROCESSING);
+
+        CompletableFuture<QueryStatus> first = notifier.awaitCompletion(ID, AsyncQuery.class, "alice",
+                Duration.ofMinutes(1));
+        CompletableFuture<QueryStatus> second = notifier.awaitCompletion(ID, AsyncQuery.class, "alice",
+                Duration.ofMinutes(1));
+        assertFalse(first.isDone());
+        assertEquals(1, notifier.size());
+
+        notifier.completed(ID, QueryStatus.COMPLETE);
+        assertEquals(QueryStatus.COMPLETE, first.get(10, TimeUnit.SECONDS));
+        assertEquals(QueryStatus.COMPLETE, second.get(10, TimeUnit.SECONDS));
+        assertEquals(0, notifier.size());
+        verify(asyncApiDao, times(2)).loadAsyncApiByFilter(any(), eq(AsyncQuery.class));
+    }
+
+    @Test
+    public void testAlreadyCompleted() throws Exception {
+        storedStatus(QueryStatus.FAILURE);
+
+        CompletableFuture<QueryStatus> waiter = notifier.awaitCompletion(ID, AsyncQuery.class, null,
+                Duration.ofMinutes(1));
+        assertEquals(QueryStatus.FAILURE, waiter.get(10, TimeUnit.SECONDS));
+        assertEquals(0, notifier.size());
+    }
+
+    @Test
+    public void testNotFound() throws Exception {
+        when(asyncApiDao.loadAsyncApiByFilter(any(), eq(AsyncQuery.class))).thenReturn(Collections.emptyList());
+
+        assertNull(notifier.awaitCompletion(ID, AsyncQuery.class, "bob", Duration.ofMinutes(1))
+                .get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testTimeoutReadsStatus() throws Exception {
+        storedStatus(QueryStatus.PROCESSING);
+
+        CompletableFuture<QueryStatus> waiter = notifier.awaitCompletion(ID, AsyncQuery.class, "alice",
+                Duration.ofMillis(50));
+        // Completed on another host.
+        storedStatus(QueryStatus.COMPLETE);
+
+        assertEquals(QueryStatus.COMPLETE, waiter.get(10, TimeUnit.SECONDS));
+        assertEquals(0, notifier.size());
+    }
+
+    @Test
+    public void testIsRunning() {
+        assertTrue(AsyncApiCompletionNotifier.isRunning(QueryStatus.QUEUED));
+        assertTrue(AsyncApiCompletionNotifier.isRunning(QueryStatus.CANCELLED));
+        assertFalse(AsyncApiCompletionNotifier.isRunning(QueryStatus.CANCEL_COMPLETE));
+        assertFalse(AsyncApiCompletionNotifier.isRunning(null));
+    }
+
+    private void storedStatus(QueryStatus status) {
+        AsyncQuery query = new AsyncQuery();
+        query.setId(ID);
+        query.setStatus(status);
+        when(asyncApiDao.loadAsyncApiByFilter(any(), eq(AsyncQuery.class)))
+                .thenReturn(Collections.singletonList(query));
+    }
+}
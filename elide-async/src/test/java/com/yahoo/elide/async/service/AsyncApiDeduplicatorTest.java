@@ -0,0 +1,235 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.async.models.AsyncApi;
+import com.yahoo.elide.async.models.AsyncApiResult;
+import com.yahoo.elide.async.models.AsyncQuery;
+import com.yahoo.elide.async.models.AsyncQueryResult;
+import com.yahoo.elide.async.models.QueryType;
+import com.yahoo.elide.async.models.ResultType;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.async.models.TableExportResult;
+import com.yahoo.elide.core.security.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AsyncApiDeduplicatorTest {
+    private ExecutorService executor;
+    private AtomicInteger executions;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+        executions = new AtomicInteger();
+        alice = user("alice");
+        bob = user("bob");
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentDuplicates() throws Exception {
+        AsyncApiDeduplicator deduplicator = new AsyncApiDeduplicator(Duration.ZERO);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<AsyncApiResult> first = submit(deduplicator, query("/book?sort=title&fields[book]=title"), alice,
+                blocking(release));
+        Future<AsyncApiResult> duplicate = submit(deduplicator, query("/book?fields[book]=title&sort=title"), alice,
+                blocking(release));
+        Future<AsyncApiResult> otherUser = submit(deduplicator, query("/book?sort=title&fields[book]=title"), bob,
+                blocking(release));
+        Future<AsyncApiResult> otherQuery = submit(deduplicator, query("/book?sort=-title&fields[book]=title"), alice,
+                blocking(release));
+
+        release.countDown();
+        AsyncApiResult firstResult = first.get(10, TimeUnit.SECONDS);
+        AsyncApiResult duplicateResult = duplicate.get(10, TimeUnit.SECONDS);
+        // Every query receives its own copy of the result.
+        assertEquals(firstResult, duplicateResult);
+        assertNotSame(firstResult, duplicateResult);
+        otherUser.get(10, TimeUnit.SECONDS);
+        otherQuery.get(10, TimeUnit.SECONDS);
+        assertEquals(3, executions.get());
+
+        // Completed executions are not shared without a reuse window.
+        submit(deduplicator, query("/book?sort=title&fields[book]=title"), alice, blocking(release))
+                .get(10, TimeUnit.SECONDS);
+        assertEquals(4, executions.get());
+    }
+
+    @Test
+    public void testReuseWindow() throws Exception {
+        AsyncApiDeduplicator deduplicator = new AsyncApiDeduplicator(Duration.ofMinutes(1));
+        CountDownLatch release = new CountDownLatch(0);
+
+        Future<AsyncApiResult> first = submit(deduplicator, query("/book"), alice, blocking(release));
+        first.get(10, TimeUnit.SECONDS);
+        Future<AsyncApiResult> reused = submit(deduplicator, query("/book"), alice, blocking(release));
+
+        assertEquals(first.get(), reused.get(10, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+
+        // Exports of a different result type are not shared.
+        TableExport csv = new TableExport();
+        csv.setQuery("/book");
+        csv.setQueryType(QueryType.JSONAPI_V1_0);
+        csv.setResultType(ResultType.CSV);
+        TableExport json = new TableExport();
+        json.setQuery("/book");
+        json.setQueryType(QueryType.JSONAPI_V1_0);
+        json.setResultType(ResultType.JSON);
+        submit(deduplicator, csv, alice, blocking(release)).get(10, TimeUnit.SECONDS);
+        submit(deduplicator, json, alice, blocking(release)).get(10, TimeUnit.SECONDS);
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    public void testExportResultCopies() throws Exception {
+        AsyncApiDeduplicator deduplicator = new AsyncApiDeduplicator(Duration.ZERO);
+        CountDownLatch release = new CountDownLatch(1);
+        URL url = new URL("https://elide.io/export/first.csv");
+        Callable<AsyncApiResult> export = () -> {
+            executions.incrementAndGet();
+            release.await(10, TimeUnit.SECONDS);
+            TableExportResult result = new TableExportResult();
+            result.setHttpStatus(200);
+            result.setRecordCount(3);
+            result.setUrl(url);
+            return result;
+        };
+
+        Future<AsyncApiResult> first = submit(deduplicator, export(), alice, export);
+        Future<AsyncApiResult> attached = submit(deduplicator, export(), alice, export);
+        release.countDown();
+
+        TableExportResult firstResult = (TableExportResult) first.get(10, TimeUnit.SECONDS);
+        TableExportResult attachedResult = (TableExportResult) attached.get(10, TimeUnit.SECONDS);
+        assertEquals(1, executions.get());
+        assertNotSame(firstResult, attachedResult);
+        assertEquals(url, attachedResult.getUrl());
+        assertEquals(3, attachedResult.getRecordCount());
+
+        // Changing the result of one query does not change the others.
+        firstResult.setMessage("changed");
+        assertNull(attachedResult.getMessage());
+        assertNull(((TableExportResult) attached.get()).getMessage());
+    }
+
+    @Test
+    public void testCancelOnlyCancelsCopy() throws Exception {
+        AsyncApiDeduplicator deduplicator = new AsyncApiDeduplicator(Duration.ZERO);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<AsyncApiResult> first = submit(deduplicator, query("/book"), alice, blocking(release));
+        Future<AsyncApiResult> attached = submit(deduplicator, query("/book"), alice, blocking(release));
+
+        assertTrue(attached.cancel(true));
+        assertTrue(attached.isCancelled());
+        assertThrows(CancellationException.class, attached::get);
+
+        // The shared execution still completes for the query which started it.
+        assertFalse(first.isCancelled());
+        release.countDown();
+        assertEquals(200, first.get(10, TimeUnit.SECONDS).getHttpStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    public void testFailuresNotReused() throws Exception {
+        AsyncApiDeduplicator deduplicator = new AsyncApiDeduplicator(Duration.ofMinutes(1));
+
+        Future<AsyncApiResult> failed = submit(deduplicator, query("/book"), alice, () -> {
+            executions.incrementAndGet();
+            AsyncQueryResult result = new AsyncQueryResult();
+            result.setHttpStatus(500);
+            return result;
+        });
+        failed.get(10, TimeUnit.SECONDS);
+
+        Future<AsyncApiResult> retried = submit(deduplicator, query("/book"), alice, blocking(new CountDownLatch(0)));
+        retried.get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    public void testNormalize() {
+        assertEquals("/book?fields[book]=title&sort=title",
+                AsyncApiDeduplicator.normalize(query(" /book?sort=title&&fields[book]=title ")));
+        assertEquals("/book", AsyncApiDeduplicator.normalize(query("/book")));
+
+        AsyncQuery graphQL = new AsyncQuery();
+        graphQL.setQueryType(QueryType.GRAPHQL_V1_0);
+        graphQL.setQuery("{\"query\":\"{ book { edges { node { title } } } }\"}");
+        assertEquals(graphQL.getQuery(), AsyncApiDeduplicator.normalize(graphQL));
+    }
+
+    private Future<AsyncApiResult> submit(AsyncApiDeduplicator deduplicator, AsyncApi query, User user,
+            Callable<AsyncApiResult> callable) {
+        return deduplicator.submit(query, user, "", callable, executor::submit);
+    }
+
+    private Callable<AsyncApiResult> blocking(CountDownLatch release) {
+        return () -> {
+            executions.incrementAndGet();
+            release.await(10, TimeUnit.SECONDS);
+            AsyncQueryResult result = new AsyncQueryResult();
+            result.setHttpStatus(200);
+            return result;
+        };
+    }
+
+    private static AsyncApi export() {
+        TableExport export = new TableExport();
+        export.setQuery("/book");
+        export.setQueryType(QueryType.JSONAPI_V1_0);
+        export.setResultType(ResultType.CSV);
+        return export;
+    }
+
+    private static AsyncApi query(String query) {
+        AsyncQuery asyncQuery = new AsyncQuery();
+        asyncQuery.setQuery(query);
+        asyncQuery.setQueryType(QueryType.JSONAPI_V1_0);
+        return asyncQuery;
+    }
+
+    private static User user(String name) {
+        Principal principal = mock(Principal.class);
+        when(principal.getName()).thenReturn(name);
+        User user = mock(User.class);
+        when(user.getPrincipal()).thenReturn(principal);
+        return user;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.async.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.async.models.AsyncApi;
+import com.yahoo.elide.async.models.AsyncApiResult;
+import com.yahoo.elide.async.models.AsyncQuery;
+import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.async.service.AsyncApiScheduler.Lane;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncApiSchedulerTest {
+    private AsyncApiScheduler scheduler;
+
+    @AfterEach
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testLanes() throws Exception {
+        scheduler = new AsyncApiScheduler(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<AsyncApiResult> export = scheduler.submit(export("alice"), blocking(release));
+        Future<AsyncApiResult> queuedExport = scheduler.submit(export("bob"), blocking(release));
+        Future<AsyncApiResult> query = scheduler.submit(query("bob"), () -> null);
+
+        // The queued export does not hold back the query.
+        query.get(10, TimeUnit.SECONDS);
+        assertEquals(1, scheduler.getRunningCount(Lane.EXPORT));
+        assertEquals(1, scheduler.getQueueDepth(Lane.EXPORT));
+        assertEquals(0, scheduler.getQueueDepth(Lane.QUERY));
+        assertFalse(queuedExport.isDone());
+
+        release.countDown();
+        export.get(10, TimeUnit.SECONDS);
+        queuedExport.get(10, TimeUnit.SECONDS);
+        assertEquals(0, scheduler.getQueueDepth(Lane.EXPORT));
+    }
+
+    @Test
+    public void testFairQueueing() throws Exception {
+        scheduler = new AsyncApiScheduler(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        scheduler.submit(query("carol"), blocking(release));
+        scheduler.submit(query("alice"), recording(order, "alice"));
+        scheduler.submit(query("alice"), recording(order, "alice"));
+        scheduler.submit(query("alice"), recording(order, "alice"));
+        Future<AsyncApiResult> last = scheduler.submit(query("bob"), recording(order, "bob"));
+        assertEquals(4, scheduler.getQueueDepth(Lane.QUERY));
+
+        release.countDown();
+        last.get(10, TimeUnit.SECONDS);
+        awaitIdle();
+
+        // Bob does not wait behind all of alice's queries.
+        assertEquals(Arrays.asList("alice", "bob", "alice", "alice"), order);
+    }
+
+    @Test
+    public void testWeights() throws Exception {
+        scheduler = new AsyncApiScheduler(1, 1, AsyncApiScheduler.UNLIMITED, Collections.singletonMap("alice", 2));
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        scheduler.submit(query("carol"), blocking(release));
+        for (int i = 0; i < 4; i++) {
+            scheduler.submit(query("alice"), recording(order, "alice"));
+            scheduler.submit(query("bob"), recording(order, "bob"));
+        }
+
+        release.countDown();
+        awaitIdle();
+
+        assertEquals(Arrays.asList("alice", "bob", "alice", "alice", "bob", "alice", "bob", "bob"), order);
+    }
+
+    @Test
+    public void testMaxConcurrentPerPrincipal() throws Exception {
+        scheduler = new AsyncApiScheduler(2, 2, 1, Collections.emptyMap());
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<AsyncApiResult> first = scheduler.submit(query("alice"), blocking(release));
+        Future<AsyncApiResult> second = scheduler.submit(export("alice"), () -> null);
+        Future<AsyncApiResult> other = scheduler.submit(query("bob"), () -> null);
+
+        other.get(10, TimeUnit.SECONDS);
+        assertEquals(1, scheduler.getQueueDepth(Lane.EXPORT));
+        assertFalse(second.isDone());
+
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        assertTrue(second.isDone());
+    }
+
+    @Test
+    public void testCancelQueued() throws Exception {
+        scheduler = new AsyncApiScheduler(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        scheduler.submit(query("alice"), blocking(release));
+        Future<AsyncApiResult> cancelled = scheduler.submit(query("alice"), recording(order, "cancelled"));
+        Future<AsyncApiResult> last = scheduler.submit(query("alice"), recording(order, "last"));
+        cancelled.cancel(false);
+
+        release.countDown();
+        last.get(10, TimeUnit.SECONDS);
+
+        assertEquals(Collections.singletonList("last"), order);
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (scheduler.getQueueDepth(Lane.QUERY) + scheduler.getRunningCount(Lane.QUERY) > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static Callable<AsyncApiResult> blocking(CountDownLatch release) {
+        return () -> {
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        };
+    }
+
+    private static Callable<AsyncApiResult> recording(List<String> order, String name) {
+        return () -> {
+            order.add(name);
+            return null;
+        };
+    }
+
+    private static AsyncApi query(String principalName) {
+        AsyncQuery query = new AsyncQuery();
+        query.setPrincipalName(principalName);
+        return query;
+    }
+
+    private static AsyncApi export(String principalName) {
+        TableExport export = new TableExport();
+        export.setPrincipalName(principalName);
+        return export;
+    }
+}
@@ -6,8 +6,11 @@
 package com.yahoo.elide.async.service.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,13 +28,18 @@ import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.security.checks.Check;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 
 public class DefaultAsyncApiDaoTest {
@@ -90,7 +98,7 @@ public class DefaultAsyncApiDaoTest {
        Iterable<Object> loaded = Arrays.asList(asyncQuery, asyncQuery);
        when(tx.loadObjects(any(), any())).thenReturn(new DataStoreIterableBuilder(loaded).build());
        asyncApiDao.updateStatusAsyncApiByFilter(filter, QueryStatus.TIMEDOUT, asyncQuery.getClass());
-       verify(tx, times(2)).save(any(AsyncQuery.class), any(RequestScope.class));
+       verify(tx, times(1)).saveAll(eq(List.of(asyncQuery, asyncQuery)), any(RequestScope.class));
        verify(asyncQuery, times(2)).setStatus(QueryStatus.TIMEDOUT);
    }
 
@@ -101,7 +109,55 @@ public class DefaultAsyncApiDaoTest {
         asyncApiDao.deleteAsyncApiAndResultByFilter(filter, asyncQuery.getClass());
         verify(dataStore, times(1)).beginTransaction();
         verify(tx, times(1)).loadObjects(any(), any());
-        verify(tx, times(3)).delete(any(AsyncQuery.class), any(RequestScope.class));
+        verify(tx, times(1)).deleteAll(eq(List.of(asyncQuery, asyncQuery, asyncQuery)), any(RequestScope.class));
+    }
+
+    @Test
+    public void testBulkUpdateStatus() {
+        when(tx.bulkUpdate(any(), any(), any())).thenReturn(7L);
+        long updated = asyncApiDao.bulkUpdateStatusAsyncApiByFilter(filter, QueryStatus.TIMEDOUT,
+                asyncQuery.getClass(), 10);
+        assertEquals(7, updated);
+
+        ArgumentCaptor<EntityProjection> projection = ArgumentCaptor.forClass(EntityProjection.class);
+        ArgumentCaptor<Map<String, Object>> attributes = ArgumentCaptor.forClass(Map.class);
+        verify(tx, times(1)).bulkUpdate(projection.capture(), attributes.capture(), any(RequestScope.class));
+        assertEquals(Set.of("status", "updatedOn"), attributes.getValue().keySet());
+        assertEquals(QueryStatus.TIMEDOUT, attributes.getValue().get("status"));
+        assertTrue(attributes.getValue().get("updatedOn") instanceof Date);
+        assertEquals(filter, projection.getValue().getFilterExpression());
+        assertEquals(10, projection.getValue().getPagination().getLimit());
+        verify(tx, never()).loadObjects(any(), any());
+        verify(tx, times(1)).commit(any());
+    }
+
+    @Test
+    public void testBulkUpdateStatusFallback() {
+        Iterable<Object> loaded = Arrays.asList(asyncQuery, asyncQuery);
+        when(tx.bulkUpdate(any(), any(), any())).thenReturn(DataStoreTransaction.BULK_UNSUPPORTED);
+        when(tx.loadObjects(any(), any())).thenReturn(new DataStoreIterableBuilder(loaded).build());
+        long updated = asyncApiDao.bulkUpdateStatusAsyncApiByFilter(filter, QueryStatus.TIMEDOUT,
+                asyncQuery.getClass(), 10);
+        assertEquals(2, updated);
+        verify(tx, times(1)).saveAll(eq(List.of(asyncQuery, asyncQuery)), any(RequestScope.class));
+        verify(asyncQuery, times(2)).setStatus(QueryStatus.TIMEDOUT);
+    }
+
+    @Test
+    public void testBulkDelete() {
+        when(tx.bulkDelete(any(), any())).thenReturn(3L);
+        assertEquals(3, asyncApiDao.bulkDeleteAsyncApiAndResultByFilter(filter, asyncQuery.getClass(), 10));
+        verify(tx, never()).loadObjects(any(), any());
+        verify(tx, never()).deleteAll(any(), any());
+    }
+
+    @Test
+    public void testBulkDeleteFallback() {
+        Iterable<Object> loaded = Arrays.asList(asyncQuery, asyncQuery, asyncQuery);
+        when(tx.bulkDelete(any(), any())).thenReturn(DataStoreTransaction.BULK_UNSUPPORTED);
+        when(tx.loadObjects(any(), any())).thenReturn(new DataStoreIterableBuilder(loaded).build());
+        assertEquals(3, asyncApiDao.bulkDeleteAsyncApiAndResultByFilter(filter, asyncQuery.getClass(), 10));
+        verify(tx, times(1)).deleteAll(eq(List.of(asyncQuery, asyncQuery, asyncQuery)), any(RequestScope.class));
     }
 
     @Test
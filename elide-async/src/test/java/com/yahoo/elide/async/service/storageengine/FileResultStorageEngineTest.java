@@ -5,7 +5,10 @@
  */
 package com.yahoo.elide.async.service.storageengine;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -15,8 +18,14 @@ import org.junit.jupiter.api.io.TempDir;
 
 import io.reactivex.Observable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Test cases for FileResultStorageEngine.
@@ -59,6 +68,96 @@ public class FileResultStorageEngineTest {
         assertEquals(finalResult, validOutput.replaceAll("\n", System.lineSeparator()));
     }
 
+    @Test
+    public void testStoreCompressedResults(@TempDir Path tempDir) throws IOException {
+        String queryId = "store_compressed_results";
+        String validOutput = "hi" + System.lineSeparator() + "hello";
+
+        FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString(), false, true);
+        TableExport query = new TableExport();
+        query.setId(queryId);
+        engine.storeResults(query, Observable.just("hi", "hello"));
+
+        assertFalse(new File(tempDir.toString() + File.separator + queryId).exists());
+        assertTrue(new File(tempDir.toString() + File.separator + queryId + ".gz").exists());
+
+        // Readable regardless of whether the engine compresses new results.
+        assertEquals(validOutput, readResultsFile(tempDir.toString(), queryId));
+
+        ResultFile resultFile = engine.getResultFile(queryId);
+        assertEquals(ResultFile.GZIP, resultFile.getContentEncoding());
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        resultFile.transferTo(compressed);
+        assertEquals(resultFile.size(), compressed.size());
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertEquals(validOutput + System.lineSeparator(),
+                    new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        resultFile.decodeTo(decoded);
+        assertEquals(validOutput + System.lineSeparator(), decoded.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testStoreResultChunks(@TempDir Path tempDir) throws IOException {
+        byte[] binary = new byte[] {0, 1, 2, (byte) 0xFF, '\n', 3};
+
+        for (boolean compress : new boolean[] {false, true}) {
+            String queryId = "store_chunks_" + compress;
+            FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString(), false, compress);
+            TableExport query = new TableExport();
+            query.setId(queryId);
+            engine.storeResultChunks(query, Observable.just(Arrays.copyOf(binary, 4),
+                    Arrays.copyOfRange(binary, 4, binary.length)));
+
+            ByteArrayOutputStream stored = new ByteArrayOutputStream();
+            engine.getResultChunksByID(queryId).blockingForEach(stored::write);
+            assertArrayEquals(binary, stored.toByteArray());
+        }
+    }
+
+    @Test
+    public void testStoreResponseBody(@TempDir Path tempDir) {
+        String responseBody = "{\"data\":[{\"type\":\"book\",\"id\":\"1\"}]}";
+
+        for (boolean compress : new boolean[] {false, true}) {
+            String queryId = "store_response_body_" + compress;
+            FileResultStorageEngine engine = new FileResultStorageEngine(tempDir.toString(), true, compress);
+            engine.storeResponseBody(queryId, responseBody);
+
+            ByteArrayOutputStream stored = new ByteArrayOutputStream();
+            engine.getResultChunksByID(queryId).blockingForEach(stored::write);
+            assertEquals(responseBody, stored.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testGetResultFile() throws IOException {
+        FileResultStorageEngine engine = new FileResultStorageEngine(BASE_PATH, false);
+
+        ResultFile resultFile = engine.getResultFile("non_empty_results");
+        assertNull(resultFile.getContentEncoding());
+        ByteArrayOutputStream transferred = new ByteArrayOutputStream();
+        resultFile.transferTo(transferred);
+        assertEquals("test", transferred.toString(StandardCharsets.UTF_8).trim());
+
+        assertNull(engine.getResultFile("nonexisting_results"));
+    }
+
+    @Test
+    public void testAcceptEncoding() {
+        ResultFile resultFile = new ResultFile(Path.of(BASE_PATH), ResultFile.GZIP);
+        assertTrue(resultFile.isAcceptedBy("gzip, deflate, br"));
+        assertTrue(resultFile.isAcceptedBy("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(resultFile.isAcceptedBy("*"));
+        assertFalse(resultFile.isAcceptedBy(null));
+        assertFalse(resultFile.isAcceptedBy("deflate, br"));
+        assertFalse(resultFile.isAcceptedBy("gzip;q=0, br"));
+        assertTrue(new ResultFile(Path.of(BASE_PATH), null).isAcceptedBy(null));
+    }
+
     // O/P Directory does not exist.
     @Test
     public void testStoreResultsFail(@TempDir File tempDir) {
@@ -7,6 +7,7 @@ package com.yahoo.elide.async.service.storageengine;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.yahoo.elide.async.models.TableExport;
 import org.junit.jupiter.api.AfterEach;
@@ -21,7 +22,11 @@ import redis.clients.jedis.JedisPooled;
 import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.embedded.RedisServer;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -118,6 +123,71 @@ public class RedisResultStorageEngineTest {
         verifyResults("store_results_batch_success", Arrays.asList("hi\nhello", "bye"));
     }
 
+    @Test
+    public void testStoreResultsGroupedInBatches() {
+        engine = new RedisResultStorageEngine(jedisPool, EXTENSION_SUPPORT, EXPIRATION_SECONDS, BATCH_SIZE, 2, 2);
+        String queryId = "store_results_grouped_success";
+        String[] input = "a\nb\nc\nd\ne".split("\n");
+
+        storeResults(queryId, Observable.fromArray(input));
+
+        // 2 records per list element.
+        assertEquals(3, jedisPool.llen(queryId));
+
+        // Each read of 2 elements returns up to 4 records.
+        verifyResults(queryId, Arrays.asList("a\nb\nc\nd", "e"));
+    }
+
+    @Test
+    public void testStoreResultChannel() throws IOException {
+        engine.setChunkSize(4);
+        engine.setWriteBatchSize(2);
+        TableExport query = new TableExport();
+        query.setId("store_channel_success");
+
+        String stored = "hi" + System.lineSeparator() + "hello" + System.lineSeparator();
+        try (WritableByteChannel channel = engine.openResultChannel(query)) {
+            channel.write(ByteBuffer.wrap(stored.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+        List<byte[]> read = engine.getResultChunksByID("store_channel_success").toList().blockingGet();
+        for (byte[] chunk : read) {
+            assertTrue(chunk.length <= 4);
+            chunks.write(chunk);
+        }
+        assertEquals(stored, chunks.toString(StandardCharsets.UTF_8));
+
+        // Text records are split by line regardless of the chunks.
+        assertEquals(Arrays.asList("hi", "hello"),
+                engine.getResultsByID("store_channel_success").toList().blockingGet());
+    }
+
+    @Test
+    public void testStoreResponseBody() {
+        engine.setChunkSize(4);
+        String responseBody = "{\"data\":[{\"type\":\"book\",\"id\":\"1\"}]}";
+
+        engine.storeResponseBody("store_response_body", responseBody);
+
+        String read = engine.getResultChunksByID("store_response_body")
+                .map(chunk -> new String(chunk, StandardCharsets.UTF_8))
+                .reduce("", String::concat)
+                .blockingGet();
+        assertEquals(responseBody, read);
+    }
+
+    @Test
+    public void testReadTextResultChunks() {
+        storeResults("store_text_chunks", Observable.just("hi", "hello"));
+
+        String read = engine.getResultChunksByID("store_text_chunks")
+                .map(chunk -> new String(chunk, StandardCharsets.UTF_8))
+                .reduce("", String::concat)
+                .blockingGet();
+        assertEquals("hi" + System.lineSeparator() + "hello" + System.lineSeparator(), read);
+    }
+
     private void verifyResults(String queryId, List<String> expected) {
         TestObserver<String> subscriber = new TestObserver<>();
 
@@ -7,9 +7,14 @@ package com.yahoo.elide.async.service.thread;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideSettingsBuilder;
@@ -25,6 +30,7 @@ import com.yahoo.elide.core.utils.DefaultClassScanner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 import java.time.Clock;
 import java.time.Duration;
@@ -70,7 +76,7 @@ class AsyncApiCleanerRunnableTest {
         Date testDate = Date.from(Instant.now(clock).plus(Duration.ofDays(7)));
         ArgumentCaptor<FilterExpression> filterCaptor = ArgumentCaptor.forClass(FilterExpression.class);
         cleanerThread.deleteAsyncApi(AsyncQuery.class);
-        verify(asyncApiDao, times(1)).deleteAsyncApiAndResultByFilter(filterCaptor.capture(), any());
+        verify(asyncApiDao, times(1)).bulkDeleteAsyncApiAndResultByFilter(filterCaptor.capture(), any(), eq(1000));
         assertEquals("asyncQuery.createdOn LE [" + testDate + "]", filterCaptor.getValue().toString());
     }
 
@@ -79,7 +85,33 @@ class AsyncApiCleanerRunnableTest {
         Date testDate = Date.from(Instant.now(clock).plus(Duration.ofMinutes(7)));
         ArgumentCaptor<FilterExpression> filterCaptor = ArgumentCaptor.forClass(FilterExpression.class);
         cleanerThread.timeoutAsyncApi(AsyncQuery.class);
-        verify(asyncApiDao, times(1)).updateStatusAsyncApiByFilter(filterCaptor.capture(), any(QueryStatus.class), any());
+        verify(asyncApiDao, times(1)).bulkUpdateStatusAsyncApiByFilter(filterCaptor.capture(),
+                eq(QueryStatus.TIMEDOUT), any(), eq(1000));
         assertEquals("(asyncQuery.status IN [PROCESSING, QUEUED] AND asyncQuery.createdOn LE [" + testDate + "])", filterCaptor.getValue().toString());
     }
+
+    @Test
+    void testDeleteInBatches() {
+        cleanerThread = new AsyncApiCleanerRunnable(Duration.ofMinutes(7), elide, Duration.ofDays(7), asyncApiDao,
+                clock, 10, 25);
+        when(asyncApiDao.bulkDeleteAsyncApiAndResultByFilter(any(), any(), anyInt())).thenReturn(10L, 10L, 5L);
+        cleanerThread.deleteAsyncApi(AsyncQuery.class);
+
+        // Batches stop at the cap of 25 queries per run.
+        InOrder inOrder = inOrder(asyncApiDao);
+        inOrder.verify(asyncApiDao, times(2)).bulkDeleteAsyncApiAndResultByFilter(any(), any(), eq(10));
+        inOrder.verify(asyncApiDao).bulkDeleteAsyncApiAndResultByFilter(any(), any(), eq(5));
+        verifyNoMoreInteractions(asyncApiDao);
+    }
+
+    @Test
+    void testTimeoutStopsOnPartialBatch() {
+        cleanerThread = new AsyncApiCleanerRunnable(Duration.ofMinutes(7), elide, Duration.ofDays(7), asyncApiDao,
+                clock, 10, 25);
+        when(asyncApiDao.bulkUpdateStatusAsyncApiByFilter(any(), any(), any(), anyInt())).thenReturn(10L, 3L);
+        cleanerThread.timeoutAsyncApi(AsyncQuery.class);
+        verify(asyncApiDao, times(2)).bulkUpdateStatusAsyncApiByFilter(any(), eq(QueryStatus.TIMEDOUT), any(),
+                eq(10));
+        verifyNoMoreInteractions(asyncApiDao);
+    }
 }
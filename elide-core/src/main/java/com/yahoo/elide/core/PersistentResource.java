@@ -1037,6 +1037,39 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
      */
     public void deleteResource() throws ForbiddenAccessException {
         checkPermission(DeletePermission.class, this);
+        removeFromInverseRelationships();
+        transaction.delete(getObject(), requestScope);
+        markDeleted();
+    }
+
+    /**
+     * Delete existing entities.  Consecutive entities of the same type are deleted from the store as one batch.
+     * <p>
+     * Every resource is checked for delete permission and removed from its inverse relationships before the
+     * first batch is deleted, and the audit logs and lifecycle events of the deleted resources follow the last
+     * batch.
+     *
+     * @param resources the resources to delete
+     * @throws ForbiddenAccessException the forbidden access exception
+     */
+    public static void deleteResources(Collection<? extends PersistentResource> resources)
+            throws ForbiddenAccessException {
+        if (resources.isEmpty()) {
+            return;
+        }
+        for (PersistentResource<?> resource : resources) {
+            checkPermission(DeletePermission.class, resource);
+            resource.removeFromInverseRelationships();
+        }
+
+        PersistentResource<?> first = resources.iterator().next();
+        RequestScope.groupByConsecutiveType(resources)
+                .forEach(batch -> first.transaction.deleteAll(batch, first.requestScope));
+
+        resources.forEach(PersistentResource::markDeleted);
+    }
+
+    private void removeFromInverseRelationships() {
         /*
          * Search for bidirectional relationships.  For each bidirectional relationship,
          * we need to remove ourselves from that relationship
@@ -1061,8 +1094,9 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
                 }
             }
         }
+    }
 
-        transaction.delete(getObject(), requestScope);
+    private void markDeleted() {
         auditClass(Audit.Action.DELETE, new ChangeSpec(this, null, getObject(), null));
         requestScope.publishLifecycleEvent(this, DELETE);
         requestScope.getDeletedResources().add(this);
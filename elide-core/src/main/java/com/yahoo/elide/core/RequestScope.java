@@ -35,6 +35,8 @@ import jakarta.ws.rs.core.MultivaluedMap;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -74,6 +76,12 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
     //TODO - this ought to be read only and set in the constructor.
     @Getter @Setter private EntityProjection entityProjection;
     @Getter private final UUID requestId;
+
+    /**
+     * Whether stores may stream root collections without keeping their rows in the persistence context.  Only
+     * server side operations which never modify or revisit the loaded rows, such as table exports, set this.
+     */
+    @Getter @Setter private boolean streamResults;
     private final Map<String, FilterExpression> expressionsByType;
 
     private final Map<String, Object> metadata;
@@ -220,6 +228,7 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         this.requestId = outerRequestScope.requestId;
         this.sparseFields = outerRequestScope.sparseFields;
         this.metadata = new HashMap<>(outerRequestScope.metadata);
+        this.streamResults = outerRequestScope.streamResults;
     }
 
     public Set<com.yahoo.elide.core.security.PersistentResource> getNewResources() {
@@ -422,11 +431,30 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
         dirtyResources.removeAll(newPersistentResources);
         // Delete has already been called on these objects
         dirtyResources.removeAll(deletedResources);
-        newPersistentResources
-                .stream()
-                .map(PersistentResource::getObject)
-                .forEach(s -> transaction.createObject(s, this));
-        dirtyResources.stream().map(PersistentResource::getObject).forEach(obj -> transaction.save(obj, this));
+        groupByConsecutiveType(newPersistentResources).forEach(batch -> transaction.createObjects(batch, this));
+        groupByConsecutiveType(dirtyResources).forEach(batch -> transaction.saveAll(batch, this));
+    }
+
+    /**
+     * Splits resources into runs of the same type preserving their order so that each run can be written
+     * to the store as one batch.
+     *
+     * @param resources The resources to split
+     * @return The underlying objects of each run
+     */
+    static List<List<Object>> groupByConsecutiveType(Collection<? extends PersistentResource> resources) {
+        List<List<Object>> batches = new ArrayList<>();
+        Type<?> batchType = null;
+        List<Object> batch = null;
+        for (PersistentResource resource : resources) {
+            if (batch == null || !resource.getResourceType().equals(batchType)) {
+                batchType = resource.getResourceType();
+                batch = new ArrayList<>();
+                batches.add(batch);
+            }
+            batch.add(resource.getObject());
+        }
+        return batches;
     }
 
     public String getUUIDFor(Object o) {
@@ -23,11 +23,17 @@ import com.yahoo.elide.core.type.Type;
 import java.io.Closeable;
 import java.io.Serializable;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 /**
  * Wraps the Database Transaction type.
  */
 public interface DataStoreTransaction extends Closeable {
+    /**
+     * Returned by the bulk operations of stores which can not run them without loading the objects.
+     */
+    long BULK_UNSUPPORTED = -1;
+
     /**
      * Save the updated object.
      *
@@ -46,6 +52,61 @@ public interface DataStoreTransaction extends Closeable {
      */
     <T> void delete(T entity, RequestScope scope);
 
+    /**
+     * Save a batch of updated objects of the same type.  Stores which can write many objects in one round trip
+     * should override this method.  The default implementation saves each object individually.
+     *
+     * @param entities - the objects to save.
+     * @param scope - contains request level metadata.
+     * @param <T> The model type being saved.
+     */
+    default <T> void saveAll(Iterable<T> entities, RequestScope scope) {
+        entities.forEach(entity -> save(entity, scope));
+    }
+
+    /**
+     * Delete a batch of objects of the same type.  Stores which can delete many objects in one round trip
+     * should override this method.  The default implementation deletes each object individually.
+     *
+     * @param entities - the objects to delete.
+     * @param scope - contains request level metadata.
+     * @param <T> The model type being deleted.
+     */
+    default <T> void deleteAll(Iterable<T> entities, RequestScope scope) {
+        entities.forEach(entity -> delete(entity, scope));
+    }
+
+    /**
+     * Sets attributes of every object of a type matching a filter with one set based operation, without loading
+     * the objects.  The operation runs immediately and bypasses any objects already loaded by the transaction.
+     * Stores which can run such an operation should override this method.  The default implementation returns
+     * {@link #BULK_UNSUPPORTED} and callers then load and save the objects instead.
+     *
+     * @param projection - the type and filter of the objects to update.  A pagination limit caps the number of
+     *                   objects updated.
+     * @param attributes - the new values by attribute name.
+     * @param scope - contains request level metadata.
+     * @return the number of objects updated or BULK_UNSUPPORTED.
+     */
+    default long bulkUpdate(EntityProjection projection, Map<String, Object> attributes, RequestScope scope) {
+        return BULK_UNSUPPORTED;
+    }
+
+    /**
+     * Deletes every object of a type matching a filter with one set based operation, without loading the objects.
+     * The operation runs immediately and does not cascade.  Stores which can run such an operation should
+     * override this method.  The default implementation returns {@link #BULK_UNSUPPORTED} and callers then load
+     * and delete the objects instead.
+     *
+     * @param projection - the type and filter of the objects to delete.  A pagination limit caps the number of
+     *                   objects deleted.
+     * @param scope - contains request level metadata.
+     * @return the number of objects deleted or BULK_UNSUPPORTED.
+     */
+    default long bulkDelete(EntityProjection projection, RequestScope scope) {
+        return BULK_UNSUPPORTED;
+    }
+
     /**
      * Write any outstanding entities before processing response.
      *
@@ -83,6 +144,19 @@ public interface DataStoreTransaction extends Closeable {
      */
     <T> void createObject(T entity, RequestScope scope);
 
+    /**
+     * Create a batch of objects of the same type.  Elide populates every object before calling this method.
+     * Stores which can insert many objects in one round trip should override this method.  The default
+     * implementation creates each object individually.
+     *
+     * @param entities - the objects to create in the data store.
+     * @param scope - contains request level metadata.
+     * @param <T> The model type being created.
+     */
+    default <T> void createObjects(Iterable<T> entities, RequestScope scope) {
+        entities.forEach(entity -> createObject(entity, scope));
+    }
+
     /**
      * Create a new instance of an object.
      *
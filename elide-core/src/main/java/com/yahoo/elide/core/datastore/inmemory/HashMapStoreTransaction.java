@@ -23,11 +23,14 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.BiPredicate;
 
 /**
  * HashMapDataStore transaction handler.
@@ -111,12 +114,27 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
 
     @Override
     public void createObject(Object entity, RequestScope scope) {
+        createObject(entity, this::containsObject);
+    }
+
+    @Override
+    public <T> void createObjects(Iterable<T> entities, RequestScope scope) {
+        // Snapshot the stored objects of each type once rather than scanning the store for every new object.
+        Map<Type<?>, Set<Object>> storedObjects = new HashMap<>();
+        BiPredicate<Type<?>, Object> contains = (type, obj) -> storedObjects
+                .computeIfAbsent(type, key -> new HashSet<>(dataStore.get(key).values()))
+                .contains(obj);
+
+        entities.forEach(entity -> createObject(entity, contains));
+    }
+
+    private void createObject(Object entity, BiPredicate<Type<?>, Object> contains) {
         Type entityClass = EntityDictionary.getType(entity);
 
         String idFieldName = dictionary.getIdFieldName(entityClass);
         String id;
 
-        if (containsObject(entity)) {
+        if (contains.test(entityClass, entity)) {
             throw new TransactionException(new IllegalStateException("Duplicate key"));
         }
 
@@ -130,7 +148,7 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
             id = dictionary.getId(entity);
         }
 
-        replicateOperationToParent(entity, Operation.OpType.CREATE);
+        replicateOperationToParent(entity, Operation.OpType.CREATE, contains);
         operations.add(new Operation(id, entity, EntityDictionary.getType(entity), Operation.OpType.CREATE));
     }
 
@@ -216,10 +234,6 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
         this.rollbackCache.clear();
     }
 
-    private boolean containsObject(Object obj) {
-        return containsObject(EntityDictionary.getType(obj), obj);
-    }
-
     private boolean containsObject(Type<?> clazz, Object obj) {
         return dataStore.get(clazz).containsValue(obj);
     }
@@ -230,9 +244,14 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
     }
 
     private void replicateOperationToParent(Object entity, Operation.OpType opType) {
+        replicateOperationToParent(entity, opType, this::containsObject);
+    }
+
+    private void replicateOperationToParent(Object entity, Operation.OpType opType,
+            BiPredicate<Type<?>, Object> contains) {
         dictionary.getSuperClassEntities(EntityDictionary.getType(entity)).stream()
             .forEach(superClass -> {
-                if (opType.equals(Operation.OpType.CREATE) && containsObject(superClass, entity)) {
+                if (opType.equals(Operation.OpType.CREATE) && contains.test(superClass, entity)) {
                     throw new TransactionException(new IllegalStateException("Duplicate key in Parent"));
                 }
                 String id = dictionary.getId(entity);
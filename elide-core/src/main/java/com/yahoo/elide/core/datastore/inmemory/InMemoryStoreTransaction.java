@@ -133,6 +133,26 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         tx.delete(entity, scope);
     }
 
+    @Override
+    public <T> void saveAll(Iterable<T> entities, RequestScope scope) {
+        tx.saveAll(entities, scope);
+    }
+
+    @Override
+    public <T> void deleteAll(Iterable<T> entities, RequestScope scope) {
+        tx.deleteAll(entities, scope);
+    }
+
+    @Override
+    public long bulkUpdate(EntityProjection projection, Map<String, Object> attributes, RequestScope scope) {
+        return tx.bulkUpdate(projection, attributes, scope);
+    }
+
+    @Override
+    public long bulkDelete(EntityProjection projection, RequestScope scope) {
+        return tx.bulkDelete(projection, scope);
+    }
+
     @Override
     public void preCommit(RequestScope scope) {
         tx.preCommit(scope);
@@ -201,6 +221,11 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         tx.createObject(entity, scope);
     }
 
+    @Override
+    public <T> void createObjects(Iterable<T> entities, RequestScope scope) {
+        tx.createObjects(entities, scope);
+    }
+
     private DataStoreIterable<Object> filterLoadedData(DataStoreIterable<Object> loadedRecords,
                                                 Optional<FilterExpression> filterExpression,
                                                 RequestScope scope) {
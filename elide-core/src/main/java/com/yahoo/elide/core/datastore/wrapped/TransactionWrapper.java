@@ -18,6 +18,7 @@ import lombok.Data;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -85,6 +86,27 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         tx.delete(o, requestScope);
     }
 
+    @Override
+    public <T> void saveAll(Iterable<T> entities, RequestScope requestScope) {
+        tx.saveAll(entities, requestScope);
+    }
+
+    @Override
+    public <T> void deleteAll(Iterable<T> entities, RequestScope requestScope) {
+        tx.deleteAll(entities, requestScope);
+    }
+
+    @Override
+    public long bulkUpdate(EntityProjection projection, Map<String, Object> attributes,
+            RequestScope requestScope) {
+        return tx.bulkUpdate(projection, attributes, requestScope);
+    }
+
+    @Override
+    public long bulkDelete(EntityProjection projection, RequestScope requestScope) {
+        return tx.bulkDelete(projection, requestScope);
+    }
+
     @Override
     public void flush(RequestScope requestScope) {
         tx.flush(requestScope);
@@ -100,6 +122,11 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         tx.createObject(o, requestScope);
     }
 
+    @Override
+    public <T> void createObjects(Iterable<T> entities, RequestScope requestScope) {
+        tx.createObjects(entities, requestScope);
+    }
+
     @Override
     public <T> DataStoreIterable<T> loadObjects(EntityProjection projection, RequestScope scope) {
         return tx.loadObjects(projection, scope);
@@ -374,11 +374,13 @@ public class JsonApiAtomicOperations {
                 }
                 String fullPath = path + "/" + id;
                 // Defer relationship updating until the end
-                getSingleResource(resources).setRelationships(null);
-                // Reparse since we mangle it first
-                action.doc = requestScope.getMapper().forAtomicOperations().readData(dataValue);
-                action.path = fullPath;
-                action.isPostProcessing = true;
+                if (hasRelationships(getSingleResource(resources))) {
+                    getSingleResource(resources).setRelationships(null);
+                    // Reparse since we mangle it first
+                    action.doc = requestScope.getMapper().forAtomicOperations().readData(dataValue);
+                    action.path = fullPath;
+                    action.isPostProcessing = true;
+                }
             }
             PostVisitor visitor = new PostVisitor(new JsonApiAtomicOperationsRequestScope(path, value, requestScope));
             return visitor.visit(JsonApiParser.parse(path));
@@ -402,11 +404,13 @@ public class JsonApiAtomicOperations {
                 Data<Resource> data = value.getData();
                 Collection<Resource> resources = data.get();
                 // Defer relationship updating until the end
-                getSingleResource(resources).setRelationships(null);
-                // Reparse since we mangle it first
-                action.doc = requestScope.getMapper().forAtomicOperations().readData(dataValue);
-                action.path = path;
-                action.isPostProcessing = true;
+                if (hasRelationships(getSingleResource(resources))) {
+                    getSingleResource(resources).setRelationships(null);
+                    // Reparse since we mangle it first
+                    action.doc = requestScope.getMapper().forAtomicOperations().readData(dataValue);
+                    action.path = path;
+                    action.isPostProcessing = true;
+                }
             }
             // Defer relationship updating until the end
             PatchVisitor visitor = new PatchVisitor(new JsonApiAtomicOperationsRequestScope(path, value, requestScope));
@@ -594,6 +598,13 @@ public class JsonApiAtomicOperations {
         return Collections.singleton(trimmed);
     }
 
+    /**
+     * Resources without relationships do not need a second pass to update their relationships.
+     */
+    private static boolean hasRelationships(Resource resource) {
+        return resource.getRelationships() != null && !resource.getRelationships().isEmpty();
+    }
+
     private static Resource getSingleResource(Collection<Resource> resources) {
         if (resources == null || resources.size() != 1) {
             throw new InvalidEntityBodyException("Expected single resource.");
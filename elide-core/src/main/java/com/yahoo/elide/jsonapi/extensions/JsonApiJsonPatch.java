@@ -225,11 +225,13 @@ public class JsonApiJsonPatch {
                 }
                 String fullPath = path + "/" + id;
                 // Defer relationship updating until the end
-                getSingleResource(resources).setRelationships(null);
-                // Reparse since we mangle it first
-                action.doc = requestScope.getMapper().forJsonPatch().readValue(patchValue);
-                action.path = fullPath;
-                action.isPostProcessing = true;
+                if (hasRelationships(getSingleResource(resources))) {
+                    getSingleResource(resources).setRelationships(null);
+                    // Reparse since we mangle it first
+                    action.doc = requestScope.getMapper().forJsonPatch().readValue(patchValue);
+                    action.path = fullPath;
+                    action.isPostProcessing = true;
+                }
             }
             PostVisitor visitor = new PostVisitor(new JsonApiJsonPatchRequestScope(path, value, requestScope));
             return visitor.visit(JsonApiParser.parse(path));
@@ -253,11 +255,13 @@ public class JsonApiJsonPatch {
                 Data<Resource> data = value.getData();
                 Collection<Resource> resources = data.get();
                 // Defer relationship updating until the end
-                getSingleResource(resources).setRelationships(null);
-                // Reparse since we mangle it first
-                action.doc = requestScope.getMapper().forJsonPatch().readValue(patchVal);
-                action.path = path;
-                action.isPostProcessing = true;
+                if (hasRelationships(getSingleResource(resources))) {
+                    getSingleResource(resources).setRelationships(null);
+                    // Reparse since we mangle it first
+                    action.doc = requestScope.getMapper().forJsonPatch().readValue(patchVal);
+                    action.path = path;
+                    action.isPostProcessing = true;
+                }
             }
             // Defer relationship updating until the end
             PatchVisitor visitor = new PatchVisitor(new JsonApiJsonPatchRequestScope(path, value, requestScope));
@@ -442,6 +446,13 @@ public class JsonApiJsonPatch {
         return Collections.singleton(trimmed);
     }
 
+    /**
+     * Resources without relationships do not need a second pass to update their relationships.
+     */
+    private static boolean hasRelationships(Resource resource) {
+        return resource.getRelationships() != null && !resource.getRelationships().isEmpty();
+    }
+
     private static Resource getSingleResource(Collection<Resource> resources) {
         if (resources == null || resources.size() != 1) {
             throw new InvalidEntityBodyException("Expected single resource.");
@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
@@ -125,6 +126,9 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
     @BeforeEach
     public void beforeTest() {
         reset(tx);
+        // Batched writes fall back to the single entity methods verified by these tests.
+        doCallRealMethod().when(tx).createObjects(any(), any());
+        doCallRealMethod().when(tx).saveAll(any(), any());
     }
 
     @Test
@@ -2230,6 +2234,26 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
         assertTrue(goodScope.isNewResource(parent));
     }
 
+    @Test
+    public void testCreateObjectsBatchedByType() {
+        Parent parent1 = newParent(1);
+        Parent parent2 = newParent(2);
+        Child child = newChild(3);
+        RequestScope goodScope = buildRequestScope(tx, goodUser);
+        when(tx.createNewObject(ClassType.of(Parent.class), goodScope)).thenReturn(parent1, parent2);
+        when(tx.createNewObject(ClassType.of(Child.class), goodScope)).thenReturn(child);
+
+        PersistentResource.createObject(ClassType.of(Parent.class), goodScope, Optional.of("1"));
+        PersistentResource.createObject(ClassType.of(Parent.class), goodScope, Optional.of("2"));
+        PersistentResource.createObject(ClassType.of(Child.class), goodScope, Optional.of("3"));
+
+        goodScope.saveOrCreateObjects();
+
+        verify(tx, times(1)).createObjects(List.of(parent1, parent2), goodScope);
+        verify(tx, times(1)).createObjects(List.of(child), goodScope);
+        verify(tx, times(3)).createObject(any(), eq(goodScope));
+    }
+
     @Test()
     public void testCreateMappedIdObjectSuccess() {
         final Job job = new Job();
@@ -2408,7 +2432,7 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
         assertEquals(1, child.getParents().size(), "The non-owning relationship should also be updated");
         assertTrue(child.getParents().contains(parent), "The non-owning relationship should also be updated");
 
-        reset(tx);
+        beforeTest();
         when(tx.getToManyRelation(any(), eq(parent), any(), any()))
                 .thenReturn(new DataStoreIterableBuilder(parent.getChildren()).build());
 
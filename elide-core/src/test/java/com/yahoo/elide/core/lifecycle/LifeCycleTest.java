@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -106,7 +107,7 @@ public class LifeCycleTest {
     @Test
     public void testElideCreate() throws Exception {
         DataStore store = mock(DataStore.class);
-        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx = mockTransaction();
         FieldTestModel mockModel = mock(FieldTestModel.class);
 
         Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
@@ -153,7 +154,7 @@ public class LifeCycleTest {
     @Test
     public void testLegacyElideCreate() throws Exception {
         DataStore store = mock(DataStore.class);
-        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx = mockTransaction();
         LegacyTestModel mockModel = mock(LegacyTestModel.class);
 
         Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
@@ -396,7 +397,7 @@ public class LifeCycleTest {
     @Test
     public void testElidePatch() throws Exception {
         DataStore store = mock(DataStore.class);
-        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx = mockTransaction();
         FieldTestModel mockModel = mock(FieldTestModel.class);
 
         Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
@@ -478,7 +479,7 @@ public class LifeCycleTest {
     @Test
     public void testLegacyElidePatch() throws Exception {
         DataStore store = mock(DataStore.class);
-        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx = mockTransaction();
         LegacyTestModel mockModel = mock(LegacyTestModel.class);
 
         Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
@@ -608,7 +609,7 @@ public class LifeCycleTest {
     @Test
     public void testElidePatchExtensionCreate() throws Exception {
         DataStore store = mock(DataStore.class);
-        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx = mockTransaction();
         FieldTestModel mockModel = mock(FieldTestModel.class);
 
         Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
@@ -659,7 +660,7 @@ public class LifeCycleTest {
     @Test
     public void testLegacyElidePatchExtensionCreate() throws Exception {
         DataStore store = mock(DataStore.class);
-        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx = mockTransaction();
         LegacyTestModel mockModel = mock(LegacyTestModel.class);
 
         Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
@@ -798,9 +799,9 @@ public class LifeCycleTest {
 
         verify(tx).preCommit(any());
 
-        // Twice because the patch extension request is broken into attributes &
+        // Once because the update has no relationships so it is not broken into attributes &
         // relationships separately.
-        verify(tx, times(2)).loadObject(any(), any(), isA(RequestScope.class));
+        verify(tx, times(1)).loadObject(any(), any(), isA(RequestScope.class));
         verify(tx).flush(isA(RequestScope.class));
         verify(tx).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -900,7 +901,7 @@ public class LifeCycleTest {
     @Test
     public void testElideAtomicOperationsExtensionCreate() throws Exception {
         DataStore store = mock(DataStore.class);
-        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx = mockTransaction();
         FieldTestModel mockModel = mock(FieldTestModel.class);
 
         Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
@@ -961,7 +962,7 @@ public class LifeCycleTest {
     @Test
     public void testElideAtomicOperationsExtensionCreateRef() throws Exception {
         DataStore store = mock(DataStore.class);
-        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx = mockTransaction();
         FieldTestModel mockModel = mock(FieldTestModel.class);
 
         Elide elide = getElide(store, dictionary, MOCK_AUDIT_LOGGER);
@@ -1142,9 +1143,9 @@ public class LifeCycleTest {
 
         verify(tx).preCommit(any());
 
-        // Twice because the patch extension request is broken into attributes &
+        // Once because the update has no relationships so it is not broken into attributes &
         // relationships separately.
-        verify(tx, times(2)).loadObject(any(), any(), isA(RequestScope.class));
+        verify(tx, times(1)).loadObject(any(), any(), isA(RequestScope.class));
         verify(tx).flush(isA(RequestScope.class));
         verify(tx).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -1208,9 +1209,9 @@ public class LifeCycleTest {
 
         verify(tx).preCommit(any());
 
-        // Twice because the patch extension request is broken into attributes &
+        // Once because the update has no relationships so it is not broken into attributes &
         // relationships separately.
-        verify(tx, times(2)).loadObject(any(), any(), isA(RequestScope.class));
+        verify(tx, times(1)).loadObject(any(), any(), isA(RequestScope.class));
         verify(tx).flush(isA(RequestScope.class));
         verify(tx).commit(isA(RequestScope.class));
         verify(tx).close();
@@ -1784,6 +1785,17 @@ public class LifeCycleTest {
                 .build();
     }
 
+    /**
+     * Mocks a transaction whose batch writes delegate to the single entity writes verified by these tests.
+     */
+    private static DataStoreTransaction mockTransaction() {
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        doCallRealMethod().when(tx).createObjects(any(), any());
+        doCallRealMethod().when(tx).saveAll(any(), any());
+        doCallRealMethod().when(tx).deleteAll(any(), any());
+        return tx;
+    }
+
     private RequestScope buildRequestScope(EntityDictionary dict, DataStoreTransaction tx) {
         User user = new TestUser("1");
 
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi.extensions;
+
+import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.HttpStatus;
+import com.yahoo.elide.jsonapi.JsonApi;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import example.Company;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Sends requests of 10,000 operations through the Atomic Operations and JSON Patch extensions and reports how long
+ * they take, creating resources first and then updating each of them.
+ * <p>
+ * Excluded from the default build.  Run it with {@code mvn test -Dtest=JsonApiOperationsLoadTest -DexcludeTags=}.
+ */
+@Tag("load")
+@Slf4j
+public class JsonApiOperationsLoadTest {
+    private static final String BASE_URL = "http://localhost:8080/api/v1";
+    private static final int OPERATIONS = 10_000;
+    private static final int WARMUP_OPERATIONS = 1_000;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testAtomicOperations() throws Exception {
+        run("atomic operations", JsonApi.AtomicOperations.MEDIA_TYPE, this::atomicOperations);
+    }
+
+    @Test
+    public void testJsonPatch() throws Exception {
+        run("json patch", JsonApi.JsonPatch.MEDIA_TYPE, this::jsonPatch);
+    }
+
+    private void run(String name, String contentType, BiFunction<String, Integer, String> body) {
+        send(elide(), contentType, body, WARMUP_OPERATIONS);
+        System.gc();
+
+        send(elide(), contentType, body, OPERATIONS);
+        long[] elapsed = send(elide(), contentType, body, OPERATIONS);
+
+        log.info("{}: {} creates in {} ms ({} operations/s), {} updates in {} ms ({} operations/s)",
+                name, OPERATIONS, elapsed[0] / 1_000_000, OPERATIONS * 1_000_000_000L / elapsed[0],
+                OPERATIONS, elapsed[1] / 1_000_000, OPERATIONS * 1_000_000_000L / elapsed[1]);
+    }
+
+    /**
+     * Creates the resources in one request and updates them in another.
+     *
+     * @return the nanoseconds taken by each request
+     */
+    private long[] send(Elide elide, String contentType, BiFunction<String, Integer, String> body, int operations) {
+        long[] elapsed = new long[2];
+        List<String> ops = List.of("add", "update");
+        for (int i = 0; i < ops.size(); i++) {
+            String document = body.apply(ops.get(i), operations);
+            long start = System.nanoTime();
+            ElideResponse response = JsonApi.AtomicOperations.MEDIA_TYPE.equals(contentType)
+                    ? elide.operations(BASE_URL, contentType, contentType, "/", document, null, NO_VERSION)
+                    : elide.patch(BASE_URL, contentType, contentType, "/", document, null, NO_VERSION);
+            elapsed[i] = System.nanoTime() - start;
+            assertEquals(HttpStatus.SC_OK, response.getResponseCode(), response.getBody());
+        }
+        return elapsed;
+    }
+
+    private String atomicOperations(String op, int operations) {
+        ArrayNode operationsNode = mapper.createArrayNode();
+        for (int i = 1; i <= operations; i++) {
+            ObjectNode operation = operationsNode.addObject();
+            operation.put("op", op);
+            operation.put("href", "add".equals(op) ? "/company" : "/company/" + i);
+            operation.set("data", company(i, op));
+        }
+        ObjectNode document = mapper.createObjectNode();
+        document.set("atomic:operations", operationsNode);
+        return document.toString();
+    }
+
+    private String jsonPatch(String op, int operations) {
+        ArrayNode document = mapper.createArrayNode();
+        for (int i = 1; i <= operations; i++) {
+            ObjectNode operation = document.addObject();
+            operation.put("op", "add".equals(op) ? "add" : "replace");
+            operation.put("path", "add".equals(op) ? "/company" : "/company/" + i);
+            operation.set("value", company(i, op));
+        }
+        return document.toString();
+    }
+
+    private ObjectNode company(int id, String op) {
+        ObjectNode company = mapper.createObjectNode();
+        company.put("type", "company");
+        company.put("id", String.valueOf(id));
+        company.putObject("attributes").put("description", op + " " + id);
+        return company;
+    }
+
+    private static Elide elide() {
+        HashMapDataStore dataStore = new HashMapDataStore(List.of(Company.class));
+        EntityDictionary dictionary = EntityDictionary.builder().build();
+        Elide elide = new Elide(new ElideSettingsBuilder(dataStore).withEntityDictionary(dictionary).build());
+        elide.doScans();
+        return elide;
+    }
+}
@@ -17,6 +17,7 @@ import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.utils.DefaultClassScanner;
@@ -32,6 +33,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -183,6 +185,30 @@ public class HashMapDataStoreTest {
         }
     }
 
+    @Test
+    public void testCreateObjects() throws Exception {
+        FirstBean existing = createNewInheritanceObject(FirstBean.class);
+
+        FirstBean first = new FirstBean();
+        first.name = "first";
+        FirstChildBean second = new FirstChildBean();
+        second.name = "second";
+
+        try (DataStoreTransaction t = hashMapDataStore.beginTransaction()) {
+            t.createObjects(List.of(first, second), null);
+            t.commit(null);
+        }
+
+        assertEquals("2", first.getId());
+        assertEquals("3", second.getId());
+        assertEquals(3, hashMapDataStore.get(ClassType.of(FirstBean.class)).size());
+        assertEquals(1, hashMapDataStore.get(ClassType.of(FirstChildBean.class)).size());
+
+        try (DataStoreTransaction t = hashMapDataStore.beginTransaction()) {
+            assertThrows(TransactionException.class, () -> t.createObjects(List.of(existing), null));
+        }
+    }
+
     @Test
     public void testCanGenerateIdsAfterDataCommitted() throws Exception {
         // given an object with a non-generated ID has been created
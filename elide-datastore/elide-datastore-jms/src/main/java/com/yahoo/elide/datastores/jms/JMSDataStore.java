@@ -43,6 +43,9 @@ public class JMSDataStore implements DataStore {
 
     protected long timeoutInMs = -1;
 
+    //Shares topic consumers between subscriptions or null for a consumer per subscription.
+    protected TopicFanOut fanOut;
+
     //For serializing Elide models to topics.
     protected Gson gson;
 
@@ -58,6 +61,25 @@ public class JMSDataStore implements DataStore {
             ConnectionFactory connectionFactory,
             EntityDictionary dictionary,
             Duration timeout
+    ) {
+        this(models, connectionFactory, dictionary, timeout, null);
+    }
+
+    /**
+     * Constructor.
+     * @param models The set of models to manage.
+     * @param connectionFactory The JMS connection factory.
+     * @param dictionary The entity dictionary.
+     * @param timeout request timeout in milliseconds. 0 means immediate. null means no timeout.
+     * @param fanOut Shares one consumer per topic between all subscriptions.  null means a consumer
+     *               per subscription.
+     */
+    public JMSDataStore(
+            Set<Type<?>> models,
+            ConnectionFactory connectionFactory,
+            EntityDictionary dictionary,
+            Duration timeout,
+            TopicFanOut fanOut
     ) {
         this.models = models.stream().collect(Collectors.toMap(
                 model -> model,
@@ -72,6 +94,7 @@ public class JMSDataStore implements DataStore {
         this.connectionFactory = connectionFactory;
         this.dictionary = dictionary;
         this.timeoutInMs = timeout != null ? timeout.toMillis() : -1;
+        this.fanOut = fanOut;
 
         GsonBuilder gsonBuilder = new GsonBuilder();
         CoerceUtil.getSerdes().forEach((cls, serde) -> {
@@ -92,12 +115,31 @@ public class JMSDataStore implements DataStore {
             ConnectionFactory connectionFactory,
             EntityDictionary dictionary,
             Duration timeout
+    ) {
+        this(scanner, connectionFactory, dictionary, timeout, null);
+    }
+
+    /**
+     * Constructor.
+     * @param scanner to scan for subscription annotations.
+     * @param connectionFactory The JMS connection factory.
+     * @param dictionary The entity dictionary.
+     * @param timeout request timeout in milliseconds. 0 means immediate. null means no timeout.
+     * @param fanOut Shares one consumer per topic between all subscriptions.  null means a consumer
+     *               per subscription.
+     */
+    public JMSDataStore(
+            ClassScanner scanner,
+            ConnectionFactory connectionFactory,
+            EntityDictionary dictionary,
+            Duration timeout,
+            TopicFanOut fanOut
     ) {
         this(
                 scanner.getAnnotatedClasses(Subscription.class, Include.class).stream()
                         .map(ClassType::of)
                         .collect(Collectors.toSet()),
-                connectionFactory, dictionary, timeout);
+                connectionFactory, dictionary, timeout, fanOut);
     }
 
     @Override
@@ -122,6 +164,9 @@ public class JMSDataStore implements DataStore {
 
     @Override
     public DataStoreTransaction beginTransaction() {
+        if (fanOut != null) {
+            return new JMSDataStoreTransaction(fanOut, dictionary, gson, timeoutInMs);
+        }
         JMSContext context = connectionFactory.createContext();
         return new JMSDataStoreTransaction(context, dictionary, gson, timeoutInMs);
     }
@@ -39,6 +39,8 @@ public class JMSDataStoreTransaction implements DataStoreTransaction {
     private Gson gson;
     private long timeoutInMs;
     private List<JMSConsumer> consumers;
+    private TopicFanOut fanOut;
+    private List<TopicSubscription<?>> subscriptions;
 
     /**
      * Constructor.
@@ -53,6 +55,19 @@ public class JMSDataStoreTransaction implements DataStoreTransaction {
         this.dictionary = dictionary;
         this.timeoutInMs = timeoutInMs;
         this.consumers = new ArrayList<>();
+        this.subscriptions = new ArrayList<>();
+    }
+
+    /**
+     * Constructor.
+     * @param fanOut Shares topic consumers between transactions.
+     * @param dictionary Elide Entity Dictionary
+     * @param gson Gson serializer to convert Elide models to topic messages.
+     * @param timeoutInMs request timeout in milliseconds.  0 means immediate.  -1 means no timeout.
+     */
+    public JMSDataStoreTransaction(TopicFanOut fanOut, EntityDictionary dictionary, Gson gson, long timeoutInMs) {
+        this((JMSContext) null, dictionary, gson, timeoutInMs);
+        this.fanOut = fanOut;
     }
 
     @Override
@@ -86,6 +101,14 @@ public class JMSDataStoreTransaction implements DataStoreTransaction {
 
         String topicName = topicType.toTopicName(entityProjection.getType(), dictionary);
 
+        if (fanOut != null) {
+            TopicSubscription<T> subscription = fanOut.subscribe(topicName,
+                    new MessageDeserializer<>(entityProjection.getType(), gson), timeoutInMs,
+                    entityProjection.getFilterExpression(), scope);
+            subscriptions.add(subscription);
+            return subscription;
+        }
+
         Destination destination = context.createTopic(topicName);
         JMSConsumer consumer = context.createConsumer(destination);
 
@@ -111,6 +134,11 @@ public class JMSDataStoreTransaction implements DataStoreTransaction {
     }
 
     private void shutdown() {
+        subscriptions.forEach(TopicSubscription::close);
+        subscriptions.clear();
+        if (context == null) {
+            return;
+        }
         try {
             consumers.forEach(JMSConsumer::close);
             context.stop();
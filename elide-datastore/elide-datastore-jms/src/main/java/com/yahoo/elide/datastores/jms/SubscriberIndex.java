@@ -0,0 +1,255 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.jms;
+
+import static com.yahoo.elide.core.type.ClassType.COLLECTION_TYPE;
+import static com.yahoo.elide.core.type.ClassType.MAP_TYPE;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.InMemoryFilterExecutor;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Matches the messages of a topic against the filters of its subscriptions.
+ * <p>
+ * Subscriptions with identical filters share one compiled predicate which is evaluated once per message.
+ * Filters which test a single attribute for equality are indexed by value so that a message only reaches the
+ * matching subscriptions after one lookup per indexed attribute, independent of the number of subscriptions.
+ * <p>
+ * Changes are made under the lock of the owning {@link TopicFanOut} and publish an immutable snapshot which
+ * message delivery reads without locking.
+ */
+@Slf4j
+class SubscriberIndex {
+    private final Map<TopicSubscription<?>, Subscriber> subscribers = new LinkedHashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+
+    /**
+     * Adds a subscription.
+     * @param subscription The subscription.
+     * @param filterExpression The filter of the subscription or null to receive every message.
+     * @param scope The request scope of the subscription used to evaluate its filter.
+     */
+    void add(TopicSubscription<?> subscription, FilterExpression filterExpression, RequestScope scope) {
+        subscribers.put(subscription, new Subscriber(subscription, filterExpression, scope));
+        snapshot = new Snapshot(subscribers.values());
+    }
+
+    /**
+     * Removes a subscription.
+     * @param subscription The subscription.
+     * @return true if the subscription was part of this index.
+     */
+    boolean remove(TopicSubscription<?> subscription) {
+        if (subscribers.remove(subscription) == null) {
+            return false;
+        }
+        snapshot = new Snapshot(subscribers.values());
+        return true;
+    }
+
+    boolean isEmpty() {
+        return subscribers.isEmpty();
+    }
+
+    Collection<TopicSubscription<?>> getSubscriptions() {
+        return new ArrayList<>(subscribers.keySet());
+    }
+
+    /**
+     * Hands a message to every subscription whose filter matches it.
+     * @param model The deserialized message.
+     */
+    void deliver(Object model) {
+        snapshot.deliver(model);
+    }
+
+    private static class Subscriber {
+        private final TopicSubscription<?> subscription;
+        private final FilterExpression filterExpression;
+        private final RequestScope scope;
+
+        Subscriber(TopicSubscription<?> subscription, FilterExpression filterExpression, RequestScope scope) {
+            this.subscription = subscription;
+            this.filterExpression = filterExpression;
+            this.scope = scope;
+        }
+
+        /**
+         * Subscribers with the same key can share a compiled filter.
+         * <p>
+         * Filter expressions compare structurally by path, operator and typed values.  Their string form is not
+         * a key since different filters can print the same.
+         */
+        Object groupKey() {
+            // Computed attributes may depend on the user so their filters are not shared.
+            EntityDictionary dictionary = scope.getDictionary();
+            boolean computed = filterExpression.accept(new PredicateExtractionVisitor()).stream()
+                    .flatMap(predicate -> predicate.getPath().getPathElements().stream())
+                    .anyMatch(element -> dictionary.isComputed(element.getType(), element.getFieldName()));
+
+            return computed ? this : filterExpression;
+        }
+    }
+
+    /**
+     * Subscriptions sharing one filter.
+     */
+    private static class FilterGroup {
+        private final List<TopicSubscription<?>> subscriptions = new ArrayList<>();
+        private final Predicate<Object> predicate;
+        private final String field;
+        private final List<Object> values;
+        private final Function<Object, Object> fieldValue;
+
+        @SuppressWarnings("unchecked")
+        FilterGroup(FilterExpression filterExpression, RequestScope scope) {
+            this.predicate = filterExpression.accept(new InMemoryFilterExecutor(scope));
+
+            FilterPredicate equality = equalityPredicate(filterExpression, scope.getDictionary());
+            if (equality == null) {
+                field = null;
+                values = null;
+                fieldValue = null;
+            } else {
+                Type<?> fieldType = equality.getFieldType();
+                field = equality.getField();
+                values = equality.getValues().stream()
+                        .map(value -> (Object) CoerceUtil.coerce(value, fieldType))
+                        .distinct()
+                        .toList();
+                fieldValue = model -> scope.getDictionary().getValue(model, field, scope);
+            }
+        }
+
+        boolean test(Object model) {
+            try {
+                return predicate.test(model);
+            } catch (RuntimeException e) {
+                log.debug("Unable to evaluate subscription filter: {}", e.getMessage());
+                return false;
+            }
+        }
+
+        void offer(Object model) {
+            subscriptions.forEach(subscription -> subscription.offer(model));
+        }
+
+        /**
+         * Returns the predicate if the filter only tests one attribute of the model for equality.
+         */
+        private static FilterPredicate equalityPredicate(FilterExpression filterExpression,
+                EntityDictionary dictionary) {
+            if (!(filterExpression instanceof FilterPredicate predicate)
+                    || predicate.getOperator() != Operator.IN
+                    || predicate.getValues().isEmpty()) {
+                return null;
+            }
+
+            List<Path.PathElement> elements = predicate.getPath().getPathElements();
+            if (elements.size() != 1) {
+                return null;
+            }
+
+            Path.PathElement element = elements.get(0);
+            Type<?> fieldType = element.getFieldType();
+            if (fieldType == null
+                    || COLLECTION_TYPE.isAssignableFrom(fieldType)
+                    || MAP_TYPE.isAssignableFrom(fieldType)
+                    || dictionary.isRelation(element.getType(), element.getFieldName())
+                    || dictionary.isComputed(element.getType(), element.getFieldName())) {
+                return null;
+            }
+            return predicate;
+        }
+    }
+
+    /**
+     * Groups of subscriptions indexed by attribute value.
+     */
+    private static class FieldIndex {
+        private final Function<Object, Object> fieldValue;
+        private final Map<Object, List<FilterGroup>> groups = new HashMap<>();
+
+        FieldIndex(Function<Object, Object> fieldValue) {
+            this.fieldValue = fieldValue;
+        }
+
+        void offer(Object model) {
+            Object value;
+            try {
+                value = fieldValue.apply(model);
+            } catch (RuntimeException e) {
+                log.debug("Unable to read subscription filter field: {}", e.getMessage());
+                return;
+            }
+            if (value != null) {
+                groups.getOrDefault(value, List.of()).forEach(group -> group.offer(model));
+            }
+        }
+    }
+
+    /**
+     * Immutable view of the subscriptions used to deliver messages.
+     */
+    private static class Snapshot {
+        private final List<TopicSubscription<?>> unfiltered = new ArrayList<>();
+        private final Map<String, FieldIndex> indexed = new HashMap<>();
+        private final List<FilterGroup> scanned = new ArrayList<>();
+
+        Snapshot(Collection<Subscriber> subscribers) {
+            Map<Object, FilterGroup> groups = new LinkedHashMap<>();
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.filterExpression == null) {
+                    unfiltered.add(subscriber.subscription);
+                    continue;
+                }
+                groups.computeIfAbsent(subscriber.groupKey(),
+                        key -> new FilterGroup(subscriber.filterExpression, subscriber.scope))
+                        .subscriptions.add(subscriber.subscription);
+            }
+
+            for (FilterGroup group : groups.values()) {
+                if (group.field == null) {
+                    scanned.add(group);
+                    continue;
+                }
+                FieldIndex index = indexed.computeIfAbsent(group.field, field -> new FieldIndex(group.fieldValue));
+                group.values.forEach(value ->
+                        index.groups.computeIfAbsent(value, unused -> new ArrayList<>()).add(group));
+            }
+        }
+
+        void deliver(Object model) {
+            unfiltered.forEach(subscription -> subscription.offer(model));
+            indexed.values().forEach(index -> index.offer(model));
+            scanned.forEach(group -> {
+                if (group.test(model)) {
+                    group.offer(model);
+                }
+            });
+        }
+    }
+}
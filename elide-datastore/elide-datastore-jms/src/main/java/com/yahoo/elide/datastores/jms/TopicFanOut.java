@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.jms;
+
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSConsumer;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSRuntimeException;
+import jakarta.jms.Message;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Node local hub which shares one JMS consumer per topic between all subscriptions on that topic.
+ * <p>
+ * Each message is deserialized once and then handed to every subscription on the topic whose filter matches
+ * (see {@link SubscriberIndex}).  Every subscription
+ * buffers messages in its own bounded queue and the {@link OverflowPolicy} decides what happens when a slow
+ * subscriber's queue is full.  Each topic is consumed by its own JMS session so a blocked topic does not
+ * delay the others.
+ */
+@Slf4j
+public class TopicFanOut implements Closeable {
+    public static final int DEFAULT_BUFFER_SIZE = 1000;
+
+    /**
+     * What to do with a message when a subscriber's buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Discard the oldest buffered message to make room for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Discard the new message.
+         */
+        DROP_NEWEST,
+
+        /**
+         * Wait until the subscriber has room.  This stops delivery to every subscriber of the topic.
+         */
+        BLOCK
+    }
+
+    private final ConnectionFactory connectionFactory;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Map<String, Topic> topics = new HashMap<>();
+    private JMSContext context;
+
+    /**
+     * Constructor.
+     * @param connectionFactory The JMS connection factory.
+     */
+    public TopicFanOut(ConnectionFactory connectionFactory) {
+        this(connectionFactory, DEFAULT_BUFFER_SIZE, OverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Constructor.
+     * @param connectionFactory The JMS connection factory.
+     * @param bufferSize The maximum number of undelivered messages buffered per subscription.
+     * @param overflowPolicy What to do with a message when a subscription's buffer is full.
+     */
+    public TopicFanOut(ConnectionFactory connectionFactory, int bufferSize, OverflowPolicy overflowPolicy) {
+        this.connectionFactory = connectionFactory;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Subscribes to a topic.  The first subscription of a topic creates the topic consumer and decides how its
+     * messages are deserialized.
+     * @param topicName The JMS topic name.
+     * @param messageConverter Converts JMS messages into models.
+     * @param timeoutInMs The timeout to wait on messages.  0 means no wait.  Less than 0 means wait forever.
+     * @param <T> The model type.
+     * @return The subscription.  It must be closed to stop receiving messages.
+     */
+    public <T> TopicSubscription<T> subscribe(
+            String topicName,
+            Function<Message, T> messageConverter,
+            long timeoutInMs
+    ) {
+        return subscribe(topicName, messageConverter, timeoutInMs, null, null);
+    }
+
+    /**
+     * Subscribes to the messages of a topic which match a filter.  The first subscription of a topic creates the
+     * topic consumer and decides how its messages are deserialized.
+     * @param topicName The JMS topic name.
+     * @param messageConverter Converts JMS messages into models.
+     * @param timeoutInMs The timeout to wait on messages.  0 means no wait.  Less than 0 means wait forever.
+     * @param filterExpression Only messages matching this filter are delivered.  null means every message.
+     * @param scope The request scope used to evaluate the filter.
+     * @param <T> The model type.
+     * @return The subscription.  It must be closed to stop receiving messages.
+     */
+    public synchronized <T> TopicSubscription<T> subscribe(
+            String topicName,
+            Function<Message, T> messageConverter,
+            long timeoutInMs,
+            FilterExpression filterExpression,
+            RequestScope scope
+    ) {
+        if (context == null) {
+            context = connectionFactory.createContext();
+        }
+
+        Topic topic = topics.computeIfAbsent(topicName, name -> new Topic(name, messageConverter));
+        TopicSubscription<T> subscription = new TopicSubscription<>(this, bufferSize, overflowPolicy, timeoutInMs);
+        topic.subscribers.add(subscription, filterExpression, scope);
+        return subscription;
+    }
+
+    /**
+     * Returns the number of topics with at least one subscription.
+     * @return the number of topic consumers.
+     */
+    public synchronized int getTopicCount() {
+        return topics.size();
+    }
+
+    synchronized void unsubscribe(TopicSubscription<?> subscription) {
+        topics.values().removeIf(topic -> {
+            if (topic.subscribers.remove(subscription) && topic.subscribers.isEmpty()) {
+                topic.close();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    @Override
+    public synchronized void close() {
+        topics.values().forEach(topic -> {
+            topic.subscribers.getSubscriptions().forEach(TopicSubscription::end);
+            topic.close();
+        });
+        topics.clear();
+        if (context != null) {
+            try {
+                context.close();
+            } catch (JMSRuntimeException e) {
+                log.debug("Exception throws while closing context: {}", e.getMessage());
+            }
+            context = null;
+        }
+    }
+
+    /**
+     * One consumer of a JMS topic and the subscriptions it delivers to.
+     */
+    private class Topic {
+        private final SubscriberIndex subscribers = new SubscriberIndex();
+        private final JMSContext topicContext;
+        private final JMSConsumer consumer;
+
+        Topic(String topicName, Function<Message, ?> messageConverter) {
+            topicContext = context.createContext(JMSContext.AUTO_ACKNOWLEDGE);
+            consumer = topicContext.createConsumer(topicContext.createTopic(topicName));
+            consumer.setMessageListener(message -> {
+                Object model;
+                try {
+                    model = messageConverter.apply(message);
+                } catch (RuntimeException e) {
+                    log.error("Unable to deserialize message from topic {}", topicName, e);
+                    return;
+                }
+                subscribers.deliver(model);
+            });
+            topicContext.start();
+        }
+
+        void close() {
+            try {
+                consumer.close();
+                topicContext.close();
+            } catch (JMSRuntimeException e) {
+                log.debug("Exception throws while closing context: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.jms;
+
+import com.yahoo.elide.core.datastore.DataStoreIterable;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A subscription to a topic shared through a {@link TopicFanOut}.  Messages are buffered in a bounded queue
+ * until the subscriber iterates over them.
+ * @param <T> The model type of the topic.
+ */
+public class TopicSubscription<T> implements DataStoreIterable<T>, Closeable {
+    private static final Object END = new Object();
+    private static final long BLOCK_POLL_MS = 100;
+
+    private final TopicFanOut fanOut;
+    private final TopicFanOut.OverflowPolicy overflowPolicy;
+    private final long timeout;
+    private final BlockingQueue<Object> queue;
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor.
+     * @param fanOut The hub which delivers messages to this subscription.
+     * @param bufferSize The maximum number of undelivered messages.
+     * @param overflowPolicy What to do with a message when the buffer is full.
+     * @param timeout The timeout to wait on messages.  0 means no wait.  Less than 0 means wait forever.
+     */
+    TopicSubscription(TopicFanOut fanOut, int bufferSize, TopicFanOut.OverflowPolicy overflowPolicy, long timeout) {
+        this.fanOut = fanOut;
+        this.overflowPolicy = overflowPolicy;
+        this.timeout = timeout;
+        this.queue = new ArrayBlockingQueue<>(bufferSize + 1);
+    }
+
+    /**
+     * Returns the number of messages discarded because the buffer was full.
+     * @return the number of dropped messages.
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    /**
+     * Buffers a message for this subscriber applying the overflow policy when the buffer is full.
+     */
+    void offer(Object model) {
+        // One slot is reserved so that closing the subscription can always wake up a waiting subscriber.
+        while (!closed && queue.remainingCapacity() <= 1) {
+            switch (overflowPolicy) {
+                case DROP_NEWEST:
+                    droppedMessages.incrementAndGet();
+                    return;
+                case DROP_OLDEST:
+                    if (queue.poll() != null) {
+                        droppedMessages.incrementAndGet();
+                    }
+                    break;
+                default:
+                    try {
+                        Thread.sleep(BLOCK_POLL_MS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+            }
+        }
+        if (!closed) {
+            queue.offer(model);
+        }
+    }
+
+    /**
+     * Stops iteration without unsubscribing.
+     */
+    void end() {
+        closed = true;
+        queue.clear();
+        queue.offer(END);
+    }
+
+    @Override
+    public void close() {
+        end();
+        fanOut.unsubscribe(this);
+    }
+
+    @Override
+    public Iterable<T> getWrappedIterable() {
+        return this;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        // The wrapped iterable is this subscription so the default implementation would recurse.
+        iterator().forEachRemaining(action);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            T next;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    next = next();
+                } catch (NoSuchElementException e) {
+                    return false;
+                }
+
+                return true;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (next != null) {
+                    T result = next;
+                    next = null;
+                    return result;
+                }
+
+                Object model;
+                try {
+                    if (timeout == 0) {
+                        model = queue.poll();
+                    } else if (timeout > 0) {
+                        model = queue.poll(timeout, TimeUnit.MILLISECONDS);
+                    } else {
+                        model = queue.take();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new NoSuchElementException();
+                }
+
+                if (model == null || model == END) {
+                    if (model == END) {
+                        // Leave the marker for any other iterator.
+                        queue.offer(END);
+                    }
+                    throw new NoSuchElementException();
+                }
+                return (T) model;
+            }
+        };
+    }
+
+    @Override
+    public boolean needsInMemoryFilter() {
+        // The fan out only delivers messages which match the subscription filter.
+        return false;
+    }
+
+    @Override
+    public boolean needsInMemorySort() {
+        return true;
+    }
+
+    @Override
+    public boolean needsInMemoryPagination() {
+        return true;
+    }
+}
@@ -17,6 +17,7 @@ import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.ErrorMapper;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.datastores.jms.JMSDataStore;
+import com.yahoo.elide.datastores.jms.TopicFanOut;
 import com.yahoo.elide.graphql.ExecutionResultDeserializer;
 import com.yahoo.elide.graphql.ExecutionResultSerializer;
 import com.yahoo.elide.graphql.GraphQLErrorDeserializer;
@@ -36,6 +37,8 @@ import lombok.Builder;
 
 import java.time.Duration;
 import java.util.Calendar;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Initializes and configures the subscription web socket.
@@ -79,6 +82,15 @@ public class SubscriptionWebSocketConfigurator extends ServerEndpointConfig.Conf
     @Builder.Default
     protected DataFetcherExceptionHandler dataFetcherExceptionHandler = new SimpleDataFetcherExceptionHandler();
 
+    //Shares one consumer per topic between all web socket subscriptions.  null means a consumer per subscription.
+    protected TopicFanOut topicFanOut;
+
+    //Runs the subscriptions of all web sockets.  null means a thread pool per web socket.
+    protected ExecutorService executorService;
+
+    //Drives the connection timeouts of all web sockets.  null means a timer thread per web socket.
+    protected ScheduledExecutorService connectionTimeoutScheduler;
+
     @Override
     public <T> T getEndpointInstance(Class<T> endpointClass) throws InstantiationException {
         if (endpointClass.equals(SubscriptionWebSocket.class)) {
@@ -121,7 +133,7 @@ public class SubscriptionWebSocketConfigurator extends ServerEndpointConfig.Conf
     protected DataStore buildDataStore(EntityDictionary dictionary) {
         return new JMSDataStore(
                 dictionary.getScanner(),
-                connectionFactory, dictionary, null);
+                connectionFactory, dictionary, null, topicFanOut);
     }
 
     protected SubscriptionWebSocket buildWebSocket(Elide elide) {
@@ -133,6 +145,8 @@ public class SubscriptionWebSocketConfigurator extends ServerEndpointConfig.Conf
 
         return SubscriptionWebSocket.builder()
                 .elide(elide)
+                .executorService(executorService)
+                .connectionTimeoutScheduler(connectionTimeoutScheduler)
                 .connectionTimeout(connectionTimeout)
                 .maxSubscriptions(maxSubscriptions)
                 .maxMessageSize(maxMessageSize)
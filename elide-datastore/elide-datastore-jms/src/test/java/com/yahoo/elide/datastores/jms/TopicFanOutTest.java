@@ -0,0 +1,234 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import example.Book;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSConsumer;
+import jakarta.jms.JMSContext;
+import jakarta.jms.Message;
+import jakarta.jms.MessageListener;
+import jakarta.jms.TextMessage;
+import jakarta.jms.Topic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class TopicFanOutTest {
+    private ConnectionFactory connectionFactory;
+    private JMSContext topicContext;
+    private JMSConsumer consumer;
+    private EntityDictionary dictionary;
+    private RequestScope scope;
+
+    private static final Function<Message, String> CONVERTER = message -> {
+        try {
+            return ((TextMessage) message).getText();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    };
+
+    private static final Function<Message, Book> BOOK_CONVERTER = message -> {
+        Book book = new Book();
+        book.setTitle(CONVERTER.apply(message));
+        return book;
+    };
+
+    @BeforeEach
+    public void setup() {
+        dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Book.class);
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(dictionary);
+
+        connectionFactory = mock(ConnectionFactory.class);
+        JMSContext context = mock(JMSContext.class);
+        topicContext = mock(JMSContext.class);
+        consumer = mock(JMSConsumer.class);
+
+        when(connectionFactory.createContext()).thenReturn(context);
+        when(context.createContext(anyInt())).thenReturn(topicContext);
+        when(topicContext.createTopic(any())).thenReturn(mock(Topic.class));
+        when(topicContext.createConsumer(any())).thenReturn(consumer);
+    }
+
+    @Test
+    public void testSubscriptionsShareOneConsumer() throws Exception {
+        TopicFanOut fanOut = new TopicFanOut(connectionFactory);
+
+        TopicSubscription<String> sub1 = fanOut.subscribe("bookAdded", CONVERTER, 0);
+        TopicSubscription<String> sub2 = fanOut.subscribe("bookAdded", CONVERTER, 0);
+
+        assertEquals(1, fanOut.getTopicCount());
+        verify(topicContext, times(1)).createConsumer(any());
+
+        MessageListener listener = listener();
+        listener.onMessage(message("1"));
+        listener.onMessage(message("2"));
+
+        assertEquals(List.of("1", "2"), drain(sub1));
+        assertEquals(List.of("1", "2"), drain(sub2));
+
+        sub1.close();
+        assertEquals(1, fanOut.getTopicCount());
+        sub2.close();
+        assertEquals(0, fanOut.getTopicCount());
+        verify(consumer, times(1)).close();
+    }
+
+    @Test
+    public void testDropOldest() throws Exception {
+        TopicFanOut fanOut = new TopicFanOut(connectionFactory, 2, TopicFanOut.OverflowPolicy.DROP_OLDEST);
+        TopicSubscription<String> sub = fanOut.subscribe("bookAdded", CONVERTER, 0);
+
+        MessageListener listener = listener();
+        listener.onMessage(message("1"));
+        listener.onMessage(message("2"));
+        listener.onMessage(message("3"));
+
+        assertEquals(List.of("2", "3"), drain(sub));
+        assertEquals(1, sub.getDroppedMessages());
+    }
+
+    @Test
+    public void testDropNewest() throws Exception {
+        TopicFanOut fanOut = new TopicFanOut(connectionFactory, 2, TopicFanOut.OverflowPolicy.DROP_NEWEST);
+        TopicSubscription<String> sub = fanOut.subscribe("bookAdded", CONVERTER, 0);
+
+        MessageListener listener = listener();
+        listener.onMessage(message("1"));
+        listener.onMessage(message("2"));
+        listener.onMessage(message("3"));
+
+        assertEquals(List.of("1", "2"), drain(sub));
+        assertEquals(1, sub.getDroppedMessages());
+    }
+
+    @Test
+    public void testCloseEndsSubscriptions() throws Exception {
+        TopicFanOut fanOut = new TopicFanOut(connectionFactory);
+        TopicSubscription<String> sub = fanOut.subscribe("bookAdded", CONVERTER, -1);
+
+        listener().onMessage(message("1"));
+        fanOut.close();
+
+        assertEquals(0, fanOut.getTopicCount());
+        assertFalse(sub.iterator().hasNext());
+    }
+
+    @Test
+    public void testEqualityFiltersAreIndexed() throws Exception {
+        TopicFanOut fanOut = new TopicFanOut(connectionFactory);
+
+        TopicSubscription<Book> sub1 = fanOut.subscribe("bookAdded", BOOK_CONVERTER, 0,
+                titleFilter(Operator.IN, "A"), scope);
+        TopicSubscription<Book> sub2 = fanOut.subscribe("bookAdded", BOOK_CONVERTER, 0,
+                titleFilter(Operator.IN, "B"), scope);
+        TopicSubscription<Book> sub3 = fanOut.subscribe("bookAdded", BOOK_CONVERTER, 0,
+                titleFilter(Operator.IN, "A", "C"), scope);
+
+        MessageListener listener = listener();
+        for (String title : List.of("A", "B", "C", "D")) {
+            listener.onMessage(message(title));
+        }
+
+        assertEquals(List.of("A"), titles(sub1));
+        assertEquals(List.of("B"), titles(sub2));
+        assertEquals(List.of("A", "C"), titles(sub3));
+        assertFalse(sub1.needsInMemoryFilter());
+    }
+
+    @Test
+    public void testSharedAndUnfilteredSubscriptions() throws Exception {
+        TopicFanOut fanOut = new TopicFanOut(connectionFactory);
+
+        TopicSubscription<Book> sub1 = fanOut.subscribe("bookAdded", BOOK_CONVERTER, 0,
+                titleFilter(Operator.PREFIX, "En"), scope);
+        TopicSubscription<Book> sub2 = fanOut.subscribe("bookAdded", BOOK_CONVERTER, 0,
+                titleFilter(Operator.PREFIX, "En"), scope);
+        TopicSubscription<Book> sub3 = fanOut.subscribe("bookAdded", BOOK_CONVERTER, 0, null, null);
+
+        MessageListener listener = listener();
+        listener.onMessage(message("Enders Game"));
+        listener.onMessage(message("Grapes of Wrath"));
+
+        assertEquals(List.of("Enders Game"), titles(sub1));
+        assertEquals(List.of("Enders Game"), titles(sub2));
+        assertEquals(List.of("Enders Game", "Grapes of Wrath"), titles(sub3));
+
+        sub1.close();
+        listener.onMessage(message("Ender in Exile"));
+        assertEquals(List.of("Ender in Exile"), titles(sub2));
+    }
+
+    @Test
+    public void testFiltersPrintingTheSameAreNotShared() throws Exception {
+        TopicFanOut fanOut = new TopicFanOut(connectionFactory);
+
+        FilterPredicate oneValue = titleFilter(Operator.IN, "a, b");
+        FilterPredicate twoValues = titleFilter(Operator.IN, "a", "b");
+        assertEquals(oneValue.toString(), twoValues.toString());
+
+        TopicSubscription<Book> sub1 = fanOut.subscribe("bookAdded", BOOK_CONVERTER, 0, oneValue, scope);
+        TopicSubscription<Book> sub2 = fanOut.subscribe("bookAdded", BOOK_CONVERTER, 0, twoValues, scope);
+
+        MessageListener listener = listener();
+        for (String title : List.of("a, b", "a", "b")) {
+            listener.onMessage(message(title));
+        }
+
+        assertEquals(List.of("a, b"), titles(sub1));
+        assertEquals(List.of("a", "b"), titles(sub2));
+    }
+
+    private FilterPredicate titleFilter(Operator operator, Object... values) {
+        return new FilterPredicate(new Path(Book.class, dictionary, "title"), operator, List.of(values));
+    }
+
+    private static List<String> titles(TopicSubscription<Book> subscription) {
+        List<String> results = new ArrayList<>();
+        subscription.forEach(book -> results.add(book.getTitle()));
+        return results;
+    }
+
+    private MessageListener listener() {
+        ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(consumer).setMessageListener(captor.capture());
+        return captor.getValue();
+    }
+
+    private static TextMessage message(String text) throws Exception {
+        TextMessage message = mock(TextMessage.class);
+        when(message.getText()).thenReturn(text);
+        return message;
+    }
+
+    private static List<String> drain(TopicSubscription<String> subscription) {
+        List<String> results = new ArrayList<>();
+        subscription.forEach(results::add);
+        return results;
+    }
+}
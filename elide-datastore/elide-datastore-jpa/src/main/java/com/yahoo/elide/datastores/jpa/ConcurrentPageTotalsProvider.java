@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpa;
+
+import static com.yahoo.elide.datastores.jpa.JpaDataStore.DEFAULT_LOGGER;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.utils.TimedFunction;
+import com.yahoo.elide.datastores.jpa.porting.EntityManagerWrapper;
+import com.yahoo.elide.datastores.jpql.PageTotalsProvider;
+import com.yahoo.elide.datastores.jpql.porting.Query;
+import com.yahoo.elide.datastores.jpql.porting.QueryLogger;
+import com.yahoo.elide.datastores.jpql.query.RootCollectionPageTotalsQueryBuilder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs page total queries on a separate entity manager so that they execute concurrently with the fetch query.
+ * <p>
+ * The entity manager supplier must return a new entity manager that is not bound to the request's transaction,
+ * for example {@code entityManagerFactory::createEntityManager} of a (possibly read replica) persistence unit.
+ * Because the count runs in its own session, it does not see the uncommitted writes of the request: totals of a
+ * collection read after the request created or deleted members in the same transaction count the committed rows.
+ * <p>
+ * When an estimator is configured, unfiltered collections whose estimated size is at least the estimate threshold
+ * are reported with the estimate instead of an exact count.
+ */
+@Slf4j
+public class ConcurrentPageTotalsProvider implements PageTotalsProvider {
+    private final JpaDataStore.EntityManagerSupplier entityManagerSupplier;
+    private final Executor executor;
+    private final QueryLogger logger;
+    private final PageTotalsEstimator estimator;
+    private final long estimateThreshold;
+
+    public ConcurrentPageTotalsProvider(JpaDataStore.EntityManagerSupplier entityManagerSupplier,
+            Executor executor) {
+        this(entityManagerSupplier, executor, DEFAULT_LOGGER, null, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param entityManagerSupplier Supplies the entity manager that runs the count queries
+     * @param executor Runs the count queries
+     * @param logger Logs queries
+     * @param estimator Estimates the size of unfiltered collections or null to always count
+     * @param estimateThreshold The minimum estimated size at which the estimate replaces the exact count
+     */
+    public ConcurrentPageTotalsProvider(JpaDataStore.EntityManagerSupplier entityManagerSupplier,
+            Executor executor, QueryLogger logger, PageTotalsEstimator estimator, long estimateThreshold) {
+        this.entityManagerSupplier = entityManagerSupplier;
+        this.executor = executor;
+        this.logger = logger;
+        this.estimator = estimator;
+        this.estimateThreshold = estimateThreshold;
+    }
+
+    @Override
+    public CompletableFuture<Long> getPageTotals(EntityProjection projection, EntityDictionary dictionary) {
+        return CompletableFuture.supplyAsync(() -> count(projection, dictionary), executor);
+    }
+
+    protected Long count(EntityProjection projection, EntityDictionary dictionary) {
+        EntityManager entityManager = entityManagerSupplier.get();
+        try {
+            // This entity manager only runs the count, so there is nothing of its own to flush.  The request's
+            // uncommitted writes live in a different session and are not visible here.
+            entityManager.setFlushMode(FlushModeType.COMMIT);
+
+            if (estimator != null && projection.getFilterExpression() == null) {
+                Optional<Long> estimate = estimate(entityManager, projection, dictionary);
+                if (estimate.isPresent() && estimate.get() >= estimateThreshold) {
+                    return estimate.get();
+                }
+            }
+
+            Query query = new RootCollectionPageTotalsQueryBuilder(projection, dictionary,
+                    new EntityManagerWrapper(entityManager, logger)).build();
+
+            return new TimedFunction<Long>(() -> query.uniqueResult(), "Query Hash: " + query.hashCode()).get();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private Optional<Long> estimate(EntityManager entityManager, EntityProjection projection,
+            EntityDictionary dictionary) {
+        try {
+            return estimator.estimate(entityManager, projection.getType(), dictionary);
+        } catch (RuntimeException e) {
+            log.debug("Unable to estimate page totals, falling back to count: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
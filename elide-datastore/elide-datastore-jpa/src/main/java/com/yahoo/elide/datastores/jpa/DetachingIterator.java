@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpa;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Detaches rows from the persistence context once the caller has moved past them so that iterating a large
+ * result does not grow the persistence context.
+ * <p>
+ * A row is only detached after the next row has been requested so the current row stays managed while
+ * the caller processes it.
+ *
+ * @param <T> type of return object
+ */
+public class DetachingIterator<T> implements Iterator<T> {
+    private final Iterator<T> rows;
+    private final Consumer<T> detach;
+    private final int detachInterval;
+    private final List<T> returned = new ArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param rows The rows to iterate
+     * @param detach Detaches a row from the persistence context
+     * @param detachInterval The number of rows returned between detaching them
+     */
+    public DetachingIterator(Iterator<T> rows, Consumer<T> detach, int detachInterval) {
+        this.rows = rows;
+        this.detach = detach;
+        this.detachInterval = Math.max(1, detachInterval);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return rows.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (returned.size() >= detachInterval) {
+            returned.forEach(detach);
+            returned.clear();
+        }
+        T row = rows.next();
+        returned.add(row);
+        return row;
+    }
+}
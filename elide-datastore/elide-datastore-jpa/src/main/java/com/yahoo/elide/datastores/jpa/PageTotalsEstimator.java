@@ -0,0 +1,150 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpa;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.type.Type;
+import org.apache.commons.lang3.StringUtils;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Estimates the number of rows of an entity table from database statistics instead of running a COUNT query.
+ * <p>
+ * Estimates are only meaningful for unfiltered collections and may lag the actual row count until the database
+ * refreshes its statistics.
+ */
+@FunctionalInterface
+public interface PageTotalsEstimator {
+
+    /**
+     * Estimates the number of rows of an entity table.
+     *
+     * @param entityManager The entity manager used to read the statistics
+     * @param entityClass The entity type
+     * @param dictionary The entity dictionary
+     * @return The estimated row count or empty if no estimate is available
+     */
+    Optional<Long> estimate(EntityManager entityManager, Type<?> entityClass, EntityDictionary dictionary);
+
+    /**
+     * Reads the planner row estimate from pg_class.
+     *
+     * @return PostgreSQL estimator
+     */
+    static PageTotalsEstimator postgres() {
+        return nativeQuery("SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass(?1)");
+    }
+
+    /**
+     * Reads the InnoDB row estimate from information_schema.
+     *
+     * @return MySQL / MariaDB estimator
+     */
+    static PageTotalsEstimator mysql() {
+        return nativeQuery("SELECT table_rows FROM information_schema.tables "
+                + "WHERE table_schema = DATABASE() AND table_name = ?1");
+    }
+
+    /**
+     * Builds an estimator from a native query that takes the table name as its only positional parameter
+     * and returns a single numeric column.  The candidate names of {@link #getTableNames} are tried in order.
+     *
+     * @param sql The native query
+     * @return estimator
+     */
+    static PageTotalsEstimator nativeQuery(String sql) {
+        return nativeQuery(sql, PageTotalsEstimator::getTableNames);
+    }
+
+    /**
+     * Builds an estimator from a native query that takes the table name as its only positional parameter
+     * and returns a single numeric column.
+     *
+     * @param sql The native query
+     * @param tableNames Resolves the candidate physical table names of an entity, tried in order
+     * @return estimator
+     */
+    static PageTotalsEstimator nativeQuery(String sql,
+            BiFunction<Type<?>, EntityDictionary, List<String>> tableNames) {
+        return (entityManager, entityClass, dictionary) -> {
+            for (String tableName : tableNames.apply(entityClass, dictionary)) {
+                List<?> results = entityManager.createNativeQuery(sql)
+                        .setParameter(1, tableName)
+                        .getResultList();
+
+                // Tables which do not exist or have never been analyzed report no, negative or zero estimates.
+                if (!results.isEmpty() && results.get(0) instanceof Number estimate && estimate.longValue() > 0) {
+                    return Optional.of(estimate.longValue());
+                }
+            }
+            return Optional.empty();
+        };
+    }
+
+    /**
+     * Returns the logical table name of an entity from its {@link Table} annotation or otherwise its entity name.
+     *
+     * @param entityClass The entity type
+     * @param dictionary The entity dictionary
+     * @return The table name
+     */
+    static String getTableName(Type<?> entityClass, EntityDictionary dictionary) {
+        Table table = dictionary.getAnnotation(entityClass, Table.class);
+        if (table == null || StringUtils.isBlank(table.name())) {
+            Entity entity = dictionary.getAnnotation(entityClass, Entity.class);
+            return entity == null || StringUtils.isBlank(entity.name()) ? entityClass.getSimpleName() : entity.name();
+        }
+        if (StringUtils.isBlank(table.schema())) {
+            return table.name();
+        }
+        return table.schema() + "." + table.name();
+    }
+
+    /**
+     * Returns the candidate physical table names of an entity.  JPA does not expose the physical naming strategy,
+     * so the logical name is followed by its snake case form, which naming strategies such as the Spring Boot
+     * default derive from camel case names.
+     *
+     * @param entityClass The entity type
+     * @param dictionary The entity dictionary
+     * @return The distinct candidate table names
+     */
+    static List<String> getTableNames(Type<?> entityClass, EntityDictionary dictionary) {
+        String tableName = getTableName(entityClass, dictionary);
+        String snakeCase = Arrays.stream(tableName.split("\\."))
+                .map(PageTotalsEstimator::toSnakeCase)
+                .collect(Collectors.joining("."));
+        return tableName.equals(snakeCase) ? List.of(tableName) : List.of(tableName, snakeCase);
+    }
+
+    /**
+     * Converts a camel case name to lower case words separated by underscores, e.g. PublisherBook to
+     * publisher_book.  Runs of capitals such as acronyms are kept together.
+     *
+     * @param name The name
+     * @return The snake case name
+     */
+    private static String toSnakeCase(String name) {
+        StringBuilder builder = new StringBuilder(name);
+        for (int i = 1; i < builder.length() - 1; i++) {
+            if (Character.isLowerCase(builder.charAt(i - 1)) && Character.isUpperCase(builder.charAt(i))
+                    && Character.isLowerCase(builder.charAt(i + 1))) {
+                builder.insert(i++, '_');
+            }
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -67,4 +67,14 @@ public class QueryWrapper implements Query {
     public <T> Iterable<T> list() {
         return query.getResultList();
     }
+
+    @Override
+    public boolean isUpdateSupported() {
+        return true;
+    }
+
+    @Override
+    public int executeUpdate() {
+        return query.executeUpdate();
+    }
 }
@@ -8,10 +8,16 @@ package com.yahoo.elide.datastores.jpa.transaction;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.datastores.jpa.DetachingIterator;
+import com.yahoo.elide.datastores.jpa.ScrollableIterator;
 import com.yahoo.elide.datastores.jpa.porting.EntityManagerWrapper;
+import com.yahoo.elide.datastores.jpa.porting.QueryWrapper;
 import com.yahoo.elide.datastores.jpa.transaction.checker.PersistentCollectionChecker;
 import com.yahoo.elide.datastores.jpql.JPQLTransaction;
+import com.yahoo.elide.datastores.jpql.PageTotalsProvider;
+import com.yahoo.elide.datastores.jpql.porting.Query;
 import com.yahoo.elide.datastores.jpql.porting.QueryLogger;
+import com.yahoo.elide.datastores.jpql.query.QueryTemplateCache;
 import org.apache.commons.collections4.CollectionUtils;
 
 import jakarta.persistence.EntityManager;
@@ -23,7 +29,9 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -37,6 +45,31 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
     public static final String ENTITY_MANAGER_PROPERTY = AbstractJpaTransaction.class.getPackage().getName()
             + ".entityManager";
 
+    /**
+     * Entity manager property which enables flushing and clearing the entity manager every N entities written
+     * by {@link #createObjects} and {@link #saveAll}.  Clearing detaches every entity, including those read
+     * before the batch or written by later deferred tasks, so it should only be enabled for bulk writes whose
+     * entities are not read again in the same transaction.  Deletes never clear the entity manager since
+     * detached entities cannot be removed.
+     */
+    public static final String BATCH_FLUSH_SIZE_PROPERTY = AbstractJpaTransaction.class.getPackage().getName()
+            + ".batchFlushSize";
+
+    /**
+     * Entity manager property which sets the JDBC fetch size of streamed root collections.
+     */
+    public static final String STREAMING_FETCH_SIZE_PROPERTY = AbstractJpaTransaction.class.getPackage().getName()
+            + ".streamingFetchSize";
+
+    /**
+     * Entity manager property which sets the number of streamed rows returned between detaching them.
+     */
+    public static final String STREAMING_DETACH_INTERVAL_PROPERTY =
+            AbstractJpaTransaction.class.getPackage().getName() + ".streamingDetachInterval";
+
+    public static final int DEFAULT_STREAMING_FETCH_SIZE = 1000;
+    public static final int DEFAULT_STREAMING_DETACH_INTERVAL = 1000;
+
     private static final Predicate<Collection<?>> IS_PERSISTENT_COLLECTION =
             new PersistentCollectionChecker();
 
@@ -57,7 +90,46 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
      */
     protected AbstractJpaTransaction(EntityManager em, Consumer<EntityManager> jpaTransactionCancel, QueryLogger logger,
             boolean delegateToInMemoryStore, boolean isScrollEnabled) {
-        super(new EntityManagerWrapper(em, logger), delegateToInMemoryStore, isScrollEnabled);
+        this(em, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled, null);
+    }
+
+    /**
+     * Creates a new JPA transaction.
+     *
+     * @param em The entity manager / session.
+     * @param jpaTransactionCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param isScrollEnabled Whether or not scrolling is enabled
+     * @param pageTotalsProvider Computes root collection page totals outside of this entity manager
+     *                           or null to count on this entity manager.
+     */
+    protected AbstractJpaTransaction(EntityManager em, Consumer<EntityManager> jpaTransactionCancel, QueryLogger logger,
+            boolean delegateToInMemoryStore, boolean isScrollEnabled, PageTotalsProvider pageTotalsProvider) {
+        this(em, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled, pageTotalsProvider, null);
+    }
+
+    /**
+     * Creates a new JPA transaction.
+     *
+     * @param em The entity manager / session.
+     * @param jpaTransactionCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param isScrollEnabled Whether or not scrolling is enabled
+     * @param pageTotalsProvider Computes root collection page totals outside of this entity manager
+     *                           or null to count on this entity manager.
+     * @param queryTemplateCache Reuses the JPQL of fetch queries with the same shape or null to disable.
+     */
+    protected AbstractJpaTransaction(EntityManager em, Consumer<EntityManager> jpaTransactionCancel, QueryLogger logger,
+            boolean delegateToInMemoryStore, boolean isScrollEnabled, PageTotalsProvider pageTotalsProvider,
+            QueryTemplateCache queryTemplateCache) {
+        super(new EntityManagerWrapper(em, logger), delegateToInMemoryStore, isScrollEnabled, pageTotalsProvider,
+                queryTemplateCache);
         this.em = em;
         this.jpaTransactionCancel = jpaTransactionCancel;
     }
@@ -72,6 +144,11 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
         deferredTasks.add(() -> em.remove(object));
     }
 
+    @Override
+    public <T> void deleteAll(Iterable<T> entities, RequestScope scope) {
+        deferredTasks.add(() -> entities.forEach(em::remove));
+    }
+
     @Override
     public <T> void save(T object, RequestScope scope) {
         deferredTasks.add(() -> {
@@ -81,6 +158,15 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
         });
     }
 
+    @Override
+    public <T> void saveAll(Iterable<T> entities, RequestScope scope) {
+        deferredTasks.add(() -> writeBatch(entities, entity -> {
+            if (!em.contains(entity)) {
+                em.merge(entity);
+            }
+        }));
+    }
+
     @Override
     public void flush(RequestScope requestScope) {
         if (!isOpen()) {
@@ -141,6 +227,69 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
         });
     }
 
+    @Override
+    public <T> void createObjects(Iterable<T> entities, RequestScope scope) {
+        deferredTasks.add(() -> writeBatch(entities, entity -> {
+            if (!em.contains(entity)) {
+                em.persist(entity);
+            }
+        }));
+    }
+
+    /**
+     * Writes a batch of entities as one deferred task.  When {@link #BATCH_FLUSH_SIZE_PROPERTY} is set the
+     * entity manager is flushed and cleared every N entities so the JDBC batches are sent while the
+     * persistence context stays bounded.
+     */
+    private <T> void writeBatch(Iterable<T> entities, Consumer<T> write) {
+        int batchFlushSize = getBatchFlushSize();
+        int count = 0;
+        for (T entity : entities) {
+            write.accept(entity);
+            if (batchFlushSize > 0 && ++count % batchFlushSize == 0 && em.getFlushMode() == FlushModeType.AUTO) {
+                em.flush();
+                em.clear();
+            }
+        }
+    }
+
+    private int getBatchFlushSize() {
+        return getIntProperty(BATCH_FLUSH_SIZE_PROPERTY, 0);
+    }
+
+    private int getIntProperty(String name, int defaultValue) {
+        Map<String, Object> properties = em.getProperties();
+        Object value = properties == null ? null : properties.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value.toString());
+    }
+
+    /**
+     * Streams root collections of request scopes which allow it rather than keeping them in the persistence
+     * context.  Streamed rows are loaded read-only and detached as the caller iterates past them so they must not
+     * be modified or revisited in the same transaction.
+     *
+     * @see RequestScope#isStreamResults()
+     */
+    @Override
+    protected <T> Iterable<T> scroll(Query query, RequestScope scope) {
+        if (!(query instanceof QueryWrapper) || !scope.isStreamResults()) {
+            return super.scroll(query, scope);
+        }
+
+        int fetchSize = getIntProperty(STREAMING_FETCH_SIZE_PROPERTY, DEFAULT_STREAMING_FETCH_SIZE);
+        int detachInterval = getIntProperty(STREAMING_DETACH_INTERVAL_PROPERTY, DEFAULT_STREAMING_DETACH_INTERVAL);
+
+        // Unknown hints are ignored by the JPA provider.
+        jakarta.persistence.Query jpaQuery = ((QueryWrapper) query).getQuery()
+                .setHint("org.hibernate.fetchSize", fetchSize)
+                .setHint("org.hibernate.readOnly", true)
+                .setHint("eclipselink.jdbc.fetch-size", fetchSize)
+                .setHint("eclipselink.read-only", true);
+
+        Iterator<T> rows = jpaQuery.getResultStream().iterator();
+        return new ScrollableIterator<>(new DetachingIterator<T>(rows, em::detach, detachInterval));
+    }
+
     /**
      * load a single record with id and filter.
      *
@@ -7,7 +7,9 @@ package com.yahoo.elide.datastores.jpa.transaction;
 
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.datastores.jpql.PageTotalsProvider;
 import com.yahoo.elide.datastores.jpql.porting.QueryLogger;
+import com.yahoo.elide.datastores.jpql.query.QueryTemplateCache;
 
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Status;
@@ -41,6 +43,44 @@ public class JtaTransaction extends AbstractJpaTransaction {
         this.transaction = transaction;
     }
 
+    /**
+     * Creates a new JPA transaction.
+     * @param entityManager The entity manager / session.
+     * @param txCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param isScrollEnabled Enables/disables scrollable iterators.
+     * @param pageTotalsProvider Computes root collection page totals outside of this entity manager.
+     */
+    public JtaTransaction(EntityManager entityManager, UserTransaction transaction, Consumer<EntityManager> txCancel,
+                          QueryLogger logger, boolean delegateToInMemoryStore, boolean isScrollEnabled,
+                          PageTotalsProvider pageTotalsProvider) {
+        this(entityManager, transaction, txCancel, logger, delegateToInMemoryStore, isScrollEnabled,
+                pageTotalsProvider, null);
+    }
+
+    /**
+     * Creates a new JPA transaction.
+     * @param entityManager The entity manager / session.
+     * @param txCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param isScrollEnabled Enables/disables scrollable iterators.
+     * @param pageTotalsProvider Computes root collection page totals outside of this entity manager.
+     * @param queryTemplateCache Reuses the JPQL of fetch queries with the same shape.
+     */
+    public JtaTransaction(EntityManager entityManager, UserTransaction transaction, Consumer<EntityManager> txCancel,
+                          QueryLogger logger, boolean delegateToInMemoryStore, boolean isScrollEnabled,
+                          PageTotalsProvider pageTotalsProvider, QueryTemplateCache queryTemplateCache) {
+        super(entityManager, txCancel, logger, delegateToInMemoryStore, isScrollEnabled, pageTotalsProvider,
+                queryTemplateCache);
+        this.transaction = transaction;
+    }
+
     private static UserTransaction lookupUserTransaction() {
         try {
             return (UserTransaction) new InitialContext().lookup("java:comp/UserTransaction");
@@ -8,7 +8,9 @@ package com.yahoo.elide.datastores.jpa.transaction;
 import static com.yahoo.elide.datastores.jpa.JpaDataStore.DEFAULT_LOGGER;
 
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.datastores.jpql.PageTotalsProvider;
 import com.yahoo.elide.datastores.jpql.porting.QueryLogger;
+import com.yahoo.elide.datastores.jpql.query.QueryTemplateCache;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
@@ -47,7 +49,49 @@ public class NonJtaTransaction extends AbstractJpaTransaction {
                              QueryLogger logger,
                              boolean delegateToInMemoryStore,
                              boolean isScrollEnabled) {
-        super(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled);
+        this(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled, null);
+    }
+
+    /**
+     * Creates a new Non-JTA, JPA transaction.
+     * @param entityManager The entity manager / session.
+     * @param jpaTransactionCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param isScrollEnabled Enables/disables scrollable iterators.
+     * @param pageTotalsProvider Computes root collection page totals outside of this entity manager.
+     */
+    public NonJtaTransaction(EntityManager entityManager, Consumer<EntityManager> jpaTransactionCancel,
+                             QueryLogger logger,
+                             boolean delegateToInMemoryStore,
+                             boolean isScrollEnabled,
+                             PageTotalsProvider pageTotalsProvider) {
+        this(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled,
+                pageTotalsProvider, null);
+    }
+
+    /**
+     * Creates a new Non-JTA, JPA transaction.
+     * @param entityManager The entity manager / session.
+     * @param jpaTransactionCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param isScrollEnabled Enables/disables scrollable iterators.
+     * @param pageTotalsProvider Computes root collection page totals outside of this entity manager.
+     * @param queryTemplateCache Reuses the JPQL of fetch queries with the same shape.
+     */
+    public NonJtaTransaction(EntityManager entityManager, Consumer<EntityManager> jpaTransactionCancel,
+                             QueryLogger logger,
+                             boolean delegateToInMemoryStore,
+                             boolean isScrollEnabled,
+                             PageTotalsProvider pageTotalsProvider,
+                             QueryTemplateCache queryTemplateCache) {
+        super(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled,
+                pageTotalsProvider, queryTemplateCache);
         this.transaction = entityManager.getTransaction();
         entityManager.clear();
     }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpa;
+
+import static com.yahoo.elide.datastores.jpa.JpaDataStore.DEFAULT_LOGGER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.type.ClassType;
+import example.Book;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.Query;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentPageTotalsProviderTest {
+    private static final long THRESHOLD = 1000;
+
+    private EntityDictionary dictionary;
+    private EntityManager entityManager;
+    private Query countQuery;
+    private AtomicInteger estimates;
+
+    @BeforeEach
+    public void setup() {
+        dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Book.class);
+
+        entityManager = mock(EntityManager.class);
+        countQuery = mock(Query.class);
+        when(entityManager.createQuery(anyString())).thenReturn(countQuery);
+        when(countQuery.setParameter(anyString(), any())).thenReturn(countQuery);
+        when(countQuery.getSingleResult()).thenReturn(7L);
+
+        estimates = new AtomicInteger();
+    }
+
+    @Test
+    public void testCountsBelowThreshold() {
+        assertEquals(7L, provider(estimator(THRESHOLD - 1)).getPageTotals(books(), dictionary).join());
+        assertEquals(1, estimates.get());
+        verify(entityManager).setFlushMode(FlushModeType.COMMIT);
+        verify(entityManager).close();
+    }
+
+    @Test
+    public void testEstimatesAtThreshold() {
+        assertEquals(THRESHOLD, provider(estimator(THRESHOLD)).getPageTotals(books(), dictionary).join());
+        verify(entityManager, never()).createQuery(anyString());
+        verify(entityManager).close();
+    }
+
+    @Test
+    public void testFilteredCollectionsAreCounted() throws Exception {
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .filterExpression(RSQLFilterDialect.builder().dictionary(dictionary).build()
+                        .parseFilterExpression("title==Foo", ClassType.of(Book.class), false))
+                .build();
+
+        assertEquals(7L, provider(estimator(THRESHOLD)).getPageTotals(projection, dictionary).join());
+        assertEquals(0, estimates.get());
+    }
+
+    @Test
+    public void testFallsBackToCount() {
+        // No estimate is available.
+        assertEquals(7L, provider((manager, type, unused) -> Optional.empty())
+                .getPageTotals(books(), dictionary).join());
+
+        // The estimate fails, e.g. because the statistics are not readable.
+        assertEquals(7L, provider((manager, type, unused) -> {
+            throw new IllegalStateException("permission denied for pg_class");
+        }).getPageTotals(books(), dictionary).join());
+    }
+
+    @Test
+    public void testClosesEntityManagerWhenCountFails() {
+        when(countQuery.getSingleResult()).thenThrow(new IllegalStateException("Connection reset"));
+
+        ConcurrentPageTotalsProvider provider = provider(null);
+        assertThrows(CompletionException.class, () -> provider.getPageTotals(books(), dictionary).join());
+        verify(entityManager).close();
+    }
+
+    private ConcurrentPageTotalsProvider provider(PageTotalsEstimator estimator) {
+        return new ConcurrentPageTotalsProvider(() -> entityManager, Runnable::run, DEFAULT_LOGGER, estimator,
+                THRESHOLD);
+    }
+
+    private PageTotalsEstimator estimator(long estimate) {
+        return (manager, type, unused) -> {
+            estimates.incrementAndGet();
+            return Optional.of(estimate);
+        };
+    }
+
+    private static EntityProjection books() {
+        return EntityProjection.builder().type(Book.class).build();
+    }
+}
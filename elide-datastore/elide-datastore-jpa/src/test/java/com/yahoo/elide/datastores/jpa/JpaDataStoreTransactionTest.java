@@ -9,37 +9,53 @@ import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static com.yahoo.elide.datastores.jpa.JpaDataStore.DEFAULT_LOGGER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreIterable;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.core.request.Relationship;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.datastores.jpa.transaction.AbstractJpaTransaction;
+import com.yahoo.elide.datastores.jpql.PageTotalsProvider;
 import example.Author;
 import example.Book;
 import org.hibernate.collection.spi.PersistentSet;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
 import jakarta.persistence.Query;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -62,6 +78,8 @@ public class JpaDataStoreTransactionTest {
         when(entityManager.createQuery(any(String.class))).thenReturn(query);
         when(query.setParameter(any(String.class), any())).thenReturn(query);
         when(query.setParameter(any(Integer.class), any())).thenReturn(query);
+        when(query.setFirstResult(anyInt())).thenReturn(query);
+        when(query.setMaxResults(anyInt())).thenReturn(query);
 
         scope = mock(RequestScope.class);
         when(scope.getDictionary()).thenReturn(dictionary);
@@ -99,6 +117,285 @@ public class JpaDataStoreTransactionTest {
         assertFalse(result.needsInMemoryPagination());
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testPageTotalsProvider(boolean hasResults) {
+        CompletableFuture<Long> pageTotals = new CompletableFuture<>();
+        PageTotalsProvider pageTotalsProvider = (projection, dictionary) -> pageTotals;
+
+        AbstractJpaTransaction tx = new AbstractJpaTransaction(entityManager, (unused) -> {
+        }, DEFAULT_LOGGER, false, false, pageTotalsProvider) {
+            @Override
+            public boolean isOpen() {
+                return false;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+        };
+
+        Pagination pagination = mock(Pagination.class);
+        when(pagination.returnPageTotals()).thenReturn(true);
+        when(pagination.getLimit()).thenReturn(10);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .pagination(pagination)
+                .build();
+
+        if (hasResults) {
+            when(query.getResultList()).thenReturn(List.of(mock(Book.class)));
+            pageTotals.complete(42L);
+        } else {
+            when(query.getResultList()).thenReturn(List.of());
+        }
+
+        tx.loadObjects(projection, scope);
+
+        if (hasResults) {
+            verify(pagination).setPageTotals(42L);
+        } else {
+            verify(pagination, never()).setPageTotals(any());
+            assertTrue(pageTotals.isCancelled());
+        }
+    }
+
+    @Test
+    public void testPageTotalsCancelledWhenFetchFails() {
+        CompletableFuture<Long> pageTotals = new CompletableFuture<>();
+        PageTotalsProvider pageTotalsProvider = (projection, dictionary) -> pageTotals;
+
+        EntityManager failingEntityManager = mock(EntityManager.class);
+        Query failingQuery = mock(Query.class);
+        when(failingEntityManager.createQuery(any(String.class))).thenReturn(failingQuery);
+        when(failingQuery.setFirstResult(anyInt())).thenReturn(failingQuery);
+        when(failingQuery.setMaxResults(anyInt())).thenReturn(failingQuery);
+        when(failingQuery.getResultList()).thenThrow(new IllegalStateException("Connection reset"));
+
+        AbstractJpaTransaction tx = new AbstractJpaTransaction(failingEntityManager, (unused) -> {
+        }, DEFAULT_LOGGER, false, false, pageTotalsProvider) {
+            @Override
+            public boolean isOpen() {
+                return false;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+        };
+
+        Pagination pagination = mock(Pagination.class);
+        when(pagination.returnPageTotals()).thenReturn(true);
+        when(pagination.getLimit()).thenReturn(10);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .pagination(pagination)
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> tx.loadObjects(projection, scope));
+        assertTrue(pageTotals.isCancelled());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 2})
+    public void testCreateObjectsFlushesInBatches(int batchFlushSize) {
+        EntityManager batchEntityManager = mock(EntityManager.class);
+        when(batchEntityManager.getFlushMode()).thenReturn(FlushModeType.AUTO);
+        if (batchFlushSize > 0) {
+            when(batchEntityManager.getProperties())
+                    .thenReturn(Map.of(AbstractJpaTransaction.BATCH_FLUSH_SIZE_PROPERTY, batchFlushSize));
+        }
+
+        AbstractJpaTransaction tx = new AbstractJpaTransaction(batchEntityManager, (unused) -> {
+        }, DEFAULT_LOGGER, false) {
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+        };
+
+        List<Book> books = List.of(new Book(), new Book(), new Book(), new Book(), new Book());
+        tx.createObjects(books, scope);
+        verify(batchEntityManager, never()).persist(any());
+
+        tx.flush(scope);
+
+        books.forEach(book -> verify(batchEntityManager).persist(book));
+        verify(batchEntityManager, times(batchFlushSize > 0 ? 2 : 0)).clear();
+        verify(batchEntityManager, times(batchFlushSize > 0 ? 3 : 1)).flush();
+    }
+
+    @Test
+    public void testDeleteAllDoesNotClear() {
+        EntityManager batchEntityManager = mock(EntityManager.class);
+        when(batchEntityManager.getFlushMode()).thenReturn(FlushModeType.AUTO);
+        when(batchEntityManager.getProperties())
+                .thenReturn(Map.of(AbstractJpaTransaction.BATCH_FLUSH_SIZE_PROPERTY, 2));
+
+        AbstractJpaTransaction tx = new AbstractJpaTransaction(batchEntityManager, (unused) -> {
+        }, DEFAULT_LOGGER, false) {
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+        };
+
+        List<Book> books = List.of(new Book(), new Book(), new Book(), new Book(), new Book());
+        tx.deleteAll(books, scope);
+        verify(batchEntityManager, never()).remove(any());
+
+        tx.flush(scope);
+
+        // Clearing in the middle of the batch would detach the remaining books before they are removed.
+        books.forEach(book -> verify(batchEntityManager).remove(book));
+        verify(batchEntityManager, never()).clear();
+        verify(batchEntityManager, times(1)).flush();
+    }
+
+    @Test
+    public void testStreamingDetachesReturnedRows() {
+        EntityManager streamingEntityManager = mock(EntityManager.class);
+        Query streamingQuery = mock(Query.class);
+        when(streamingEntityManager.createQuery(any(String.class))).thenReturn(streamingQuery);
+        when(streamingEntityManager.getProperties())
+                .thenReturn(Map.of(AbstractJpaTransaction.STREAMING_DETACH_INTERVAL_PROPERTY, 2));
+        when(streamingQuery.setHint(any(String.class), any())).thenReturn(streamingQuery);
+
+        List<Book> books = List.of(new Book(), new Book(), new Book(), new Book(), new Book());
+        when(streamingQuery.getResultStream()).thenReturn(books.stream());
+
+        RequestScope streamingScope = mock(RequestScope.class);
+        when(streamingScope.getDictionary()).thenReturn(dictionary);
+        when(streamingScope.isStreamResults()).thenReturn(true);
+
+        AbstractJpaTransaction tx = new AbstractJpaTransaction(streamingEntityManager, (unused) -> {
+        }, DEFAULT_LOGGER, false, true) {
+            @Override
+            public boolean isOpen() {
+                return false;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+        };
+
+        Iterator<Book> results = tx.<Book>loadObjects(EntityProjection.builder().type(Book.class).build(),
+                streamingScope).iterator();
+
+        verify(streamingQuery).setHint("org.hibernate.fetchSize", AbstractJpaTransaction.DEFAULT_STREAMING_FETCH_SIZE);
+        verify(streamingQuery).setHint("org.hibernate.readOnly", true);
+        verify(streamingQuery, never()).getResultList();
+
+        List<Book> returned = new ArrayList<>();
+        results.forEachRemaining(returned::add);
+
+        assertEquals(books, returned);
+        // Rows are detached once the caller has moved past them.
+        verify(streamingEntityManager).detach(books.get(0));
+        verify(streamingEntityManager).detach(books.get(3));
+        verify(streamingEntityManager, never()).detach(books.get(4));
+    }
+
+    @Test
+    public void testStreamingIgnoresRequestHeaders() {
+        EntityManager streamingEntityManager = mock(EntityManager.class);
+        Query streamingQuery = mock(Query.class);
+        when(streamingEntityManager.createQuery(any(String.class))).thenReturn(streamingQuery);
+
+        List<Book> books = List.of(new Book(), new Book());
+        when(streamingQuery.getResultStream()).thenReturn(books.stream());
+
+        // Only server side operations can enable streaming, not clients.
+        RequestScope clientScope = mock(RequestScope.class);
+        when(clientScope.getDictionary()).thenReturn(dictionary);
+        when(clientScope.getRequestHeaderByName("streamresults")).thenReturn("true");
+
+        AbstractJpaTransaction tx = new AbstractJpaTransaction(streamingEntityManager, (unused) -> {
+        }, DEFAULT_LOGGER, false, true) {
+            @Override
+            public boolean isOpen() {
+                return false;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+        };
+
+        List<Book> returned = new ArrayList<>();
+        tx.<Book>loadObjects(EntityProjection.builder().type(Book.class).build(), clientScope)
+                .forEach(returned::add);
+
+        assertEquals(books, returned);
+        verify(streamingQuery, never()).setHint(any(String.class), any());
+        verify(streamingEntityManager, never()).detach(any());
+    }
+
+    @Test
+    public void testBulkUpdateWithLimit() throws Exception {
+        EntityManager bulkEntityManager = mock(EntityManager.class);
+        Query idQuery = mock(Query.class);
+        Query updateQuery = mock(Query.class);
+        ArgumentCaptor<String> queryText = ArgumentCaptor.forClass(String.class);
+        when(bulkEntityManager.createQuery(queryText.capture())).thenReturn(idQuery, updateQuery);
+        when(idQuery.setParameter(any(String.class), any())).thenReturn(idQuery);
+        when(idQuery.setFirstResult(anyInt())).thenReturn(idQuery);
+        when(idQuery.setMaxResults(anyInt())).thenReturn(idQuery);
+        when(idQuery.getResultList()).thenReturn(List.of(1L, 2L));
+        when(updateQuery.setParameter(any(String.class), any())).thenReturn(updateQuery);
+        when(updateQuery.executeUpdate()).thenReturn(2);
+
+        AbstractJpaTransaction tx = new AbstractJpaTransaction(bulkEntityManager, (unused) -> {
+        }, DEFAULT_LOGGER, false) {
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+        };
+
+        RSQLFilterDialect parser = RSQLFilterDialect.builder().dictionary(dictionary).build();
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .filterExpression(parser.parse(ClassType.of(Book.class), Collections.emptySet(), "title=='foo'",
+                        NO_VERSION))
+                .pagination(new PaginationImpl(Book.class, 0, 10, 10, 10, false, false))
+                .build();
+
+        assertEquals(2, tx.bulkUpdate(projection, Map.of("title", "bar"), scope));
+
+        assertTrue(queryText.getAllValues().get(0).startsWith("SELECT example_Book.id FROM example.Book"));
+        assertTrue(queryText.getAllValues().get(1).startsWith(
+                "UPDATE example.Book AS example_Book SET example_Book.title = :bulk_title WHERE"));
+        verify(idQuery).setMaxResults(10);
+        verify(updateQuery).setParameter("bulk_title", "bar");
+
+        // Deletes do not cascade, so entities with relationships are not deleted in bulk.
+        assertEquals(DataStoreTransaction.BULK_UNSUPPORTED, tx.bulkDelete(projection, scope));
+        verify(bulkEntityManager, times(2)).createQuery(any(String.class));
+    }
+
     @ParameterizedTest
     @MethodSource("getTestArguments")
     public void testGetRelationDelegation(
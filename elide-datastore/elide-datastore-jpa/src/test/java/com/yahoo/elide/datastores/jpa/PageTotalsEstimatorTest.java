@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.type.ClassType;
+import example.Book;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.Query;
+import jakarta.persistence.Table;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+
+public class PageTotalsEstimatorTest {
+    private EntityDictionary dictionary;
+    private EntityManager entityManager;
+    private Query nativeQuery;
+
+    @Include
+    @Entity
+    public static class PublisherBook {
+        @Id
+        private long id;
+    }
+
+    @Include
+    @Entity(name = "LegacyTitle")
+    public static class Title {
+        @Id
+        private long id;
+    }
+
+    @Include
+    @Entity
+    @Table(schema = "sales", name = "OrderLine")
+    public static class OrderLine {
+        @Id
+        private long id;
+    }
+
+    @BeforeEach
+    public void setup() {
+        dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(PublisherBook.class);
+        dictionary.bindEntity(Title.class);
+        dictionary.bindEntity(OrderLine.class);
+
+        entityManager = mock(EntityManager.class);
+        nativeQuery = mock(Query.class);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(nativeQuery);
+    }
+
+    @Test
+    public void testTableNames() {
+        assertEquals(List.of("book"), tableNames(Book.class));
+        assertEquals(List.of("PublisherBook", "publisher_book"), tableNames(PublisherBook.class));
+        assertEquals(List.of("LegacyTitle", "legacy_title"), tableNames(Title.class));
+        assertEquals(List.of("sales.OrderLine", "sales.order_line"), tableNames(OrderLine.class));
+    }
+
+    @Test
+    public void testTriesSnakeCaseTableName() {
+        estimates("PublisherBook", List.of());
+        estimates("publisher_book", List.of(BigInteger.valueOf(12345)));
+
+        assertEquals(Optional.of(12345L), PageTotalsEstimator.postgres()
+                .estimate(entityManager, ClassType.of(PublisherBook.class), dictionary));
+    }
+
+    @Test
+    public void testUnanalyzedTableHasNoEstimate() {
+        estimates("book", List.of(-1L));
+
+        assertEquals(Optional.empty(), PageTotalsEstimator.postgres()
+                .estimate(entityManager, ClassType.of(Book.class), dictionary));
+    }
+
+    @Test
+    public void testCustomTableNames() {
+        estimates("library.books", List.of(42L));
+
+        PageTotalsEstimator estimator = PageTotalsEstimator.nativeQuery("SELECT estimate FROM stats WHERE t = ?1",
+                (type, unused) -> List.of("library.books"));
+        assertEquals(Optional.of(42L), estimator.estimate(entityManager, ClassType.of(Book.class), dictionary));
+    }
+
+    private List<String> tableNames(Class<?> entityClass) {
+        return PageTotalsEstimator.getTableNames(ClassType.of(entityClass), dictionary);
+    }
+
+    private void estimates(String tableName, List<?> results) {
+        Query query = mock(Query.class);
+        when(query.getResultList()).thenReturn(results);
+        when(nativeQuery.setParameter(eq(1), eq(tableName))).thenReturn(query);
+    }
+}
@@ -13,6 +13,7 @@ import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.filter.predicates.FalsePredicate;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 import com.yahoo.elide.core.filter.predicates.InPredicate;
@@ -26,18 +27,27 @@ import com.yahoo.elide.datastores.jpql.porting.Query;
 import com.yahoo.elide.datastores.jpql.porting.ScrollableIteratorBase;
 import com.yahoo.elide.datastores.jpql.porting.Session;
 import com.yahoo.elide.datastores.jpql.query.AbstractHQLQueryBuilder;
+import com.yahoo.elide.datastores.jpql.query.QueryTemplateCache;
 import com.yahoo.elide.datastores.jpql.query.RelationshipImpl;
+import com.yahoo.elide.datastores.jpql.query.RootCollectionBulkWriteQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.RootCollectionFetchQueryBuilder;
+import com.yahoo.elide.datastores.jpql.query.RootCollectionIdQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.RootCollectionPageTotalsQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.SubCollectionFetchQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.SubCollectionPageTotalsQueryBuilder;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -49,6 +59,8 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
     private final boolean isScrollEnabled;
     private final Set<Object> singleElementLoads;
     private final boolean delegateToInMemoryStore;
+    private final PageTotalsProvider pageTotalsProvider;
+    private final QueryTemplateCache queryTemplateCache;
 
 
     /**
@@ -58,8 +70,37 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
      * @param isScrollEnabled Whether or not scrolling is enabled
      */
     protected JPQLTransaction(Session session, boolean delegateToInMemoryStore, boolean isScrollEnabled) {
+        this(session, delegateToInMemoryStore, isScrollEnabled, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param session Hibernate session
+     * @param isScrollEnabled Whether or not scrolling is enabled
+     * @param pageTotalsProvider Computes root collection page totals outside of this session or null to
+     *                           count synchronously on this session.
+     */
+    protected JPQLTransaction(Session session, boolean delegateToInMemoryStore, boolean isScrollEnabled,
+            PageTotalsProvider pageTotalsProvider) {
+        this(session, delegateToInMemoryStore, isScrollEnabled, pageTotalsProvider, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param session Hibernate session
+     * @param isScrollEnabled Whether or not scrolling is enabled
+     * @param pageTotalsProvider Computes root collection page totals outside of this session or null to
+     *                           count synchronously on this session.
+     * @param queryTemplateCache Reuses the JPQL of fetch queries with the same shape or null to build every query.
+     */
+    protected JPQLTransaction(Session session, boolean delegateToInMemoryStore, boolean isScrollEnabled,
+            PageTotalsProvider pageTotalsProvider, QueryTemplateCache queryTemplateCache) {
         this.sessionWrapper = session;
         this.isScrollEnabled = isScrollEnabled;
+        this.pageTotalsProvider = pageTotalsProvider;
+        this.queryTemplateCache = queryTemplateCache;
 
         // We need to verify objects by reference equality (a == b) rather than equals equality in case the
         // same object is loaded twice from two different collections.
@@ -99,13 +140,12 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
                 ? new AndFilterExpression(filterExpression, idExpression)
                 : idExpression;
 
-        projection = projection
+        EntityProjection idProjection = projection
                 .copyOf()
                 .filterExpression(joinedExpression)
                 .build();
 
-        Query query =
-                new RootCollectionFetchQueryBuilder(projection, dictionary, sessionWrapper).build();
+        Query query = buildQuery(session -> new RootCollectionFetchQueryBuilder(idProjection, dictionary, session));
 
         T loaded = new TimedFunction<T>(() -> query.uniqueResult(), "Query Hash: " + query.hashCode()).get();
 
@@ -122,31 +162,147 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
 
         Pagination pagination = projection.getPagination();
 
-        final Query query =
-                new RootCollectionFetchQueryBuilder(projection, scope.getDictionary(), sessionWrapper)
-                        .build();
+        // Start counting before fetching so that the two queries overlap.
+        CompletableFuture<Long> pageTotals = null;
+        if (pagination != null && pagination.returnPageTotals() && pageTotalsProvider != null) {
+            pageTotals = pageTotalsProvider.getPageTotals(projection, scope.getDictionary());
+        }
 
-        Iterable<T> results = new TimedFunction<Iterable<T>>(() -> {
-            return isScrollEnabled ? query.scroll() : query.list();
-        }, "Query Hash: " + query.hashCode()).get();
+        try {
+            final Query query = buildQuery(session ->
+                    new RootCollectionFetchQueryBuilder(projection, scope.getDictionary(), session));
+
+            Iterable<T> results = new TimedFunction<Iterable<T>>(() -> {
+                return isScrollEnabled ? scroll(query, scope) : query.list();
+            }, "Query Hash: " + query.hashCode()).get();
+
+            final boolean hasResults;
+            if (results instanceof Collection) {
+                hasResults = !((Collection) results).isEmpty();
+            } else if (results instanceof Iterator) {
+                hasResults = ((Iterator) results).hasNext();
+            } else {
+                hasResults = results.iterator().hasNext();
+            }
 
-        final boolean hasResults;
-        if (results instanceof Collection) {
-            hasResults = !((Collection) results).isEmpty();
-        } else if (results instanceof Iterator) {
-            hasResults = ((Iterator) results).hasNext();
-        } else {
-            hasResults = results.iterator().hasNext();
+            // Issue #1429
+            if (pagination != null && pagination.returnPageTotals()
+                    && (hasResults || pagination.getLimit() == 0)) {
+                pagination.setPageTotals(pageTotals != null
+                        ? joinPageTotals(pageTotals)
+                        : getTotalRecords(projection, scope.getDictionary()));
+            }
+
+            return new DataStoreIterableBuilder<T>(addSingleElement(results)).build();
+        } finally {
+            // The totals are not needed if the page is empty or the fetch failed.
+            if (pageTotals != null && !pageTotals.isDone()) {
+                pageTotals.cancel(false);
+            }
         }
+    }
 
-        if (pagination != null) {
-            // Issue #1429
-            if (pagination.returnPageTotals() && (hasResults || pagination.getLimit() == 0)) {
-                pagination.setPageTotals(getTotalRecords(projection, scope.getDictionary()));
+    /**
+     * Runs a root collection query with scrolling enabled.  Stores can override this to stream large results.
+     *
+     * @param query The root collection query
+     * @param scope The request scope
+     * @param <T> The model type being loaded
+     * @return The scrollable results
+     */
+    protected <T> Iterable<T> scroll(Query query, RequestScope scope) {
+        return query.scroll();
+    }
+
+    @Override
+    public long bulkUpdate(EntityProjection projection, Map<String, Object> attributes, RequestScope scope) {
+        EntityDictionary dictionary = scope.getDictionary();
+        Type<?> entityClass = projection.getType();
+        boolean persistentAttributes = attributes.keySet().stream()
+                .allMatch(name -> dictionary.isAttribute(entityClass, name)
+                        && !dictionary.isComputed(entityClass, name));
+        if (!persistentAttributes || !isBulkWritable(projection, dictionary)) {
+            return BULK_UNSUPPORTED;
+        }
+        return executeBulkWrite(projection, attributes, dictionary);
+    }
+
+    @Override
+    public long bulkDelete(EntityProjection projection, RequestScope scope) {
+        EntityDictionary dictionary = scope.getDictionary();
+
+        // DELETE statements do not cascade, so entities with relationships are deleted one by one.
+        if (!dictionary.getRelationships(projection.getType()).isEmpty()
+                || !isBulkWritable(projection, dictionary)) {
+            return BULK_UNSUPPORTED;
+        }
+        return executeBulkWrite(projection, null, dictionary);
+    }
+
+    /**
+     * Runs an UPDATE or DELETE statement over the members of a root collection matching a filter.
+     *
+     * @param projection The type, filter and optional limit of the members to write
+     * @param attributes The new values by attribute name or null to delete the members
+     * @param dictionary the entity dictionary
+     * @return The number of members written or BULK_UNSUPPORTED if the session can not execute statements.
+     */
+    private long executeBulkWrite(EntityProjection projection, Map<String, Object> attributes,
+            EntityDictionary dictionary) {
+        EntityProjection bounded = projection;
+        if (projection.getPagination() != null) {
+            // Statements can not be limited, so restrict them to the ids of one page instead.
+            Query idQuery = new RootCollectionIdQueryBuilder(projection, dictionary, sessionWrapper).build();
+            List<Object> ids = new ArrayList<>();
+            new TimedFunction<Iterable<Object>>(idQuery::list, "Query Hash: " + idQuery.hashCode()).get()
+                    .forEach(ids::add);
+            if (ids.isEmpty()) {
+                return 0;
             }
+
+            Type<?> entityClass = projection.getType();
+            Path.PathElement idPath = new Path.PathElement(entityClass, dictionary.getIdType(entityClass),
+                    dictionary.getIdFieldName(entityClass));
+            FilterExpression idExpression = new InPredicate(idPath, ids);
+            bounded = projection.copyOf()
+                    .filterExpression(projection.getFilterExpression() == null
+                            ? idExpression
+                            : new AndFilterExpression(projection.getFilterExpression(), idExpression))
+                    .pagination(null)
+                    .build();
         }
 
-        return new DataStoreIterableBuilder<T>(addSingleElement(results)).build();
+        Query query = new RootCollectionBulkWriteQueryBuilder(bounded, attributes, dictionary, sessionWrapper)
+                .build();
+        if (!query.isUpdateSupported()) {
+            // Stores with their own query wrapper fall back to loading the members.
+            return BULK_UNSUPPORTED;
+        }
+        return new TimedFunction<Integer>(query::executeUpdate, "Query Hash: " + query.hashCode()).get();
+    }
+
+    /**
+     * Whether the filter of a projection can be evaluated by an UPDATE or DELETE statement, which can not join.
+     *
+     * @param projection The projection to write
+     * @param dictionary the entity dictionary
+     * @return true if the filter only references persistent attributes of the root entity.
+     */
+    private static boolean isBulkWritable(EntityProjection projection, EntityDictionary dictionary) {
+        FilterExpression filterExpression = projection.getFilterExpression();
+        if (filterExpression == null) {
+            return true;
+        }
+        Collection<FilterPredicate> predicates = filterExpression.accept(new PredicateExtractionVisitor());
+        return predicates.stream().allMatch(predicate -> {
+            List<Path.PathElement> pathElements = predicate.getPath().getPathElements();
+            if (pathElements.size() != 1) {
+                return false;
+            }
+            Path.PathElement element = pathElements.get(0);
+            return !dictionary.isRelation(element.getType(), element.getFieldName())
+                    && !dictionary.isComputed(element.getType(), element.getFieldName());
+        });
     }
 
     @Override
@@ -186,9 +342,8 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
                         scope.getDictionary()));
             }
 
-            final Query query =
-                    new SubCollectionFetchQueryBuilder(relationship, dictionary, sessionWrapper)
-                            .build();
+            final Query query = buildQuery(session ->
+                    new SubCollectionFetchQueryBuilder(relationship, dictionary, session));
 
             if (query != null) {
                 return new DataStoreIterableBuilder(addSingleElement(query.list())).build();
@@ -213,6 +368,19 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
 
     protected abstract Predicate<Collection<?>> isPersistentCollection();
 
+    /**
+     * Builds a fetch query, reusing the JPQL of a previous query with the same shape when caching is enabled.
+     *
+     * @param builderFactory Creates the query builder for a session
+     * @return The query.
+     */
+    private Query buildQuery(Function<Session, AbstractHQLQueryBuilder> builderFactory) {
+        if (queryTemplateCache == null) {
+            return builderFactory.apply(sessionWrapper).build();
+        }
+        return queryTemplateCache.build(builderFactory, sessionWrapper);
+    }
+
     /**
      * Returns the total record count for a root entity and an optional filter expression.
      *
@@ -230,6 +398,23 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
         return new TimedFunction<Long>(() -> query.uniqueResult(), "Query Hash: " + query.hashCode()).get();
     }
 
+    /**
+     * Waits for page totals computed by the {@link PageTotalsProvider}.
+     *
+     * @param pageTotals The pending total row count
+     * @return The total row count.
+     */
+    private static Long joinPageTotals(CompletableFuture<Long> pageTotals) {
+        try {
+            return pageTotals.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     /**
      * Returns the total record count for a entity relationship.
      *
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpql;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.EntityProjection;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Computes the page totals of a root collection outside of the session used by a {@link JPQLTransaction}.
+ * <p>
+ * When configured, the transaction requests the totals before it runs the fetch query so that both
+ * round trips to the database can overlap.
+ */
+@FunctionalInterface
+public interface PageTotalsProvider {
+
+    /**
+     * Starts computing the total number of records for a root collection.
+     *
+     * @param projection The projection whose filter expression restricts the collection
+     * @param dictionary The entity dictionary
+     * @return A future that completes with the total row count
+     */
+    CompletableFuture<Long> getPageTotals(EntityProjection projection, EntityDictionary dictionary);
+}
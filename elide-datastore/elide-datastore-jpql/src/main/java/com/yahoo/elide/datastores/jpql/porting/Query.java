@@ -18,4 +18,20 @@ public interface Query {
     public <T> T uniqueResult();
     public <T> Iterable<T> scroll();
     public <T> Iterable<T> list();
+
+    /**
+     * Whether this query can execute UPDATE and DELETE statements with executeUpdate.
+     * @return true if executeUpdate is supported.
+     */
+    public default boolean isUpdateSupported() {
+        return false;
+    }
+
+    /**
+     * Executes an UPDATE or DELETE statement.
+     * @return the number of rows written.
+     */
+    public default int executeUpdate() {
+        throw new UnsupportedOperationException();
+    }
 }
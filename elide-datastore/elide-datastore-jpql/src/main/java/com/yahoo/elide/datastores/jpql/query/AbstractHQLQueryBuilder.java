@@ -11,7 +11,11 @@ import static com.yahoo.elide.core.utils.TypeHelper.getTypeAlias;
 import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.dictionary.RelationshipType;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 import com.yahoo.elide.core.request.EntityProjection;
@@ -24,10 +28,13 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -82,6 +89,71 @@ public abstract class AbstractHQLQueryBuilder {
 
     public abstract Query build();
 
+    /**
+     * Returns a key which identifies the text of the query built by this builder independently of the
+     * filter values.  Two builders with the same shape generate the same query modulo parameter names.
+     *
+     * @return the query shape or null if the query cannot be reused.
+     */
+    public String getQueryShape() {
+        StringBuilder shape = new StringBuilder(getClass().getName())
+                .append('|')
+                .append(entityProjection.getType().getCanonicalName())
+                .append('|');
+
+        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        if (filterExpression != null) {
+            shape.append(filterExpression.accept(new FilterShapeVisitor()));
+        }
+
+        shape.append('|');
+        Sorting sorting = entityProjection.getSorting();
+        if (sorting != null && !sorting.isDefaultInstance()) {
+            sorting.getSortingPaths().forEach((path, order) ->
+                    shape.append(getPathShape(path)).append(' ').append(order).append(COMMA));
+        }
+
+        shape.append('|')
+                .append(new TreeSet<>(entityProjection.getIncludedRelationsName()))
+                .append('|')
+                .append(entityProjection.getPagination() != null)
+                .append('|');
+
+        // Identical predicates share parameter names.  Record which parameters are shared so that shapes
+        // only match when the same parameters are shared.
+        Map<String, Integer> firstOccurrence = new HashMap<>();
+        getQueryPredicates().stream()
+                .filter(predicate -> predicate.getOperator().isParameterized())
+                .flatMap(predicate -> predicate.getParameters().stream())
+                .forEach(param -> shape
+                        .append(firstOccurrence.computeIfAbsent(param.getName(), name -> firstOccurrence.size()))
+                        .append(COMMA));
+
+        return shape.toString();
+    }
+
+    /**
+     * Returns the filter predicates whose parameters are bound to the query in the order they are bound.
+     *
+     * @return the filter predicates.
+     */
+    protected Collection<FilterPredicate> getQueryPredicates() {
+        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        if (filterExpression == null) {
+            return Collections.emptyList();
+        }
+        return filterExpression.accept(new PredicateExtractionVisitor(new ArrayList<>()));
+    }
+
+    /**
+     * Binds query parameters which are not derived from filter predicates.
+     *
+     * @param query The HQL query
+     */
+    protected void supplyAdditionalQueryParameters(Query query) {
+        //NOOP
+    }
+
     /**
      * Given a collection of filter predicates and a Hibernate query, populates the named parameters in the
      * Hibernate query.
@@ -305,4 +377,41 @@ public abstract class AbstractHQLQueryBuilder {
         return predicates.stream()
                 .anyMatch(predicate -> FilterPredicate.toManyInPath(dictionary, predicate.getPath()));
     }
+
+    private static String getPathShape(Path path) {
+        return path.getPathElements().stream()
+                .map(element -> element.getType().getCanonicalName() + PERIOD + element.getFieldName())
+                .collect(Collectors.joining("/"));
+    }
+
+    /**
+     * Renders a filter expression without its literal values.
+     */
+    private static class FilterShapeVisitor implements FilterExpressionVisitor<String> {
+        @Override
+        public String visitPredicate(FilterPredicate filterPredicate) {
+            // Null values can change the generated JPQL (for example, HASMEMBER).
+            return getPathShape(filterPredicate.getPath())
+                    + SPACE
+                    + filterPredicate.getOperator()
+                    + filterPredicate.getValues().stream()
+                            .map(value -> value == null || "null".equals(value) ? "null" : "?")
+                            .collect(Collectors.joining(COMMA, "[", "]"));
+        }
+
+        @Override
+        public String visitAndExpression(AndFilterExpression expression) {
+            return "(" + expression.getLeft().accept(this) + " AND " + expression.getRight().accept(this) + ")";
+        }
+
+        @Override
+        public String visitOrExpression(OrFilterExpression expression) {
+            return "(" + expression.getLeft().accept(this) + " OR " + expression.getRight().accept(this) + ")";
+        }
+
+        @Override
+        public String visitNotExpression(NotFilterExpression expression) {
+            return "NOT (" + expression.getNegated().accept(this) + ")";
+        }
+    }
 }
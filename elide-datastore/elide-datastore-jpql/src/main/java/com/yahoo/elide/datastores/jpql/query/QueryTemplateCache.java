@@ -0,0 +1,203 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpql.query;
+
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.datastores.jpql.porting.Query;
+import com.yahoo.elide.datastores.jpql.porting.Session;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Caches the JPQL generated by query builders keyed by the query shape (the query without its filter values).
+ * <p>
+ * Cached queries use positional parameter names so that repeated shapes produce identical JPQL which in turn
+ * hits the JPA provider's query plan cache.  Custom
+ * {@link com.yahoo.elide.datastores.jpql.filter.JPQLPredicateGenerator} implementations must not inline filter
+ * values into the JPQL when this cache is enabled.
+ */
+public class QueryTemplateCache {
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+    private static final String PARAMETER_PREFIX = "elideParam";
+
+    private final Map<String, QueryTemplate> templates;
+
+    public QueryTemplateCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize The maximum number of query shapes to keep.  The least recently used shape is evicted.
+     */
+    public QueryTemplateCache(int maximumSize) {
+        this.templates = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, QueryTemplate> eldest) {
+                return size() > maximumSize;
+            }
+        });
+    }
+
+    /**
+     * Builds a query, reusing the JPQL of a previously built query with the same shape.
+     *
+     * @param builderFactory Creates the query builder for a given session
+     * @param session The session which runs the query
+     * @return the query or null if the builder does not produce a query.
+     */
+    public Query build(Function<Session, AbstractHQLQueryBuilder> builderFactory, Session session) {
+        AbstractHQLQueryBuilder builder = builderFactory.apply(session);
+        String shape = builder.getQueryShape();
+        if (shape == null) {
+            return builder.build();
+        }
+
+        QueryTemplate template = templates.get(shape);
+        if (template == null) {
+            template = QueryTemplate.record(builderFactory, builder.getQueryPredicates());
+            templates.put(shape, template);
+        }
+
+        Query query = session.createQuery(template.getQueryText());
+        template.bind(query, builder.getQueryPredicates());
+        builder.supplyAdditionalQueryParameters(query);
+        builder.addPaginationToQuery(query);
+        return query;
+    }
+
+    /**
+     * Returns the number of cached query shapes.
+     * @return the number of cached query shapes.
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    /**
+     * JPQL text with normalized parameter names and the plan to bind filter values to those names.
+     */
+    static class QueryTemplate {
+        @Getter
+        private final String queryText;
+
+        // The parameter name of each filter parameter in binding order.
+        private final List<String> parameterNames;
+
+        private QueryTemplate(String queryText, List<String> parameterNames) {
+            this.queryText = queryText;
+            this.parameterNames = parameterNames;
+        }
+
+        /**
+         * Runs the builder against a session which only records the JPQL and renames the filter parameters.
+         */
+        static QueryTemplate record(Function<Session, AbstractHQLQueryBuilder> builderFactory,
+                Collection<FilterPredicate> predicates) {
+            RecordingSession recorder = new RecordingSession();
+            builderFactory.apply(recorder).build();
+
+            String queryText = recorder.getQueryText();
+            Map<String, String> renamed = new LinkedHashMap<>();
+            List<String> parameterNames = new ArrayList<>();
+
+            parameters(predicates).forEach(param -> {
+                String name = renamed.computeIfAbsent(param.getName(), unused -> PARAMETER_PREFIX + renamed.size());
+                parameterNames.add(name);
+            });
+
+            for (Map.Entry<String, String> entry : renamed.entrySet()) {
+                queryText = Pattern.compile(":" + Pattern.quote(entry.getKey()) + "(?!\\w)")
+                        .matcher(queryText)
+                        .replaceAll(Matcher.quoteReplacement(":" + entry.getValue()));
+            }
+
+            return new QueryTemplate(queryText, parameterNames);
+        }
+
+        void bind(Query query, Collection<FilterPredicate> predicates) {
+            int idx = 0;
+            for (FilterPredicate predicate : predicates) {
+                if (!predicate.getOperator().isParameterized()) {
+                    continue;
+                }
+                boolean shouldEscape = predicate.isMatchingOperator();
+                for (FilterPredicate.FilterParameter param : predicate.getParameters()) {
+                    query.setParameter(parameterNames.get(idx++),
+                            shouldEscape ? param.escapeMatching() : param.getValue());
+                }
+            }
+        }
+
+        private static List<FilterPredicate.FilterParameter> parameters(Collection<FilterPredicate> predicates) {
+            List<FilterPredicate.FilterParameter> parameters = new ArrayList<>();
+            predicates.stream()
+                    .filter(predicate -> predicate.getOperator().isParameterized())
+                    .forEach(predicate -> parameters.addAll(predicate.getParameters()));
+            return parameters;
+        }
+    }
+
+    /**
+     * Session which captures the JPQL of the query built against it.
+     */
+    private static class RecordingSession implements Session, Query {
+        @Getter
+        private String queryText;
+
+        @Override
+        public Query createQuery(String queryText) {
+            this.queryText = queryText;
+            return this;
+        }
+
+        @Override
+        public Query setFirstResult(int num) {
+            return this;
+        }
+
+        @Override
+        public Query setMaxResults(int num) {
+            return this;
+        }
+
+        @Override
+        public Query setParameter(String name, Object value) {
+            return this;
+        }
+
+        @Override
+        public Query setParameterList(String name, Collection<?> values) {
+            return this;
+        }
+
+        @Override
+        public <T> T uniqueResult() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Iterable<T> scroll() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Iterable<T> list() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
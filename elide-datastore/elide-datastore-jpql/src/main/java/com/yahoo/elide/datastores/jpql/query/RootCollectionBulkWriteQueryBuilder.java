@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpql.query;
+
+import static com.yahoo.elide.core.utils.TypeHelper.getTypeAlias;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.datastores.jpql.filter.FilterTranslator;
+import com.yahoo.elide.datastores.jpql.porting.Query;
+import com.yahoo.elide.datastores.jpql.porting.Session;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Constructs a HQL statement which updates or deletes the members of a root collection matching a filter.
+ * The filter may only reference attributes of the root entity since the statement can not join.
+ */
+public class RootCollectionBulkWriteQueryBuilder extends AbstractHQLQueryBuilder {
+    private static final String UPDATE = "UPDATE ";
+    private static final String DELETE = "DELETE";
+    private static final String SET = " SET ";
+    private static final String PARAMETER_PREFIX = "bulk_";
+
+    private final Map<String, Object> attributes;
+
+    /**
+     * Constructor.
+     *
+     * @param entityProjection The type and filter of the members to write
+     * @param attributes The new values by attribute name or null to delete the members
+     * @param dictionary The entity dictionary
+     * @param session The session
+     */
+    public RootCollectionBulkWriteQueryBuilder(EntityProjection entityProjection,
+                                               Map<String, Object> attributes,
+                                               EntityDictionary dictionary,
+                                               Session session) {
+        super(entityProjection, dictionary, session);
+        this.attributes = attributes;
+    }
+
+    /**
+     * Constructs a statement that updates or deletes the members of a root collection.
+     *
+     * @return the constructed statement
+     */
+    @Override
+    public Query build() {
+        Type<?> entityClass = this.entityProjection.getType();
+        String entityName = entityClass.getCanonicalName();
+        String entityAlias = getTypeAlias(entityClass);
+
+        StringBuilder statement = new StringBuilder();
+        if (attributes == null) {
+            statement.append(DELETE).append(FROM).append(entityName).append(AS).append(entityAlias);
+        } else {
+            statement.append(UPDATE).append(entityName).append(AS).append(entityAlias).append(SET)
+                    .append(attributes.keySet().stream()
+                            .map(name -> entityAlias + PERIOD + name + " = :" + PARAMETER_PREFIX + name)
+                            .collect(Collectors.joining(COMMA + SPACE)));
+        }
+
+        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        if (filterExpression != null) {
+            statement.append(WHERE).append(new FilterTranslator(dictionary).apply(filterExpression, USE_ALIAS));
+        }
+
+        Query query = session.createQuery(statement.toString());
+        if (attributes != null) {
+            attributes.forEach((name, value) -> query.setParameter(PARAMETER_PREFIX + name, value));
+        }
+        supplyFilterQueryParameters(query, getQueryPredicates());
+        return query;
+    }
+}
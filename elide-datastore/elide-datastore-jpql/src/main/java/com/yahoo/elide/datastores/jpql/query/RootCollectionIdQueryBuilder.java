@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpql.query;
+
+import static com.yahoo.elide.core.utils.TypeHelper.getTypeAlias;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.datastores.jpql.filter.FilterTranslator;
+import com.yahoo.elide.datastores.jpql.porting.Query;
+import com.yahoo.elide.datastores.jpql.porting.Session;
+
+/**
+ * Constructs a HQL query which fetches the ids of a page of a root collection matching a filter.
+ * The filter may only reference attributes of the root entity.
+ */
+public class RootCollectionIdQueryBuilder extends AbstractHQLQueryBuilder {
+
+    public RootCollectionIdQueryBuilder(EntityProjection entityProjection,
+                                        EntityDictionary dictionary,
+                                        Session session) {
+        super(entityProjection, dictionary, session);
+    }
+
+    /**
+     * Constructs a query that fetches the ids of a root collection.
+     *
+     * @return the constructed query
+     */
+    @Override
+    public Query build() {
+        Type<?> entityClass = this.entityProjection.getType();
+        String entityName = entityClass.getCanonicalName();
+        String entityAlias = getTypeAlias(entityClass);
+
+        String filterClause = "";
+        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        if (filterExpression != null) {
+            filterClause = WHERE + new FilterTranslator(dictionary).apply(filterExpression, USE_ALIAS);
+        }
+
+        Query query = session.createQuery(SELECT
+                + entityAlias + PERIOD + dictionary.getIdFieldName(entityClass)
+                + FROM
+                + entityName
+                + AS
+                + entityAlias
+                + filterClause);
+
+        supplyFilterQueryParameters(query, getQueryPredicates());
+        addPaginationToQuery(query);
+        return query;
+    }
+}
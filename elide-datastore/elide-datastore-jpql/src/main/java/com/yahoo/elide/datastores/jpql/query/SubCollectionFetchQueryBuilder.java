@@ -52,6 +52,22 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         return extractToOneMergeJoins(entityClass, alias, shouldSkip);
     }
 
+    @Override
+    public String getQueryShape() {
+        if (!requiresQuery()) {
+            return null;
+        }
+        return super.getQueryShape()
+                + relationship.getParentType().getCanonicalName()
+                + PERIOD
+                + relationship.getRelationshipName();
+    }
+
+    @Override
+    protected void supplyAdditionalQueryParameters(Query query) {
+        query.setParameter(getParentAlias(), relationship.getParent());
+    }
+
     /**
      * Constructs a query that returns the members of a relationship.
      *
@@ -61,13 +77,12 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
     @Override
     public Query build() {
 
-        if (entityProjection.getFilterExpression() == null && entityProjection.getPagination() == null
-                && (entityProjection.getSorting() == null || entityProjection.getSorting().isDefaultInstance())) {
+        if (!requiresQuery()) {
             return null;
         }
 
         String childAlias = getTypeAlias(relationship.getChildType());
-        String parentAlias = getTypeAlias(relationship.getParentType()) + "__fetch";
+        String parentAlias = getParentAlias();
         String parentName = relationship.getParentType().getCanonicalName();
         String relationshipName = relationship.getRelationshipName();
 
@@ -128,9 +143,18 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
             );
         }
 
-        query.setParameter(parentAlias, relationship.getParent());
+        supplyAdditionalQueryParameters(query);
 
         addPaginationToQuery(query);
         return query;
     }
+
+    private boolean requiresQuery() {
+        return entityProjection.getFilterExpression() != null || entityProjection.getPagination() != null
+                || (entityProjection.getSorting() != null && !entityProjection.getSorting().isDefaultInstance());
+    }
+
+    private String getParentAlias() {
+        return getTypeAlias(relationship.getParentType()) + "__fetch";
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.dialect.CaseSensitivityStrategy;
+import com.yahoo.elide.core.filter.dialect.ParseException;
+import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.datastores.jpql.porting.Query;
+import com.yahoo.elide.datastores.jpql.porting.Session;
+import com.yahoo.elide.datastores.jpql.query.QueryTemplateCache;
+import com.yahoo.elide.datastores.jpql.query.RootCollectionFetchQueryBuilder;
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Editor;
+import example.Publisher;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class QueryTemplateCacheTest {
+    private EntityDictionary dictionary;
+    private RSQLFilterDialect filterParser;
+
+    @BeforeAll
+    public void initialize() {
+        dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+        dictionary.bindEntity(Editor.class);
+        filterParser = RSQLFilterDialect.builder()
+                .dictionary(dictionary)
+                .caseSensitivityStrategy(new CaseSensitivityStrategy.UseColumnCollation())
+                .build();
+    }
+
+    @Test
+    public void testSameShapeReusesQueryText() throws ParseException {
+        QueryTemplateCache cache = new QueryTemplateCache();
+
+        RecordingQuery first = build(cache, "title=='ABC';publisher.name=in=('Pub1','Pub2')");
+        RecordingQuery second = build(cache, "title=='DEF';publisher.name=in=('Pub3','Pub4')");
+
+        assertEquals(1, cache.size());
+        assertEquals(first.getQueryText(), second.getQueryText());
+        assertEquals("SELECT example_Book FROM example.Book AS example_Book "
+                + "LEFT JOIN example_Book.publisher example_Book_publisher "
+                + "WHERE (example_Book.title IN (:elideParam0) "
+                + "AND example_Book_publisher.name IN (:elideParam1, :elideParam2))",
+                first.getQueryText().trim().replaceAll(" +", " "));
+
+        assertEquals(Map.of("elideParam0", "DEF", "elideParam1", "Pub3", "elideParam2", "Pub4"),
+                second.getParameters());
+    }
+
+    @Test
+    public void testDifferentShapesAreNotShared() throws ParseException {
+        QueryTemplateCache cache = new QueryTemplateCache();
+
+        RecordingQuery first = build(cache, "title=='ABC'");
+        RecordingQuery second = build(cache, "title=in=('ABC','DEF')");
+        RecordingQuery third = build(cache, "title=='ABC',title=='DEF'");
+
+        assertEquals(3, cache.size());
+        assertNotEquals(first.getQueryText(), second.getQueryText());
+        assertNotEquals(second.getQueryText(), third.getQueryText());
+    }
+
+    @Test
+    public void testSharedParametersAreNotConflated() throws ParseException {
+        QueryTemplateCache cache = new QueryTemplateCache();
+
+        // Identical predicates share parameter names.
+        build(cache, "title=='ABC',title=='ABC'");
+        RecordingQuery second = build(cache, "title=='ABC',title=='DEF'");
+
+        assertEquals(2, cache.size());
+        assertEquals(Map.of("elideParam0", "ABC", "elideParam1", "DEF"), second.getParameters());
+    }
+
+    @Test
+    public void testEviction() throws ParseException {
+        QueryTemplateCache cache = new QueryTemplateCache(1);
+
+        build(cache, "title=='ABC'");
+        build(cache, "title=in=('ABC','DEF')");
+
+        assertEquals(1, cache.size());
+    }
+
+    private RecordingQuery build(QueryTemplateCache cache, String filter) throws ParseException {
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .filterExpression(filterParser.parseFilterExpression(filter, ClassType.of(Book.class), true))
+                .build();
+
+        Session session = RecordingQuery::new;
+        return (RecordingQuery) cache.build(s -> new RootCollectionFetchQueryBuilder(projection, dictionary, s),
+                session);
+    }
+
+    private static class RecordingQuery extends TestQueryWrapper {
+        private final Map<String, Object> parameters = new HashMap<>();
+
+        public RecordingQuery(String queryText) {
+            super(queryText);
+        }
+
+        @Override
+        public Query setParameter(String name, Object value) {
+            parameters.put(name, value);
+            return this;
+        }
+
+        public Map<String, Object> getParameters() {
+            return parameters;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.filter.predicates.InPredicate;
+import com.yahoo.elide.core.pagination.PaginationImpl;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.datastores.jpql.query.RootCollectionBulkWriteQueryBuilder;
+import com.yahoo.elide.datastores.jpql.query.RootCollectionIdQueryBuilder;
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Editor;
+import example.Publisher;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.Collections;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class RootCollectionBulkWriteQueryBuilderTest {
+    private EntityDictionary dictionary;
+
+    @BeforeAll
+    public void initialize() {
+        dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+        dictionary.bindEntity(Editor.class);
+    }
+
+    @Test
+    public void testBulkUpdate() {
+        RootCollectionBulkWriteQueryBuilder builder = new RootCollectionBulkWriteQueryBuilder(
+                genreProjection(),
+                Collections.singletonMap("title", "Untitled"),
+                dictionary,
+                new TestSessionWrapper()
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "UPDATE example.Book AS example_Book SET example_Book.title = :bulk_title"
+                + " WHERE example_Book.genre IN (:genre_XXX)";
+        assertEquals(expected, normalize(query.getQueryText()));
+    }
+
+    @Test
+    public void testBulkDelete() {
+        RootCollectionBulkWriteQueryBuilder builder = new RootCollectionBulkWriteQueryBuilder(
+                genreProjection(),
+                null,
+                dictionary,
+                new TestSessionWrapper()
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "DELETE FROM example.Book AS example_Book WHERE example_Book.genre IN (:genre_XXX)";
+        assertEquals(expected, normalize(query.getQueryText()));
+    }
+
+    @Test
+    public void testIdQuery() {
+        EntityProjection entityProjection = genreProjection().copyOf()
+                .pagination(new PaginationImpl(Book.class, 0, 10, 10, 10, false, false))
+                .build();
+        RootCollectionIdQueryBuilder builder = new RootCollectionIdQueryBuilder(
+                entityProjection,
+                dictionary,
+                new TestSessionWrapper()
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Book.id FROM example.Book AS example_Book"
+                + " WHERE example_Book.genre IN (:genre_XXX)";
+        assertEquals(expected, normalize(query.getQueryText()));
+    }
+
+    private EntityProjection genreProjection() {
+        FilterPredicate genrePredicate = new InPredicate(
+                new Path.PathElement(Book.class, String.class, "genre"), "Science Fiction");
+        return EntityProjection.builder()
+                .type(Book.class)
+                .filterExpression(genrePredicate)
+                .build();
+    }
+
+    private static String normalize(String queryText) {
+        return queryText.trim().replaceAll(" +", " ").replaceFirst(":genre_\\w+", ":genre_XXX");
+    }
+}
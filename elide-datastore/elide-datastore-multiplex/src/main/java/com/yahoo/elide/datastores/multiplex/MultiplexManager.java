@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -39,6 +40,10 @@ import java.util.function.Predicate;
  * <li>Commit DB2 fails
  * <li>Attempt to reverse DB1 commit fails
  * </ul>
+ * <p>
+ * When constructed with an executor, the sub-transactions are flushed and committed concurrently and read
+ * transactions load paginated collections from different databases in parallel.  The sub-transactions must then
+ * not depend on state bound to the request thread.
  */
 public final class MultiplexManager implements DataStore {
 
@@ -47,6 +52,9 @@ public final class MultiplexManager implements DataStore {
     protected final Predicate<DataStore> applyCompensatingTransactions;
     protected final ObjectCloner objectCloner;
 
+    //Runs the sub-transactions concurrently.  null means they are processed sequentially on the request thread.
+    protected final ExecutorService executor;
+
     @Setter(AccessLevel.PROTECTED)
     private EntityDictionary dictionary;
 
@@ -83,9 +91,29 @@ public final class MultiplexManager implements DataStore {
      */
     public MultiplexManager(ObjectCloner objectCloner, Predicate<DataStore> applyCompensatingTransactions,
             DataStore... dataStores) {
+        this(objectCloner, applyCompensatingTransactions, null, dataStores);
+    }
+
+    /**
+     * Create a single DataStore to handle provided managers within a single
+     * transaction.
+     *
+     * @param objectCloner                  to use for cloning objects to apply to
+     *                                      compensating transaction
+     * @param applyCompensatingTransactions apply compensating transactions on
+     *                                      rollback to previously committed
+     *                                      datastores
+     * @param executor                      bounded executor to process the
+     *                                      sub-transactions concurrently or null
+     *                                      to process them sequentially
+     * @param dataStores                    list of sub-managers
+     */
+    public MultiplexManager(ObjectCloner objectCloner, Predicate<DataStore> applyCompensatingTransactions,
+            ExecutorService executor, DataStore... dataStores) {
         this.objectCloner = objectCloner;
         this.dataStores = Arrays.asList(dataStores);
         this.applyCompensatingTransactions = applyCompensatingTransactions;
+        this.executor = executor;
     }
 
     protected boolean isApplyCompensatingTransactions(DataStore dataStore) {
@@ -7,12 +7,32 @@ package com.yahoo.elide.datastores.multiplex;
 
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStore;
+import com.yahoo.elide.core.datastore.DataStoreIterable;
+import com.yahoo.elide.core.datastore.DataStoreIterableBuilder;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.type.Type;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Multiplex transaction handler.
+ * <p>
+ * When the manager has an executor, paginated collections are loaded in the background so that loads from
+ * different databases overlap.  The loads of one database run one at a time and any other use of its
+ * sub-transaction waits for them, so a sub-transaction is never used by two threads at once.
  */
 public class MultiplexReadTransaction extends MultiplexTransaction {
+    // Last background load of each sub-transaction.  Only accessed by the request thread.
+    private final Map<DataStoreTransaction, CompletableFuture<?>> pendingLoads = new IdentityHashMap<>();
+
     public MultiplexReadTransaction(MultiplexManager multiplexManager) {
         super(multiplexManager);
     }
@@ -32,4 +52,121 @@ public class MultiplexReadTransaction extends MultiplexTransaction {
     public <T> void delete(T entity, RequestScope scope) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public <T> DataStoreIterable<T> loadObjects(EntityProjection projection, RequestScope scope) {
+        // Unpaginated collections are streamed by the caller rather than buffered in the background.
+        if (multiplexManager.executor == null || projection.getPagination() == null) {
+            return super.loadObjects(projection, scope);
+        }
+
+        DataStoreTransaction transaction = super.getTransaction(projection.getType());
+        CompletableFuture<DataStoreIterable<T>> load = pendingLoads
+                .getOrDefault(transaction, CompletableFuture.completedFuture(null))
+                // The failure of a previous load is reported by its own result.
+                .handle((result, e) -> null)
+                .thenApplyAsync(unused -> buffer(transaction.loadObjects(projection, scope)),
+                        multiplexManager.executor);
+        pendingLoads.put(transaction, load);
+        return new PendingIterable<>(load);
+    }
+
+    @Override
+    protected DataStoreTransaction getTransaction(Type<?> cls) {
+        DataStoreTransaction transaction = super.getTransaction(cls);
+        awaitLoads(transaction);
+        return transaction;
+    }
+
+    @Override
+    public void flush(RequestScope scope) {
+        awaitLoads();
+        super.flush(scope);
+    }
+
+    @Override
+    public void preCommit(RequestScope scope) {
+        awaitLoads();
+        super.preCommit(scope);
+    }
+
+    @Override
+    public void commit(RequestScope scope) {
+        awaitLoads();
+        super.commit(scope);
+    }
+
+    @Override
+    public void close() throws IOException {
+        awaitLoads();
+        super.close();
+    }
+
+    private void awaitLoads() {
+        new ArrayList<>(pendingLoads.keySet()).forEach(this::awaitLoads);
+    }
+
+    private void awaitLoads(DataStoreTransaction transaction) {
+        CompletableFuture<?> load = pendingLoads.remove(transaction);
+        if (load != null) {
+            // Failures are reported when the result is read.
+            load.handle((result, e) -> null).join();
+        }
+    }
+
+    private static <T> DataStoreIterable<T> buffer(DataStoreIterable<T> loaded) {
+        List<T> results = new ArrayList<>();
+        loaded.forEach(results::add);
+        return new DataStoreIterableBuilder<T>(results)
+                .paginateInMemory(loaded.needsInMemoryPagination())
+                .filterInMemory(loaded.needsInMemoryFilter())
+                .sortInMemory(loaded.needsInMemorySort())
+                .build();
+    }
+
+    /**
+     * Results of a background load which wait for the load to complete when read.
+     * @param <T> the model type
+     */
+    private static class PendingIterable<T> implements DataStoreIterable<T> {
+        private final CompletableFuture<DataStoreIterable<T>> load;
+
+        PendingIterable(CompletableFuture<DataStoreIterable<T>> load) {
+            this.load = load;
+        }
+
+        private DataStoreIterable<T> get() {
+            try {
+                return load.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new TransactionException(e.getCause());
+            }
+        }
+
+        @Override
+        public Iterable<T> getWrappedIterable() {
+            return get().getWrappedIterable();
+        }
+
+        @Override
+        public boolean needsInMemoryFilter() {
+            return get().needsInMemoryFilter();
+        }
+
+        @Override
+        public boolean needsInMemorySort() {
+            return get().needsInMemorySort();
+        }
+
+        @Override
+        public boolean needsInMemoryPagination() {
+            return get().needsInMemoryPagination();
+        }
+    }
 }
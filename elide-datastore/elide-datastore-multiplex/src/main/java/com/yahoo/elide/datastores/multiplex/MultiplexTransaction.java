@@ -11,6 +11,7 @@ import com.yahoo.elide.core.datastore.DataStoreIterable;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.exceptions.InvalidCollectionException;
+import com.yahoo.elide.core.exceptions.TransactionException;
 import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
@@ -26,8 +27,13 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 /**
@@ -54,6 +60,11 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         getTransaction(EntityDictionary.getType(entity)).createObject(entity, scope);
     }
 
+    @Override
+    public <T> void createObjects(Iterable<T> entities, RequestScope scope) {
+        groupByType(entities).forEach((type, batch) -> getTransaction(type).createObjects(batch, scope));
+    }
+
     @Override
     public <T> T loadObject(EntityProjection projection,
                              Serializable id,
@@ -68,6 +79,17 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         return getTransaction(projection.getType()).loadObjects(projection, scope);
     }
 
+    // Bulk writes do not load the objects they change, so they are not reverted if a later commit fails.
+    @Override
+    public long bulkUpdate(EntityProjection projection, Map<String, Object> attributes, RequestScope scope) {
+        return getTransaction(projection.getType()).bulkUpdate(projection, attributes, scope);
+    }
+
+    @Override
+    public long bulkDelete(EntityProjection projection, RequestScope scope) {
+        return getTransaction(projection.getType()).bulkDelete(projection, scope);
+    }
+
     @Override
     public void flush(RequestScope scope) {
         processTransactions(dataStoreTransaction -> dataStoreTransaction.flush(scope));
@@ -91,6 +113,20 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
      * @param processor process the transaction
      */
     protected void processTransactions(Consumer<DataStoreTransaction> processor) {
+        if (multiplexManager.executor != null) {
+            List<Throwable> failures = processInParallel(new ArrayList<>(transactions.values()), processor);
+            Throwable failure = firstFailure(failures);
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            if (failure != null) {
+                throw failure instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new TransactionException(failure);
+            }
+            return;
+        }
+
         // Transactions must be processed in reverse order
         ListIterator<DataStoreTransaction> iterator = new ArrayList<>(transactions.values())
                 .listIterator(transactions.size());
@@ -102,6 +138,61 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         }
     }
 
+    /**
+     * Processes the transactions concurrently on the executor of the manager and waits for all of them.
+     *
+     * @param transactionList the transactions in the order they were started
+     * @param processor process the transaction
+     * @return the failure of each transaction in reverse order or null where the transaction was processed
+     */
+    protected List<Throwable> processInParallel(List<DataStoreTransaction> transactionList,
+            Consumer<DataStoreTransaction> processor) {
+        List<Future<?>> futures = new ArrayList<>(transactionList.size());
+        ListIterator<DataStoreTransaction> iterator = transactionList.listIterator(transactionList.size());
+        while (iterator.hasPrevious()) {
+            DataStoreTransaction dataStoreTransaction = iterator.previous();
+            futures.add(dataStoreTransaction == null
+                    ? CompletableFuture.completedFuture(null)
+                    : multiplexManager.executor.submit(() -> processor.accept(dataStoreTransaction)));
+        }
+
+        List<Throwable> failures = new ArrayList<>(futures.size());
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+                failures.add(null);
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                throw new TransactionException(e);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Returns the first failure with the remaining failures attached as suppressed exceptions.
+     *
+     * @param failures the failures returned by {@link #processInParallel}
+     * @return the first failure or null if there is none
+     */
+    protected static Throwable firstFailure(List<Throwable> failures) {
+        Throwable first = null;
+        for (Throwable failure : failures) {
+            if (failure == null) {
+                continue;
+            }
+            if (first == null) {
+                first = failure;
+            } else {
+                first.addSuppressed(failure);
+            }
+        }
+        return first;
+    }
+
     @Override
     public void close() throws IOException {
 
@@ -132,6 +223,18 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         }
     }
 
+    /**
+     * Splits a batch of entities by type so each sub-transaction receives its entities as one batch.
+     * @param entities the entities to split
+     * @return the entities of each type in their original order
+     */
+    protected <T> Map<Type<?>, List<T>> groupByType(Iterable<T> entities) {
+        Map<Type<?>, List<T>> batches = new LinkedHashMap<>();
+        entities.forEach(entity ->
+                batches.computeIfAbsent(EntityDictionary.getType(entity), key -> new ArrayList<>()).add(entity));
+        return batches;
+    }
+
     protected DataStoreTransaction getTransaction(Object object) {
         return getTransaction(ClassType.of(object.getClass()));
     }
@@ -61,11 +61,32 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         dirtyObjects.add(this.multiplexManager.getSubManager(entityType), entity);
     }
 
+    @Override
+    public <T> void saveAll(Iterable<T> entities, RequestScope requestScope) {
+        groupByType(entities).forEach((type, batch) -> {
+            getTransaction(type).saveAll(batch, requestScope);
+            dirtyObjects.addAll(this.multiplexManager.getSubManager(type), new ArrayList<>(batch));
+        });
+    }
+
+    @Override
+    public <T> void deleteAll(Iterable<T> entities, RequestScope requestScope) {
+        groupByType(entities).forEach((type, batch) -> {
+            getTransaction(type).deleteAll(batch, requestScope);
+            dirtyObjects.addAll(this.multiplexManager.getSubManager(type), new ArrayList<>(batch));
+        });
+    }
+
     @Override
     public void commit(RequestScope scope) {
         // flush all before commits
         flush(scope);
 
+        if (multiplexManager.executor != null) {
+            commitInParallel(scope);
+            return;
+        }
+
         List<DataStore> commitList = new ArrayList<>();
 
         // Transactions must be committed in reverse order
@@ -89,6 +110,37 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         }
     }
 
+    /**
+     * Commits the sub-transactions concurrently.  If any commit fails, the commits which succeeded are reversed
+     * in the same order as the sequential commit would have reversed them.
+     */
+    private void commitInParallel(RequestScope scope) {
+        List<Entry<DataStore, DataStoreTransaction>> entries = new ArrayList<>(transactions.entrySet());
+        List<Throwable> failures = processInParallel(new ArrayList<>(transactions.values()),
+                dataStoreTransaction -> dataStoreTransaction.commit(scope));
+
+        Throwable failure = firstFailure(failures);
+        if (failure == null) {
+            return;
+        }
+
+        // Failures are listed in reverse order of the transactions
+        List<DataStore> commitList = new ArrayList<>();
+        for (int idx = 0; idx < failures.size(); idx++) {
+            DataStore dataStore = entries.get(entries.size() - 1 - idx).getKey();
+            if (failures.get(idx) == null && this.multiplexManager.isApplyCompensatingTransactions(dataStore)) {
+                commitList.add(dataStore);
+            }
+        }
+
+        RuntimeException exception = failure instanceof HttpStatusException
+                || failure instanceof WebApplicationException
+                ? (RuntimeException) failure
+                : new TransactionException(failure);
+        reverseTransactions(commitList, exception, scope);
+        throw exception;
+    }
+
     /**
      * Attempt to reverse changes of last commit since not all transactions successfully committed.
      * @param restoreList List of database managers to reverse the last commit
@@ -125,6 +177,15 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         clonedObjects.put(entity, NEWLY_CREATED_OBJECT);
     }
 
+    @Override
+    public <T> void createObjects(Iterable<T> entities, RequestScope scope) {
+        groupByType(entities).forEach((type, batch) -> {
+            getTransaction(type).createObjects(batch, scope);
+            // mark these objects as newly created to be deleted on reverse transaction
+            batch.forEach(entity -> clonedObjects.put(entity, NEWLY_CREATED_OBJECT));
+        });
+    }
+
     private <T> DataStoreIterable<T> hold(DataStoreTransaction transaction, DataStoreIterable<T> list) {
         ArrayList<T> newList = new ArrayList<>();
         list.forEach(newList::add);
@@ -21,6 +21,7 @@ import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.utils.ClassScanner;
 import com.yahoo.elide.core.utils.DefaultClassScanner;
+import com.yahoo.elide.core.utils.ObjectCloners;
 import com.yahoo.elide.example.beans.ComplexAttribute;
 import com.yahoo.elide.example.beans.FirstBean;
 import com.yahoo.elide.example.other.OtherBean;
@@ -35,6 +36,8 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * MultiplexManager tests.
@@ -227,6 +230,46 @@ public class MultiplexManagerTest {
         }
     }
 
+    @Test
+    public void partialCommitFailureReverseTransactionsInParallel() throws Exception {
+        final EntityDictionary entityDictionary = EntityDictionary.builder().build();
+        final HashMapDataStore ds1 = new HashMapDataStore(new DefaultClassScanner(),
+                FirstBean.class.getPackage());
+        final DataStore ds2 = new TestDataStore(OtherBean.class.getPackage());
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final MultiplexManager multiplexManager = new MultiplexManager(ObjectCloners::clone, dataStore -> true,
+                executor, ds1, ds2);
+        multiplexManager.populateEntityDictionary(entityDictionary);
+
+        try (DataStoreTransaction t = ds1.beginTransaction()) {
+            FirstBean firstBean = new FirstBean();
+            firstBean.setName("name");
+            t.createObject(firstBean, null);
+            t.commit(null);
+        }
+        try (DataStoreTransaction t = multiplexManager.beginTransaction()) {
+            t.createObject(new OtherBean(), null);
+
+            FirstBean firstBean = (FirstBean) t.loadObjects(EntityProjection.builder()
+                    .type(FirstBean.class)
+                    .build(), null).iterator().next();
+            firstBean.setName("update");
+            t.save(firstBean, null);
+
+            assertThrows(TransactionException.class, () -> t.commit(null));
+        } finally {
+            executor.shutdownNow();
+        }
+        // verify state
+        try (DataStoreTransaction t = ds1.beginTransaction()) {
+            ArrayList<Object> list = Lists.newArrayList(t.loadObjects(EntityProjection.builder()
+                    .type(FirstBean.class)
+                    .build(), null).iterator());
+            assertEquals(1, list.size());
+            assertEquals("name", ((FirstBean) list.get(0)).getName());
+        }
+    }
+
     @Test
     public void subordinateEntityDictionaryInheritsInjector() {
         final Injector injector = entity -> {
@@ -6,20 +6,38 @@
 package com.yahoo.elide.datastores.multiplex;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStore;
+import com.yahoo.elide.core.datastore.DataStoreIterable;
+import com.yahoo.elide.core.datastore.DataStoreIterableBuilder;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
 import com.yahoo.elide.core.datastore.inmemory.HashMapStoreTransaction;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.pagination.PaginationImpl;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.utils.ObjectCloners;
+import com.yahoo.elide.example.beans.FirstBean;
+import com.yahoo.elide.example.other.OtherBean;
+import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Tests MultiplexTransaction.
  */
@@ -79,4 +97,101 @@ public class MultiplexTransactionTest {
 
         assertEquals("Foo", result);
     }
+
+    @Test
+    public void testParallelCommit() throws Exception {
+        DataStore store1 =  mock(DataStore.class);
+        DataStore store2 =  mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+
+        when(store1.beginTransaction()).thenReturn(tx1);
+        when(store2.beginTransaction()).thenReturn(tx2);
+        bind(store1, FirstBean.class);
+        bind(store2, OtherBean.class);
+
+        //Each commit only completes if the other one runs at the same time.
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        doAnswer(invocation -> barrier.await(10, TimeUnit.SECONDS)).when(tx1).commit(any());
+        doAnswer(invocation -> barrier.await(10, TimeUnit.SECONDS)).when(tx2).commit(any());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MultiplexManager store = new MultiplexManager(ObjectCloners::clone, dataStore -> true, executor,
+                    store1, store2);
+            store.populateEntityDictionary(EntityDictionary.builder().build());
+
+            DataStoreTransaction multiplexTx = store.beginTransaction();
+            multiplexTx.createObject(new FirstBean(), scope);
+            multiplexTx.createObject(new OtherBean(), scope);
+            multiplexTx.commit(scope);
+
+            verify(tx1).flush(scope);
+            verify(tx2).flush(scope);
+            verify(tx1).commit(scope);
+            verify(tx2).commit(scope);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testParallelLoads() throws Exception {
+        DataStore store1 =  mock(DataStore.class);
+        DataStore store2 =  mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+
+        when(store1.beginReadTransaction()).thenReturn(tx1);
+        when(store2.beginReadTransaction()).thenReturn(tx2);
+        bind(store1, FirstBean.class);
+        bind(store2, OtherBean.class);
+
+        //The first load only completes once the second one has started.
+        CountDownLatch secondLoad = new CountDownLatch(1);
+        FirstBean first = new FirstBean();
+        OtherBean other = new OtherBean();
+        when(tx1.loadObjects(any(), any())).thenAnswer(invocation -> {
+            assertTrue(secondLoad.await(10, TimeUnit.SECONDS));
+            return new DataStoreIterableBuilder<>(List.of(first)).build();
+        });
+        when(tx2.loadObjects(any(), any())).thenAnswer(invocation -> {
+            secondLoad.countDown();
+            return new DataStoreIterableBuilder<>(List.of(other)).sortInMemory(true).build();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MultiplexManager store = new MultiplexManager(ObjectCloners::clone, dataStore -> true, executor,
+                    store1, store2);
+            store.populateEntityDictionary(EntityDictionary.builder().build());
+
+            DataStoreTransaction multiplexTx = store.beginReadTransaction();
+            DataStoreIterable<Object> firstBeans = multiplexTx.loadObjects(paginated(FirstBean.class), scope);
+            DataStoreIterable<Object> otherBeans = multiplexTx.loadObjects(paginated(OtherBean.class), scope);
+
+            assertEquals(List.of(first), Lists.newArrayList(firstBeans));
+            assertEquals(List.of(other), Lists.newArrayList(otherBeans));
+            assertTrue(otherBeans.needsInMemorySort());
+            multiplexTx.close();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static EntityProjection paginated(Class<?> cls) {
+        return EntityProjection.builder()
+                .type(cls)
+                .pagination(new PaginationImpl(cls, 0, 10, 10, 10, false, false))
+                .build();
+    }
+
+    private static void bind(DataStore store, Class<?> cls) {
+        doAnswer(invocation -> {
+            ((EntityDictionary) invocation.getArgument(0)).bindEntity(cls);
+            return null;
+        }).when(store).populateEntityDictionary(any());
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.search;
+
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.datastore.wrapped.TransactionWrapper;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.type.Type;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Invalidates the cached searches of every type written by a transaction once it commits, along with those of the
+ * types whose documents embed a written type.
+ */
+class InvalidatingTransaction extends TransactionWrapper {
+    private final SearchResultCache cache;
+    private final EntityDictionary dictionary;
+    private final Map<Type<?>, Set<Type<?>>> embeddingTypes;
+    private final Set<Type<?>> writtenTypes = new LinkedHashSet<>();
+
+    InvalidatingTransaction(DataStoreTransaction tx, SearchResultCache cache, EntityDictionary dictionary,
+            Map<Type<?>, Set<Type<?>>> embeddingTypes) {
+        super(tx);
+        this.cache = cache;
+        this.dictionary = dictionary;
+        this.embeddingTypes = embeddingTypes;
+    }
+
+    @Override
+    public <T> void save(T o, RequestScope requestScope) {
+        written(o);
+        super.save(o, requestScope);
+    }
+
+    @Override
+    public <T> void delete(T o, RequestScope requestScope) {
+        written(o);
+        super.delete(o, requestScope);
+    }
+
+    @Override
+    public <T> void saveAll(Iterable<T> entities, RequestScope requestScope) {
+        entities.forEach(this::written);
+        super.saveAll(entities, requestScope);
+    }
+
+    @Override
+    public <T> void deleteAll(Iterable<T> entities, RequestScope requestScope) {
+        entities.forEach(this::written);
+        super.deleteAll(entities, requestScope);
+    }
+
+    @Override
+    public long bulkUpdate(EntityProjection projection, Map<String, Object> attributes,
+            RequestScope requestScope) {
+        writtenType(projection.getType());
+        return super.bulkUpdate(projection, attributes, requestScope);
+    }
+
+    @Override
+    public long bulkDelete(EntityProjection projection, RequestScope requestScope) {
+        writtenType(projection.getType());
+        return super.bulkDelete(projection, requestScope);
+    }
+
+    @Override
+    public void createObject(Object o, RequestScope requestScope) {
+        written(o);
+        super.createObject(o, requestScope);
+    }
+
+    @Override
+    public <T> void createObjects(Iterable<T> entities, RequestScope requestScope) {
+        entities.forEach(this::written);
+        super.createObjects(entities, requestScope);
+    }
+
+    @Override
+    public <T> void setAttribute(T entity, Attribute attribute, RequestScope scope) {
+        written(entity);
+        super.setAttribute(entity, attribute, scope);
+    }
+
+    @Override
+    public void commit(RequestScope requestScope) {
+        super.commit(requestScope);
+        Set<Type<?>> invalidated = new LinkedHashSet<>(writtenTypes);
+        writtenTypes.forEach(type -> invalidated.addAll(embeddingTypes.getOrDefault(type, Set.of())));
+        invalidated.forEach(cache::invalidate);
+        writtenTypes.clear();
+    }
+
+    private void written(Object entity) {
+        writtenType(EntityDictionary.getType(entity));
+    }
+
+    private void writtenType(Type<?> type) {
+        Type<?> entityType = dictionary.lookupBoundClass(type);
+        if (entityType != null) {
+            writtenTypes.add(entityType);
+        }
+    }
+}
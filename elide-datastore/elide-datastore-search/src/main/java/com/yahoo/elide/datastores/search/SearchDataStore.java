@@ -16,10 +16,15 @@ import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
 
 import jakarta.persistence.EntityManagerFactory;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -29,6 +34,7 @@ public class SearchDataStore implements DataStore {
 
     private static final int DEFAULT_MIN_NGRAM = 3;
     private static final int DEFAULT_MAX_NGRAM = 5;
+    private static final int NO_SCROLL = 0;
 
     private DataStore wrapped;
     private EntityDictionary dictionary;
@@ -36,6 +42,16 @@ public class SearchDataStore implements DataStore {
     private boolean indexOnStartup = false;
     private int minNgramSize;
     private int maxNgramSize;
+    private int scrollSize;
+
+    //Builds the startup index in the background.  null means the index is built before startup completes.
+    private SearchIndexer indexer;
+
+    //Caches the hits of paginated searches.  null means searches are not cached.
+    private SearchResultCache cache;
+
+    //The types whose documents embed each type, whose cached searches are invalidated along with it.
+    private Map<Type<?>, Set<Type<?>>> embeddingTypes = Map.of();
 
     public SearchDataStore(DataStore wrapped, EntityManagerFactory entityManagerFactory, boolean indexOnStartup) {
         this(wrapped, entityManagerFactory, indexOnStartup, DEFAULT_MIN_NGRAM, DEFAULT_MAX_NGRAM);
@@ -46,12 +62,78 @@ public class SearchDataStore implements DataStore {
                            boolean indexOnStartup,
                            int minNgramSize,
                            int maxNgramSize) {
+        this(wrapped, entityManagerFactory, indexOnStartup, minNgramSize, maxNgramSize, NO_SCROLL);
+    }
+
+    /**
+     * Constructor.
+     * @param wrapped The store which answers queries the search index cannot.
+     * @param entityManagerFactory The entity manager factory of the indexed entities.
+     * @param indexOnStartup Whether to build a complete index on startup.
+     * @param minNgramSize The smallest ngram size of the index.
+     * @param maxNgramSize The largest ngram size of the index.
+     * @param scrollSize The number of hits loaded at a time when scrolling through search results or 0 to load
+     *                   all hits at once.
+     */
+    public SearchDataStore(DataStore wrapped,
+                           EntityManagerFactory entityManagerFactory,
+                           boolean indexOnStartup,
+                           int minNgramSize,
+                           int maxNgramSize,
+                           int scrollSize) {
+        this(wrapped, entityManagerFactory, indexOnStartup, minNgramSize, maxNgramSize, scrollSize, null);
+    }
+
+    /**
+     * Constructor.
+     * @param wrapped The store which answers queries the search index cannot.
+     * @param entityManagerFactory The entity manager factory of the indexed entities.
+     * @param indexOnStartup Whether to build a complete index on startup.
+     * @param minNgramSize The smallest ngram size of the index.
+     * @param maxNgramSize The largest ngram size of the index.
+     * @param scrollSize The number of hits loaded at a time when scrolling through search results or 0 to load
+     *                   all hits at once.
+     * @param indexer Builds the startup index in the background or null to build it before startup completes.
+     */
+    public SearchDataStore(DataStore wrapped,
+                           EntityManagerFactory entityManagerFactory,
+                           boolean indexOnStartup,
+                           int minNgramSize,
+                           int maxNgramSize,
+                           int scrollSize,
+                           SearchIndexer indexer) {
+        this(wrapped, entityManagerFactory, indexOnStartup, minNgramSize, maxNgramSize, scrollSize, indexer, null);
+    }
+
+    /**
+     * Constructor.
+     * @param wrapped The store which answers queries the search index cannot.
+     * @param entityManagerFactory The entity manager factory of the indexed entities.
+     * @param indexOnStartup Whether to build a complete index on startup.
+     * @param minNgramSize The smallest ngram size of the index.
+     * @param maxNgramSize The largest ngram size of the index.
+     * @param scrollSize The number of hits loaded at a time when scrolling through search results or 0 to load
+     *                   all hits at once.
+     * @param indexer Builds the startup index in the background or null to build it before startup completes.
+     * @param cache Caches the hits of paginated searches or null to always run the search.
+     */
+    public SearchDataStore(DataStore wrapped,
+                           EntityManagerFactory entityManagerFactory,
+                           boolean indexOnStartup,
+                           int minNgramSize,
+                           int maxNgramSize,
+                           int scrollSize,
+                           SearchIndexer indexer,
+                           SearchResultCache cache) {
         this.wrapped = wrapped;
         this.entityManagerFactory = entityManagerFactory;
         this.indexOnStartup = indexOnStartup;
 
         this.minNgramSize = minNgramSize;
         this.maxNgramSize = maxNgramSize;
+        this.scrollSize = scrollSize;
+        this.indexer = indexer;
+        this.cache = cache;
     }
 
 
@@ -59,19 +141,13 @@ public class SearchDataStore implements DataStore {
     public void populateEntityDictionary(EntityDictionary entityDictionary) {
         wrapped.populateEntityDictionary(entityDictionary);
 
-        if (indexOnStartup) {
+        if (indexOnStartup && indexer != null) {
+            indexer.reindex(getIndexedClasses(entityDictionary).toArray(new Class<?>[0]));
+        } else if (indexOnStartup) {
             SearchSession session = Search.session(entityManagerFactory.createEntityManager());
             try {
-                Set<Class<?>> classesToIndex = new LinkedHashSet<>();
-                for (Type<?> entityType : entityDictionary.getBoundClasses()) {
-                    if (entityDictionary.getAnnotation(entityType, Indexed.class) != null) {
-                        Preconditions.checkState(entityType instanceof ClassType);
-                        Class<?> entityClass = ((ClassType) entityType).getCls();
-                        classesToIndex.add(entityClass);
-                    }
-                }
-                MassIndexer indexer = session.massIndexer(classesToIndex);
-                indexer.startAndWait();
+                MassIndexer massIndexer = session.massIndexer(getIndexedClasses(entityDictionary));
+                massIndexer.startAndWait();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -81,10 +157,67 @@ public class SearchDataStore implements DataStore {
         }
 
         this.dictionary = entityDictionary;
+        this.embeddingTypes = getEmbeddingTypes(entityDictionary);
+    }
+
+    /**
+     * Returns the background indexer which can rebuild the index while the service is running.
+     * @return the indexer or null if there is none.
+     */
+    public SearchIndexer getIndexer() {
+        return indexer;
+    }
+
+    private Set<Class<?>> getIndexedClasses(EntityDictionary entityDictionary) {
+        Set<Class<?>> classesToIndex = new LinkedHashSet<>();
+        for (Type<?> entityType : entityDictionary.getBoundClasses()) {
+            if (entityDictionary.getAnnotation(entityType, Indexed.class) != null) {
+                Preconditions.checkState(entityType instanceof ClassType);
+                Class<?> entityClass = ((ClassType) entityType).getCls();
+                classesToIndex.add(entityClass);
+            }
+        }
+        return classesToIndex;
+    }
+
+    /**
+     * Maps each type to the types whose documents include it through {@link IndexedEmbedded} relationships,
+     * directly or through other embedded types.
+     * @param entityDictionary The entity dictionary.
+     * @return the embedding types of every embedded type.
+     */
+    private static Map<Type<?>, Set<Type<?>>> getEmbeddingTypes(EntityDictionary entityDictionary) {
+        Map<Type<?>, Set<Type<?>>> embeddedBy = new HashMap<>();
+        for (Type<?> entityType : entityDictionary.getBoundClasses()) {
+            for (String relationship : entityDictionary.getRelationships(entityType)) {
+                if (entityDictionary.getAttributeOrRelationAnnotation(entityType, IndexedEmbedded.class,
+                        relationship) != null) {
+                    Type<?> embeddedType = entityDictionary.getParameterizedType(entityType, relationship);
+                    embeddedBy.computeIfAbsent(embeddedType, key -> new LinkedHashSet<>()).add(entityType);
+                }
+            }
+        }
+
+        Map<Type<?>, Set<Type<?>>> embeddingTypes = new HashMap<>();
+        embeddedBy.keySet().forEach(embeddedType -> {
+            Set<Type<?>> embedding = new LinkedHashSet<>();
+            Deque<Type<?>> pending = new ArrayDeque<>(embeddedBy.get(embeddedType));
+            while (!pending.isEmpty()) {
+                Type<?> entityType = pending.pop();
+                if (!entityType.equals(embeddedType) && embedding.add(entityType)) {
+                    pending.addAll(embeddedBy.getOrDefault(entityType, Set.of()));
+                }
+            }
+            embeddingTypes.put(embeddedType, embedding);
+        });
+        return embeddingTypes;
     }
 
     @Override
     public DataStoreTransaction beginTransaction() {
+        if (cache != null) {
+            return new InvalidatingTransaction(wrapped.beginTransaction(), cache, dictionary, embeddingTypes);
+        }
         return wrapped.beginTransaction();
     }
 
@@ -93,6 +226,6 @@ public class SearchDataStore implements DataStore {
 
         SearchSession session = Search.session(entityManagerFactory.createEntityManager());
         return new SearchDataTransaction(wrapped.beginReadTransaction(), dictionary,
-                session, minNgramSize, maxNgramSize);
+                session, minNgramSize, maxNgramSize, scrollSize, cache);
     }
 }
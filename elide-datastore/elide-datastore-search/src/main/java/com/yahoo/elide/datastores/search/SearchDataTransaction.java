@@ -18,6 +18,7 @@ import com.yahoo.elide.core.exceptions.HttpStatusException;
 import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.Operator;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.InMemoryFilterExecutor;
 import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.yahoo.elide.core.filter.predicates.FilterPredicate;
 import com.yahoo.elide.core.request.EntityProjection;
@@ -26,10 +27,13 @@ import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Type;
 import com.google.common.base.Preconditions;
+import org.hibernate.Session;
 import org.hibernate.search.engine.backend.types.Searchable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.sort.SearchSort;
 import org.hibernate.search.engine.search.sort.dsl.FieldSortOptionsStep;
@@ -40,15 +44,35 @@ import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextFi
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Performs full text search when it can.  Otherwise delegates to a wrapped transaction.
+ * <p>
+ * With a scroll size, search results are scrolled through a chunk of hits at a time instead of being loaded at
+ * once.  Prefix matches are then filtered, paginated and counted while scrolling rather than being returned in
+ * full for Elide to filter in memory.
  */
+@Slf4j
 public class SearchDataTransaction extends TransactionWrapper {
 
     private enum FilterSupport {
@@ -61,16 +85,50 @@ public class SearchDataTransaction extends TransactionWrapper {
     private SearchSession session;
     private int minNgram;
     private int maxNgram;
+    private int scrollSize;
+    private SearchResultCache cache;
+    private long postFilteredRows = 0;
+    private final Set<SearchScroll<?>> openScrolls = new HashSet<>();
+
     public SearchDataTransaction(DataStoreTransaction tx,
                                  EntityDictionary dictionary,
                                  SearchSession session,
                                  int minNgramSize,
                                  int maxNgramSize) {
+        this(tx, dictionary, session, minNgramSize, maxNgramSize, 0);
+    }
+
+    public SearchDataTransaction(DataStoreTransaction tx,
+                                 EntityDictionary dictionary,
+                                 SearchSession session,
+                                 int minNgramSize,
+                                 int maxNgramSize,
+                                 int scrollSize) {
+        this(tx, dictionary, session, minNgramSize, maxNgramSize, scrollSize, null);
+    }
+
+    public SearchDataTransaction(DataStoreTransaction tx,
+                                 EntityDictionary dictionary,
+                                 SearchSession session,
+                                 int minNgramSize,
+                                 int maxNgramSize,
+                                 int scrollSize,
+                                 SearchResultCache cache) {
         super(tx);
+        this.cache = cache;
         this.dictionary = dictionary;
         this.session = session;
         this.minNgram = minNgramSize;
         this.maxNgram = maxNgramSize;
+        this.scrollSize = scrollSize;
+    }
+
+    /**
+     * Returns the number of search hits which were dropped because they did not match the filter in memory.
+     * @return the number of post filtered rows.
+     */
+    public long getPostFilteredRows() {
+        return postFilteredRows;
     }
 
     @Override
@@ -87,6 +145,10 @@ public class SearchDataTransaction extends TransactionWrapper {
             canSearch = canSearch && canSort(projection.getSorting(), projection.getType());
         }
 
+        if (canSearch && scrollSize > 0) {
+            return scroll(projection, filterSupport == FilterSupport.PARTIAL, requestScope);
+        }
+
         if (canSearch) {
             Iterable<T> result = search(projection.getType(), projection.getFilterExpression(),
                     Optional.ofNullable(projection.getSorting()),
@@ -101,6 +163,137 @@ public class SearchDataTransaction extends TransactionWrapper {
         return super.loadObjects(projection, requestScope);
     }
 
+    @Override
+    public void close() throws IOException {
+        new ArrayList<>(openScrolls).forEach(SearchScroll::close);
+        openScrolls.clear();
+        super.close();
+    }
+
+    /**
+     * Scrolls through the search results.
+     * @param projection The projection to load
+     * @param postFilter Whether the hits are a superset of the filter which must be filtered again
+     * @param requestScope The request scope
+     * @return The matching records
+     */
+    private <T> DataStoreIterable<T> scroll(EntityProjection projection, boolean postFilter,
+                                            RequestScope requestScope) {
+        Optional<Pagination> pagination = Optional.ofNullable(projection.getPagination());
+
+        if (!postFilter && pagination.isPresent()) {
+            // A single page is fetched at once with the totals taken from the search engine.
+            return new DataStoreIterableBuilder<T>(search(projection.getType(), projection.getFilterExpression(),
+                    Optional.ofNullable(projection.getSorting()), pagination)).build();
+        }
+
+        SearchQueryOptionsStep step = buildQuery(projection.getType(), projection.getFilterExpression(),
+                Optional.ofNullable(projection.getSorting()));
+
+        if (!postFilter) {
+            return new DataStoreIterableBuilder<T>(() -> new ScrollIterator<T>(step)).build();
+        }
+
+        Predicate<T> predicate = projection.getFilterExpression().accept(new InMemoryFilterExecutor(requestScope));
+        if (pagination.isPresent()) {
+            List<T> page = cached(projection.getType(), projection.getFilterExpression(),
+                    Optional.ofNullable(projection.getSorting()), pagination,
+                    () -> fetchFilteredPage(step, predicate, pagination.get()));
+            return new DataStoreIterableBuilder<T>(page).build();
+        }
+        return new DataStoreIterableBuilder<T>(() -> new PostFilteredIterator<T>(step, predicate)).build();
+    }
+
+    /**
+     * Scrolls through the search results until the requested page of matching records is found.  When totals
+     * are requested, the remaining hits are scrolled through to count the matching records.
+     * @param step The search query
+     * @param predicate The in memory filter
+     * @param pagination The requested page
+     * @return The matching records of the page
+     */
+    private <T> List<T> fetchFilteredPage(SearchQueryOptionsStep step, Predicate<T> predicate,
+                                          Pagination pagination) {
+        long offset = pagination.getOffset();
+        long end = offset + pagination.getLimit();
+        boolean returnPageTotals = pagination.returnPageTotals();
+
+        List<T> page = new ArrayList<>();
+        long hits = 0;
+        long matches = 0;
+        try (ScrollIterator<T> iterator = new ScrollIterator<>(step)) {
+            while ((returnPageTotals || matches < end) && iterator.hasNext()) {
+                T hit = iterator.next();
+                hits++;
+                if (!predicate.test(hit)) {
+                    continue;
+                }
+                if (matches >= offset && matches < end) {
+                    page.add(hit);
+                }
+                matches++;
+            }
+        }
+
+        postFilteredRows += hits - matches;
+        log.debug("Filtered {} of {} search hits in memory", hits - matches, hits);
+
+        if (returnPageTotals) {
+            pagination.setPageTotals(matches);
+        }
+        return page;
+    }
+
+    /**
+     * Serves a page of search hits from the cache.  Only paginated searches are cached so that the size of
+     * the cache is bounded.  On a hit, only the entities are loaded from the database.
+     * @param entityType The class to search
+     * @param filterExpression The filter expression to apply
+     * @param sorting Optional sorting
+     * @param pagination Optional pagination
+     * @param search Runs the search on a cache miss
+     * @return The records of the page
+     */
+    private <T> List<T> cached(Type<?> entityType, FilterExpression filterExpression, Optional<Sorting> sorting,
+                               Optional<Pagination> pagination, Supplier<List<T>> search) {
+        if (cache == null || pagination.isEmpty()) {
+            return search.get();
+        }
+
+        // The version is read before searching so that a concurrent write makes the result unreachable.  Filters
+        // and sorting paths compare structurally, unlike their string forms which can be the same for different
+        // values.
+        Object key = Arrays.asList(entityType, cache.getVersion(entityType), filterExpression,
+                sorting.map(s -> List.copyOf(s.getSortingPaths().entrySet())).orElse(null),
+                pagination.get().getOffset(), pagination.get().getLimit(), pagination.get().returnPageTotals());
+
+        SearchResultCache.Hits hits = cache.get(key);
+        if (hits != null) {
+            if (pagination.get().returnPageTotals()) {
+                pagination.get().setPageTotals(hits.getPageTotals());
+            }
+            return load(entityType, hits.getIds());
+        }
+
+        List<T> results = search.get();
+        Session ormSession = session.toOrmSession();
+        List<Serializable> ids = results.stream()
+                .map(result -> (Serializable) ormSession.getIdentifier(result))
+                .collect(Collectors.toList());
+        cache.put(key, new SearchResultCache.Hits(ids, pagination.get().getPageTotals()));
+        return results;
+    }
+
+    private <T> List<T> load(Type<?> entityType, List<Serializable> ids) {
+        Preconditions.checkState(entityType instanceof ClassType);
+        Class<T> entityClass = (Class<T>) ((ClassType) entityType).getCls();
+
+        // Entities deleted since the search was cached are skipped.
+        return session.toOrmSession().byMultipleIds(entityClass).multiLoad(ids).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Indicates whether sorting has been requested for this entity.
      * @param sorting An optional elide sorting clause.
@@ -248,6 +441,44 @@ public class SearchDataTransaction extends TransactionWrapper {
      */
     private <T> List<T> search(Type<?> entityType, FilterExpression filterExpression, Optional<Sorting> sorting,
                                 Optional<Pagination> pagination) {
+        return cached(entityType, filterExpression, sorting, pagination,
+                () -> searchIndex(entityType, filterExpression, sorting, pagination));
+    }
+
+    private <T> List<T> searchIndex(Type<?> entityType, FilterExpression filterExpression,
+                                    Optional<Sorting> sorting, Optional<Pagination> pagination) {
+        SearchQueryOptionsStep step = buildQuery(entityType, filterExpression, sorting);
+
+        SearchResult result;
+        if (pagination.isPresent()) {
+            if (!pagination.get().returnPageTotals()) {
+                // The exact hit count is only needed for the page totals.
+                step = step.totalHitCountThreshold(
+                        (long) pagination.get().getOffset() + pagination.get().getLimit());
+            }
+            result = step.fetch(pagination.get().getOffset(), pagination.get().getLimit());
+        } else {
+            result = step.fetchAll();
+        }
+
+        if (pagination.filter(Pagination::returnPageTotals).isPresent()) {
+            pagination.get().setPageTotals(result.total().hitCount());
+        }
+
+        List<T> results = result.hits();
+
+        return results;
+    }
+
+    /**
+     * Builds the full-text search query.
+     * @param entityType The class to search
+     * @param filterExpression The filter expression to apply
+     * @param sorting Optional sorting
+     * @return The search query.
+     */
+    private SearchQueryOptionsStep buildQuery(Type<?> entityType, FilterExpression filterExpression,
+                                              Optional<Sorting> sorting) {
         Class<?> entityClass = null;
         if (entityType != null) {
             Preconditions.checkState(entityType instanceof ClassType);
@@ -270,20 +501,7 @@ public class SearchDataTransaction extends TransactionWrapper {
             step = step.sort(sort);
         }
 
-        SearchResult result;
-        if (pagination.isPresent()) {
-            result = step.fetch(pagination.get().getOffset(), pagination.get().getLimit());
-        } else {
-            result = step.fetchAll();
-        }
-
-        if (pagination.filter(Pagination::returnPageTotals).isPresent()) {
-            pagination.get().setPageTotals(result.total().hitCount());
-        }
-
-        List<T> results = result.hits();
-
-        return results;
+        return step;
     }
 
     private boolean fieldIsSortable(Type<?> entityClass, String fieldName) {
@@ -370,4 +588,87 @@ public class SearchDataTransaction extends TransactionWrapper {
                 return FilterSupport.NONE;
         }
     }
+
+    /**
+     * Iterates over the hits of a search query one chunk at a time.
+     * @param <T> The entity type
+     */
+    private class ScrollIterator<T> implements Iterator<T>, AutoCloseable {
+        private final SearchScroll<T> scroll;
+        private Iterator<T> chunk = Collections.emptyIterator();
+        private boolean exhausted = false;
+
+        ScrollIterator(SearchQueryOptionsStep step) {
+            this.scroll = step.scroll(scrollSize);
+            openScrolls.add(scroll);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!chunk.hasNext() && !exhausted) {
+                SearchScrollResult<T> result = scroll.next();
+                if (result.hasHits()) {
+                    chunk = result.hits().iterator();
+                } else {
+                    close();
+                }
+            }
+            return chunk.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chunk.next();
+        }
+
+        @Override
+        public void close() {
+            if (!exhausted) {
+                exhausted = true;
+                openScrolls.remove(scroll);
+                scroll.close();
+            }
+        }
+    }
+
+    /**
+     * Drops the search hits which do not match the filter in memory.
+     * @param <T> The entity type
+     */
+    private class PostFilteredIterator<T> implements Iterator<T> {
+        private final ScrollIterator<T> hits;
+        private final Predicate<T> predicate;
+        private T next;
+
+        PostFilteredIterator(SearchQueryOptionsStep step, Predicate<T> predicate) {
+            this.hits = new ScrollIterator<>(step);
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && hits.hasNext()) {
+                T hit = hits.next();
+                if (predicate.test(hit)) {
+                    next = hit;
+                } else {
+                    postFilteredRows++;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = next;
+            next = null;
+            return result;
+        }
+    }
 }
@@ -0,0 +1,417 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.search;
+
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds search indexes in the background.
+ * <p>
+ * Entity types are reindexed one at a time so that a rebuild does not compete with itself for database
+ * connections.  The ids of a type are read in batches of its configured size whose entities are loaded and indexed
+ * by its configured number of threads.
+ * <p>
+ * A full reindex updates the live index in place rather than purging it first, so searches keep returning results
+ * while it runs.  Once every row has been indexed, documents whose rows no longer exist are removed.  A row which
+ * changes while it is being reindexed may keep its previous state in the index until it is indexed again.
+ * <p>
+ * Types with a watermark field can be reindexed incrementally: only rows whose watermark is at least the largest
+ * value seen by the previous reindex, less the watermark lag, are loaded.  A row written by a transaction which
+ * commits after the previous reindex read its watermark can carry a smaller value than the one recorded, so the
+ * lag makes incremental reindexes overlap.  It applies to date and time watermarks; other watermarks such as
+ * version counters must increase in commit order.  Incremental reindexing does not remove the documents of deleted
+ * rows.
+ */
+@Slf4j
+public class SearchIndexer implements Closeable {
+    private final EntityManagerFactory entityManagerFactory;
+    private final ExecutorService executor;
+    private final Options defaultOptions;
+    private final Map<Class<?>, Options> typeOptions;
+    private final Map<Class<?>, Progress> progress = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> watermarks = new ConcurrentHashMap<>();
+
+    /**
+     * Reindex settings of an entity type.
+     */
+    @Value
+    @Builder
+    public static class Options {
+        //The number of threads loading entities.
+        @Builder.Default
+        int threads = 1;
+
+        //The number of entities loaded per query.
+        @Builder.Default
+        int batchSize = 100;
+
+        //The attribute which increases whenever a row changes.  null means the type is always fully reindexed.
+        String watermarkField;
+
+        //How far before the previous watermark an incremental reindex starts, to include late commits.
+        @Builder.Default
+        Duration watermarkLag = Duration.ofMinutes(1);
+    }
+
+    /**
+     * State of the last reindex of an entity type.
+     */
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * Progress of the last reindex of an entity type.
+     */
+    public static class Progress implements MassIndexingMonitor {
+        private final AtomicLong totalCount = new AtomicLong();
+        private final AtomicLong entitiesLoaded = new AtomicLong();
+        private final AtomicLong documentsAdded = new AtomicLong();
+        private volatile State state = State.QUEUED;
+        private volatile boolean incremental = false;
+
+        @Override
+        public void documentsAdded(long increment) {
+            documentsAdded.addAndGet(increment);
+        }
+
+        @Override
+        public void documentsBuilt(long increment) {
+            //NOOP
+        }
+
+        @Override
+        public void entitiesLoaded(long increment) {
+            entitiesLoaded.addAndGet(increment);
+        }
+
+        @Override
+        public void addToTotalCount(long increment) {
+            totalCount.addAndGet(increment);
+        }
+
+        @Override
+        public void indexingCompleted() {
+            //NOOP - The state is updated once the indexer returns.
+        }
+
+        public long getTotalCount() {
+            return totalCount.get();
+        }
+
+        public long getEntitiesLoaded() {
+            return entitiesLoaded.get();
+        }
+
+        public long getDocumentsAdded() {
+            return documentsAdded.get();
+        }
+
+        public State getState() {
+            return state;
+        }
+
+        public boolean isIncremental() {
+            return incremental;
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param entityManagerFactory The entity manager factory of the indexed entities.
+     */
+    public SearchIndexer(EntityManagerFactory entityManagerFactory) {
+        this(entityManagerFactory, Options.builder().build(), Map.of());
+    }
+
+    /**
+     * Constructor.
+     * @param entityManagerFactory The entity manager factory of the indexed entities.
+     * @param defaultOptions The settings of types without their own settings.
+     * @param typeOptions The settings of each entity type.
+     */
+    public SearchIndexer(EntityManagerFactory entityManagerFactory, Options defaultOptions,
+            Map<Class<?>, Options> typeOptions) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.defaultOptions = defaultOptions;
+        this.typeOptions = typeOptions;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "elide-search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Rebuilds the complete index of the given types in the background.
+     * @param entityClasses The types to reindex.
+     * @return completes once every type has been reindexed.
+     */
+    public CompletableFuture<Void> reindex(Class<?>... entityClasses) {
+        return submit(false, entityClasses);
+    }
+
+    /**
+     * Reindexes the rows which changed since the previous reindex of the given types in the background.  Types
+     * without a watermark field or which have not been reindexed yet are fully reindexed.
+     * @param entityClasses The types to reindex.
+     * @return completes once every type has been reindexed.
+     */
+    public CompletableFuture<Void> reindexChanged(Class<?>... entityClasses) {
+        return submit(true, entityClasses);
+    }
+
+    /**
+     * Returns the progress of the last reindex of a type.
+     * @param entityClass The entity type.
+     * @return the progress or null if the type has not been reindexed.
+     */
+    public Progress getProgress(Class<?> entityClass) {
+        return progress.get(entityClass);
+    }
+
+    /**
+     * Returns the largest watermark reindexed for a type.
+     * @param entityClass The entity type.
+     * @return the watermark or null if there is none.
+     */
+    public Object getWatermark(Class<?> entityClass) {
+        return watermarks.get(entityClass);
+    }
+
+    /**
+     * Stops reindexing.  Queued types are not reindexed.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<Void> submit(boolean incremental, Class<?>... entityClasses) {
+        return CompletableFuture.allOf(Arrays.stream(entityClasses)
+                .map(entityClass -> {
+                    Progress typeProgress = new Progress();
+                    progress.put(entityClass, typeProgress);
+                    return CompletableFuture.runAsync(() ->
+                            reindex(entityClass, incremental, typeProgress), executor);
+                })
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private void reindex(Class<?> entityClass, boolean incremental, Progress typeProgress) {
+        Options options = typeOptions.getOrDefault(entityClass, defaultOptions);
+        String watermarkField = options.getWatermarkField();
+        Object watermark = incremental && watermarkField != null ? watermarks.get(entityClass) : null;
+
+        typeProgress.state = State.RUNNING;
+        typeProgress.incremental = watermark != null;
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        int threads = Math.max(1, options.getThreads());
+        ExecutorService loaders = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "elide-search-indexer-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            SearchSession session = Search.session(entityManager);
+            String idField = getIdField(entityManager, entityClass);
+
+            // Rows which change while reindexing are picked up by the next incremental reindex.
+            Object nextWatermark = watermarkField == null ? null : entityManager.createQuery(
+                    "SELECT MAX(e." + watermarkField + ") FROM " + entityClass.getName() + " e")
+                    .getSingleResult();
+
+            String from = " FROM " + entityClass.getName() + " e"
+                    + (watermark == null ? "" : " WHERE e." + watermarkField + " >= :watermark");
+            Query count = entityManager.createQuery("SELECT COUNT(e)" + from);
+            Query ids = entityManager.createQuery("SELECT e." + idField + from + " ORDER BY e." + idField);
+            if (watermark != null) {
+                Object lowerBound = lag(watermark, options.getWatermarkLag());
+                count.setParameter("watermark", lowerBound);
+                ids.setParameter("watermark", lowerBound);
+            }
+            typeProgress.addToTotalCount(((Number) count.getSingleResult()).longValue());
+
+            // Ids are read in one pass and their entities are loaded and indexed by the loader threads.
+            Semaphore pending = new Semaphore(threads);
+            List<Future<?>> batches = new ArrayList<>();
+            try (Stream<?> stream = ids.getResultStream()) {
+                Iterator<?> iterator = stream.iterator();
+                List<Object> batch = new ArrayList<>();
+                while (iterator.hasNext()) {
+                    batch.add(iterator.next());
+                    if (batch.size() >= options.getBatchSize() || !iterator.hasNext()) {
+                        List<Object> batchIds = batch;
+                        batch = new ArrayList<>();
+                        pending.acquire();
+                        batches.add(loaders.submit(() -> {
+                            try {
+                                indexBatch(entityClass, idField, batchIds, typeProgress);
+                            } finally {
+                                pending.release();
+                            }
+                        }));
+                    }
+                }
+            }
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+
+            if (watermark == null) {
+                purgeDeleted(entityClass, idField, session, entityManager, options.getBatchSize());
+            }
+
+            if (nextWatermark != null) {
+                watermarks.put(entityClass, nextWatermark);
+            }
+            typeProgress.state = State.COMPLETED;
+            log.info("Reindexed {} {} entities", typeProgress.getDocumentsAdded(), entityClass.getName());
+        } catch (InterruptedException e) {
+            typeProgress.state = State.FAILED;
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            typeProgress.state = State.FAILED;
+            log.error("Unable to reindex {}", entityClass.getName(), e.getCause());
+            throw new IllegalStateException(e.getCause());
+        } catch (RuntimeException e) {
+            typeProgress.state = State.FAILED;
+            log.error("Unable to reindex {}", entityClass.getName(), e);
+            throw e;
+        } finally {
+            loaders.shutdownNow();
+            entityManager.close();
+        }
+    }
+
+    /**
+     * Loads the entities of a batch of ids and adds or updates their documents.  Unlike the mass indexer, which
+     * only adds documents, this does not duplicate the documents of rows which are already indexed.
+     * @param entityClass The entity type.
+     * @param idField The id attribute of the type.
+     * @param ids The ids of the batch.
+     * @param typeProgress The progress of the reindex.
+     */
+    private void indexBatch(Class<?> entityClass, String idField, List<Object> ids, Progress typeProgress) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            SearchIndexingPlan indexingPlan = Search.session(entityManager).indexingPlan();
+            List<?> entities = entityManager.createQuery("SELECT e FROM " + entityClass.getName() + " e WHERE e."
+                    + idField + " IN :ids")
+                    .setParameter("ids", ids)
+                    .getResultList();
+            typeProgress.entitiesLoaded(entities.size());
+
+            entities.forEach(indexingPlan::addOrUpdate);
+            indexingPlan.execute();
+            typeProgress.documentsAdded(entities.size());
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static String getIdField(EntityManager entityManager, Class<?> entityClass) {
+        EntityType<?> entityType = entityManager.getMetamodel().entity(entityClass);
+        return entityType.getId(entityType.getIdType().getJavaType()).getName();
+    }
+
+    /**
+     * Removes the documents of a type whose rows no longer exist.
+     * @param entityClass The entity type.
+     * @param idField The id attribute of the type.
+     * @param session The search session.
+     * @param entityManager The entity manager of the search session.
+     * @param batchSize The number of documents checked per query.
+     */
+    private static void purgeDeleted(Class<?> entityClass, String idField, SearchSession session,
+            EntityManager entityManager, int batchSize) {
+        String existing = "SELECT e." + idField + " FROM " + entityClass.getName() + " e WHERE e." + idField
+                + " IN :ids";
+
+        long purged = 0;
+        try (SearchScroll<Object> scroll = session.search(entityClass)
+                .select(factory -> factory.id())
+                .where(factory -> factory.matchAll())
+                .scroll(batchSize)) {
+            for (SearchScrollResult<Object> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next()) {
+                Set<Object> deleted = new HashSet<>(chunk.hits());
+                deleted.removeAll(entityManager.createQuery(existing)
+                        .setParameter("ids", chunk.hits())
+                        .getResultList());
+                deleted.forEach(id -> session.indexingPlan().purge(entityClass, id, null));
+                purged += deleted.size();
+            }
+        }
+        session.indexingPlan().execute();
+        if (purged > 0) {
+            log.info("Purged {} deleted {} entities", purged, entityClass.getName());
+        }
+    }
+
+    /**
+     * Moves a date or time watermark back by the lag.
+     * @param watermark The watermark of the previous reindex.
+     * @param lag The watermark lag.
+     * @return the watermark less the lag or the watermark itself if it is not a date or time.
+     */
+    private static Object lag(Object watermark, Duration lag) {
+        if (lag == null || lag.isZero()) {
+            return watermark;
+        }
+        if (watermark instanceof Timestamp timestamp) {
+            return new Timestamp(timestamp.getTime() - lag.toMillis());
+        }
+        if (watermark instanceof Date date) {
+            return new Date(date.getTime() - lag.toMillis());
+        }
+        if (watermark instanceof Temporal temporal && temporal.isSupported(ChronoUnit.SECONDS)) {
+            return temporal.minus(lag);
+        }
+        return watermark;
+    }
+}
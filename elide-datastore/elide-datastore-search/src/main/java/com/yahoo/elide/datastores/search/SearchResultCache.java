@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.search;
+
+import com.yahoo.elide.core.type.Type;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A local cache of the identifiers returned by full-text searches.
+ * <p>
+ * Cache keys include a version of the searched type which is incremented whenever a transaction commits changes
+ * to that type.  Entries for older versions are never read again and age out of the cache.
+ */
+public class SearchResultCache {
+    public static final int DEFAULT_MAXIMUM_ENTRIES = 1024;
+
+    private final Cache<Object, Hits> cache;
+    private final Map<Type<?>, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * The identifiers of a page of search hits.
+     */
+    @Value
+    public static class Hits {
+        List<Serializable> ids;
+
+        //null when page totals were not requested.
+        Long pageTotals;
+    }
+
+    public SearchResultCache(int maximumSize, Duration expireAfterWrite) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the current version of a type.
+     * @param entityType The entity type.
+     * @return the version.
+     */
+    public long getVersion(Type<?> entityType) {
+        return versions.computeIfAbsent(entityType, key -> new AtomicLong()).get();
+    }
+
+    /**
+     * Invalidates the cached searches of a type.
+     * @param entityType The entity type which changed.
+     */
+    public void invalidate(Type<?> entityType) {
+        versions.computeIfAbsent(entityType, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    public Hits get(Object key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(Object key, Hits hits) {
+        cache.put(key, hits);
+    }
+
+    public Cache<Object, Hits> getImplementation() {
+        return cache;
+    }
+}
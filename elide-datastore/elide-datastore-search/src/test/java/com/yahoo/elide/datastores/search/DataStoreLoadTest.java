@@ -7,6 +7,7 @@
 package com.yahoo.elide.datastores.search;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -18,6 +19,7 @@ import static org.mockito.internal.verification.VerificationModeFactory.times;
 
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStore;
+import com.yahoo.elide.core.datastore.DataStoreIterable;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.datastore.inmemory.InMemoryStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
@@ -53,6 +55,7 @@ public class DataStoreLoadTest {
 
     private RSQLFilterDialect filterParser;
     private SearchDataStore searchStore;
+    private SearchDataStore scrollingSearchStore;
     private DataStoreTransaction wrappedTransaction;
     private RequestScope mockScope;
     private EntityDictionary dictionary;
@@ -72,6 +75,9 @@ public class DataStoreLoadTest {
         searchStore = new SearchDataStore(mockStore, emf, true, 3, 10);
         searchStore.populateEntityDictionary(dictionary);
 
+        scrollingSearchStore = new SearchDataStore(mockStore, emf, false, 3, 10, 2);
+        scrollingSearchStore.populateEntityDictionary(dictionary);
+
 
         mockScope = mock(RequestScope.class);
         when(mockScope.getDictionary()).thenReturn(dictionary);
@@ -363,6 +369,74 @@ public class DataStoreLoadTest {
         verify(wrappedTransaction, never()).loadObjects(any(), any());
     }
 
+    @Test
+    public void testScrollContainsPredicate() throws Exception {
+        DataStoreTransaction testTransaction = scrollingSearchStore.beginReadTransaction();
+
+        FilterExpression filter = filterParser.parseFilterExpression("description=ini=*CYMBAL*",
+                ClassType.of(Item.class), false);
+
+        Iterable<Object> loaded = testTransaction.loadObjects(EntityProjection.builder()
+                .type(Item.class)
+                .filterExpression(filter)
+                .build(), mockScope);
+
+        assertListContains(loaded, Lists.newArrayList(2L, 4L, 5L));
+        assertEquals(0, ((SearchDataTransaction) testTransaction).getPostFilteredRows());
+        verify(wrappedTransaction, never()).loadObjects(any(), any());
+        testTransaction.close();
+    }
+
+    @Test
+    public void testScrollPrefixPredicate() throws Exception {
+        DataStoreTransaction testTransaction = scrollingSearchStore.beginReadTransaction();
+
+        FilterExpression filter = filterParser.parseFilterExpression("name==Cymbal*", ClassType.of(Item.class), false);
+
+        DataStoreIterable<Object> loaded = testTransaction.loadObjects(EntityProjection.builder()
+                .type(Item.class)
+                .filterExpression(filter)
+                .build(), mockScope);
+
+        //Ride Cymbal matches the index but not the prefix.
+        assertListContains(loaded, Lists.newArrayList(4L, 5L));
+        assertFalse(loaded.needsInMemoryFilter());
+        assertEquals(1, ((SearchDataTransaction) testTransaction).getPostFilteredRows());
+        testTransaction.close();
+    }
+
+    @Test
+    public void testScrollPrefixPredicatePagination() throws Exception {
+        DataStoreTransaction testTransaction = scrollingSearchStore.beginReadTransaction();
+
+        Map<String, Sorting.SortOrder> sortRules = new HashMap<>();
+        sortRules.put("name", Sorting.SortOrder.desc);
+        sortRules.put("modifiedDate", Sorting.SortOrder.asc);
+        Sorting sorting = new SortingImpl(sortRules, Item.class, dictionary);
+
+        PaginationImpl pagination = new PaginationImpl(Item.class, 1, 1,
+                PaginationImpl.DEFAULT_PAGE_LIMIT,
+                PaginationImpl.MAX_PAGE_LIMIT,
+                true,
+                false);
+
+        FilterExpression filter = filterParser.parseFilterExpression("name==Cymbal*", ClassType.of(Item.class), false);
+
+        DataStoreIterable<Object> loaded = testTransaction.loadObjects(EntityProjection.builder()
+                .type(Item.class)
+                .filterExpression(filter)
+                .sorting(sorting)
+                .pagination(pagination)
+                .build(), mockScope);
+
+        assertListMatches(loaded, Lists.newArrayList(4L));
+        assertEquals(2, pagination.getPageTotals());
+        assertFalse(loaded.needsInMemoryPagination());
+        assertEquals(1, ((SearchDataTransaction) testTransaction).getPostFilteredRows());
+        verify(wrappedTransaction, never()).loadObjects(any(), any());
+        testTransaction.close();
+    }
+
     @Test
     public void testEscapeWhiteSpace() {
         String toReplace = "Foo\tBar Blah\nFoobar";
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.datastores.search.models.Item;
+import org.hibernate.search.mapper.orm.Search;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SearchIndexerTest {
+    private final EntityManagerFactory emf = Persistence.createEntityManagerFactory("searchDataStoreTest");
+
+    @AfterAll
+    public void cleanup() {
+        emf.close();
+    }
+
+    @Test
+    public void testReindex() throws Exception {
+        try (SearchIndexer indexer = new SearchIndexer(emf)) {
+            indexer.reindex(Item.class).get(30, TimeUnit.SECONDS);
+
+            SearchIndexer.Progress progress = indexer.getProgress(Item.class);
+            assertEquals(SearchIndexer.State.COMPLETED, progress.getState());
+            assertEquals(7, progress.getTotalCount());
+            assertEquals(7, progress.getDocumentsAdded());
+            assertFalse(progress.isIncremental());
+            assertEquals(7, indexedItems());
+        }
+    }
+
+    @Test
+    public void testReindexChanged() throws Exception {
+        SearchIndexer.Options options = SearchIndexer.Options.builder()
+                .threads(2)
+                .batchSize(2)
+                .watermarkField("modifiedDate")
+                .build();
+
+        try (SearchIndexer indexer = new SearchIndexer(emf, options, Map.of())) {
+            //Without a watermark the type is fully reindexed.
+            indexer.reindexChanged(Item.class).get(30, TimeUnit.SECONDS);
+            assertFalse(indexer.getProgress(Item.class).isIncremental());
+            assertNotNull(indexer.getWatermark(Item.class));
+
+            //Bypasses automatic indexing.
+            inTransaction(entityManager -> entityManager
+                    .createNativeQuery("INSERT INTO item (id, name, description, modifiedDate, price) "
+                            + "VALUES (100, 'Tom Drum', 'A floor tom', '2019-01-01 00:00:00', 300)")
+                    .executeUpdate());
+            assertEquals(7, indexedItems());
+
+            indexer.reindexChanged(Item.class).get(30, TimeUnit.SECONDS);
+
+            SearchIndexer.Progress progress = indexer.getProgress(Item.class);
+            assertEquals(SearchIndexer.State.COMPLETED, progress.getState());
+            assertTrue(progress.isIncremental());
+            //The row at the previous watermark is reindexed again along with the new row.
+            assertEquals(2, progress.getDocumentsAdded());
+            assertEquals(8, indexedItems());
+        } finally {
+            inTransaction(entityManager -> entityManager
+                    .createNativeQuery("DELETE FROM item WHERE id = 100")
+                    .executeUpdate());
+        }
+    }
+
+    @Test
+    public void testReindexRemovesDeletedRows() throws Exception {
+        try (SearchIndexer indexer = new SearchIndexer(emf)) {
+            //Bypasses automatic indexing.
+            inTransaction(entityManager -> entityManager
+                    .createNativeQuery("INSERT INTO item (id, name, description, modifiedDate, price) "
+                            + "VALUES (101, 'Cowbell', 'A cowbell', '2019-01-01 00:00:00', 20)")
+                    .executeUpdate());
+            indexer.reindex(Item.class).get(30, TimeUnit.SECONDS);
+            assertEquals(8, indexedItems());
+
+            inTransaction(entityManager -> entityManager
+                    .createNativeQuery("DELETE FROM item WHERE id = 101")
+                    .executeUpdate());
+            assertEquals(8, indexedItems());
+
+            indexer.reindex(Item.class).get(30, TimeUnit.SECONDS);
+            assertEquals(SearchIndexer.State.COMPLETED, indexer.getProgress(Item.class).getState());
+            assertEquals(7, indexedItems());
+        } finally {
+            inTransaction(entityManager -> entityManager
+                    .createNativeQuery("DELETE FROM item WHERE id = 101")
+                    .executeUpdate());
+        }
+    }
+
+    private long indexedItems() {
+        EntityManager entityManager = emf.createEntityManager();
+        try {
+            return Search.session(entityManager).search(Item.class)
+                    .where(factory -> factory.matchAll())
+                    .fetchTotalHitCount();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private void inTransaction(Consumer<EntityManager> work) {
+        EntityManager entityManager = emf.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            work.accept(entityManager);
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.datastores.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStore;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.pagination.PaginationImpl;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.datastores.search.models.Item;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Persistence;
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SearchResultCacheTest {
+    private final EntityDictionary dictionary;
+    private final RSQLFilterDialect filterParser;
+    private final EntityManagerFactory emf;
+    private final SearchResultCache cache;
+    private final SearchDataStore searchStore;
+    private final DataStore mockStore;
+    private final DataStoreTransaction wrappedTransaction;
+    private final RequestScope mockScope;
+
+    public SearchResultCacheTest() {
+        dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Item.class);
+        dictionary.bindEntity(Review.class);
+
+        filterParser = RSQLFilterDialect.builder().dictionary(dictionary).build();
+
+        mockStore = mock(DataStore.class);
+        wrappedTransaction = mock(DataStoreTransaction.class);
+        when(mockStore.beginReadTransaction()).thenReturn(wrappedTransaction);
+        when(mockStore.beginTransaction()).thenReturn(wrappedTransaction);
+
+        emf = Persistence.createEntityManagerFactory("searchDataStoreTest");
+        cache = new SearchResultCache(SearchResultCache.DEFAULT_MAXIMUM_ENTRIES, Duration.ofMinutes(10));
+
+        searchStore = new SearchDataStore(mockStore, emf, true, 3, 10, 0, null, cache);
+        searchStore.populateEntityDictionary(dictionary);
+
+        mockScope = mock(RequestScope.class);
+        when(mockScope.getDictionary()).thenReturn(dictionary);
+    }
+
+    @AfterAll
+    public void cleanup() {
+        emf.close();
+    }
+
+    @Test
+    public void testWritesInvalidateCachedSearches() throws Exception {
+        PaginationImpl pagination = pagination();
+        assertEquals(List.of(1L, 3L), search(pagination));
+        assertEquals(2, pagination.getPageTotals());
+        assertEquals(0, cache.getImplementation().stats().hitCount());
+
+        //Served from the cache including the page totals.
+        pagination = pagination();
+        assertEquals(List.of(1L, 3L), search(pagination));
+        assertEquals(2, pagination.getPageTotals());
+        assertEquals(1, cache.getImplementation().stats().hitCount());
+
+        try (DataStoreTransaction writeTransaction = searchStore.beginTransaction()) {
+            writeTransaction.save(new Item(), mockScope);
+            writeTransaction.commit(mockScope);
+        }
+        verify(wrappedTransaction).commit(mockScope);
+
+        assertEquals(List.of(1L, 3L), search(pagination()));
+        assertEquals(1, cache.getImplementation().stats().hitCount());
+        assertEquals(2, cache.getImplementation().stats().missCount());
+        verify(wrappedTransaction, never()).loadObjects(any(), any());
+    }
+
+    @Test
+    public void testFiltersPrintingTheSameAreCachedSeparately() throws Exception {
+        FilterExpression twoValues = new FilterPredicate(new Path(Item.class, dictionary, "name"),
+                Operator.INFIX_CASE_INSENSITIVE, List.of("drum", "cym"));
+        FilterExpression oneValue = new FilterPredicate(new Path(Item.class, dictionary, "name"),
+                Operator.INFIX_CASE_INSENSITIVE, List.of("drum, cym"));
+        assertEquals(twoValues.toString(), oneValue.toString());
+
+        SearchResultCache separateCache = new SearchResultCache(SearchResultCache.DEFAULT_MAXIMUM_ENTRIES,
+                Duration.ofMinutes(10));
+        SearchDataStore separateStore = new SearchDataStore(mockStore, emf, false, 3, 10, 0, null, separateCache);
+        separateStore.populateEntityDictionary(dictionary);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), search(separateStore, twoValues, pagination()));
+        assertEquals(List.of(), search(separateStore, oneValue, pagination()));
+        assertEquals(0, separateCache.getImplementation().stats().hitCount());
+    }
+
+    @Test
+    public void testWritesInvalidateEmbeddingTypes() throws Exception {
+        long version = cache.getVersion(ClassType.of(Review.class));
+
+        try (DataStoreTransaction writeTransaction = searchStore.beginTransaction()) {
+            writeTransaction.save(new Item(), mockScope);
+            writeTransaction.commit(mockScope);
+        }
+
+        assertEquals(version + 1, cache.getVersion(ClassType.of(Review.class)));
+    }
+
+    @Test
+    public void testSubMinuteExpiry() {
+        SearchResultCache shortLived = new SearchResultCache(SearchResultCache.DEFAULT_MAXIMUM_ENTRIES,
+                Duration.ofSeconds(30));
+        shortLived.put("key", new SearchResultCache.Hits(List.of(1L), null));
+
+        assertNotNull(shortLived.get("key"));
+        assertEquals(1, shortLived.getImplementation().stats().hitCount());
+    }
+
+    private List<Long> search(PaginationImpl pagination) throws Exception {
+        return search(searchStore, filterParser.parseFilterExpression("name=ini=*DrU*", ClassType.of(Item.class),
+                false), pagination);
+    }
+
+    private List<Long> search(SearchDataStore store, FilterExpression filterExpression, PaginationImpl pagination)
+            throws Exception {
+        try (DataStoreTransaction testTransaction = store.beginReadTransaction()) {
+            Iterable<Object> loaded = testTransaction.loadObjects(EntityProjection.builder()
+                    .type(Item.class)
+                    .filterExpression(filterExpression)
+                    .pagination(pagination)
+                    .build(), mockScope);
+
+            return StreamSupport.stream(loaded.spliterator(), false)
+                    .map(obj -> ((Item) obj).getId())
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Embeds items in its documents.  It is not mapped by the persistence unit, so it is not indexed itself.
+     */
+    @Include
+    @Data
+    public static class Review {
+        @Id
+        private long id;
+
+        @ManyToOne
+        @IndexedEmbedded
+        private Item item;
+    }
+
+    private static PaginationImpl pagination() {
+        return new PaginationImpl(Item.class, 0, 10,
+                PaginationImpl.DEFAULT_PAGE_LIMIT,
+                PaginationImpl.MAX_PAGE_LIMIT,
+                true,
+                false);
+    }
+}
@@ -480,7 +480,7 @@ public class PersistentResourceFetcher implements DataFetcher<Object>, QueryLogg
 
         ConnectionContainer connection = (ConnectionContainer) fetchObjects(context);
         Set<PersistentResource> toDelete = connection.getPersistentResources();
-        toDelete.forEach(PersistentResource::deleteResource);
+        PersistentResource.deleteResources(toDelete);
 
         return new ConnectionContainer(
                 Collections.emptySet(),
@@ -510,7 +510,7 @@ public class PersistentResourceFetcher implements DataFetcher<Object>, QueryLogg
         if (!context.isRoot()) { /* has parent */
             toRemove.forEach(item -> context.parentResource.removeRelation(context.field.getName(), item));
         } else { /* is root */
-            toRemove.forEach(PersistentResource::deleteResource);
+            PersistentResource.deleteResources(toRemove);
         }
 
         return new ConnectionContainer(
@@ -545,7 +545,7 @@ public class PersistentResourceFetcher implements DataFetcher<Object>, QueryLogg
         if (!context.isRoot()) { /* has parent */
             toDelete.forEach(item -> context.parentResource.removeRelation(context.field.getName(), item));
         } else { /* is root */
-            toDelete.forEach(PersistentResource::deleteResource);
+            PersistentResource.deleteResources(toDelete);
         }
         return upsertedObjects;
     }
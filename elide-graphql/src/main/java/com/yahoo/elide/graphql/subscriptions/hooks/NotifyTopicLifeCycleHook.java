@@ -44,14 +44,27 @@ public class NotifyTopicLifeCycleHook<T> implements LifeCycleHook<T> {
 
     private Gson gson;
 
+    //Sends messages in the background.  null means messages are sent on the request thread.
+    private TopicPublisher publisher;
+
     public NotifyTopicLifeCycleHook(
             ConnectionFactory connectionFactory,
             Function<JMSContext, JMSProducer> createProducer,
             Gson gson
+    ) {
+        this(connectionFactory, createProducer, gson, null);
+    }
+
+    public NotifyTopicLifeCycleHook(
+            ConnectionFactory connectionFactory,
+            Function<JMSContext, JMSProducer> createProducer,
+            Gson gson,
+            TopicPublisher publisher
     ) {
         this.connectionFactory = connectionFactory;
         this.createProducer = createProducer;
         this.gson = gson;
+        this.publisher = publisher;
     }
 
     @Override
@@ -66,7 +79,13 @@ public class NotifyTopicLifeCycleHook<T> implements LifeCycleHook<T> {
         TopicType topicType = TopicType.fromOperation(operation);
         String topicName = topicType.toTopicName(modelType, resource.getDictionary());
 
-        publish(resource.getObject(), topicName);
+        if (publisher == null) {
+            publish(resource.getObject(), topicName);
+        } else {
+            String message = gson.toJson(resource.getObject());
+            log.debug("Serializing {}", message);
+            publisher.publish(createProducer, topicName, resource.getId(), message);
+        }
     }
 
     @Override
@@ -44,6 +44,9 @@ public class SubscriptionScanner {
     @Builder.Default
     private int messagePriority = Message.DEFAULT_PRIORITY;
 
+    //Sends messages in the background.  null means messages are sent on the request thread.
+    private TopicPublisher publisher;
+
     public void bindLifecycleHooks() {
 
         GsonBuilder gsonBuilder = new GsonBuilder();
@@ -80,7 +83,7 @@ public class SubscriptionScanner {
                                 modelType,
                                 LifeCycleHookBinding.Operation.DELETE,
                                 LifeCycleHookBinding.TransactionPhase.POSTCOMMIT,
-                                new NotifyTopicLifeCycleHook(connectionFactory, producerFactory, gson),
+                                new NotifyTopicLifeCycleHook(connectionFactory, producerFactory, gson, publisher),
                                 false
                         );
                         break;
@@ -90,7 +93,7 @@ public class SubscriptionScanner {
                                 modelType,
                                 LifeCycleHookBinding.Operation.CREATE,
                                 LifeCycleHookBinding.TransactionPhase.POSTCOMMIT,
-                                new NotifyTopicLifeCycleHook(connectionFactory, producerFactory, gson),
+                                new NotifyTopicLifeCycleHook(connectionFactory, producerFactory, gson, publisher),
                                 false
                         );
                         break;
@@ -116,7 +119,7 @@ public class SubscriptionScanner {
                         fieldName,
                         LifeCycleHookBinding.Operation.UPDATE,
                         LifeCycleHookBinding.TransactionPhase.POSTCOMMIT,
-                        new NotifyTopicLifeCycleHook(connectionFactory, producerFactory, gson)
+                        new NotifyTopicLifeCycleHook(connectionFactory, producerFactory, gson, publisher)
                 );
             }
         });
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.graphql.subscriptions.hooks;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSProducer;
+import jakarta.jms.JMSRuntimeException;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Publishes subscription messages to JMS topics from a background thread.
+ * <p>
+ * Messages are queued by the request thread and sent in batches over a single long lived JMS context instead of
+ * opening a context per message.  When the queue is full the message is sent on the calling thread so that
+ * no message is lost.  Optionally, multiple queued messages for the same entity and topic are coalesced so that
+ * only the most recent one is sent.
+ */
+@Slf4j
+public class TopicPublisher implements Closeable {
+    public static final int DEFAULT_QUEUE_SIZE = 10000;
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private static final long CLOSE_TIMEOUT_MS = 10000;
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final ConnectionFactory connectionFactory;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final boolean coalesce;
+    private final Thread sender;
+    private final AtomicLong publishedMessages = new AtomicLong();
+    private final AtomicLong failedMessages = new AtomicLong();
+    private final AtomicLong coalescedMessages = new AtomicLong();
+    private final AtomicLong overflowedMessages = new AtomicLong();
+    private volatile boolean closed = false;
+
+    // Only accessed by the sender thread.
+    private JMSContext context;
+    private final Map<Function<JMSContext, JMSProducer>, JMSProducer> producers = new IdentityHashMap<>();
+
+    /**
+     * Constructor.
+     * @param connectionFactory The JMS connection factory.
+     */
+    public TopicPublisher(ConnectionFactory connectionFactory) {
+        this(connectionFactory, DEFAULT_QUEUE_SIZE, DEFAULT_BATCH_SIZE, false);
+    }
+
+    /**
+     * Constructor.
+     * @param connectionFactory The JMS connection factory.
+     * @param queueSize The maximum number of queued messages.
+     * @param batchSize The maximum number of messages sent per batch.
+     * @param coalesce Whether to only send the most recent queued message for the same entity and topic.
+     */
+    public TopicPublisher(ConnectionFactory connectionFactory, int queueSize, int batchSize, boolean coalesce) {
+        this.connectionFactory = connectionFactory;
+        this.queue = new LinkedBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.coalesce = coalesce;
+        this.sender = new Thread(this::run, "elide-topic-publisher");
+        this.sender.setDaemon(true);
+        this.sender.start();
+    }
+
+    /**
+     * Queues a message for publishing.
+     * @param createProducer Creates the producer which sends the message.
+     * @param topicName The topic name to publish to.
+     * @param key Identifies the entity of the message for coalescing.
+     * @param message The serialized message.
+     */
+    public void publish(Function<JMSContext, JMSProducer> createProducer, String topicName, String key,
+            String message) {
+        PendingMessage pending = new PendingMessage(createProducer, topicName, key, message);
+        if (closed || !queue.offer(pending)) {
+            overflowedMessages.incrementAndGet();
+            sendNow(pending);
+        }
+    }
+
+    /**
+     * Returns the number of messages sent.
+     * @return the number of messages sent.
+     */
+    public long getPublishedMessages() {
+        return publishedMessages.get();
+    }
+
+    /**
+     * Returns the number of messages which could not be delivered to the broker.
+     * @return the number of failed messages.
+     */
+    public long getFailedMessages() {
+        return failedMessages.get();
+    }
+
+    /**
+     * Returns the number of messages skipped because a more recent message for the same entity was queued.
+     * @return the number of coalesced messages.
+     */
+    public long getCoalescedMessages() {
+        return coalescedMessages.get();
+    }
+
+    /**
+     * Returns the number of messages sent on the calling thread because the queue was full.
+     * @return the number of overflowed messages.
+     */
+    public long getOverflowedMessages() {
+        return overflowedMessages.get();
+    }
+
+    /**
+     * Returns the number of messages waiting to be sent.
+     * @return the queue size.
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Sends the queued messages and stops the background thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            sender.join(CLOSE_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            queue.drainTo(batch, batchSize - 1);
+            send(coalesce ? coalesce(batch) : batch);
+            batch.clear();
+        }
+        closeContext();
+    }
+
+    private Collection<PendingMessage> coalesce(List<PendingMessage> batch) {
+        Map<Object, PendingMessage> latest = new LinkedHashMap<>();
+        for (PendingMessage message : batch) {
+            // Messages without a key are never coalesced.
+            Object id = message.key == null ? new Object() : List.of(message.topicName, message.key);
+            if (latest.put(id, message) != null) {
+                coalescedMessages.incrementAndGet();
+            }
+        }
+        return latest.values();
+    }
+
+    private void send(Collection<PendingMessage> batch) {
+        for (PendingMessage message : batch) {
+            try {
+                if (context == null) {
+                    context = connectionFactory.createContext();
+                }
+                JMSProducer producer = producers.computeIfAbsent(message.createProducer,
+                        createProducer -> createProducer.apply(context));
+                producer.send(context.createTopic(message.topicName), message.message);
+                publishedMessages.incrementAndGet();
+            } catch (JMSRuntimeException e) {
+                failedMessages.incrementAndGet();
+                log.error("Unable to publish message to topic {}", message.topicName, e);
+
+                // Reconnect for the next message.
+                closeContext();
+            }
+        }
+    }
+
+    private void sendNow(PendingMessage message) {
+        try (JMSContext context = connectionFactory.createContext()) {
+            message.createProducer.apply(context).send(context.createTopic(message.topicName), message.message);
+            publishedMessages.incrementAndGet();
+        } catch (JMSRuntimeException e) {
+            failedMessages.incrementAndGet();
+            log.error("Unable to publish message to topic {}", message.topicName, e);
+        }
+    }
+
+    private void closeContext() {
+        producers.clear();
+        if (context != null) {
+            try {
+                context.close();
+            } catch (JMSRuntimeException e) {
+                log.debug("Exception throws while closing context: {}", e.getMessage());
+            }
+            context = null;
+        }
+    }
+
+    @AllArgsConstructor
+    private static class PendingMessage {
+        private final Function<JMSContext, JMSProducer> createProducer;
+        private final String topicName;
+        private final String key;
+        private final String message;
+    }
+}
@@ -37,10 +37,15 @@ import java.time.Duration;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implements the graphql-ws protocol (https://github.com/enisdenjo/graphql-ws/blob/master/PROTOCOL.md)
@@ -58,10 +63,13 @@ public class SessionHandler {
     protected long connectionTimeoutMs;
     protected int maxSubscriptions;
     protected Thread timeoutThread;
+    protected Future<?> timeoutTask;
     protected boolean initialized = false;
     protected boolean sendPingOnSubscribe = false;
     protected boolean verboseErrors = false;
     protected ExecutorService executorService;
+    protected boolean ownsExecutorService;
+    protected Set<Future<?>> requestTasks = ConcurrentHashMap.newKeySet();
     protected boolean isOpen = true;
 
     /**
@@ -88,6 +96,38 @@ public class SessionHandler {
             boolean sendPingOnSubscribe,
             boolean verboseErrors,
             ExecutorService executorService) {
+        this(wrappedSession, topicStore, elide, api, connectionTimeout, maxSubscriptions, connectionInfo,
+                sendPingOnSubscribe, verboseErrors, executorService, null);
+    }
+
+    /**
+     * Constructor.
+     * @param wrappedSession The underlying platform session object.
+     * @param topicStore The JMS data store.
+     * @param elide Elide instance.
+     * @param api GraphQL api.
+     * @param connectionTimeout Connection timeout in milliseconds.
+     * @param maxSubscriptions Max number of outstanding subscriptions per web socket.
+     * @param connectionInfo Connection metadata.
+     * @param sendPingOnSubscribe Sends a ping on subscribe message (to aid with testing).
+     * @param verboseErrors Send verbose error messages.
+     * @param executorService Executor Service to launch threads.  If null the session makes its own.
+     *                        A shared executor is not shut down when the session closes.
+     * @param timeoutScheduler Scheduler shared by all sessions for connection timeouts.  If null the session
+     *                         starts its own timer thread.
+     */
+    public SessionHandler(
+            Session wrappedSession,
+            DataStore topicStore,
+            Elide elide,
+            GraphQL api,
+            Duration connectionTimeout,
+            int maxSubscriptions,
+            ConnectionInfo connectionInfo,
+            boolean sendPingOnSubscribe,
+            boolean verboseErrors,
+            ExecutorService executorService,
+            ScheduledExecutorService timeoutScheduler) {
         Preconditions.checkState(maxSubscriptions > 0);
         this.wrappedSession = wrappedSession;
         this.topicStore = topicStore;
@@ -102,11 +142,17 @@ public class SessionHandler {
         this.verboseErrors = verboseErrors;
         if (executorService == null) {
             this.executorService = Executors.newFixedThreadPool(maxSubscriptions);
+            this.ownsExecutorService = true;
         } else {
             this.executorService = executorService;
         }
-        this.timeoutThread = new Thread(new ConnectionTimer());
-        this.timeoutThread.start();
+        if (timeoutScheduler == null) {
+            this.timeoutThread = new Thread(new ConnectionTimer());
+            this.timeoutThread.start();
+        } else {
+            this.timeoutTask = timeoutScheduler.schedule(this::handleConnectionTimeout,
+                    connectionTimeoutMs, TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
@@ -119,6 +165,8 @@ public class SessionHandler {
 
         isOpen = false;
 
+        cancelConnectionTimer();
+
         //Iterator here to avoid concurrent modification exceptions.
         Iterator<Map.Entry<String, RequestHandler>> iterator = activeRequests.entrySet().iterator();
         while (iterator.hasNext()) {
@@ -129,7 +177,12 @@ public class SessionHandler {
         }
         wrappedSession.close(reason);
 
-        executorService.shutdownNow();
+        if (ownsExecutorService) {
+            executorService.shutdownNow();
+        } else {
+            requestTasks.forEach(task -> task.cancel(true));
+            requestTasks.clear();
+        }
         log.debug("SessionHandler closed");
     }
 
@@ -201,7 +254,7 @@ public class SessionHandler {
             return;
         }
 
-        timeoutThread.interrupt();
+        cancelConnectionTimer();
 
         safeSendConnectionAck();
         initialized = true;
@@ -232,12 +285,28 @@ public class SessionHandler {
 
         activeRequests.put(protocolID, requestHandler);
 
-        executorService.submit(new Runnable() {
-            @Override
-            public void run() {
-                requestHandler.handleRequest(subscribe);
-            }
-        });
+        //Forget finished requests so a long lived session on a shared executor does not accumulate them.
+        requestTasks.removeIf(Future::isDone);
+
+        Future<?> task;
+        try {
+            task = executorService.submit(new Runnable() {
+                @Override
+                public void run() {
+                    requestHandler.handleRequest(subscribe);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            //The shared executor is full.  Fail this subscription but keep the session open.
+            log.debug("Subscription {} rejected: {}", protocolID, e.getMessage());
+            requestHandler.safeSendError("Too many active subscriptions");
+            requestHandler.safeClose();
+            return;
+        }
+
+        if (!task.isDone()) {
+            requestTasks.add(task);
+        }
     }
 
     protected void handleComplete(Complete complete) {
@@ -304,6 +373,20 @@ public class SessionHandler {
         log.debug("UNEXPECTED: Sending message {} on closed session", message);
     }
 
+    protected void handleConnectionTimeout() {
+        if (activeRequests.size() == 0) {
+            safeClose(CONNECTION_TIMEOUT);
+        }
+    }
+
+    protected void cancelConnectionTimer() {
+        if (timeoutTask != null) {
+            timeoutTask.cancel(false);
+        } else if (timeoutThread != null && timeoutThread != Thread.currentThread()) {
+            timeoutThread.interrupt();
+        }
+    }
+
     /**
      * Closes the socket if SUBSCRIBE has not been received in the allotted time.
      */
@@ -313,11 +396,9 @@ public class SessionHandler {
         public void run() {
             try {
                 Thread.sleep(connectionTimeoutMs);
-                if (activeRequests.size() == 0) {
-                   safeClose(CONNECTION_TIMEOUT);
-               }
+                handleConnectionTimeout();
             } catch (InterruptedException e) {
-                log.debug("UNEXPECTED: Timeout thread interrupted: " + e.getMessage());
+                log.debug("Timeout thread interrupted: " + e.getMessage());
             }
         }
     }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.graphql.subscriptions.websocket;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factories for the executors shared by every web socket session.
+ * <p>
+ * By default each session creates its own subscription thread pool and connection timer thread.  Sharing these
+ * executors bounds the number of threads regardless of how many clients are connected.
+ */
+public final class SubscriptionExecutors {
+    public static final int DEFAULT_MAX_THREADS = 200;
+
+    private SubscriptionExecutors() {
+    }
+
+    /**
+     * Creates a bounded executor which runs the subscriptions of all sessions.  Idle threads are released.
+     * A running subscription holds its thread until it completes, so subscriptions are not queued: once every
+     * thread is busy, further subscriptions are rejected with a {@link RejectedExecutionException} and the session
+     * reports an error to the client.
+     * @param maxThreads The maximum number of concurrently running subscriptions.
+     * @return the executor.
+     */
+    public static ExecutorService newSubscriptionExecutor(int maxThreads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactory("elide-subscription-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates a single threaded scheduler which drives the connection timeouts of all sessions.
+     * Cancelled timeouts are removed immediately so connections which initialize do not accumulate.
+     * @return the scheduler.
+     */
+    public static ScheduledExecutorService newConnectionTimeoutScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+                threadFactory("elide-subscription-timeout-"));
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
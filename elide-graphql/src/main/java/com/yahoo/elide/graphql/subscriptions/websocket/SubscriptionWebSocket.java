@@ -40,6 +40,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * JSR-356 Implementation of a web socket endpoint for GraphQL subscriptions.  JSR-356 should allow
@@ -51,6 +52,7 @@ import java.util.concurrent.ExecutorService;
 public class SubscriptionWebSocket {
     private Elide elide;
     private ExecutorService executorService;
+    private ScheduledExecutorService connectionTimeoutScheduler;
 
     @Builder.Default
     private Duration connectionTimeout = Duration.ofMillis(5000);
@@ -114,9 +116,41 @@ public class SubscriptionWebSocket {
             boolean sendPingOnSubscribe,
             boolean verboseErrors,
             DataFetcherExceptionHandler dataFetcherExceptionHandler
+    ) {
+        this(elide, executorService, null, connectionTimeout, maxSubscriptions, userFactory, maxIdleTimeout,
+                maxMessageSize, sendPingOnSubscribe, verboseErrors, dataFetcherExceptionHandler);
+    }
+
+    /**
+     * Constructor.
+     * @param elide Elide instance.
+     * @param executorService Thread pool for all websockets. If null each session will make its own.
+     * @param connectionTimeoutScheduler Connection timeout scheduler for all websockets.  If null each session
+     *                                   will start its own timer thread.
+     * @param connectionTimeout Connection timeout.
+     * @param maxSubscriptions The maximum number of concurrent subscriptions per socket.
+     * @param userFactory A function which creates an Elide user given a session object.
+     * @param maxIdleTimeout Max idle time on the websocket before disconnect.
+     * @param maxMessageSize Maximum message size allowed on this websocket.
+     * @param sendPingOnSubscribe testing option to ping the client when subscribe is ready.
+     * @param verboseErrors whether or not to send verbose errors.
+     */
+    protected SubscriptionWebSocket(
+            Elide elide,
+            ExecutorService executorService,
+            ScheduledExecutorService connectionTimeoutScheduler,
+            Duration connectionTimeout,
+            int maxSubscriptions,
+            UserFactory userFactory,
+            Duration maxIdleTimeout,
+            int maxMessageSize,
+            boolean sendPingOnSubscribe,
+            boolean verboseErrors,
+            DataFetcherExceptionHandler dataFetcherExceptionHandler
     ) {
         this.elide = elide;
         this.executorService = executorService;
+        this.connectionTimeoutScheduler = connectionTimeoutScheduler;
         this.connectionTimeout = connectionTimeout;
         this.maxSubscriptions = maxSubscriptions;
         this.userFactory = userFactory;
@@ -236,6 +270,7 @@ public class SubscriptionWebSocket {
                         .getApiVersion(apiVersion).build(),
                 sendPingOnSubscribe,
                 verboseErrors,
-                executorService);
+                executorService,
+                connectionTimeoutScheduler);
     }
 }
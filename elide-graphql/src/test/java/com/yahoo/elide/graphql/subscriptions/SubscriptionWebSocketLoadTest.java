@@ -0,0 +1,212 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql.subscriptions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideSettingsBuilder;
+import com.yahoo.elide.core.datastore.DataStore;
+import com.yahoo.elide.core.datastore.DataStoreIterableBuilder;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.dictionary.ArgumentType;
+import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.graphql.ExecutionResultSerializer;
+import com.yahoo.elide.graphql.GraphQLErrorSerializer;
+import com.yahoo.elide.graphql.GraphQLTest;
+import com.yahoo.elide.graphql.subscriptions.hooks.TopicType;
+import com.yahoo.elide.graphql.subscriptions.websocket.SubscriptionExecutors;
+import com.yahoo.elide.graphql.subscriptions.websocket.SubscriptionWebSocket;
+import com.yahoo.elide.graphql.subscriptions.websocket.protocol.ConnectionInit;
+import com.yahoo.elide.graphql.subscriptions.websocket.protocol.Subscribe;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import example.Book;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionResult;
+import graphql.GraphQLError;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens many idle and active web sockets and reports the threads and memory they use.
+ * <p>
+ * Excluded from the default build.  Run it with {@code mvn test -Dtest=SubscriptionWebSocketLoadTest -DexcludeTags=}.
+ */
+@Tag("load")
+@Slf4j
+public class SubscriptionWebSocketLoadTest extends GraphQLTest {
+    private static final int IDLE_CONNECTIONS = 1000;
+    private static final int ACTIVE_CONNECTIONS = 50;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Elide elide;
+
+    public SubscriptionWebSocketLoadTest() {
+        RSQLFilterDialect filterDialect = RSQLFilterDialect.builder().dictionary(dictionary).build();
+
+        dictionary.addArgumentToEntity(ClassType.of(Book.class), ArgumentType
+                .builder()
+                .name("topic")
+                .type(ClassType.of(TopicType.class))
+                .build());
+
+        DataStore dataStore = mock(DataStore.class);
+        DataStoreTransaction dataStoreTransaction = mock(DataStoreTransaction.class);
+        when(dataStore.beginReadTransaction()).thenReturn(dataStoreTransaction);
+        when(dataStoreTransaction.getAttribute(any(), any(), any())).thenCallRealMethod();
+
+        //Active subscriptions wait for a message until the test releases them.
+        when(dataStoreTransaction.loadObjects(any(), any())).thenAnswer(invocation ->
+                new DataStoreIterableBuilder<>(() -> new Iterator<Object>() {
+                    @Override
+                    public boolean hasNext() {
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return false;
+                    }
+
+                    @Override
+                    public Object next() {
+                        throw new IllegalStateException();
+                    }
+                }).build());
+
+        elide = new Elide(new ElideSettingsBuilder(dataStore)
+                .withEntityDictionary(dictionary)
+                .withJoinFilterDialect(filterDialect)
+                .withSubqueryFilterDialect(filterDialect)
+                .withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC"))
+                .build());
+
+        elide.getMapper().getObjectMapper().registerModule(new SimpleModule("Test")
+                .addSerializer(ExecutionResult.class, new ExecutionResultSerializer(new GraphQLErrorSerializer()))
+                .addSerializer(GraphQLError.class, new GraphQLErrorSerializer()));
+    }
+
+    @Test
+    void testSharedExecutorsBoundThreads() throws Exception {
+        ThreadPoolExecutor executor =
+                (ThreadPoolExecutor) SubscriptionExecutors.newSubscriptionExecutor(ACTIVE_CONNECTIONS);
+        ScheduledThreadPoolExecutor scheduler =
+                (ScheduledThreadPoolExecutor) SubscriptionExecutors.newConnectionTimeoutScheduler();
+
+        try {
+            SubscriptionWebSocket endpoint = SubscriptionWebSocket.builder()
+                    .executorService(executor)
+                    .connectionTimeoutScheduler(scheduler)
+                    .connectionTimeout(Duration.ofMinutes(1))
+                    .elide(elide).build();
+
+            load(endpoint, IDLE_CONNECTIONS, ACTIVE_CONNECTIONS, "shared");
+
+            //One timeout thread and a subscription thread per active connection regardless of idle connections.
+            assertEquals(ACTIVE_CONNECTIONS, executor.getLargestPoolSize());
+            assertTrue(scheduler.getLargestPoolSize() <= 1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPerConnectionThreads() throws Exception {
+        SubscriptionWebSocket endpoint = SubscriptionWebSocket.builder()
+                .connectionTimeout(Duration.ofMinutes(1))
+                .elide(elide).build();
+
+        try {
+            //A smaller load for comparison since every connection starts its own threads.
+            load(endpoint, IDLE_CONNECTIONS / 5, ACTIVE_CONNECTIONS, "per connection");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * Opens idle (waiting for connection init) and active (one pending subscription) connections and logs the
+     * threads and memory they use.
+     */
+    private void load(SubscriptionWebSocket endpoint, int idle, int active, String mode) throws Exception {
+        System.gc();
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+        long memoryBefore = usedMemory();
+
+        String init = mapper.writeValueAsString(new ConnectionInit());
+        String subscribe = mapper.writeValueAsString(Subscribe.builder()
+                .id("1")
+                .payload(Subscribe.Payload.builder()
+                        .query("subscription {book(topic: ADDED) {id title}}")
+                        .build())
+                .build());
+
+        List<Session> sessions = new ArrayList<>();
+        for (int idx = 0; idx < idle + active; idx++) {
+            Session session = session(idx);
+            sessions.add(session);
+            endpoint.onOpen(session);
+            if (idx >= idle) {
+                endpoint.onMessage(session, init);
+                endpoint.onMessage(session, subscribe);
+            }
+        }
+
+        //Let the executors start their threads.
+        verify(sessions.get(sessions.size() - 1).getAsyncRemote(), timeout(1000).atLeastOnce()).sendText(any());
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        int threads = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+        long memory = usedMemory() - memoryBefore;
+
+        log.info("{}: {} idle and {} active connections started {} threads and used {} KB",
+                mode, idle, active, threads, memory / 1024);
+
+        release.countDown();
+        for (Session session : sessions) {
+            endpoint.onClose(session);
+        }
+    }
+
+    private static Session session(int idx) throws Exception {
+        Session session = mock(Session.class);
+        when(session.getId()).thenReturn(String.valueOf(idx));
+        when(session.getRequestURI()).thenReturn(new URI("http://localhost:1234/subscription"));
+        when(session.getAsyncRemote()).thenReturn(mock(RemoteEndpoint.Async.class));
+        return session;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
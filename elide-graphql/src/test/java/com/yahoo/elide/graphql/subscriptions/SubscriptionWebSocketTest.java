@@ -11,6 +11,8 @@ import static com.yahoo.elide.graphql.subscriptions.websocket.protocol.WebSocket
 import static com.yahoo.elide.graphql.subscriptions.websocket.protocol.WebSocketCloseReasons.NORMAL_CLOSE;
 import static com.yahoo.elide.graphql.subscriptions.websocket.protocol.WebSocketCloseReasons.UNAUTHORIZED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -37,6 +39,7 @@ import com.yahoo.elide.graphql.GraphQLErrorDeserializer;
 import com.yahoo.elide.graphql.GraphQLErrorSerializer;
 import com.yahoo.elide.graphql.GraphQLTest;
 import com.yahoo.elide.graphql.subscriptions.hooks.TopicType;
+import com.yahoo.elide.graphql.subscriptions.websocket.SubscriptionExecutors;
 import com.yahoo.elide.graphql.subscriptions.websocket.SubscriptionWebSocket;
 import com.yahoo.elide.graphql.subscriptions.websocket.protocol.Complete;
 import com.yahoo.elide.graphql.subscriptions.websocket.protocol.ConnectionInit;
@@ -65,7 +68,11 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Base functionality required to test the PersistentResourceFetcher.
@@ -228,6 +235,87 @@ public class SubscriptionWebSocketTest extends GraphQLTest {
         assertEquals(CONNECTION_TIMEOUT, closeReason.getValue());
     }
 
+    @Test
+    void testConnectionTimeoutWithSharedScheduler() throws Exception {
+        ScheduledExecutorService scheduler = SubscriptionExecutors.newConnectionTimeoutScheduler();
+        try {
+            SubscriptionWebSocket endpoint = SubscriptionWebSocket.builder()
+                    .executorService(executorService)
+                    .connectionTimeoutScheduler(scheduler)
+                    .connectionTimeout(Duration.ZERO).elide(elide).build();
+
+            endpoint.onOpen(session);
+
+            ArgumentCaptor<CloseReason> closeReason = ArgumentCaptor.forClass(CloseReason.class);
+            verify(session, timeout(1000).times(1)).close(closeReason.capture());
+            assertEquals(CONNECTION_TIMEOUT, closeReason.getValue());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSharedExecutorsOutliveSession() throws IOException {
+        ScheduledThreadPoolExecutor scheduler =
+                (ScheduledThreadPoolExecutor) SubscriptionExecutors.newConnectionTimeoutScheduler();
+        try {
+            SubscriptionWebSocket endpoint = SubscriptionWebSocket.builder()
+                    .executorService(executorService)
+                    .connectionTimeoutScheduler(scheduler)
+                    .elide(elide).build();
+
+            endpoint.onOpen(session);
+            assertEquals(1, scheduler.getQueue().size());
+
+            endpoint.onMessage(session, mapper.writeValueAsString(new ConnectionInit()));
+            assertEquals(0, scheduler.getQueue().size());
+
+            endpoint.onClose(session);
+            assertFalse(executorService.isShutdown());
+            assertFalse(scheduler.isShutdown());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSubscriptionRejectedWhenSharedExecutorIsFull() throws Exception {
+        ExecutorService sharedExecutor = SubscriptionExecutors.newSubscriptionExecutor(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            //Occupy the only thread of the shared executor.
+            sharedExecutor.submit(() -> release.await(10, TimeUnit.SECONDS));
+
+            SubscriptionWebSocket endpoint = SubscriptionWebSocket.builder()
+                    .executorService(sharedExecutor)
+                    .elide(elide).build();
+
+            endpoint.onOpen(session);
+            endpoint.onMessage(session, mapper.writeValueAsString(new ConnectionInit()));
+
+            Subscribe subscribe = Subscribe.builder()
+                    .id("1")
+                    .payload(Subscribe.Payload.builder()
+                            .query("subscription {book(topic: ADDED) {id title}}")
+                            .build())
+                    .build();
+
+            endpoint.onMessage(session, mapper.writeValueAsString(subscribe));
+
+            ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+            verify(remote, times(2)).sendText(message.capture());
+            assertEquals("{\"type\":\"connection_ack\"}", message.getAllValues().get(0));
+            assertTrue(message.getAllValues().get(1).startsWith("{\"type\":\"error\",\"id\":\"1\""));
+            assertTrue(message.getAllValues().get(1).contains("Too many active subscriptions"));
+
+            //Only the subscription fails, the session stays open.
+            verify(session, never()).close(any());
+        } finally {
+            release.countDown();
+            sharedExecutor.shutdownNow();
+        }
+    }
+
     @Test
     void testDoubleInit() throws IOException {
         SubscriptionWebSocket endpoint = SubscriptionWebSocket.builder()
@@ -8,8 +8,10 @@ package com.yahoo.elide.graphql.subscriptions.hooks;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -33,6 +35,7 @@ import jakarta.jms.JMSProducer;
 import jakarta.jms.Topic;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 public class NotifyTopicLifeCycleHookTest {
 
@@ -80,4 +83,29 @@ public class NotifyTopicLifeCycleHookTest {
         assertEquals("bookAdded", topicCaptor.getValue());
         verify(producer, times(1)).send(isA(Destination.class), isA(String.class));
     }
+
+    @Test
+    public void testBackgroundPublisher() {
+        TopicPublisher publisher = mock(TopicPublisher.class);
+        Function<JMSContext, JMSProducer> createProducer = JMSContext::createProducer;
+
+        NotifyTopicLifeCycleHook<Book> bookHook = new NotifyTopicLifeCycleHook<Book>(
+                connectionFactory,
+                createProducer, new GsonBuilder().create(), publisher);
+
+        Book book = new Book();
+        book.setId(123);
+        PersistentResource<Book> resource = new PersistentResource<>(book, "123", scope);
+
+        bookHook.execute(LifeCycleHookBinding.Operation.CREATE, LifeCycleHookBinding.TransactionPhase.POSTCOMMIT,
+                new CRUDEvent(
+                        LifeCycleHookBinding.Operation.CREATE,
+                        resource,
+                        "",
+                        Optional.empty()
+                ));
+
+        verify(publisher, times(1)).publish(eq(createProducer), eq("bookAdded"), eq("123"), isA(String.class));
+        verify(connectionFactory, never()).createContext();
+    }
 }
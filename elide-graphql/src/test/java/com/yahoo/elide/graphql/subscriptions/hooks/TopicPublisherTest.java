@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.graphql.subscriptions.hooks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSProducer;
+import jakarta.jms.JMSRuntimeException;
+import jakarta.jms.Topic;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class TopicPublisherTest {
+    private ConnectionFactory connectionFactory;
+    private JMSContext context;
+    private JMSProducer producer;
+
+    @BeforeEach
+    public void setup() {
+        connectionFactory = mock(ConnectionFactory.class);
+        context = mock(JMSContext.class);
+        producer = mock(JMSProducer.class);
+
+        when(connectionFactory.createContext()).thenReturn(context);
+        when(context.createProducer()).thenReturn(producer);
+        when(context.createTopic(any())).thenReturn(mock(Topic.class));
+    }
+
+    @Test
+    public void testPublishReusesContext() {
+        TopicPublisher publisher = new TopicPublisher(connectionFactory);
+
+        publisher.publish(JMSContext::createProducer, "bookAdded", "1", "a");
+        publisher.publish(JMSContext::createProducer, "bookAdded", "2", "b");
+        publisher.publish(JMSContext::createProducer, "bookAdded", "3", "c");
+        publisher.close();
+
+        verify(connectionFactory, times(1)).createContext();
+        verify(producer, times(3)).send(any(Destination.class), anyString());
+        verify(context, times(1)).close();
+        assertEquals(3, publisher.getPublishedMessages());
+    }
+
+    @Test
+    public void testCoalesce() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        blockFirstSend(sending, release);
+
+        TopicPublisher publisher = new TopicPublisher(connectionFactory, 10, 10, true);
+
+        publisher.publish(JMSContext::createProducer, "bookUpdated", "1", "first");
+        sending.await();
+
+        //Queued while the first message is sent.
+        publisher.publish(JMSContext::createProducer, "bookUpdated", "1", "second");
+        publisher.publish(JMSContext::createProducer, "bookUpdated", "2", "other");
+        publisher.publish(JMSContext::createProducer, "bookUpdated", "1", "third");
+        release.countDown();
+        publisher.close();
+
+        ArgumentCaptor<String> messages = ArgumentCaptor.forClass(String.class);
+        verify(producer, times(3)).send(any(Destination.class), messages.capture());
+        assertEquals(List.of("first", "third", "other"), messages.getAllValues());
+        assertEquals(1, publisher.getCoalescedMessages());
+    }
+
+    @Test
+    public void testOverflowSendsOnCallingThread() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        blockFirstSend(sending, release);
+
+        TopicPublisher publisher = new TopicPublisher(connectionFactory, 1, 10, false);
+
+        publisher.publish(JMSContext::createProducer, "bookAdded", "1", "a");
+        sending.await();
+
+        publisher.publish(JMSContext::createProducer, "bookAdded", "2", "b");
+        publisher.publish(JMSContext::createProducer, "bookAdded", "3", "c");
+
+        assertEquals(1, publisher.getOverflowedMessages());
+        release.countDown();
+        publisher.close();
+
+        verify(producer, times(3)).send(any(Destination.class), anyString());
+        assertEquals(3, publisher.getPublishedMessages());
+    }
+
+    @Test
+    public void testFailureReconnects() {
+        doThrow(new JMSRuntimeException("broker down"))
+                .doReturn(producer)
+                .when(producer).send(any(Destination.class), anyString());
+
+        TopicPublisher publisher = new TopicPublisher(connectionFactory);
+
+        publisher.publish(JMSContext::createProducer, "bookAdded", "1", "a");
+        verify(context, timeout(1000).times(1)).close();
+        publisher.publish(JMSContext::createProducer, "bookAdded", "2", "b");
+        publisher.close();
+
+        verify(connectionFactory, times(2)).createContext();
+        assertEquals(1, publisher.getFailedMessages());
+        assertEquals(1, publisher.getPublishedMessages());
+    }
+
+    private void blockFirstSend(CountDownLatch sending, CountDownLatch release) {
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await();
+            return producer;
+        }).doReturn(producer).when(producer).send(any(Destination.class), anyString());
+    }
+}
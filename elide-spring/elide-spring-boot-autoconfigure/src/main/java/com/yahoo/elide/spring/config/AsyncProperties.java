@@ -12,6 +12,8 @@ import lombok.Data;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Extra properties for setting up async query support.
@@ -42,10 +44,68 @@ public class AsyncProperties {
          */
         @DurationUnit(ChronoUnit.SECONDS)
         private Duration queryMaxRunTime = Duration.ofSeconds(3600L);
+
+        /**
+         * Number of async queries deleted or timed out per transaction.
+         */
+        private int batchSize = 1000;
+
+        /**
+         * Maximum number of async queries deleted or timed out by one cleanup run.
+         */
+        private int maxPerRun = 100000;
     }
 
     private Cleanup cleanup = new Cleanup();
 
+    @Data
+    public static class Scheduler {
+        /**
+         * Whether or not async queries and table exports are scheduled in separate lanes with fair queueing per
+         * user instead of sharing one thread pool.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of running async queries.
+         */
+        private int queryThreadPoolSize = 5;
+
+        /**
+         * Maximum number of running table exports.
+         */
+        private int exportThreadPoolSize = 2;
+
+        /**
+         * Maximum number of running async queries and table exports of a user. 0 for no limit.
+         */
+        private int maxConcurrentPerUser = 0;
+
+        /**
+         * Weights of users in the fair queueing, keyed by principal name. Users default to a weight of 1.
+         */
+        private Map<String, Integer> weights = new HashMap<>();
+    }
+
+    private Scheduler scheduler = new Scheduler();
+
+    @Data
+    public static class Deduplication {
+        /**
+         * Whether or not identical async queries and table exports of a user share one execution.
+         * Cancelling the query which started an execution also fails the queries attached to it.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How long the result of a completed execution is shared. 0 only shares running executions.
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration reuseWindow = Duration.ZERO;
+    }
+
+    private Deduplication deduplication = new Deduplication();
+
     /**
      * Whether or not the async feature is enabled.
      */
@@ -63,9 +123,25 @@ public class AsyncProperties {
     @DurationUnit(ChronoUnit.SECONDS)
     private Duration maxAsyncAfter = Duration.ofSeconds(10L);
 
+    /**
+     * Maximum number of characters of an async query response body stored with the query.  Longer response
+     * bodies are stored with the result storage engine and downloaded from the export API.  Like table export
+     * results, the export API serves them to anyone with the ID of the async query without checking its owner.
+     * The Redis engine expires them with the export results, while the file engine keeps them until they are
+     * deleted from the storage destination.  Requires export to be enabled.  0 stores every response body with
+     * the query.
+     */
+    private int maxInlineResponseBodyLength = 0;
+
     /**
      * Settings for the export controller.
      */
     @NestedConfigurationProperty
     private ExportControllerProperties export;
+
+    /**
+     * Settings for the status controller where clients wait for async queries and table exports to complete.
+     */
+    @NestedConfigurationProperty
+    private StatusControllerProperties status = new StatusControllerProperties();
 }
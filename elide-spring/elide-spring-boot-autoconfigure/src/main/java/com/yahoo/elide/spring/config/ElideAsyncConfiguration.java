@@ -11,15 +11,23 @@ import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.P
 import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.PRESECURITY;
 
 import com.yahoo.elide.RefreshableElide;
+import com.yahoo.elide.async.export.formatter.BinaryTableExportFormatter;
+import com.yahoo.elide.async.export.formatter.ColumnarExportFormatter;
 import com.yahoo.elide.async.export.formatter.CsvExportFormatter;
 import com.yahoo.elide.async.export.formatter.JsonExportFormatter;
+import com.yahoo.elide.async.export.formatter.StreamingCsvExportFormatter;
+import com.yahoo.elide.async.export.formatter.StreamingJsonExportFormatter;
 import com.yahoo.elide.async.export.formatter.TableExportFormatter;
+import com.yahoo.elide.async.export.partitioner.ExportPartitioner;
+import com.yahoo.elide.async.export.partitioner.RangeExportPartitioner;
 import com.yahoo.elide.async.hooks.AsyncQueryHook;
 import com.yahoo.elide.async.hooks.TableExportHook;
 import com.yahoo.elide.async.models.AsyncApi;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.ResultType;
 import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.async.service.AsyncApiDeduplicator;
+import com.yahoo.elide.async.service.AsyncApiScheduler;
 import com.yahoo.elide.async.service.AsyncCleanerService;
 import com.yahoo.elide.async.service.AsyncExecutorService;
 import com.yahoo.elide.async.service.dao.AsyncApiDao;
@@ -39,8 +47,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import graphql.execution.DataFetcherExceptionHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -63,6 +74,7 @@ public class ElideAsyncConfiguration {
      * @param asyncQueryDao AsyncDao object.
      * @param optionalResultStorageEngine Result Storage Engine.
      * @param optionalDataFetcherExceptionHandler GraphQL data fetcher exception handler.
+     * @param optionalScheduler Scheduler of the queries when enabled.
      * @return a AsyncExecutorService.
      */
     @Bean
@@ -72,18 +84,33 @@ public class ElideAsyncConfiguration {
             ElideConfigProperties settings,
             AsyncApiDao asyncQueryDao,
             Optional<ResultStorageEngine> optionalResultStorageEngine,
-            Optional<DataFetcherExceptionHandler> optionalDataFetcherExceptionHandler
+            Optional<DataFetcherExceptionHandler> optionalDataFetcherExceptionHandler,
+            Optional<AsyncApiScheduler> optionalScheduler
     ) {
         AsyncProperties asyncProperties = settings.getAsync();
 
-        ExecutorService executor = Executors.newFixedThreadPool(asyncProperties.getThreadPoolSize());
+        AsyncApiScheduler scheduler = optionalScheduler.orElse(null);
+        // The scheduler runs the queries on its own workers.
+        ExecutorService executor = scheduler == null
+                ? Executors.newFixedThreadPool(asyncProperties.getThreadPoolSize())
+                : null;
         ExecutorService updater = Executors.newFixedThreadPool(asyncProperties.getThreadPoolSize());
+        AsyncApiDeduplicator deduplicator = asyncProperties.getDeduplication().isEnabled()
+                ? new AsyncApiDeduplicator(asyncProperties.getDeduplication().getReuseWindow())
+                : null;
         AsyncExecutorService asyncExecutorService = new AsyncExecutorService(elide.getElide(), executor,
-                updater, asyncQueryDao, optionalDataFetcherExceptionHandler);
+                scheduler, deduplicator, updater, asyncQueryDao, optionalDataFetcherExceptionHandler);
+
+        boolean exportEnabled = ElideAutoConfiguration.isExportEnabled(asyncProperties);
 
         // Binding AsyncQuery LifeCycleHook
+        ResultStorageEngine responseBodyStorageEngine = exportEnabled
+                && asyncProperties.getMaxInlineResponseBodyLength() > 0
+                ? optionalResultStorageEngine.orElse(null)
+                : null;
         AsyncQueryHook asyncQueryHook = new AsyncQueryHook(asyncExecutorService,
-                asyncProperties.getMaxAsyncAfter());
+                asyncProperties.getMaxAsyncAfter(), responseBodyStorageEngine,
+                asyncProperties.getMaxInlineResponseBodyLength());
 
         EntityDictionary dictionary = elide.getElide().getElideSettings().getDictionary();
 
@@ -91,19 +118,31 @@ public class ElideAsyncConfiguration {
         dictionary.bindTrigger(AsyncQuery.class, CREATE, POSTCOMMIT, asyncQueryHook, false);
         dictionary.bindTrigger(AsyncQuery.class, CREATE, PRESECURITY, asyncQueryHook, false);
 
-        boolean exportEnabled = ElideAutoConfiguration.isExportEnabled(asyncProperties);
-
         if (exportEnabled) {
             // Initialize the Formatters.
             boolean writeCSVHeader = asyncProperties.getExport() != null
                     && asyncProperties.getExport().getFormat().getCsv().isWriteHeader();
+            boolean streamCSV = asyncProperties.getExport() != null
+                    && asyncProperties.getExport().getFormat().getCsv().isStreaming();
+            boolean streamJSON = asyncProperties.getExport() != null
+                    && asyncProperties.getExport().getFormat().getJson().isStreaming();
+            boolean enableColumnar = asyncProperties.getExport() != null
+                    && asyncProperties.getExport().getFormat().getColumnar().isEnabled();
             Map<ResultType, TableExportFormatter> supportedFormatters = new HashMap<>();
-            supportedFormatters.put(ResultType.CSV, new CsvExportFormatter(elide.getElide(), writeCSVHeader));
-            supportedFormatters.put(ResultType.JSON, new JsonExportFormatter(elide.getElide()));
+            supportedFormatters.put(ResultType.CSV, streamCSV
+                    ? new StreamingCsvExportFormatter(elide.getElide(), writeCSVHeader)
+                    : new CsvExportFormatter(elide.getElide(), writeCSVHeader));
+            supportedFormatters.put(ResultType.JSON, streamJSON
+                    ? new StreamingJsonExportFormatter(elide.getElide())
+                    : new JsonExportFormatter(elide.getElide()));
+            Map<ResultType, BinaryTableExportFormatter> binaryFormatters = new HashMap<>();
+            if (enableColumnar) {
+                binaryFormatters.put(ResultType.COLUMNAR, new ColumnarExportFormatter(elide.getElide()));
+            }
 
             // Binding TableExport LifeCycleHook
             TableExportHook tableExportHook = getTableExportHook(asyncExecutorService, settings, supportedFormatters,
-                    optionalResultStorageEngine.orElse(null));
+                    binaryFormatters, optionalResultStorageEngine.orElse(null));
             dictionary.bindTrigger(TableExport.class, CREATE, PREFLUSH, tableExportHook, false);
             dictionary.bindTrigger(TableExport.class, CREATE, POSTCOMMIT, tableExportHook, false);
             dictionary.bindTrigger(TableExport.class, CREATE, PRESECURITY, tableExportHook, false);
@@ -112,19 +151,52 @@ public class ElideAsyncConfiguration {
         return asyncExecutorService;
     }
 
+    /**
+     * Configure the AsyncApiScheduler running async queries and table exports in separate lanes.
+     * @param settings Elide settings.
+     * @param optionalMeterRegistry Meter Registry.
+     * @return an AsyncApiScheduler.
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "elide.async.scheduler", name = "enabled", matchIfMissing = false)
+    public AsyncApiScheduler buildAsyncApiScheduler(ElideConfigProperties settings,
+            Optional<MeterRegistry> optionalMeterRegistry) {
+        AsyncProperties.Scheduler schedulerProperties = settings.getAsync().getScheduler();
+        AsyncApiScheduler scheduler = new AsyncApiScheduler(schedulerProperties.getQueryThreadPoolSize(),
+                schedulerProperties.getExportThreadPoolSize(), schedulerProperties.getMaxConcurrentPerUser(),
+                schedulerProperties.getWeights());
+        optionalMeterRegistry.ifPresent(meterRegistry -> {
+            for (AsyncApiScheduler.Lane lane : AsyncApiScheduler.Lane.values()) {
+                Gauge.builder("elide.async.queue.depth", scheduler, value -> value.getQueueDepth(lane))
+                        .tag("lane", lane.name().toLowerCase(Locale.ENGLISH))
+                        .register(meterRegistry);
+                Gauge.builder("elide.async.running", scheduler, value -> value.getRunningCount(lane))
+                        .tag("lane", lane.name().toLowerCase(Locale.ENGLISH))
+                        .register(meterRegistry);
+            }
+        });
+        return scheduler;
+    }
+
     // TODO Remove this method when ElideSettings has all the settings.
     // Then the check can be done in TableExportHook.
     // Trying to avoid adding too many individual properties to ElideSettings for now.
     // https://github.com/yahoo/elide/issues/1803
     private TableExportHook getTableExportHook(AsyncExecutorService asyncExecutorService,
             ElideConfigProperties settings, Map<ResultType, TableExportFormatter> supportedFormatters,
-            ResultStorageEngine resultStorageEngine) {
+            Map<ResultType, BinaryTableExportFormatter> binaryFormatters, ResultStorageEngine resultStorageEngine) {
         boolean exportEnabled = ElideAutoConfiguration.isExportEnabled(settings.getAsync());
 
         TableExportHook tableExportHook = null;
         if (exportEnabled) {
+            Map<String, ExportPartitioner> partitioners = new HashMap<>();
+            settings.getAsync().getExport().getPartitions().forEach((model, partition) ->
+                    partitioners.put(model, new RangeExportPartitioner(partition.getAttribute(),
+                            partition.getBoundaries(), partition.getParallelism())));
             tableExportHook = new TableExportHook(asyncExecutorService,
-                    settings.getAsync().getMaxAsyncAfter(), supportedFormatters, resultStorageEngine);
+                    settings.getAsync().getMaxAsyncAfter(), supportedFormatters, binaryFormatters, resultStorageEngine,
+                    partitioners);
         } else {
             tableExportHook = new TableExportHook(asyncExecutorService,
                     settings.getAsync().getMaxAsyncAfter(), supportedFormatters, resultStorageEngine) {
@@ -152,7 +224,8 @@ public class ElideAsyncConfiguration {
                                                         AsyncApiDao asyncQueryDao) {
         AsyncCleanerService.init(elide.getElide(), settings.getAsync().getCleanup().getQueryMaxRunTime(),
                 settings.getAsync().getCleanup().getQueryRetentionDuration(),
-                settings.getAsync().getCleanup().getQueryCancellationCheckInterval(), asyncQueryDao);
+                settings.getAsync().getCleanup().getQueryCancellationCheckInterval(), asyncQueryDao,
+                settings.getAsync().getCleanup().getBatchSize(), settings.getAsync().getCleanup().getMaxPerRun());
         return AsyncCleanerService.getInstance();
     }
 
@@ -177,7 +250,8 @@ public class ElideAsyncConfiguration {
     @ConditionalOnProperty(prefix = "elide.async.export", name = "enabled", matchIfMissing = false)
     public ResultStorageEngine buildResultStorageEngine(ElideConfigProperties settings) {
         FileResultStorageEngine resultStorageEngine = new FileResultStorageEngine(settings.getAsync().getExport()
-                .getStorageDestination(), settings.getAsync().getExport().isAppendFileExtension());
+                .getStorageDestination(), settings.getAsync().getExport().isAppendFileExtension(),
+                settings.getAsync().getExport().isCompressResults());
         return resultStorageEngine;
     }
 }
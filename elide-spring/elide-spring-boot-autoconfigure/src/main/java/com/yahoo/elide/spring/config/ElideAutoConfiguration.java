@@ -12,6 +12,7 @@ import com.yahoo.elide.ElideSettingsBuilder;
 import com.yahoo.elide.RefreshableElide;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.async.service.AsyncExecutorService;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.TransactionRegistry;
 import com.yahoo.elide.core.audit.Slf4jLogger;
@@ -60,6 +61,7 @@ import com.yahoo.elide.spring.controllers.ApiDocsController.ApiDocsRegistration;
 import com.yahoo.elide.spring.controllers.ExportController;
 import com.yahoo.elide.spring.controllers.GraphqlController;
 import com.yahoo.elide.spring.controllers.JsonApiController;
+import com.yahoo.elide.spring.controllers.StatusController;
 import com.yahoo.elide.spring.datastore.config.DataStoreBuilder;
 import com.yahoo.elide.spring.datastore.config.DataStoreBuilderCustomizer;
 import com.yahoo.elide.spring.jackson.ObjectMapperBuilder;
@@ -614,6 +616,14 @@ public class ElideAutoConfiguration {
         return new ExportController(resultStorageEngine);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${elide.async.enabled:false} && ${elide.async.status.enabled:false}")
+    public StatusController statusController(AsyncExecutorService asyncExecutorService,
+            ElideConfigProperties settings) {
+        return new StatusController(asyncExecutorService, settings.getAsync().getStatus().getMaxWait());
+    }
+
     @Configuration
     @ConditionalOnClass({ OpenApiCustomizer.class, OpenApiBuilder.class })
     @ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "true", matchIfMissing = true)
@@ -9,9 +9,13 @@ import static com.yahoo.elide.graphql.subscriptions.websocket.SubscriptionWebSoc
 
 import com.yahoo.elide.core.audit.Slf4jLogger;
 import com.yahoo.elide.core.exceptions.ErrorMapper;
+import com.yahoo.elide.datastores.jms.TopicFanOut;
 import com.yahoo.elide.datastores.jms.websocket.SubscriptionWebSocketConfigurator;
+import com.yahoo.elide.graphql.subscriptions.hooks.TopicPublisher;
+import com.yahoo.elide.graphql.subscriptions.websocket.SubscriptionExecutors;
 import com.yahoo.elide.graphql.subscriptions.websocket.SubscriptionWebSocket;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -25,6 +29,10 @@ import graphql.execution.DataFetcherExceptionHandler;
 import jakarta.jms.ConnectionFactory;
 import jakarta.websocket.server.ServerEndpointConfig;
 
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
 /**
  * Configures GraphQL subscription web sockets for Elide.
  */
@@ -40,7 +48,11 @@ public class ElideSubscriptionConfiguration {
             SubscriptionWebSocket.UserFactory userFactory,
             ConnectionFactory connectionFactory,
             ErrorMapper errorMapper,
-            DataFetcherExceptionHandler dataFetcherExceptionHandler
+            DataFetcherExceptionHandler dataFetcherExceptionHandler,
+            Optional<TopicFanOut> topicFanOut,
+            @Qualifier("subscriptionExecutorService") Optional<ExecutorService> subscriptionExecutorService,
+            @Qualifier("subscriptionConnectionTimeoutScheduler")
+            Optional<ScheduledExecutorService> subscriptionConnectionTimeoutScheduler
     ) {
         return ServerEndpointConfig.Builder
                 .create(SubscriptionWebSocket.class, config.getGraphql().getSubscription().getPath())
@@ -57,10 +69,49 @@ public class ElideSubscriptionConfiguration {
                         .verboseErrors(config.isVerboseErrors())
                         .errorMapper(errorMapper)
                         .dataFetcherExceptionHandler(dataFetcherExceptionHandler)
+                        .topicFanOut(topicFanOut.orElse(null))
+                        .executorService(subscriptionExecutorService.orElse(null))
+                        .connectionTimeoutScheduler(subscriptionConnectionTimeoutScheduler.orElse(null))
                         .build())
                 .build();
     }
 
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "subscriptionExecutorService")
+    @ConditionalOnExpression("${elide.graphql.subscription.enabled:false} "
+            + "and ${elide.graphql.subscription.executor.shared:false}")
+    ExecutorService subscriptionExecutorService(ElideConfigProperties config) {
+        SubscriptionProperties.Executor executor = config.getGraphql().getSubscription().getExecutor();
+        return SubscriptionExecutors.newSubscriptionExecutor(executor.getMaxThreads());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(name = "subscriptionConnectionTimeoutScheduler")
+    @ConditionalOnExpression("${elide.graphql.subscription.enabled:false} "
+            + "and ${elide.graphql.subscription.executor.shared:false}")
+    ScheduledExecutorService subscriptionConnectionTimeoutScheduler() {
+        return SubscriptionExecutors.newConnectionTimeoutScheduler();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${elide.graphql.subscription.enabled:false} "
+            + "and ${elide.graphql.subscription.fan-out.enabled:false}")
+    TopicFanOut topicFanOut(ElideConfigProperties config, ConnectionFactory connectionFactory) {
+        SubscriptionProperties.FanOut fanOut = config.getGraphql().getSubscription().getFanOut();
+        return new TopicFanOut(connectionFactory, fanOut.getBufferSize(), fanOut.getOverflowPolicy());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression("${elide.graphql.subscription.enabled:false} "
+            + "and ${elide.graphql.subscription.publishing.async:false}")
+    TopicPublisher topicPublisher(ElideConfigProperties config, ConnectionFactory connectionFactory) {
+        SubscriptionProperties.Publishing publishing = config.getGraphql().getSubscription().getPublishing();
+        return new TopicPublisher(connectionFactory, publishing.getQueueSize(), publishing.getBatchSize(),
+                publishing.isCoalesce());
+    }
+
     @Bean
     @ConditionalOnMissingBean
     @ConditionalOnExpression("${elide.graphql.subscription.enabled:false}")
@@ -8,6 +8,7 @@ package com.yahoo.elide.spring.config;
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.RefreshableElide;
 import com.yahoo.elide.graphql.subscriptions.hooks.SubscriptionScanner;
+import com.yahoo.elide.graphql.subscriptions.hooks.TopicPublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -20,6 +21,8 @@ import org.springframework.context.event.EventListener;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.Message;
 
+import java.util.Optional;
+
 /**
  * Scans for GraphQL subscriptions and registers lifecycle hooks.
  */
@@ -30,14 +33,17 @@ import jakarta.jms.Message;
 public class ElideSubscriptionScanningConfiguration {
     private RefreshableElide refreshableElide;
     private ConnectionFactory connectionFactory;
+    private TopicPublisher publisher;
 
     @Autowired
     public ElideSubscriptionScanningConfiguration(
             RefreshableElide refreshableElide,
-            ConnectionFactory connectionFactory
+            ConnectionFactory connectionFactory,
+            Optional<TopicPublisher> publisher
     ) {
         this.refreshableElide = refreshableElide;
         this.connectionFactory = connectionFactory;
+        this.publisher = publisher.orElse(null);
     }
 
     @EventListener(value = { ContextRefreshedEvent.class, RefreshScopeRefreshedEvent.class })
@@ -57,6 +63,7 @@ public class ElideSubscriptionScanningConfiguration {
                 .scanner(elide.getScanner())
                 .dictionary(elide.getElideSettings().getDictionary())
                 .connectionFactory(connectionFactory)
+                .publisher(publisher)
                 .build();
 
         scanner.bindLifecycleHooks();
@@ -8,6 +8,11 @@ package com.yahoo.elide.spring.config;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Extra controller properties for the export endpoint.
  */
@@ -24,17 +29,75 @@ public class ExportControllerProperties extends ControllerProperties {
              * Set to false to skip writing the header.
              */
             private boolean writeHeader = true;
+
+            /**
+             * Writes the attributes of each record directly with RFC 4180 quoting.
+             *
+             * Set to true to use the streaming CSV formatter instead of flattening each record's JSON.
+             */
+            private boolean streaming = false;
         }
         private Csv csv = new Csv();
+
+        @Data
+        public static class Json {
+            /**
+             * Writes the attributes of each record directly with a JSON generator.
+             *
+             * Set to true to use the streaming JSON formatter instead of serializing each record to a string.
+             */
+            private boolean streaming = false;
+        }
+        private Json json = new Json();
+
+        @Data
+        public static class Columnar {
+            /**
+             * Registers the COLUMNAR result type, a binary format which stores each batch of records column by
+             * column.
+             *
+             * Set to true to accept exports in the columnar format.
+             */
+            private boolean enabled = false;
+        }
+        private Columnar columnar = new Columnar();
     }
 
     private Format format = new Format();
 
+    @Data
+    public static class Partition {
+        /**
+         * The attribute whose ranges partition the export.
+         */
+        private String attribute;
+
+        /**
+         * The ascending boundaries between the ranges.
+         */
+        private List<String> boundaries = new ArrayList<>();
+
+        /**
+         * The maximum number of partitions exported concurrently.
+         */
+        private int parallelism = 4;
+    }
+
+    /**
+     * Models whose exports are split into attribute ranges which are exported concurrently, keyed by model name.
+     */
+    private Map<String, Partition> partitions = new HashMap<>();
+
     /**
      * Enable Adding Extension to table export attachments.
      */
     private boolean appendFileExtension = false;
 
+    /**
+     * Store table export attachments gzip compressed.
+     */
+    private boolean compressResults = false;
+
     /**
      * The URL path prefix for the controller.
      */
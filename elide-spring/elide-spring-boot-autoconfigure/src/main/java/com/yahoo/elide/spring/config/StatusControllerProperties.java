@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.config;
+
+import org.springframework.boot.convert.DurationUnit;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Extra controller properties for the async status endpoint.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class StatusControllerProperties extends ControllerProperties {
+
+    /**
+     * The URL path prefix for the controller.
+     */
+    private String path = "/async";
+
+    /**
+     * Maximum time a request waits for an async query or table export to complete.
+     */
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration maxWait = Duration.ofSeconds(30L);
+}
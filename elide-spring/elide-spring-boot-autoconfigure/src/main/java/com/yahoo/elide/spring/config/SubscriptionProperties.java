@@ -5,6 +5,9 @@
  */
 package com.yahoo.elide.spring.config;
 
+import com.yahoo.elide.datastores.jms.TopicFanOut;
+import com.yahoo.elide.graphql.subscriptions.hooks.TopicPublisher;
+import com.yahoo.elide.graphql.subscriptions.websocket.SubscriptionExecutors;
 import org.springframework.boot.convert.DurationUnit;
 
 import lombok.Data;
@@ -26,10 +29,67 @@ public class SubscriptionProperties extends ControllerProperties {
          * Whether Elide should publish subscription notifications to JMS on lifecycle events.
          */
         private boolean enabled = true;
+
+        /**
+         * Whether notifications are queued and sent by a background thread over a shared JMS context.
+         */
+        private boolean async = false;
+
+        /**
+         * Maximum number of queued notifications.  Notifications beyond this are sent on the request thread.
+         */
+        private int queueSize = TopicPublisher.DEFAULT_QUEUE_SIZE;
+
+        /**
+         * Maximum number of notifications sent per batch.
+         */
+        private int batchSize = TopicPublisher.DEFAULT_BATCH_SIZE;
+
+        /**
+         * Whether only the most recent queued notification for the same entity and topic is sent.
+         */
+        private boolean coalesce = false;
     }
 
     protected Publishing publishing = new Publishing();
 
+    @Data
+    public static class FanOut {
+        /**
+         * Whether subscriptions on the same topic share one JMS consumer on this node.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of undelivered messages buffered per subscription.
+         */
+        private int bufferSize = TopicFanOut.DEFAULT_BUFFER_SIZE;
+
+        /**
+         * What to do with a message when a subscription's buffer is full.
+         */
+        private TopicFanOut.OverflowPolicy overflowPolicy = TopicFanOut.OverflowPolicy.DROP_OLDEST;
+    }
+
+    protected FanOut fanOut = new FanOut();
+
+    @Data
+    public static class Executor {
+        /**
+         * Whether all websockets share one subscription thread pool and one connection timeout scheduler
+         * instead of each websocket starting its own threads.
+         */
+        private boolean shared = false;
+
+        /**
+         * Maximum number of threads of the shared subscription thread pool.  Each running subscription holds a
+         * thread, so subscriptions beyond this number are rejected with an error.
+         */
+        private int maxThreads = SubscriptionExecutors.DEFAULT_MAX_THREADS;
+    }
+
+    protected Executor executor = new Executor();
+
     /**
      * Websocket sends a PING immediate after receiving a SUBSCRIBE.  Only useful for testing.
      * @see com.yahoo.elide.datastores.jms.websocket.SubscriptionWebSocketTestClient
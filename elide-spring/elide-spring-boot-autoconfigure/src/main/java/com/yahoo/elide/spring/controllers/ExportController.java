@@ -5,12 +5,15 @@
  */
 package com.yahoo.elide.spring.controllers;
 
+import com.yahoo.elide.async.service.storageengine.ResultFile;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
 import com.yahoo.elide.core.exceptions.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
@@ -20,6 +23,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Spring rest controller for Elide Export.
@@ -42,21 +46,29 @@ public class ExportController {
 
     /**
      * Single entry point for export requests.
+     * <p>
+     * Results stored as files are transferred as they are.  Compressed files are sent with their Content-Encoding
+     * to clients which accept it and are decompressed for other clients.
      * @param asyncQueryId Id of results to download
+     * @param acceptEncoding Accept-Encoding header of the request
      * @param response HttpServletResponse instance
      * @return ResponseEntity
      */
     @GetMapping(path = "/{asyncQueryId}")
     public ResponseEntity<StreamingResponseBody> export(@PathVariable String asyncQueryId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
             HttpServletResponse response) {
 
-        Observable<String> observableResults = resultStorageEngine.getResultsByID(asyncQueryId);
+        ResultFile resultFile = resultStorageEngine.getResultFile(asyncQueryId);
+        if (resultFile != null) {
+            return download(asyncQueryId, resultFile, acceptEncoding);
+        }
+
+        Observable<byte[]> observableResults = resultStorageEngine.getResultChunksByID(asyncQueryId);
         StreamingResponseBody streamingOutput = outputStream -> {
             observableResults
             .subscribe(
-                    resultString -> {
-                        outputStream.write(resultString.concat(System.lineSeparator()).getBytes());
-                    },
+                    outputStream::write,
                     error -> {
                         String message = error.getMessage();
                         try {
@@ -96,4 +108,40 @@ public class ExportController {
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
                 .body(streamingOutput);
     }
+
+    private static ResponseEntity<StreamingResponseBody> download(String asyncQueryId, ResultFile resultFile,
+            String acceptEncoding) {
+        boolean encoded = resultFile.isAcceptedBy(acceptEncoding);
+        StreamingResponseBody streamingOutput = outputStream -> {
+            if (encoded) {
+                resultFile.transferTo(outputStream);
+            } else {
+                resultFile.decodeTo(outputStream);
+            }
+            outputStream.flush();
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Disposition", "attachment; filename=" + asyncQueryId);
+        if (resultFile.getContentEncoding() != null) {
+            headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        }
+        if (encoded) {
+            try {
+                headers.setContentLength(resultFile.size());
+            } catch (IOException e) {
+                log.debug(e.getMessage());
+                return ResponseEntity.notFound().build();
+            }
+            if (resultFile.getContentEncoding() != null) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, resultFile.getContentEncoding());
+            }
+        }
+
+        return ResponseEntity
+                .ok()
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(streamingOutput);
+    }
 }
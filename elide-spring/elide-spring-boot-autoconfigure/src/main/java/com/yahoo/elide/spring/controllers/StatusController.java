@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.controllers;
+
+import com.yahoo.elide.async.models.AsyncApi;
+import com.yahoo.elide.async.service.AsyncApiCompletionNotifier;
+import com.yahoo.elide.async.service.AsyncExecutorService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.Principal;
+import java.time.Duration;
+
+/**
+ * Spring rest controller where clients wait for async queries and table exports to complete instead of polling them.
+ * A request waits until the query completes or the wait times out and then returns the status of the query.
+ */
+@Slf4j
+@RestController
+@RequestMapping(value = "${elide.async.status.path:/async}")
+public class StatusController {
+    // Time allowed for reading the status after a wait timed out.
+    private static final Duration GRACE_PERIOD = Duration.ofSeconds(10L);
+
+    private final AsyncExecutorService asyncExecutorService;
+    private final Duration maxWait;
+
+    public StatusController(AsyncExecutorService asyncExecutorService, Duration maxWait) {
+        this.asyncExecutorService = asyncExecutorService;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Single entry point for status requests.
+     * @param asyncApiType Model name of the query, asyncQuery or tableExport
+     * @param asyncApiId Id of the query
+     * @param wait Seconds to wait for the query to complete, at most the maximum wait
+     * @param principal Principal of the request
+     * @return DeferredResult of the status
+     */
+    @GetMapping(path = "/{asyncApiType}/{asyncApiId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<String>> status(@PathVariable String asyncApiType,
+            @PathVariable String asyncApiId, @RequestParam(required = false) Long wait, Principal principal) {
+        Duration timeout = wait == null || Duration.ofSeconds(wait).compareTo(maxWait) > 0
+                ? maxWait
+                : Duration.ofSeconds(Math.max(wait, 0L));
+        DeferredResult<ResponseEntity<String>> result = new DeferredResult<>(timeout.plus(GRACE_PERIOD).toMillis());
+
+        Class<? extends AsyncApi> type = AsyncApiCompletionNotifier.TYPES.get(asyncApiType);
+        if (type == null) {
+            result.setResult(notFound(asyncApiId));
+            return result;
+        }
+
+        asyncExecutorService.getCompletionNotifier()
+                .awaitCompletion(asyncApiId, type, principal == null ? null : principal.getName(), timeout)
+                .whenComplete((status, error) -> {
+                    if (error != null) {
+                        log.debug("Unable to wait for {}: {}", asyncApiId, error.toString());
+                        result.setResult(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                    } else if (status == null) {
+                        result.setResult(notFound(asyncApiId));
+                    } else {
+                        result.setResult(ResponseEntity.ok(AsyncApiCompletionNotifier.toJson(asyncApiId, status)));
+                    }
+                });
+        return result;
+    }
+
+    private static ResponseEntity<String> notFound(String asyncApiId) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(asyncApiId + " Not Found");
+    }
+}
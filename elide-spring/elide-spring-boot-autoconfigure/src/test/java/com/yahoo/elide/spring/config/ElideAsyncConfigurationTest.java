@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.spring.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yahoo.elide.async.service.AsyncApiScheduler;
+import com.yahoo.elide.async.service.AsyncExecutorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test for ElideAsyncConfiguration.
+ */
+class ElideAsyncConfigurationTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ElideAutoConfiguration.class, DataSourceAutoConfiguration.class,
+                    HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class,
+                    RefreshAutoConfiguration.class, ElideAsyncConfiguration.class));
+
+    @Test
+    void executor() {
+        contextRunner.withPropertyValues("elide.async.enabled=true").run(context -> {
+            AsyncExecutorService service = context.getBean(AsyncExecutorService.class);
+            assertThat(service.getExecutor()).isNotNull();
+            assertThat(service.getScheduler()).isNull();
+            assertThat(context).doesNotHaveBean(AsyncApiScheduler.class);
+        });
+    }
+
+    @Test
+    void scheduler() {
+        AtomicReference<AsyncApiScheduler> scheduler = new AtomicReference<>();
+        contextRunner.withPropertyValues("elide.async.enabled=true", "elide.async.scheduler.enabled=true")
+                .run(context -> {
+                    scheduler.set(context.getBean(AsyncApiScheduler.class));
+                    AsyncExecutorService service = context.getBean(AsyncExecutorService.class);
+                    assertThat(service.getScheduler()).isSameAs(scheduler.get());
+                    assertThat(service.getExecutor()).isNull();
+                    assertThat(scheduler.get().isShutdown()).isFalse();
+                });
+
+        // The scheduler is shut down with the context.
+        assertThat(scheduler.get().isShutdown()).isTrue();
+    }
+}
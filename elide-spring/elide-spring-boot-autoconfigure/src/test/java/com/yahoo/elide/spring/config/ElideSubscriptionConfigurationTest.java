@@ -24,6 +24,10 @@ import org.springframework.web.socket.server.standard.ServerEndpointExporter;
 import jakarta.jms.ConnectionFactory;
 import jakarta.websocket.server.ServerEndpointConfig;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Test for ElideSubscriptionConfiguration.
  */
@@ -56,6 +60,24 @@ class ElideSubscriptionConfigurationTest {
                 });
     }
 
+    @Test
+    void sharedExecutors() {
+        AtomicReference<ExecutorService> executor = new AtomicReference<>();
+        AtomicReference<ScheduledExecutorService> scheduler = new AtomicReference<>();
+        contextRunner.withPropertyValues("elide.graphql.subscription.enabled=true", "elide.graphql.enabled=true",
+                "elide.graphql.subscription.executor.shared=true")
+                .withUserConfiguration(JmsConfiguration.class).run(context -> {
+                    executor.set(context.getBean("subscriptionExecutorService", ExecutorService.class));
+                    scheduler.set(context.getBean("subscriptionConnectionTimeoutScheduler",
+                            ScheduledExecutorService.class));
+                    assertThat(executor.get().isShutdown()).isFalse();
+                });
+
+        // The executors are shut down with the context.
+        assertThat(executor.get().isShutdown()).isTrue();
+        assertThat(scheduler.get().isShutdown()).isTrue();
+    }
+
     @Test
     void notConfigured() {
         contextRunner.withPropertyValues("elide.graphql.subscription.enabled=false", "elide.graphql.enabled=false")
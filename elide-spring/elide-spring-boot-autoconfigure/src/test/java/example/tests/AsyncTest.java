@@ -116,6 +116,42 @@ public class AsyncTest extends IntegrationTest {
         }
     }
 
+    @Test
+    public void testAsyncStatusEndpoint() {
+        given()
+                .contentType(JSONAPI_CONTENT_TYPE)
+                .body(
+                        data(
+                                resource(
+                                        type("asyncQuery"),
+                                        id("ba31ca4e-ed8f-4be0-a0f3-12088fa9263e"),
+                                        attributes(
+                                                attr("query", "/group"),
+                                                attr("queryType", "JSONAPI_V1_0"),
+                                                attr("status", "QUEUED"),
+                                                attr("asyncAfterSeconds", "0")
+                                        )
+                                )
+                        ).toJSON())
+                .when()
+                .post("/json/asyncQuery")
+                .then()
+                .statusCode(org.apache.http.HttpStatus.SC_CREATED);
+
+        // Waits for the query to complete instead of polling it.
+        when()
+                .get("/async/asyncQuery/ba31ca4e-ed8f-4be0-a0f3-12088fa9263e?wait=20")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("id", equalTo("ba31ca4e-ed8f-4be0-a0f3-12088fa9263e"))
+                .body("status", equalTo("COMPLETE"));
+
+        when()
+                .get("/async/asyncQuery/ba31ca4e-ed8f-4be0-a0f3-12088fa9263f?wait=1")
+                .then()
+                .statusCode(HttpStatus.SC_NOT_FOUND);
+    }
+
     @Test
     public void testExportDynamicModel() throws InterruptedException {
         //Create Table Export
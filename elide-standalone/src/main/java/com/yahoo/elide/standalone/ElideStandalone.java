@@ -9,6 +9,8 @@ import static com.yahoo.elide.standalone.config.ElideResourceConfig.ASYNC_EXECUT
 import static com.yahoo.elide.standalone.config.ElideResourceConfig.ASYNC_UPDATER_ATTR;
 import static com.yahoo.elide.standalone.config.ElideResourceConfig.ELIDE_STANDALONE_SETTINGS_ATTR;
 
+import com.yahoo.elide.async.resources.AsyncApiStatusEndpoint;
+import com.yahoo.elide.async.resources.ExportApiEndpoint;
 import com.yahoo.elide.async.service.AsyncExecutorService;
 import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.standalone.config.ElideResourceConfig;
@@ -125,8 +127,17 @@ public class ElideStandalone {
             ServletHolder jerseyServlet = context.addServlet(ServletContainer.class,
                     elideStandaloneSettings.getAsyncProperties().getExportApiPathSpec());
             jerseyServlet.setInitOrder(0);
-            jerseyServlet.setInitParameter("jersey.config.server.provider.packages",
-                    "com.yahoo.elide.async.resources");
+            jerseyServlet.setInitParameter("jersey.config.server.provider.classnames",
+                    ExportApiEndpoint.class.getCanonicalName());
+            jerseyServlet.setInitParameter("jakarta.ws.rs.Application", ElideResourceConfig.class.getCanonicalName());
+        }
+
+        if (elideStandaloneSettings.getAsyncProperties().enableStatusApi()) {
+            ServletHolder jerseyServlet = context.addServlet(ServletContainer.class,
+                    elideStandaloneSettings.getAsyncProperties().getStatusApiPathSpec());
+            jerseyServlet.setInitOrder(0);
+            jerseyServlet.setInitParameter("jersey.config.server.provider.classnames",
+                    AsyncApiStatusEndpoint.class.getCanonicalName());
             jerseyServlet.setInitParameter("jakarta.ws.rs.Application", ElideResourceConfig.class.getCanonicalName());
         }
 
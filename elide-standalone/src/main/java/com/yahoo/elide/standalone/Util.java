@@ -90,6 +90,8 @@ public class Util {
             options.put("hibernate.jdbc.batch_size", "50");
             options.put("hibernate.jdbc.fetch_size", "50");
             options.put("hibernate.default_batch_fetch_size", "100");
+            options.put("hibernate.order_inserts", "true");
+            options.put("hibernate.order_updates", "true");
 
             // Hikari Connection Pool Settings
             options.putIfAbsent("hibernate.connection.provider_class",
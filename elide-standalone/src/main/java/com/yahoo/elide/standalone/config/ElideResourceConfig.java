@@ -12,8 +12,12 @@ import static com.yahoo.elide.annotation.LifeCycleHookBinding.TransactionPhase.P
 
 import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.async.export.formatter.BinaryTableExportFormatter;
+import com.yahoo.elide.async.export.formatter.ColumnarExportFormatter;
 import com.yahoo.elide.async.export.formatter.CsvExportFormatter;
 import com.yahoo.elide.async.export.formatter.JsonExportFormatter;
+import com.yahoo.elide.async.export.formatter.StreamingCsvExportFormatter;
+import com.yahoo.elide.async.export.formatter.StreamingJsonExportFormatter;
 import com.yahoo.elide.async.export.formatter.TableExportFormatter;
 import com.yahoo.elide.async.hooks.AsyncQueryHook;
 import com.yahoo.elide.async.hooks.TableExportHook;
@@ -21,7 +25,9 @@ import com.yahoo.elide.async.models.AsyncApi;
 import com.yahoo.elide.async.models.AsyncQuery;
 import com.yahoo.elide.async.models.ResultType;
 import com.yahoo.elide.async.models.TableExport;
+import com.yahoo.elide.async.resources.AsyncApiStatusEndpoint.AsyncApiStatusProperties;
 import com.yahoo.elide.async.resources.ExportApiEndpoint.ExportApiProperties;
+import com.yahoo.elide.async.service.AsyncApiScheduler;
 import com.yahoo.elide.async.service.AsyncCleanerService;
 import com.yahoo.elide.async.service.AsyncExecutorService;
 import com.yahoo.elide.async.service.dao.AsyncApiDao;
@@ -43,6 +49,7 @@ import com.yahoo.elide.modelconfig.DynamicConfiguration;
 import com.yahoo.elide.standalone.Util;
 import com.yahoo.elide.swagger.resources.ApiDocsEndpoint;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.health.HealthCheckRegistry;
 import org.glassfish.hk2.api.ServiceLocator;
@@ -61,6 +68,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -160,32 +168,56 @@ public class ElideResourceConfig extends ResourceConfig {
 
             ExecutorService executor = (ExecutorService) servletContext.getAttribute(ASYNC_EXECUTOR_ATTR);
             ExecutorService updater = (ExecutorService) servletContext.getAttribute(ASYNC_UPDATER_ATTR);
-            AsyncExecutorService asyncExecutorService = new AsyncExecutorService(elide, executor, updater, asyncApiDao,
+            AsyncApiScheduler scheduler = asyncProperties.getScheduler();
+            if (scheduler != null) {
+                for (AsyncApiScheduler.Lane lane : AsyncApiScheduler.Lane.values()) {
+                    String laneName = lane.name().toLowerCase(Locale.ENGLISH);
+                    registerGauge(MetricRegistry.name("elide.async.queue.depth", laneName),
+                            () -> scheduler.getQueueDepth(lane));
+                    registerGauge(MetricRegistry.name("elide.async.running", laneName),
+                            () -> scheduler.getRunningCount(lane));
+                }
+            }
+            AsyncExecutorService asyncExecutorService = new AsyncExecutorService(elide, executor, scheduler,
+                    asyncProperties.getDeduplicator(), updater, asyncApiDao,
                     Optional.of(settings.getDataFetcherExceptionHandler()));
             bind(asyncExecutorService).to(AsyncExecutorService.class);
 
+            if (asyncProperties.enableStatusApi()) {
+                bind(new AsyncApiStatusProperties(asyncProperties.getStatusApiMaxWait()))
+                        .to(AsyncApiStatusProperties.class).named("asyncApiStatusProperties");
+            }
+
+            ResultStorageEngine resultStorageEngine = null;
             if (asyncProperties.enableExport()) {
                 ExportApiProperties exportApiProperties = new ExportApiProperties(
                         asyncProperties.getExportAsyncResponseExecutor(),
                         asyncProperties.getExportAsyncResponseTimeout());
                 bind(exportApiProperties).to(ExportApiProperties.class).named("exportApiProperties");
 
-                ResultStorageEngine resultStorageEngine = asyncProperties.getResultStorageEngine();
+                resultStorageEngine = asyncProperties.getResultStorageEngine();
                 if (resultStorageEngine == null) {
                     resultStorageEngine = new FileResultStorageEngine(asyncProperties.getStorageDestination(),
-                            asyncProperties.appendFileExtension());
+                            asyncProperties.appendFileExtension(), asyncProperties.compressResults());
                 }
                 bind(resultStorageEngine).to(ResultStorageEngine.class).named("resultStorageEngine");
 
                 // Initialize the Formatters.
                 Map<ResultType, TableExportFormatter> supportedFormatters = new HashMap<>();
-                supportedFormatters.put(ResultType.CSV, new CsvExportFormatter(elide,
-                        asyncProperties.csvWriteHeader()));
-                supportedFormatters.put(ResultType.JSON, new JsonExportFormatter(elide));
+                supportedFormatters.put(ResultType.CSV, asyncProperties.csvStreaming()
+                        ? new StreamingCsvExportFormatter(elide, asyncProperties.csvWriteHeader())
+                        : new CsvExportFormatter(elide, asyncProperties.csvWriteHeader()));
+                supportedFormatters.put(ResultType.JSON, asyncProperties.jsonStreaming()
+                        ? new StreamingJsonExportFormatter(elide)
+                        : new JsonExportFormatter(elide));
+                Map<ResultType, BinaryTableExportFormatter> binaryFormatters = new HashMap<>();
+                if (asyncProperties.enableColumnarExport()) {
+                    binaryFormatters.put(ResultType.COLUMNAR, new ColumnarExportFormatter(elide));
+                }
 
                 // Binding TableExport LifeCycleHook
                 TableExportHook tableExportHook = getTableExportHook(asyncExecutorService,
-                        asyncProperties, supportedFormatters, resultStorageEngine);
+                        asyncProperties, supportedFormatters, binaryFormatters, resultStorageEngine);
                 dictionary.bindTrigger(TableExport.class, CREATE, PREFLUSH, tableExportHook, false);
                 dictionary.bindTrigger(TableExport.class, CREATE, POSTCOMMIT, tableExportHook, false);
                 dictionary.bindTrigger(TableExport.class, CREATE, PRESECURITY, tableExportHook, false);
@@ -193,7 +225,9 @@ public class ElideResourceConfig extends ResourceConfig {
 
             // Binding AsyncQuery LifeCycleHook
             AsyncQueryHook asyncQueryHook = new AsyncQueryHook(asyncExecutorService,
-                    asyncProperties.getMaxAsyncAfter());
+                    asyncProperties.getMaxAsyncAfter(),
+                    asyncProperties.getMaxInlineResponseBodyLength() > 0 ? resultStorageEngine : null,
+                    asyncProperties.getMaxInlineResponseBodyLength());
 
             dictionary.bindTrigger(AsyncQuery.class, CREATE, PREFLUSH, asyncQueryHook, false);
             dictionary.bindTrigger(AsyncQuery.class, CREATE, POSTCOMMIT, asyncQueryHook, false);
@@ -203,7 +237,8 @@ public class ElideResourceConfig extends ResourceConfig {
             if (asyncProperties.enableCleanup()) {
                 AsyncCleanerService.init(elide, asyncProperties.getQueryMaxRunTime(),
                         asyncProperties.getQueryRetentionDuration(),
-                        asyncProperties.getQueryCancellationCheckInterval(), asyncApiDao);
+                        asyncProperties.getQueryCancellationCheckInterval(), asyncApiDao,
+                        asyncProperties.getCleanupBatchSize(), asyncProperties.getMaxCleanupPerRun());
                 bind(AsyncCleanerService.getInstance()).to(AsyncCleanerService.class);
             }
         }
@@ -303,6 +338,12 @@ public class ElideResourceConfig extends ResourceConfig {
         return metricRegistry;
     }
 
+    private static void registerGauge(String name, Gauge<Integer> gauge) {
+        // Replace the gauge of a previous configuration.
+        getMetricRegistry().remove(name);
+        getMetricRegistry().register(name, gauge);
+    }
+
     public static HealthCheckRegistry getHealthCheckRegistry() {
         if (healthCheckRegistry == null) {
             healthCheckRegistry = new HealthCheckRegistry();
@@ -317,11 +358,11 @@ public class ElideResourceConfig extends ResourceConfig {
     // https://github.com/yahoo/elide/issues/1803
     private TableExportHook getTableExportHook(AsyncExecutorService asyncExecutorService,
             ElideStandaloneAsyncSettings asyncProperties, Map<ResultType, TableExportFormatter> supportedFormatters,
-            ResultStorageEngine engine) {
+            Map<ResultType, BinaryTableExportFormatter> binaryFormatters, ResultStorageEngine engine) {
         TableExportHook tableExportHook = null;
         if (asyncProperties.enableExport()) {
             tableExportHook = new TableExportHook(asyncExecutorService, asyncProperties.getMaxAsyncAfter(),
-                    supportedFormatters, engine);
+                    supportedFormatters, binaryFormatters, engine, asyncProperties.getExportPartitioners());
         } else {
             tableExportHook = new TableExportHook(asyncExecutorService, asyncProperties.getMaxAsyncAfter(),
                     supportedFormatters, engine) {
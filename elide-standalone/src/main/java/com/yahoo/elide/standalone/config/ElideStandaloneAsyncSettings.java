@@ -5,10 +5,16 @@
  */
 package com.yahoo.elide.standalone.config;
 
+import com.yahoo.elide.async.export.partitioner.ExportPartitioner;
+import com.yahoo.elide.async.service.AsyncApiDeduplicator;
+import com.yahoo.elide.async.service.AsyncApiScheduler;
 import com.yahoo.elide.async.service.dao.AsyncApiDao;
 import com.yahoo.elide.async.service.storageengine.ResultStorageEngine;
+import com.yahoo.elide.async.service.thread.AsyncApiCleanerRunnable;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -45,6 +51,27 @@ public interface ElideStandaloneAsyncSettings {
         return 5;
     }
 
+    /**
+     * Scheduler running async queries and table exports in separate lanes with fair queueing per user.
+     * If null, they share a thread pool of getThreadSize() threads.
+     *
+     * @return Default: null
+     */
+    default AsyncApiScheduler getScheduler() {
+        return null;
+    }
+
+    /**
+     * Deduplicator letting identical async queries and table exports share one execution.
+     * If null, every query is executed.  Cancelling the query which started an execution also fails the queries
+     * attached to it.
+     *
+     * @return Default: null
+     */
+    default AsyncApiDeduplicator getDeduplicator() {
+        return null;
+    }
+
     /**
      * Maximum Query Run time for Async Queries to mark as TIMEDOUT.
      *
@@ -64,6 +91,19 @@ public interface ElideStandaloneAsyncSettings {
         return Duration.ofSeconds(10L);
     }
 
+    /**
+     * Maximum number of characters of an async query response body stored with the query.
+     * Longer response bodies are stored with the result storage engine and downloaded from the export API.
+     * Like table export results, the export API serves them to anyone with the ID of the async query without
+     * checking its owner.  The Redis engine expires them with the export results, while the file engine keeps
+     * them until they are deleted from the storage destination.  Requires export to be enabled.
+     *
+     * @return Default: 0 which stores every response body with the query
+     */
+    default int getMaxInlineResponseBodyLength() {
+        return 0;
+    }
+
     /**
      * Number of days history to retain for async query executions and results.
      *
@@ -82,6 +122,24 @@ public interface ElideStandaloneAsyncSettings {
         return Duration.ofSeconds(300L);
     }
 
+    /**
+     * Number of async queries deleted or timed out per cleanup transaction.
+     *
+     * @return Default: 1000
+     */
+    default int getCleanupBatchSize() {
+        return AsyncApiCleanerRunnable.DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * Maximum number of async queries deleted or timed out by one cleanup run.
+     *
+     * @return Default: 100000
+     */
+    default int getMaxCleanupPerRun() {
+        return AsyncApiCleanerRunnable.DEFAULT_MAX_PER_RUN;
+    }
+
     /**
      * Implementation of AsyncApiDao to use.
      *
@@ -118,6 +176,34 @@ public interface ElideStandaloneAsyncSettings {
         return false;
     }
 
+    /**
+     * API root path specification for the status endpoint.
+     *
+     * @return Default: /async
+     */
+    default String getStatusApiPathSpec() {
+        return "/async/*";
+    }
+
+    /**
+     * Enable the status endpoint where clients wait for async queries and table exports to complete
+     * instead of polling them.
+     *
+     * @return Default: False
+     */
+    default boolean enableStatusApi() {
+        return false;
+    }
+
+    /**
+     * Maximum time a request to the status endpoint waits for a query to complete.
+     *
+     * @return Default: 30s
+     */
+    default Duration getStatusApiMaxWait() {
+        return Duration.ofSeconds(30L);
+    }
+
     /**
      * Enable the addition of extensions to Export attachments.
      * If false, the attachments will be downloaded without extensions.
@@ -128,6 +214,16 @@ public interface ElideStandaloneAsyncSettings {
         return false;
     }
 
+    /**
+     * Store Export attachments gzip compressed.
+     * Downloads send the compressed attachments to clients which accept gzip.
+     *
+     * @return Default: False
+     */
+    default boolean compressResults() {
+        return false;
+    }
+
     /**
      * Generating Header when exporting in CSV format. Set to false to skip.
      *
@@ -137,6 +233,45 @@ public interface ElideStandaloneAsyncSettings {
         return true;
     }
 
+    /**
+     * Writes the attributes of each record directly with RFC 4180 quoting when exporting in CSV format.
+     * If false, each record is flattened from its JSON.
+     *
+     * @return Default: False
+     */
+    default boolean csvStreaming() {
+        return false;
+    }
+
+    /**
+     * Writes the attributes of each record directly with a JSON generator when exporting in JSON format.
+     * If false, each record is serialized to a string.
+     *
+     * @return Default: False
+     */
+    default boolean jsonStreaming() {
+        return false;
+    }
+
+    /**
+     * Accepts exports in the COLUMNAR format, a binary format which stores each batch of records column by column.
+     *
+     * @return Default: False
+     */
+    default boolean enableColumnarExport() {
+        return false;
+    }
+
+    /**
+     * Partitioners of models whose exports are split into partitions which are exported concurrently, keyed by
+     * model name.
+     *
+     * @return Default: no partitioned models
+     */
+    default Map<String, ExportPartitioner> getExportPartitioners() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Storage engine destination.
      *
@@ -8,8 +8,10 @@ package com.yahoo.elide.standalone.config;
 import static com.yahoo.elide.graphql.subscriptions.websocket.SubscriptionWebSocket.DEFAULT_USER_FACTORY;
 
 import com.yahoo.elide.Elide;
+import com.yahoo.elide.datastores.jms.TopicFanOut;
 import com.yahoo.elide.datastores.jms.websocket.SubscriptionWebSocketConfigurator;
 import com.yahoo.elide.graphql.subscriptions.hooks.SubscriptionScanner;
+import com.yahoo.elide.graphql.subscriptions.hooks.TopicPublisher;
 import com.yahoo.elide.graphql.subscriptions.websocket.SubscriptionWebSocket;
 
 import jakarta.jms.ConnectionFactory;
@@ -17,6 +19,8 @@ import jakarta.jms.Message;
 import jakarta.websocket.server.ServerEndpointConfig;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * interface for configuring the GraphQL Subscriptions in the standalone application.
@@ -105,6 +109,46 @@ public interface ElideStandaloneSubscriptionSettings {
         return null;
     }
 
+    /**
+     * Return the hub which shares one JMS consumer per topic between all subscriptions on this node.
+     *
+     * @param connectionFactory The JMS connection factory.
+     * @return Default null which creates a JMS consumer per subscription.
+     */
+    default TopicFanOut getTopicFanOut(ConnectionFactory connectionFactory) {
+        return null;
+    }
+
+    /**
+     * Return the publisher which sends subscription notifications from a background thread.
+     *
+     * @param connectionFactory The JMS connection factory.
+     * @return Default null which sends notifications on the request thread.
+     */
+    default TopicPublisher getTopicPublisher(ConnectionFactory connectionFactory) {
+        return null;
+    }
+
+    /**
+     * Return the thread pool which runs the subscriptions of all web sockets.
+     * See {@link com.yahoo.elide.graphql.subscriptions.websocket.SubscriptionExecutors}.
+     *
+     * @return Default null which creates a thread pool per web socket.
+     */
+    default ExecutorService getExecutorService() {
+        return null;
+    }
+
+    /**
+     * Return the scheduler which drives the connection timeouts of all web sockets.
+     * See {@link com.yahoo.elide.graphql.subscriptions.websocket.SubscriptionExecutors}.
+     *
+     * @return Default null which starts a timer thread per web socket.
+     */
+    default ScheduledExecutorService getConnectionTimeoutScheduler() {
+        return null;
+    }
+
     /**
      * Return the function which converts a web socket Session into an Elide user.
      *
@@ -133,6 +177,7 @@ public interface ElideStandaloneSubscriptionSettings {
                 .scanner(elide.getScanner())
                 .dictionary(elide.getElideSettings().getDictionary())
                 .connectionFactory(connectionFactory)
+                .publisher(getTopicPublisher(connectionFactory))
                 .build();
 
         scanner.bindLifecycleHooks();
@@ -163,6 +208,9 @@ public interface ElideStandaloneSubscriptionSettings {
                         .verboseErrors(settings.verboseErrors())
                         .errorMapper(settings.getErrorMapper())
                         .dataFetcherExceptionHandler(settings.getDataFetcherExceptionHandler())
+                        .topicFanOut(getTopicFanOut(getConnectionFactory()))
+                        .executorService(getExecutorService())
+                        .connectionTimeoutScheduler(getConnectionTimeoutScheduler())
                         .build())
                 .build();
 
@@ -372,6 +372,42 @@ public class ElideStandaloneTest {
         }
     }
 
+    @Test
+    public void testAsyncStatusEndpoint() {
+        given()
+                .contentType(JSONAPI_CONTENT_TYPE)
+                .body(
+                        data(
+                                resource(
+                                        type("asyncQuery"),
+                                        id("ba31ca4e-ed8f-4be0-a0f3-12088fa9263e"),
+                                        attributes(
+                                                attr("query", "/post"),
+                                                attr("queryType", "JSONAPI_V1_0"),
+                                                attr("status", "QUEUED"),
+                                                attr("asyncAfterSeconds", "0")
+                                        )
+                                )
+                        ).toJSON())
+                .when()
+                .post("/api/v1/asyncQuery")
+                .then()
+                .statusCode(HttpStatus.SC_CREATED);
+
+        // Waits for the query to complete instead of polling it.
+        when()
+                .get("/async/asyncQuery/ba31ca4e-ed8f-4be0-a0f3-12088fa9263e?wait=20")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("id", equalTo("ba31ca4e-ed8f-4be0-a0f3-12088fa9263e"))
+                .body("status", equalTo("COMPLETE"));
+
+        when()
+                .get("/async/asyncQuery/ba31ca4e-ed8f-4be0-a0f3-12088fa9263f?wait=1")
+                .then()
+                .statusCode(HttpStatus.SC_NOT_FOUND);
+    }
+
     // Resource disabled by default.
     @Test
     public void exportResourceDisabledTest() {
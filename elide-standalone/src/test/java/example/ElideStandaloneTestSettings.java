@@ -132,6 +132,11 @@ public class ElideStandaloneTestSettings implements ElideStandaloneSettings {
             public boolean enableExport() {
                 return false;
             }
+
+            @Override
+            public boolean enableStatusApi() {
+                return true;
+            }
         };
         return asyncProperties;
     }